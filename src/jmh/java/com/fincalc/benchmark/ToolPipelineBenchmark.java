@@ -0,0 +1,203 @@
+package com.fincalc.benchmark;
+
+import ch.qos.logback.classic.Level;
+import com.fincalc.adapter.config.ToolCacheInterceptor;
+import com.fincalc.adapter.config.ToolErrorInterceptor;
+import com.fincalc.adapter.config.ToolLoggingInterceptor;
+import com.fincalc.adapter.config.ToolMetricsInterceptor;
+import com.fincalc.application.AnalyticsService;
+import com.fincalc.application.FinanceTools;
+import com.fincalc.application.McpToolHandler;
+import com.fincalc.application.ToolAnalyticsInterceptor;
+import com.fincalc.application.ToolRegistry;
+import com.fincalc.domain.port.in.CalculateCompoundInterestUseCase;
+import com.fincalc.domain.port.in.CalculateLoanPaymentUseCase;
+import com.fincalc.domain.port.in.CompareRefinanceUseCase;
+import com.fincalc.domain.port.in.EstimateTaxesUseCase;
+import com.fincalc.domain.port.in.ProjectRealValueUseCase;
+import com.fincalc.domain.port.in.SimulateArmUseCase;
+import com.fincalc.domain.port.in.SimulateDrawdownUseCase;
+import com.fincalc.domain.port.in.SimulatePrepaymentUseCase;
+import com.fincalc.domain.port.out.MarketRatePort;
+import com.fincalc.domain.service.CompoundInterestService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Cost of the cross-cutting layers around one tool call: the compiled interceptor
+ * pipeline against the AspectJ proxy stack it replaced (metrics, logging and
+ * exception aspects on executeTool, logging and exception aspects on the domain
+ * service). Both run the same uncached compound interest calculation with logging
+ * at WARN, so the difference is the layering itself.
+ *
+ * Run with: mvn -Pjmh test-compile exec:exec -Djmh.benchmarks=ToolPipelineBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ToolPipelineBenchmark {
+
+    private static final String TOOL = "calculate_compound_interest";
+    private static final Map<String, Object> ARGUMENTS = Map.of(
+            "principal", 25000, "annualRate", 6.5, "years", 20, "compoundingFrequency", 12, "monthlyContribution", 250);
+
+    private McpToolHandler aspectStack;
+    private McpToolHandler compiledPipeline;
+
+    @Setup
+    public void setUp() {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        AnalyticsService analytics = stub(AnalyticsService.class);
+        ToolAnalyticsInterceptor analyticsStage = new ToolAnalyticsInterceptor(analytics);
+
+        CalculateCompoundInterestUseCase proxiedService = proxy(new CompoundInterestService(),
+                new LegacyLoggingAspect(), new LegacyExceptionHandlingAspect());
+        aspectStack = proxy(new McpToolHandler(registry(proxiedService, validator, analytics), List.of(analyticsStage)),
+                new LegacyExceptionHandlingAspect(), new LegacyMetricsAspect(), new LegacyLoggingAspect());
+
+        compiledPipeline = new McpToolHandler(registry(new CompoundInterestService(), validator, analytics), List.of(
+                new ToolErrorInterceptor(),
+                new ToolMetricsInterceptor(),
+                new ToolLoggingInterceptor(),
+                analyticsStage,
+                new ToolCacheInterceptor(new SimpleMeterRegistry(), 1000, Duration.ofMinutes(10))));
+    }
+
+    @Benchmark
+    public Map<String, Object> aspectStack() {
+        return aspectStack.executeTool(TOOL, ARGUMENTS);
+    }
+
+    @Benchmark
+    public Map<String, Object> compiledPipeline() {
+        return compiledPipeline.executeTool(TOOL, ARGUMENTS);
+    }
+
+    private static ToolRegistry registry(CalculateCompoundInterestUseCase compoundInterest, Validator validator,
+                                         AnalyticsService analytics) {
+        return new ToolRegistry(List.of(new FinanceTools(
+                stub(CalculateLoanPaymentUseCase.class), compoundInterest, stub(EstimateTaxesUseCase.class),
+                stub(SimulatePrepaymentUseCase.class), stub(CompareRefinanceUseCase.class), stub(SimulateArmUseCase.class),
+                stub(SimulateDrawdownUseCase.class), stub(ProjectRealValueUseCase.class), stub(MarketRatePort.class),
+                validator, analytics)));
+    }
+
+    private static <T> T stub(Class<T> type) {
+        return mock(type, withSettings().stubOnly());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(T target, Object... aspects) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        for (Object aspect : aspects) {
+            factory.addAspect(aspect);
+        }
+        return (T) factory.getProxy();
+    }
+
+    // The advice previously applied to every tool call, reproduced for comparison
+
+    @Aspect
+    public static class LegacyMetricsAspect {
+        private final Map<String, AtomicLong> durations = new ConcurrentHashMap<>();
+
+        @Around("execution(* com.fincalc.application.McpToolHandler.executeTool(String, ..))")
+        public Object collectToolMetrics(ProceedingJoinPoint joinPoint) throws Throwable {
+            Object[] args = joinPoint.getArgs();
+            String toolName = args.length > 0 ? String.valueOf(args[0]) : "unknown";
+            AtomicLong total = durations.computeIfAbsent(toolName, k -> new AtomicLong());
+            long startTime = System.currentTimeMillis();
+            try {
+                return joinPoint.proceed();
+            } finally {
+                total.addAndGet(System.currentTimeMillis() - startTime);
+            }
+        }
+    }
+
+    @Aspect
+    public static class LegacyLoggingAspect {
+        private static final Logger log = LoggerFactory.getLogger(LegacyLoggingAspect.class);
+
+        @Around("execution(* com.fincalc.domain.service.*.*(..))")
+        public Object logDomainServiceExecution(ProceedingJoinPoint joinPoint) throws Throwable {
+            String methodName = joinPoint.getSignature().toShortString();
+            long startTime = System.currentTimeMillis();
+            log.debug(">>> Entering: {} with args: {}", methodName, List.of(joinPoint.getArgs()).size());
+            Object result = joinPoint.proceed();
+            long duration = System.currentTimeMillis() - startTime;
+            log.debug("<<< Exiting: {} ({}ms)", methodName, duration);
+            return result;
+        }
+
+        @Around("execution(* com.fincalc.application.*.*(..))")
+        public Object logToolExecution(ProceedingJoinPoint joinPoint) throws Throwable {
+            if ("executeTool".equals(joinPoint.getSignature().getName())) {
+                Object[] args = joinPoint.getArgs();
+                String toolName = args.length > 0 ? String.valueOf(args[0]) : "unknown";
+                log.info("=== MCP Tool Invoked: {} ===", toolName);
+                long startTime = System.currentTimeMillis();
+                Object result = joinPoint.proceed();
+                log.info("=== Tool {} completed in {}ms ===", toolName, System.currentTimeMillis() - startTime);
+                return result;
+            }
+            return joinPoint.proceed();
+        }
+    }
+
+    @Aspect
+    public static class LegacyExceptionHandlingAspect {
+
+        @Around("execution(* com.fincalc.domain.service.*.*(..))")
+        public Object handleDomainExceptions(ProceedingJoinPoint joinPoint) throws Throwable {
+            try {
+                return joinPoint.proceed();
+            } catch (ArithmeticException e) {
+                throw new IllegalArgumentException("Calculation error: Please check your input values are within valid ranges");
+            }
+        }
+
+        @Around("execution(* com.fincalc.application.McpToolHandler.executeTool(..))")
+        public Object handleToolExceptions(ProceedingJoinPoint joinPoint) throws Throwable {
+            Object[] args = joinPoint.getArgs();
+            String toolName = args.length > 0 ? String.valueOf(args[0]) : "unknown";
+            try {
+                return joinPoint.proceed();
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(String.format("Error in %s: %s", toolName, e.getMessage()));
+            }
+        }
+    }
+}
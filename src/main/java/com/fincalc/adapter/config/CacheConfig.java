@@ -1,17 +1,19 @@
 package com.fincalc.adapter.config;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 
+import java.time.Duration;
 import java.util.Objects;
 
 /**
- * Cache configuration for rate data.
+ * Cache configuration for rate data and calculation results.
  * Caches external API responses to reduce calls and improve performance.
  */
 @Configuration
@@ -21,7 +23,14 @@ public class CacheConfig {
 
     @Bean
     public CacheManager cacheManager() {
-        return new ConcurrentMapCacheManager("fredRates", "taxBrackets");
+        CaffeineCacheManager manager = new CaffeineCacheManager("fredRates", "taxBrackets");
+        // Refinance results are keyed by command, including the snapshot rates of each offer,
+        // so entries go stale once rates move; bound the cache and let old snapshots age out
+        manager.registerCustomCache("refinanceComparisons", Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofHours(1))
+                .build());
+        return manager;
     }
 
     /**
@@ -18,6 +18,7 @@ import java.util.*;
  * - X-OpenAI-Conversation-Id: Conversation identifier
  * - X-OpenAI-Ephemeral-User-Id: Ephemeral user ID
  * - X-Request-Id: Request tracking ID
+ * - X-Request-Timeout-Ms: Time budget the client allows for a tool call
  * - Accept-Language: Standard HTTP language header
  * - CF-IPCountry: Cloudflare's country detection
  * - X-Forwarded-For: Original client IP
@@ -44,6 +45,7 @@ public class ChatGptRequestContext {
     private final String clientIp;
     private final String timezone;
     private final String currency;
+    private final Long requestTimeoutMillis;
 
     // All OpenAI/ChatGPT headers
     private final Map<String, String> openAiHeaders;
@@ -99,6 +101,10 @@ public class ChatGptRequestContext {
                 .map(ip -> ip.split(",")[0].trim())
                 .orElse(request.getRemoteAddr());
 
+        this.requestTimeoutMillis = extractHeader(request, "X-Request-Timeout-Ms")
+                .map(this::parseMillis)
+                .orElse(null);
+
         this.userAgent = request.getHeader("User-Agent");
 
         // Detect if request is coming from ChatGPT
@@ -107,6 +113,16 @@ public class ChatGptRequestContext {
                 || !openAiHeaders.isEmpty();
     }
 
+    private Long parseMillis(String value) {
+        try {
+            long millis = Long.parseLong(value.trim());
+            return millis > 0 ? millis : null;
+        } catch (NumberFormatException e) {
+            log.debug("Ignoring invalid X-Request-Timeout-Ms: {}", value);
+            return null;
+        }
+    }
+
     private Map<String, String> extractAllHeaders(HttpServletRequest request) {
         Map<String, String> headers = new LinkedHashMap<>();
         Enumeration<String> headerNames = request.getHeaderNames();
@@ -0,0 +1,125 @@
+package com.fincalc.adapter.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Separate connection pools for writes and for read-only transactions.
+ *
+ * Enabled by setting {@code fincalc.datasource.read.url}, typically to a read
+ * replica. The application sees one data source that hands out a placeholder
+ * connection and only takes a real one from a pool at the first statement.
+ * A transaction runs on the read pool only if it is read-only and was started
+ * from a {@link ReadReplica} method (dashboard queries, sketches, exports);
+ * everything else, including Spring Data's default read-only repository
+ * methods, stays on the primary and sees its own writes. Dashboard refreshes
+ * therefore cannot starve analytics tracking of primary connections, and only
+ * the opted-in reads may lag writes by the replica's delay.
+ *
+ * Both pools report {@code datasource.route.saturation} (active / maximum) and
+ * {@code datasource.route.pending} (threads waiting), tagged by route.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "fincalc.datasource.read", name = "url")
+public class DataSourceRoutingConfig {
+
+    static final String PRIMARY = "primary";
+    static final String READ = "read";
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName(PRIMARY);
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("fincalc.datasource.read.hikari")
+    public HikariDataSource readDataSource(
+            DataSourceProperties properties,
+            @Value("${fincalc.datasource.read.url}") String url,
+            @Value("${fincalc.datasource.read.username:}") String username,
+            @Value("${fincalc.datasource.read.password:}") String password) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(READ);
+        dataSource.setJdbcUrl(url);
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        // Default to the primary's credentials, as for a replica of the same database
+        dataSource.setUsername(username.isEmpty() ? properties.determineUsername() : username);
+        dataSource.setPassword(password.isEmpty() ? properties.determinePassword() : password);
+        dataSource.setReadOnly(true);
+        log.info("Routing read-only transactions to {}", url);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("readDataSource") DataSource read) {
+        return routing(primary, read);
+    }
+
+    @Bean
+    public MeterBinder dataSourceRouteMetrics(@Qualifier("primaryDataSource") HikariDataSource primary,
+                                              @Qualifier("readDataSource") HikariDataSource read) {
+        return registry -> Map.of(PRIMARY, primary, READ, read).forEach((route, pool) -> {
+            Gauge.builder("datasource.route.saturation", pool, DataSourceRoutingConfig::saturation)
+                    .description("Share of the route's pool connections in use")
+                    .tag("route", route)
+                    .register(registry);
+            Gauge.builder("datasource.route.pending", pool, p -> mxBean(p) != null ? mxBean(p).getThreadsAwaitingConnection() : 0)
+                    .description("Threads waiting for a connection from the route's pool")
+                    .tag("route", route)
+                    .register(registry);
+        });
+    }
+
+    /**
+     * One data source that takes connections for opted-in read-only transactions
+     * from {@code read} and all others from {@code primary}.
+     */
+    static DataSource routing(DataSource primary, DataSource read) {
+        AbstractRoutingDataSource router = new AbstractRoutingDataSource() {
+            @Override
+            protected Object determineCurrentLookupKey() {
+                return ReadReplicaAspect.requested() && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                        ? READ : PRIMARY;
+            }
+        };
+        router.setTargetDataSources(Map.of(PRIMARY, primary, READ, read));
+        router.setDefaultTargetDataSource(primary);
+        router.afterPropertiesSet();
+        // Defer the lookup to the first statement, when the transaction's read-only flag is known
+        return new LazyConnectionDataSourceProxy(router);
+    }
+
+    private static double saturation(HikariDataSource pool) {
+        HikariPoolMXBean mxBean = mxBean(pool);
+        int max = pool.getMaximumPoolSize();
+        return mxBean == null || max <= 0 ? 0 : (double) mxBean.getActiveConnections() / max;
+    }
+
+    private static HikariPoolMXBean mxBean(HikariDataSource pool) {
+        // Null until the pool has started
+        return pool.getHikariPoolMXBean();
+    }
+}
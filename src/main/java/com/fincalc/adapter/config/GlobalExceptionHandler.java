@@ -63,6 +63,14 @@ public class GlobalExceptionHandler {
                 .body(JsonRpcResponse.invalidParams(null, e.getMessage()));
     }
 
+    @ExceptionHandler(ArithmeticException.class)
+    public ResponseEntity<JsonRpcResponse> handleArithmetic(ArithmeticException e) {
+        log.warn("Calculation error: {}", e.getMessage());
+        return ResponseEntity.badRequest()
+                .body(JsonRpcResponse.invalidParams(null,
+                        "Calculation error: Please check your input values are within valid ranges"));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, Object>> handleUnexpectedError(Exception e) {
         log.error("Unexpected error", e);
@@ -0,0 +1,84 @@
+package com.fincalc.adapter.config;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * Token buckets in the rate_limit_bucket table, shared by every replica.
+ *
+ * Each row holds a fractional token count and the time it was last refilled.
+ * Tokens are taken under a row lock (SELECT ... FOR UPDATE), refilling first
+ * for the time elapsed, so concurrent pods never hand out the same token.
+ * Plain SQL keeps it portable between PostgreSQL and H2.
+ */
+class JdbcRateLimitStore {
+
+    /**
+     * Tokens handed out by one call, and what the shared bucket still holds afterwards.
+     */
+    record Grant(long granted, long remaining) {}
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final LongSupplier clock;
+
+    JdbcRateLimitStore(DataSource dataSource, PlatformTransactionManager transactionManager, LongSupplier clock) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+    }
+
+    /**
+     * Take up to {@code requested} whole tokens from the shared bucket; may grant fewer, or none.
+     */
+    Grant acquire(String key, int perMinute, long requested) {
+        Grant grant = transactionTemplate.execute(status -> take(key, perMinute, requested));
+        if (grant != null) {
+            return grant;
+        }
+
+        // First use of this key. Insert outside the transaction: on PostgreSQL a
+        // failed insert would abort it. Losing the race to another pod is fine.
+        try {
+            jdbcTemplate.update("INSERT INTO rate_limit_bucket (bucket_key, tokens, refilled_at) VALUES (?, ?, ?)",
+                    key, (double) perMinute, clock.getAsLong());
+        } catch (DuplicateKeyException e) {
+            // Created concurrently
+        }
+        grant = transactionTemplate.execute(status -> take(key, perMinute, requested));
+        return grant != null ? grant : new Grant(0, 0);
+    }
+
+    /**
+     * Delete buckets untouched since the given time; they would be full again by now.
+     */
+    int deleteIdleSince(long epochMillis) {
+        return jdbcTemplate.update("DELETE FROM rate_limit_bucket WHERE refilled_at < ?", epochMillis);
+    }
+
+    private Grant take(String key, int perMinute, long requested) {
+        List<double[]> rows = jdbcTemplate.query(
+                "SELECT tokens, refilled_at FROM rate_limit_bucket WHERE bucket_key = ? FOR UPDATE",
+                (rs, rowNum) -> new double[]{rs.getDouble("tokens"), rs.getLong("refilled_at")},
+                key);
+        if (rows.isEmpty()) {
+            return null;
+        }
+
+        long now = clock.getAsLong();
+        double stored = rows.get(0)[0];
+        long refilledAt = (long) rows.get(0)[1];
+        double available = Math.min(perMinute, stored + Math.max(0, now - refilledAt) * perMinute / 60_000.0);
+        long granted = Math.min(requested, (long) available);
+
+        jdbcTemplate.update("UPDATE rate_limit_bucket SET tokens = ?, refilled_at = ? WHERE bucket_key = ?",
+                available - granted, Math.max(now, refilledAt), key);
+        return new Grant(granted, (long) (available - granted));
+    }
+}
@@ -0,0 +1,55 @@
+package com.fincalc.adapter.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.ConsumptionProbe;
+import io.github.bucket4j.Refill;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Per-pod buckets in a bounded cache.
+ *
+ * Entries idle for longer than a refill period are dropped, so memory stays
+ * fixed however many keys are seen. A dropped bucket would have refilled by then anyway.
+ */
+@Component
+@ConditionalOnProperty(prefix = "fincalc.rate-limit", name = "backend", havingValue = "local", matchIfMissing = true)
+public class LocalRateLimitBackend implements RateLimitBackend {
+
+    private final Cache<String, Bucket> buckets;
+
+    public LocalRateLimitBackend(RateLimitProperties properties) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxKeys())
+                .expireAfterAccess(Duration.ofMinutes(Math.max(1, properties.getIdleMinutes())))
+                .build();
+    }
+
+    @Override
+    public ConsumptionProbe tryConsume(String key, int perMinute, long tokens) {
+        return bucket(key, perMinute).tryConsumeAndReturnRemaining(tokens);
+    }
+
+    @Override
+    public void refund(String key, int perMinute, long tokens) {
+        bucket(key, perMinute).addTokens(tokens);
+    }
+
+    @Override
+    public long trackedKeys() {
+        buckets.cleanUp();
+        return buckets.estimatedSize();
+    }
+
+    private Bucket bucket(String key, int perMinute) {
+        return buckets.get(key, k -> {
+            Bandwidth limit = Bandwidth.classic(perMinute, Refill.greedy(perMinute, Duration.ofMinutes(1)));
+            return Bucket.builder().addLimit(limit).build();
+        });
+    }
+}
@@ -0,0 +1,110 @@
+package com.fincalc.adapter.config;
+
+import com.fincalc.application.ToolRegistry;
+import io.github.bucket4j.ConsumptionProbe;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hierarchical token-bucket limiter for MCP traffic.
+ *
+ * Every request draws its cost from three buckets, all of which must have room:
+ * - the client IP, with a high ceiling so one ChatGPT egress IP can serve many users
+ * - the principal: X-OpenAI-User-Id, else the conversation, else the IP
+ * - a global bucket shared by all clients
+ *
+ * Buckets are kept by a {@link RateLimitBackend}: per pod by default, or shared
+ * through the database so limits hold however many replicas are running.
+ */
+@Component
+public class McpRateLimiter {
+
+    static final String GLOBAL_KEY = "global";
+
+    private final RateLimitProperties properties;
+    private final RateLimitBackend backend;
+    private final ToolRegistry tools;
+
+    /**
+     * Outcome of a consumption attempt. Remaining tokens refer to the principal bucket.
+     */
+    public record Decision(boolean allowed, long remaining, long retryAfterSeconds) {}
+
+    public McpRateLimiter(RateLimitProperties properties, RateLimitBackend backend, ToolRegistry tools) {
+        this.properties = properties;
+        this.backend = backend;
+        this.tools = tools;
+    }
+
+    /**
+     * Try to take the given cost from the IP, principal and global buckets.
+     * Tokens already taken are returned when a later tier refuses.
+     */
+    public Decision tryConsume(String clientIp, String userId, String conversationId, int cost) {
+        if (!properties.isEnabled()) {
+            return new Decision(true, Long.MAX_VALUE, 0);
+        }
+
+        // A single call may never cost more than a full principal bucket
+        long tokens = Math.max(1, Math.min(cost, properties.getRequestsPerMinute()));
+        String ip = clientIp != null ? clientIp : "unknown";
+        String ipKey = "ip:" + ip;
+        String principalKey = principalKey(ip, userId, conversationId);
+
+        ConsumptionProbe ipProbe = backend.tryConsume(ipKey, properties.getIpRequestsPerMinute(), tokens);
+        if (!ipProbe.isConsumed()) {
+            return denied(ipProbe);
+        }
+        ConsumptionProbe principalProbe = backend.tryConsume(principalKey, properties.getRequestsPerMinute(), tokens);
+        if (!principalProbe.isConsumed()) {
+            backend.refund(ipKey, properties.getIpRequestsPerMinute(), tokens);
+            return denied(principalProbe);
+        }
+        ConsumptionProbe globalProbe = backend.tryConsume(GLOBAL_KEY, properties.getGlobalRequestsPerMinute(), tokens);
+        if (!globalProbe.isConsumed()) {
+            backend.refund(ipKey, properties.getIpRequestsPerMinute(), tokens);
+            backend.refund(principalKey, properties.getRequestsPerMinute(), tokens);
+            return denied(globalProbe);
+        }
+        return new Decision(true, principalProbe.getRemainingTokens(), 0);
+    }
+
+    /**
+     * Weight of a call to the given tool; unknown tools and non-tool requests cost 1.
+     */
+    public int costOf(String toolName) {
+        return properties.costOf(toolName, tools.policyOf(toolName).cost());
+    }
+
+    /**
+     * Weight of the most expensive tool, charged for calls whose tool cannot be read.
+     */
+    public int maxCost() {
+        int max = 1;
+        for (var tool : tools.descriptors()) {
+            max = Math.max(max, costOf(tool.name()));
+        }
+        return max;
+    }
+
+    /**
+     * Number of buckets currently held in this process.
+     */
+    long trackedKeys() {
+        return backend.trackedKeys();
+    }
+
+    private static String principalKey(String ip, String userId, String conversationId) {
+        if (userId != null && !userId.isBlank()) {
+            return "user:" + userId;
+        }
+        if (conversationId != null && !conversationId.isBlank()) {
+            return "conversation:" + conversationId;
+        }
+        return "anonymous:" + ip;
+    }
+
+    private static Decision denied(ConsumptionProbe probe) {
+        long seconds = (probe.getNanosToWaitForRefill() + 999_999_999L) / 1_000_000_000L;
+        return new Decision(false, 0, Math.max(1, seconds));
+    }
+}
@@ -15,23 +15,23 @@ import java.util.Map;
 @RequestMapping("/api/metrics")
 public class MetricsController {
 
-    private final MetricsAspect metricsAspect;
+    private final ToolMetricsInterceptor toolMetrics;
 
-    public MetricsController(MetricsAspect metricsAspect) {
-        this.metricsAspect = metricsAspect;
+    public MetricsController(ToolMetricsInterceptor toolMetrics) {
+        this.toolMetrics = toolMetrics;
     }
 
     @GetMapping("/tools")
     public ResponseEntity<Map<String, Object>> getToolMetrics() {
         Map<String, Object> response = new HashMap<>();
-        Map<String, MetricsAspect.ToolMetrics> allMetrics = metricsAspect.getMetrics();
+        Map<String, ToolMetricsInterceptor.ToolMetrics> allMetrics = toolMetrics.getMetrics();
 
         long totalCalls = 0;
         long totalSuccess = 0;
 
         Map<String, Map<String, Object>> toolDetails = new HashMap<>();
-        for (Map.Entry<String, MetricsAspect.ToolMetrics> entry : allMetrics.entrySet()) {
-            MetricsAspect.ToolMetrics m = entry.getValue();
+        for (Map.Entry<String, ToolMetricsInterceptor.ToolMetrics> entry : allMetrics.entrySet()) {
+            ToolMetricsInterceptor.ToolMetrics m = entry.getValue();
             totalCalls += m.getTotalCalls();
             totalSuccess += m.getSuccessCalls();
 
@@ -0,0 +1,25 @@
+package com.fincalc.adapter.config;
+
+import io.github.bucket4j.ConsumptionProbe;
+
+/**
+ * Storage for the token buckets behind {@link McpRateLimiter}.
+ * Every bucket holds {@code perMinute} tokens and refills greedily over a minute.
+ */
+public interface RateLimitBackend {
+
+    /**
+     * Try to take tokens from the bucket with the given key, creating it full if needed.
+     */
+    ConsumptionProbe tryConsume(String key, int perMinute, long tokens);
+
+    /**
+     * Give back tokens taken by an earlier successful {@link #tryConsume}.
+     */
+    void refund(String key, int perMinute, long tokens);
+
+    /**
+     * Number of buckets currently held in this process.
+     */
+    long trackedKeys();
+}
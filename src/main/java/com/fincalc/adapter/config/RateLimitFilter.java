@@ -1,32 +1,46 @@
 package com.fincalc.adapter.config;
 
-import io.github.bucket4j.Bandwidth;
-import io.github.bucket4j.Bucket;
-import io.github.bucket4j.Refill;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
 import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.time.Duration;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 
 /**
  * Rate limiting filter using Token Bucket algorithm.
- * Limits requests per IP address.
+ * Limits MCP requests per IP, per ChatGPT user or conversation, and globally.
+ * Tool calls are weighted by the tool's configured cost. POST bodies too large
+ * or too long to peek at (chunked) are charged as the most expensive tool, so
+ * a client cannot hide an expensive call from pricing.
  */
 @Component
 @Order(2)
+@RequiredArgsConstructor
 public class RateLimitFilter extends OncePerRequestFilter {
 
-    private static final int REQUESTS_PER_MINUTE = 60;
-    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private static final int MAX_PEEK_BYTES = 64 * 1024;
+
+    private final McpRateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<ChatGptRequestContext> requestContextProvider;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
@@ -38,19 +52,47 @@ public class RateLimitFilter extends OncePerRequestFilter {
             return;
         }
 
-        String clientId = getClientId(request);
-        Bucket bucket = buckets.computeIfAbsent(clientId, this::createBucket);
+        // Peek at JSON-RPC bodies to price tool calls; the cached body is replayed downstream
+        int cost = 1;
+        if ("POST".equals(request.getMethod())) {
+            int length = request.getContentLength();
+            if (length >= 0 && length <= MAX_PEEK_BYTES) {
+                CachedBodyRequest cached = new CachedBodyRequest(request);
+                cost = rateLimiter.costOf(getToolName(cached.body));
+                request = cached;
+            } else {
+                cost = rateLimiter.maxCost();
+            }
+        }
+
+        ChatGptRequestContext context = requestContextProvider.getIfAvailable();
+        McpRateLimiter.Decision decision = context != null
+                ? rateLimiter.tryConsume(context.getClientIp(), context.getUserId(), context.getConversationId(), cost)
+                : rateLimiter.tryConsume(getClientId(request), null, null, cost);
 
-        if (bucket.tryConsume(1)) {
-            response.setHeader("X-Rate-Limit-Remaining", String.valueOf(bucket.getAvailableTokens()));
+        if (decision.allowed()) {
+            response.setHeader("X-Rate-Limit-Remaining", String.valueOf(decision.remaining()));
             filterChain.doFilter(request, response);
         } else {
             response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()));
             response.setContentType("application/json");
             response.getWriter().write("{\"error\":\"Rate limit exceeded. Try again later.\"}");
         }
     }
 
+    private String getToolName(byte[] body) {
+        try {
+            JsonNode root = objectMapper.readTree(body);
+            if (root != null && "tools/call".equals(root.path("method").asText())) {
+                return root.path("params").path("name").asText(null);
+            }
+        } catch (IOException e) {
+            // Malformed bodies cost 1; the controller reports the parse error
+        }
+        return null;
+    }
+
     private String getClientId(HttpServletRequest request) {
         String forwarded = request.getHeader("X-Forwarded-For");
         if (forwarded != null && !forwarded.isBlank()) {
@@ -59,9 +101,54 @@ public class RateLimitFilter extends OncePerRequestFilter {
         return request.getRemoteAddr();
     }
 
-    private Bucket createBucket(String clientId) {
-        Bandwidth limit = Bandwidth.classic(REQUESTS_PER_MINUTE,
-                Refill.greedy(REQUESTS_PER_MINUTE, Duration.ofMinutes(1)));
-        return Bucket.builder().addLimit(limit).build();
+    /**
+     * Request wrapper that reads the body once and serves it again to the controller.
+     */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException("Async reads are not supported");
+                }
+
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
     }
 }
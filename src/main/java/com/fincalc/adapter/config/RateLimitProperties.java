@@ -0,0 +1,61 @@
+package com.fincalc.adapter.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration properties for MCP rate limiting.
+ * Limits are in cost units per minute; a tool call costs the weight its tool declares,
+ * unless tool-costs overrides it.
+ * The backend is "local" (per pod) or "jdbc" (shared through the database).
+ */
+@Component
+@ConfigurationProperties(prefix = "fincalc.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private String backend = "local";
+    private int requestsPerMinute = 60;
+    private int ipRequestsPerMinute = 1200;
+    private int globalRequestsPerMinute = 20000;
+    private int maxKeys = 100_000;
+    private int idleMinutes = 10;
+    private double leaseFraction = 0.05;
+    private int leaseSeconds = 5;
+    private int storeRetrySeconds = 5;
+    private Map<String, Integer> toolCosts = new HashMap<>();
+
+    /**
+     * Weight of a call to the given tool: the configured override, else the declared cost.
+     */
+    public int costOf(String toolName, int declaredCost) {
+        if (toolName == null) return 1;
+        return Math.max(1, toolCosts.getOrDefault(toolName, declaredCost));
+    }
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+    public String getBackend() { return backend; }
+    public void setBackend(String backend) { this.backend = backend; }
+    public int getRequestsPerMinute() { return requestsPerMinute; }
+    public void setRequestsPerMinute(int requestsPerMinute) { this.requestsPerMinute = requestsPerMinute; }
+    public int getIpRequestsPerMinute() { return ipRequestsPerMinute; }
+    public void setIpRequestsPerMinute(int ipRequestsPerMinute) { this.ipRequestsPerMinute = ipRequestsPerMinute; }
+    public int getGlobalRequestsPerMinute() { return globalRequestsPerMinute; }
+    public void setGlobalRequestsPerMinute(int globalRequestsPerMinute) { this.globalRequestsPerMinute = globalRequestsPerMinute; }
+    public int getMaxKeys() { return maxKeys; }
+    public void setMaxKeys(int maxKeys) { this.maxKeys = maxKeys; }
+    public int getIdleMinutes() { return idleMinutes; }
+    public void setIdleMinutes(int idleMinutes) { this.idleMinutes = idleMinutes; }
+    public double getLeaseFraction() { return leaseFraction; }
+    public void setLeaseFraction(double leaseFraction) { this.leaseFraction = leaseFraction; }
+    public int getLeaseSeconds() { return leaseSeconds; }
+    public void setLeaseSeconds(int leaseSeconds) { this.leaseSeconds = leaseSeconds; }
+    public int getStoreRetrySeconds() { return storeRetrySeconds; }
+    public void setStoreRetrySeconds(int storeRetrySeconds) { this.storeRetrySeconds = storeRetrySeconds; }
+    public Map<String, Integer> getToolCosts() { return toolCosts; }
+    public void setToolCosts(Map<String, Integer> toolCosts) { this.toolCosts = toolCosts; }
+}
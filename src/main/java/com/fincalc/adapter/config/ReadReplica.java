@@ -0,0 +1,18 @@
+package com.fincalc.adapter.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Lets a read-only transaction run on the read pool when one is configured
+ * ({@code fincalc.datasource.read.url}). Only for reads that tolerate replica lag,
+ * such as dashboards and exports; everything else stays on the primary.
+ *
+ * Has no effect outside a {@code @Transactional(readOnly = true)} transaction.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ReadReplica {
+}
@@ -0,0 +1,58 @@
+package com.fincalc.adapter.config;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Marks the current thread as accepting the read pool while a {@link ReadReplica} method runs.
+ * {@link DataSourceRoutingConfig} reads the mark when a transaction takes its first connection.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ReadReplicaAspect {
+
+    private static final ThreadLocal<Boolean> REQUESTED = new ThreadLocal<>();
+
+    @Around("@annotation(com.fincalc.adapter.config.ReadReplica) || @within(com.fincalc.adapter.config.ReadReplica)")
+    public Object onReplica(ProceedingJoinPoint joinPoint) throws Throwable {
+        Boolean previous = REQUESTED.get();
+        REQUESTED.set(Boolean.TRUE);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * Run the work as if it were a {@link ReadReplica} method.
+     */
+    static <T> T onReplica(Supplier<T> work) {
+        Boolean previous = REQUESTED.get();
+        REQUESTED.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    static boolean requested() {
+        return Boolean.TRUE.equals(REQUESTED.get());
+    }
+
+    private static void restore(Boolean previous) {
+        if (previous == null) {
+            REQUESTED.remove();
+        } else {
+            REQUESTED.set(previous);
+        }
+    }
+}
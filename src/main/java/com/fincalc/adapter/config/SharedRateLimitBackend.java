@@ -0,0 +1,174 @@
+package com.fincalc.adapter.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.bucket4j.ConsumptionProbe;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Cluster-wide buckets kept in the database, so limits do not scale with the replica count.
+ *
+ * To keep the database off the hot path, each pod leases a slice of a bucket
+ * (a fraction of its capacity) and serves requests from that slice until it
+ * runs out or the lease expires. At most one slice per key per pod is held back
+ * from other pods, and unused tokens in an expired lease are simply dropped.
+ *
+ * If the database is unreachable, requests fall back to per-pod buckets until it recovers.
+ * While it is down, only one request per retry interval probes it; the rest go
+ * straight to the per-pod buckets instead of each waiting on a failing connection.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "fincalc.rate-limit", name = "backend", havingValue = "jdbc")
+public class SharedRateLimitBackend implements RateLimitBackend {
+
+    private final RateLimitProperties properties;
+    private final JdbcRateLimitStore store;
+    private final LocalRateLimitBackend fallback;
+    private final LongSupplier clock;
+    private final Cache<String, Lease> leases;
+    private volatile boolean degraded;
+    private final AtomicLong nextProbeAt = new AtomicLong();
+
+    private static final class Lease {
+        final ReentrantLock lock = new ReentrantLock();
+        long tokens;
+        long sharedRemaining;
+        long expiresAt;
+    }
+
+    @Autowired
+    public SharedRateLimitBackend(RateLimitProperties properties, DataSource dataSource,
+                                  PlatformTransactionManager transactionManager) {
+        this(properties, new JdbcRateLimitStore(dataSource, transactionManager, System::currentTimeMillis),
+                System::currentTimeMillis);
+    }
+
+    SharedRateLimitBackend(RateLimitProperties properties, JdbcRateLimitStore store, LongSupplier clock) {
+        this.properties = properties;
+        this.store = store;
+        this.fallback = new LocalRateLimitBackend(properties);
+        this.clock = clock;
+        this.leases = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxKeys())
+                .expireAfterAccess(Duration.ofMinutes(Math.max(1, properties.getIdleMinutes())))
+                .build();
+    }
+
+    @Override
+    public ConsumptionProbe tryConsume(String key, int perMinute, long tokens) {
+        if (degraded && !claimProbe()) {
+            return fallback.tryConsume(key, perMinute, tokens);
+        }
+        Lease lease = leases.get(key, k -> new Lease());
+        lease.lock.lock();
+        try {
+            long now = clock.getAsLong();
+            if (now >= lease.expiresAt) {
+                lease.tokens = 0;
+            }
+            if (lease.tokens < tokens) {
+                JdbcRateLimitStore.Grant grant;
+                try {
+                    grant = store.acquire(key, perMinute, Math.max(tokens - lease.tokens, leaseSize(perMinute)));
+                    recovered();
+                } catch (DataAccessException e) {
+                    degrade(e);
+                    return fallback.tryConsume(key, perMinute, tokens);
+                }
+                lease.tokens += grant.granted();
+                lease.sharedRemaining = grant.remaining();
+                lease.expiresAt = now + properties.getLeaseSeconds() * 1000L;
+            }
+
+            if (lease.tokens < tokens) {
+                long nanosPerToken = 60_000_000_000L / perMinute;
+                return ConsumptionProbe.rejected(lease.tokens + lease.sharedRemaining,
+                        (tokens - lease.tokens) * nanosPerToken, 0);
+            }
+            lease.tokens -= tokens;
+            return ConsumptionProbe.consumed(lease.tokens + lease.sharedRemaining, 0);
+        } finally {
+            lease.lock.unlock();
+        }
+    }
+
+    @Override
+    public void refund(String key, int perMinute, long tokens) {
+        if (degraded) {
+            fallback.refund(key, perMinute, tokens);
+            return;
+        }
+        Lease lease = leases.getIfPresent(key);
+        if (lease == null) {
+            return;
+        }
+        lease.lock.lock();
+        try {
+            lease.tokens += tokens;
+        } finally {
+            lease.lock.unlock();
+        }
+    }
+
+    @Override
+    public long trackedKeys() {
+        leases.cleanUp();
+        return leases.estimatedSize() + fallback.trackedKeys();
+    }
+
+    /**
+     * Remove shared buckets that have been idle long enough to be full again.
+     */
+    @Scheduled(fixedDelayString = "${fincalc.rate-limit.purge-interval-ms:60000}")
+    public void purgeIdle() {
+        try {
+            int deleted = store.deleteIdleSince(clock.getAsLong() - properties.getIdleMinutes() * 60_000L);
+            if (deleted > 0) {
+                log.debug("Purged {} idle rate limit buckets", deleted);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Failed to purge idle rate limit buckets: {}", e.getMessage());
+        }
+    }
+
+    private long leaseSize(int perMinute) {
+        return Math.max(1, (long) (perMinute * properties.getLeaseFraction()));
+    }
+
+    /**
+     * Whether this caller may try the store while degraded: true for one caller per retry interval.
+     */
+    private boolean claimProbe() {
+        long now = clock.getAsLong();
+        long probeAt = nextProbeAt.get();
+        return now >= probeAt && nextProbeAt.compareAndSet(probeAt, now + properties.getStoreRetrySeconds() * 1000L);
+    }
+
+    private void degrade(DataAccessException e) {
+        nextProbeAt.set(clock.getAsLong() + properties.getStoreRetrySeconds() * 1000L);
+        if (!degraded) {
+            degraded = true;
+            log.warn("Shared rate limit store unavailable, limiting per pod: {}", e.getMessage());
+        }
+    }
+
+    private void recovered() {
+        if (degraded) {
+            degraded = false;
+            log.info("Shared rate limit store available again");
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.fincalc.adapter.config;
+
+import com.fincalc.application.ToolArguments;
+import com.fincalc.application.ToolCall;
+import com.fincalc.application.ToolDescriptor;
+import com.fincalc.application.ToolInterceptor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Innermost pipeline stage: reuses responses of tools whose policy marks them cacheable.
+ *
+ * Responses are keyed by the arguments plus the country, language and currency they
+ * were rendered for. A hit replays the defaults the original call fell back to and
+ * carries the current request id, so it looks the same as a fresh response.
+ */
+@Component
+@Order(500)
+public class ToolCacheInterceptor implements ToolInterceptor {
+
+    private record Key(Map<String, Object> arguments, String country, String language, String currency) {}
+
+    private record Entry(Map<String, Object> response, Map<String, Object> defaultsUsed) {}
+
+    private final MeterRegistry meterRegistry;
+    private final long maxSize;
+    private final Duration ttl;
+
+    public ToolCacheInterceptor(
+            MeterRegistry meterRegistry,
+            @Value("${fincalc.mcp.tool-cache.max-size:10000}") long maxSize,
+            @Value("${fincalc.mcp.tool-cache.ttl:10m}") Duration ttl) {
+        this.meterRegistry = meterRegistry;
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public Invoker wrap(ToolDescriptor<?, ?> tool, Invoker next) {
+        if (!tool.policy().cacheable()) {
+            return next;
+        }
+        Cache<Key, Entry> cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "mcpToolResponses", "tool", tool.name());
+
+        return (arguments, call) -> {
+            Key key = keyOf(arguments, call);
+            Entry cached = cache.getIfPresent(key);
+            if (cached != null) {
+                call.defaultsUsed().putAll(cached.defaultsUsed());
+                return withRequestId(cached.response(), call);
+            }
+            Map<String, Object> response = next.invoke(arguments, call);
+            cache.put(key, new Entry(response, Map.copyOf(call.defaultsUsed())));
+            return response;
+        };
+    }
+
+    private static Key keyOf(ToolArguments arguments, ToolCall call) {
+        ChatGptRequestContext context = call.context();
+        Map<String, Object> values = arguments.asMap();
+        return context == null
+                ? new Key(values, null, null, null)
+                : new Key(values, context.getCountryCode(), context.getLanguageCode(), context.getCurrency());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> withRequestId(Map<String, Object> response, ToolCall call) {
+        String requestId = call.context() != null ? call.context().getRequestId() : null;
+        if (!(response.get("_meta") instanceof Map<?, ?> meta)) {
+            return response;
+        }
+        Map<String, Object> freshMeta = new LinkedHashMap<>((Map<String, Object>) meta);
+        if (requestId != null) {
+            freshMeta.put("requestId", requestId);
+        } else {
+            freshMeta.remove("requestId");
+        }
+        Map<String, Object> copy = new LinkedHashMap<>(response);
+        copy.put("_meta", freshMeta);
+        return copy;
+    }
+}
@@ -0,0 +1,64 @@
+package com.fincalc.adapter.config;
+
+import com.fincalc.application.ToolDescriptor;
+import com.fincalc.application.ToolInterceptor;
+import com.fincalc.domain.model.Deadline;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Outermost pipeline stage: turns exceptions from a tool into user-friendly messages
+ * naming the tool. Validation errors keep their message; calculation failures and
+ * unexpected errors are replaced. Deadline expiry passes through untouched so the
+ * dispatcher can report it as a timeout.
+ */
+@Slf4j
+@Component
+@Order(100)
+public class ToolErrorInterceptor implements ToolInterceptor {
+
+    @Override
+    public Invoker wrap(ToolDescriptor<?, ?> tool, Invoker next) {
+        String toolName = tool.name();
+        String displayName = formatToolName(toolName);
+        return (arguments, call) -> {
+            try {
+                return next.invoke(arguments, call);
+            } catch (Deadline.ExceededException e) {
+                throw e;
+            } catch (IllegalArgumentException e) {
+                // Enrich error message with tool context
+                throw new IllegalArgumentException(String.format("Error in %s: %s", displayName, e.getMessage()));
+            } catch (ArithmeticException e) {
+                log.error("Arithmetic error in {}: {}", toolName, e.getMessage());
+                throw new IllegalArgumentException(String.format(
+                        "Error in %s: Calculation error: Please check your input values are within valid ranges", displayName));
+            } catch (NullPointerException e) {
+                log.error("Null pointer in {}: {}", toolName, e.getMessage());
+                throw new IllegalArgumentException(String.format("Error in %s: Missing required input value", displayName));
+            } catch (RuntimeException e) {
+                log.error("Tool execution failed: {} - {}", toolName, e.getMessage(), e);
+                throw new RuntimeException(String.format(
+                        "Failed to execute %s. Please verify your inputs and try again.", displayName));
+            }
+        };
+    }
+
+    /**
+     * Format tool name for display (snake_case to Title Case).
+     */
+    static String formatToolName(String toolName) {
+        if (toolName == null) return "Unknown Tool";
+        return switch (toolName) {
+            case "calculate_loan_payment" -> "Loan Calculator";
+            case "calculate_compound_interest" -> "Investment Calculator";
+            case "estimate_taxes" -> "Tax Estimator";
+            case "simulate_prepayment" -> "Prepayment Simulator";
+            case "compare_refinance" -> "Refinance Comparison";
+            case "simulate_arm" -> "ARM Simulator";
+            case "simulate_retirement_drawdown" -> "Retirement Drawdown Simulator";
+            default -> toolName.replace("_", " ");
+        };
+    }
+}
@@ -0,0 +1,46 @@
+package com.fincalc.adapter.config;
+
+import com.fincalc.application.ToolDescriptor;
+import com.fincalc.application.ToolInterceptor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pipeline stage logging each tool call with its duration, and warning on slow ones.
+ */
+@Slf4j
+@Component
+@Order(300)
+public class ToolLoggingInterceptor implements ToolInterceptor {
+
+    static final long SLOW_CALL_MILLIS = 1000;
+
+    @Override
+    public Invoker wrap(ToolDescriptor<?, ?> tool, Invoker next) {
+        String toolName = tool.name();
+        return (arguments, call) -> {
+            ChatGptRequestContext context = call.context();
+            log.info("Executing tool: {} with arguments: {}, country: {}, language: {}",
+                    toolName, arguments,
+                    context != null ? context.getCountryCode() : "unknown",
+                    context != null ? context.getLanguageCode() : "unknown");
+            try {
+                Map<String, Object> result = next.invoke(arguments, call);
+                long duration = TimeUnit.NANOSECONDS.toMillis(call.finish());
+                log.info("=== Tool {} completed in {}ms ===", toolName, duration);
+                if (duration > SLOW_CALL_MILLIS) {
+                    log.warn("Slow execution detected: {} took {}ms", toolName, duration);
+                }
+                return result;
+            } catch (RuntimeException e) {
+                log.error("=== Tool {} failed after {}ms: {} ===", toolName,
+                        TimeUnit.NANOSECONDS.toMillis(call.finish()), e.getMessage());
+                throw e;
+            }
+        };
+    }
+}
@@ -1,43 +1,42 @@
 package com.fincalc.adapter.config;
 
-import org.aspectj.lang.ProceedingJoinPoint;
-import org.aspectj.lang.annotation.Around;
-import org.aspectj.lang.annotation.Aspect;
+import com.fincalc.application.ToolDescriptor;
+import com.fincalc.application.ToolInterceptor;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * AOP Aspect for collecting metrics about tool usage.
+ * Pipeline stage collecting metrics about tool usage.
  * Provides insights into which tools are used most frequently.
+ * Each tool's counters are created when its pipeline is assembled.
  */
-@Aspect
 @Component
-public class MetricsAspect {
+@Order(200)
+public class ToolMetricsInterceptor implements ToolInterceptor {
 
     private final Map<String, ToolMetrics> toolMetrics = new ConcurrentHashMap<>();
 
     /**
      * Collect metrics for each tool execution.
      */
-    @Around("execution(* com.fincalc.application.McpToolHandler.executeTool(String, ..))")
-    public Object collectToolMetrics(ProceedingJoinPoint joinPoint) throws Throwable {
-        Object[] args = joinPoint.getArgs();
-        String toolName = args.length > 0 ? String.valueOf(args[0]) : "unknown";
-
-        ToolMetrics metrics = toolMetrics.computeIfAbsent(toolName, k -> new ToolMetrics());
-        long startTime = System.currentTimeMillis();
-
-        try {
-            Object result = joinPoint.proceed();
-            metrics.recordSuccess(System.currentTimeMillis() - startTime);
-            return result;
-        } catch (Exception e) {
-            metrics.recordFailure(System.currentTimeMillis() - startTime);
-            throw e;
-        }
+    @Override
+    public Invoker wrap(ToolDescriptor<?, ?> tool, Invoker next) {
+        ToolMetrics metrics = toolMetrics.computeIfAbsent(tool.name(), k -> new ToolMetrics());
+        return (arguments, call) -> {
+            try {
+                Map<String, Object> result = next.invoke(arguments, call);
+                metrics.recordSuccess(TimeUnit.NANOSECONDS.toMillis(call.finish()));
+                return result;
+            } catch (RuntimeException e) {
+                metrics.recordFailure(TimeUnit.NANOSECONDS.toMillis(call.finish()));
+                throw e;
+            }
+        };
     }
 
     /**
@@ -0,0 +1,38 @@
+package com.fincalc.adapter.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Time budgets for MCP tool calls.
+ * Each tool gets its configured budget, else the budget it declares, else the default;
+ * a client may ask for less with the X-Request-Timeout-Ms header, never for more.
+ */
+@Component
+@ConfigurationProperties(prefix = "fincalc.mcp.timeouts")
+public class ToolTimeoutProperties {
+
+    private Duration defaultTimeout = Duration.ofSeconds(10);
+    private Map<String, Duration> tools = new HashMap<>();
+
+    /**
+     * Budget for a call to the given tool, shortened to the client's request if it asked for less.
+     */
+    public Duration timeoutFor(String toolName, Duration declared, Long requestedMillis) {
+        Duration fallback = declared != null ? declared : defaultTimeout;
+        Duration budget = toolName != null ? tools.getOrDefault(toolName, fallback) : fallback;
+        if (requestedMillis != null && requestedMillis > 0 && requestedMillis < budget.toMillis()) {
+            return Duration.ofMillis(requestedMillis);
+        }
+        return budget;
+    }
+
+    public Duration getDefaultTimeout() { return defaultTimeout; }
+    public void setDefaultTimeout(Duration defaultTimeout) { this.defaultTimeout = defaultTimeout; }
+    public Map<String, Duration> getTools() { return tools; }
+    public void setTools(Map<String, Duration> tools) { this.tools = tools; }
+}
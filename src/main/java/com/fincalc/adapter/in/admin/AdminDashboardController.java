@@ -3,6 +3,7 @@ package com.fincalc.adapter.in.admin;
 import com.fincalc.adapter.out.persistence.entity.LegalPageEntity;
 import com.fincalc.adapter.out.persistence.repository.LegalPageRepository;
 import com.fincalc.application.AnalyticsService;
+import com.fincalc.application.UniqueUsageTracker;
 import com.fincalc.domain.port.out.ConfigurationPort;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -20,6 +21,7 @@ public class AdminDashboardController {
     private final ConfigurationPort configurationPort;
     private final LegalPageRepository legalPageRepository;
     private final AnalyticsService analyticsService;
+    private final UniqueUsageTracker uniqueUsageTracker;
 
     @GetMapping("/login")
     public String login() {
@@ -32,8 +34,7 @@ public class AdminDashboardController {
         model.addAttribute("countries", configurationPort.getAllCountries());
         model.addAttribute("currencies", configurationPort.getAllCurrencies());
         model.addAttribute("rateProviders", configurationPort.getAllRateProviders());
-        model.addAttribute("messages", configurationPort.getAllMessages());
-        model.addAttribute("templates", configurationPort.getAllTemplates());
+        model.addAttribute("messageCount", configurationPort.getAllMessages().size());
         return "admin/dashboard";
     }
 
@@ -92,6 +93,8 @@ public class AdminDashboardController {
         page.setTitle(title);
         page.setContent(content);
         legalPageRepository.save(page);
+        // Other replicas evict their cached copy when they see the new version
+        configurationPort.refreshCache();
         redirectAttributes.addFlashAttribute("success", "Page saved successfully!");
         return "redirect:/admin/legal";
     }
@@ -102,6 +105,10 @@ public class AdminDashboardController {
         model.addAttribute("analytics", analyticsService.getDashboardSummary());
         model.addAttribute("toolTrend", analyticsService.getDailyTrend("tool", 7));
         model.addAttribute("sessionTrend", analyticsService.getDailyTrend("mcp", 7));
+        model.addAttribute("uniqueUsers", uniqueUsageTracker.uniques(UniqueUsageTracker.USERS));
+        model.addAttribute("uniqueConversations", uniqueUsageTracker.uniques(UniqueUsageTracker.CONVERSATIONS));
+        model.addAttribute("usersByTool", uniqueUsageTracker.weeklyByTool(UniqueUsageTracker.USERS));
+        model.addAttribute("usersByCountry", uniqueUsageTracker.weeklyByCountry(UniqueUsageTracker.USERS));
         return "admin/analytics";
     }
 }
@@ -0,0 +1,152 @@
+package com.fincalc.adapter.in.admin;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fincalc.adapter.out.persistence.AnalyticsExportReader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Analytics downloads for offline analysis, as CSV or newline-delimited JSON.
+ *
+ * Rows are written to the response as the database cursor yields them. Writes
+ * block while the client is behind, which in turn holds back the cursor, so a
+ * download of any size needs the same small buffer.
+ */
+@RestController
+@RequestMapping("/admin/analytics/export")
+@RequiredArgsConstructor
+public class AnalyticsExportController {
+
+    private static final MediaType CSV = MediaType.parseMediaType("text/csv");
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final AnalyticsExportReader exportReader;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Daily counts between two dates (default: the last 30 days), optionally for one category.
+     */
+    @GetMapping("/daily")
+    public ResponseEntity<StreamingResponseBody> exportDaily(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "csv") String format) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(30);
+        if (start.isAfter(end)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "from must not be after to");
+        }
+        return export("analytics-daily-" + start + "-" + end, format, AnalyticsExportReader.DAILY_COLUMNS,
+                sink -> exportReader.streamDaily(start, end, blankToNull(category), sink));
+    }
+
+    /**
+     * All-time counters, optionally for one category.
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<StreamingResponseBody> exportStats(
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "csv") String format) {
+        return export("analytics-stats", format, AnalyticsExportReader.STATS_COLUMNS,
+                sink -> exportReader.streamStats(blankToNull(category), sink));
+    }
+
+    private interface Export {
+        void run(AnalyticsExportReader.RowSink sink);
+    }
+
+    private ResponseEntity<StreamingResponseBody> export(String name, String format, List<String> columns, Export export) {
+        boolean csv = switch (format.toLowerCase()) {
+            case "csv" -> true;
+            case "ndjson", "jsonl" -> false;
+            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Unsupported export format: " + format + " (use csv or ndjson)");
+        };
+
+        StreamingResponseBody body = csv
+                ? out -> writeCsv(out, columns, export)
+                : out -> writeNdjson(out, columns, export);
+
+        return ResponseEntity.ok()
+                .contentType(csv ? CSV : NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(name + (csv ? ".csv" : ".ndjson"))
+                        .build().toString())
+                .body(body);
+    }
+
+    private static void writeCsv(OutputStream out, List<String> columns, Export export) throws IOException {
+        Writer writer = new OutputStreamWriter(new BufferedOutputStream(out), StandardCharsets.UTF_8);
+        writer.write(String.join(",", columns));
+        writer.write('\n');
+        export.run(row -> {
+            for (int i = 0; i < row.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writeCsvField(writer, row[i]);
+            }
+            writer.write('\n');
+        });
+        writer.flush();
+    }
+
+    private static void writeCsvField(Writer writer, Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        if (!(value instanceof Number) && !text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0) {
+            // Names come from tool arguments; keep spreadsheets from evaluating them as formulas
+            text = "'" + text;
+        }
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private void writeNdjson(OutputStream out, List<String> columns, Export export) throws IOException {
+        JsonGenerator json = objectMapper.getFactory().createGenerator(new BufferedOutputStream(out));
+        json.setRootValueSeparator(null);
+        export.run(row -> {
+            json.writeStartObject();
+            for (int i = 0; i < row.length; i++) {
+                json.writeFieldName(columns.get(i));
+                json.writeObject(row[i]);
+            }
+            json.writeEndObject();
+            json.writeRaw('\n');
+        });
+        json.flush();
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+}
@@ -1,7 +1,11 @@
 package com.fincalc.adapter.in.web;
 
+import com.fincalc.domain.model.config.ConfigPage;
 import com.fincalc.domain.model.config.Country;
+import com.fincalc.domain.model.config.CountrySummary;
 import com.fincalc.domain.model.config.Currency;
+import com.fincalc.domain.model.config.LocalizedMessage;
+import com.fincalc.domain.model.config.MessageSummary;
 import com.fincalc.domain.model.config.RateProvider;
 import com.fincalc.domain.port.out.ConfigurationPort;
 import io.swagger.v3.oas.annotations.Operation;
@@ -20,6 +24,10 @@ import java.util.Map;
  * - Manage supported countries and tax systems
  * - Manage supported currencies
  * - Configure external rate data providers
+ * - Browse localized messages
+ *
+ * Listings that can grow large are paged by key: pass the {@code nextAfter} of one
+ * page as {@code after} to get the next.
  *
  * In production, secure this with authentication/authorization.
  */
@@ -39,6 +47,14 @@ public class AdminConfigController {
         return ResponseEntity.ok(configurationPort.getAllCountries());
     }
 
+    @GetMapping("/countries/summaries")
+    @Operation(summary = "List countries a page at a time, without tax systems or regions")
+    public ResponseEntity<ConfigPage<CountrySummary>> listCountries(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "" + ConfigPage.DEFAULT_SIZE) int limit) {
+        return ResponseEntity.ok(configurationPort.listCountries(after, limit));
+    }
+
     @GetMapping("/countries/{code}")
     @Operation(summary = "Get country by code")
     public ResponseEntity<Country> getCountry(@PathVariable String code) {
@@ -137,6 +153,26 @@ public class AdminConfigController {
         ));
     }
 
+    // ==================== Localized Messages ====================
+
+    @GetMapping("/messages")
+    @Operation(summary = "List message keys a page at a time, optionally by category or key prefix")
+    public ResponseEntity<ConfigPage<MessageSummary>> listMessages(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String prefix,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "" + ConfigPage.DEFAULT_SIZE) int limit) {
+        return ResponseEntity.ok(configurationPort.listMessages(category, prefix, after, limit));
+    }
+
+    @GetMapping("/messages/{key}")
+    @Operation(summary = "Get a message with all its translations")
+    public ResponseEntity<LocalizedMessage> getMessage(@PathVariable String key) {
+        return configurationPort.getMessage(key)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
     // ==================== Cache Management ====================
 
     @PostMapping("/refresh-cache")
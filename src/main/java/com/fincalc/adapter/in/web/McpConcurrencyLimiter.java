@@ -0,0 +1,240 @@
+package com.fincalc.adapter.in.web;
+
+import com.fincalc.adapter.config.McpRateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * Adaptive limit on concurrent MCP tool calls, so a slow dependency sheds load
+ * instead of exhausting the servlet thread pool.
+ *
+ * The limit follows AIMD on measured latency: while the smoothed latency stays
+ * within a tolerance of the healthy baseline and the limit is in use, it grows
+ * by one per call; once latency climbs past the tolerance it is cut by 10%
+ * (at most once per decrease interval). Calls beyond the limit are rejected
+ * straight away with a retry hint rather than queued.
+ *
+ * Tools are split into two lanes by rate-limit cost. Expensive tools may only
+ * use a share of the limit, so cheap lookups keep flowing when heavy
+ * simulations pile up. Each lane keeps its own smoothed latency and baseline,
+ * so a slow call is compared with other calls of its kind: simulations that
+ * are always slow do not shrink the limit, but either lane slowing down does.
+ */
+@Slf4j
+@Component
+public class McpConcurrencyLimiter {
+
+    static final double BACKOFF_RATIO = 0.9;
+    static final double LATENCY_TOLERANCE = 2.0;
+    static final long MIN_LATENCY_THRESHOLD_NANOS = TimeUnit.MILLISECONDS.toNanos(250);
+    static final long DECREASE_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+    static final int MAX_RETRY_AFTER_SECONDS = 30;
+
+    public enum Lane { CHEAP, EXPENSIVE }
+
+    private final ToIntFunction<String> costOf;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double expensiveShare;
+    private final int expensiveCost;
+    private final LongSupplier nanoClock;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<Lane, AtomicInteger> inFlightByLane = new EnumMap<>(Lane.class);
+    private final Map<Lane, Counter> rejected = new EnumMap<>(Lane.class);
+    private final Map<Lane, Latency> latencies = new EnumMap<>(Lane.class);
+
+    private volatile double limit;
+    private long lastDecreaseNanos;
+
+    /**
+     * Smoothed and healthy baseline latency of one lane. Guarded by the limiter.
+     */
+    private static final class Latency {
+        double smoothedNanos;
+        double baselineNanos;
+    }
+
+    /**
+     * Thrown when a call would exceed the current limit of its lane.
+     */
+    public static class OverloadedException extends RuntimeException {
+        private final long retryAfterSeconds;
+
+        OverloadedException(String message, long retryAfterSeconds) {
+            super(message);
+            this.retryAfterSeconds = retryAfterSeconds;
+        }
+
+        public long retryAfterSeconds() {
+            return retryAfterSeconds;
+        }
+    }
+
+    /**
+     * A slot held by a running call; closing it releases the slot and feeds the latency back.
+     */
+    public final class Permit implements AutoCloseable {
+        private final Lane lane;
+        private final long startNanos;
+        private final int inFlightAtStart;
+        private boolean released;
+
+        private Permit(Lane lane, long startNanos, int inFlightAtStart) {
+            this.lane = lane;
+            this.startNanos = startNanos;
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        @Override
+        public void close() {
+            if (released) {
+                return;
+            }
+            released = true;
+            inFlightByLane.get(lane).decrementAndGet();
+            inFlight.decrementAndGet();
+            onComplete(lane, nanoClock.getAsLong() - startNanos, inFlightAtStart);
+        }
+    }
+
+    @Autowired
+    public McpConcurrencyLimiter(
+            MeterRegistry meterRegistry,
+            McpRateLimiter rateLimiter,
+            @Value("${fincalc.mcp.concurrency.initial-limit:50}") int initialLimit,
+            @Value("${fincalc.mcp.concurrency.min-limit:8}") int minLimit,
+            @Value("${fincalc.mcp.concurrency.max-limit:300}") int maxLimit,
+            @Value("${fincalc.mcp.concurrency.expensive-share:0.5}") double expensiveShare,
+            @Value("${fincalc.mcp.concurrency.expensive-cost:3}") int expensiveCost) {
+        this(meterRegistry, rateLimiter::costOf, initialLimit, minLimit, maxLimit, expensiveShare, expensiveCost,
+                System::nanoTime);
+    }
+
+    McpConcurrencyLimiter(MeterRegistry meterRegistry, ToIntFunction<String> costOf, int initialLimit,
+                          int minLimit, int maxLimit, double expensiveShare, int expensiveCost,
+                          LongSupplier nanoClock) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Concurrency limits must satisfy 1 <= min <= initial <= max");
+        }
+        if (expensiveShare <= 0 || expensiveShare > 1) {
+            throw new IllegalArgumentException("Expensive share must be in (0, 1]");
+        }
+        this.costOf = costOf;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.expensiveShare = expensiveShare;
+        this.expensiveCost = expensiveCost;
+        this.nanoClock = nanoClock;
+        this.limit = initialLimit;
+        this.lastDecreaseNanos = nanoClock.getAsLong() - DECREASE_INTERVAL_NANOS;
+
+        Gauge.builder("mcp.concurrency.limit", this, McpConcurrencyLimiter::currentLimit)
+                .description("Adaptive limit on concurrent MCP tool calls on this node")
+                .register(meterRegistry);
+        for (Lane lane : Lane.values()) {
+            AtomicInteger counter = new AtomicInteger();
+            inFlightByLane.put(lane, counter);
+            latencies.put(lane, new Latency());
+            String tag = lane.name().toLowerCase();
+            Gauge.builder("mcp.concurrency.in_flight", counter, AtomicInteger::get)
+                    .description("MCP tool calls running on this node")
+                    .tag("lane", tag)
+                    .register(meterRegistry);
+            rejected.put(lane, Counter.builder("mcp.concurrency.rejected")
+                    .description("MCP tool calls shed by the concurrency limit")
+                    .tag("lane", tag)
+                    .register(meterRegistry));
+        }
+    }
+
+    public Lane laneOf(String toolName) {
+        return costOf.applyAsInt(toolName) >= expensiveCost ? Lane.EXPENSIVE : Lane.CHEAP;
+    }
+
+    /**
+     * Take a slot in the lane, or throw if the lane or the node is at its limit.
+     */
+    public Permit acquire(Lane lane) {
+        int total = currentLimit();
+        int laneLimit = lane == Lane.EXPENSIVE ? Math.max(1, (int) (total * expensiveShare)) : total;
+        AtomicInteger laneInFlight = inFlightByLane.get(lane);
+
+        if (!increment(laneInFlight, laneLimit)) {
+            throw reject(lane);
+        }
+        if (!increment(inFlight, total)) {
+            laneInFlight.decrementAndGet();
+            throw reject(lane);
+        }
+        return new Permit(lane, nanoClock.getAsLong(), inFlight.get());
+    }
+
+    public int currentLimit() {
+        return (int) limit;
+    }
+
+    int inFlight() {
+        return inFlight.get();
+    }
+
+    private static boolean increment(AtomicInteger counter, int max) {
+        int current;
+        do {
+            current = counter.get();
+            if (current >= max) {
+                return false;
+            }
+        } while (!counter.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private OverloadedException reject(Lane lane) {
+        rejected.get(lane).increment();
+        long retryAfter;
+        synchronized (this) {
+            retryAfter = (long) Math.ceil(2 * latencies.get(lane).smoothedNanos / 1_000_000_000.0);
+        }
+        return new OverloadedException(lane.name().toLowerCase() + " tool capacity reached",
+                Math.min(MAX_RETRY_AFTER_SECONDS, Math.max(1, retryAfter)));
+    }
+
+    private synchronized void onComplete(Lane lane, long latencyNanos, int inFlightAtStart) {
+        Latency latency = latencies.get(lane);
+        latency.smoothedNanos = latency.smoothedNanos == 0 ? latencyNanos
+                : latency.smoothedNanos * 0.8 + latencyNanos * 0.2;
+        if (latency.baselineNanos == 0) {
+            latency.baselineNanos = latencyNanos;
+        }
+
+        double threshold = Math.max(latency.baselineNanos * LATENCY_TOLERANCE, MIN_LATENCY_THRESHOLD_NANOS);
+        if (latency.smoothedNanos > threshold) {
+            long now = nanoClock.getAsLong();
+            if (now - lastDecreaseNanos >= DECREASE_INTERVAL_NANOS) {
+                lastDecreaseNanos = now;
+                limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+                log.debug("MCP concurrency limit decreased to {} ({} latency {} ms)",
+                        currentLimit(), lane.name().toLowerCase(), (long) (latency.smoothedNanos / 1_000_000));
+            }
+            return;
+        }
+
+        // Healthy sample: let the baseline follow slow drift, and grow only while the limit is in use
+        latency.baselineNanos = latency.baselineNanos * 0.95 + latencyNanos * 0.05;
+        if (inFlightAtStart * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+    }
+}
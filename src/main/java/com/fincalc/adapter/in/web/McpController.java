@@ -2,29 +2,34 @@ package com.fincalc.adapter.in.web;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fincalc.adapter.config.ChatGptRequestContext;
+import com.fincalc.adapter.in.web.dto.JsonRpcNotification;
 import com.fincalc.adapter.in.web.dto.JsonRpcRequest;
 import com.fincalc.adapter.in.web.dto.JsonRpcResponse;
 import com.fincalc.application.AnalyticsService;
-import com.fincalc.application.McpToolHandler;
+import com.fincalc.application.ToolProgress;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
-import io.swagger.v3.oas.annotations.media.Content;
-import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @RestController
@@ -34,33 +39,64 @@ import java.util.concurrent.ConcurrentHashMap;
 @Tag(name = "MCP", description = "Model Context Protocol endpoints for financial calculations")
 public class McpController {
 
-    private static final String PROTOCOL_VERSION = "2024-11-05";
-    private final Map<String, SseEmitter> sessions = new ConcurrentHashMap<>();
+    private static final String SESSION_RETRY_AFTER_SECONDS = "30";
 
-    private final McpToolHandler toolHandler;
+    private final McpSessionManager sessionManager;
+    private final McpRequestDispatcher dispatcher;
     private final ObjectMapper objectMapper;
     private final ObjectProvider<ChatGptRequestContext> requestContextProvider;
     private final AnalyticsService analyticsService;
 
     /**
      * Direct HTTP POST endpoint for MCP (used by ChatGPT).
-     * Handles JSON-RPC requests without requiring SSE session.
+     * Handles JSON-RPC requests without requiring SSE session. Clients that accept
+     * text/event-stream and send a progress token get a Streamable HTTP response:
+     * progress notifications as the tool runs, then the result, on one chunked stream.
+     * Which of the two applies depends on the body, so the handler writes the response
+     * itself rather than returning one; both run on the request thread.
      */
     @Operation(
             summary = "Handle MCP request via HTTP POST",
-            description = "Direct JSON-RPC 2.0 endpoint for MCP communication (ChatGPT uses this)"
+            description = "Direct JSON-RPC 2.0 endpoint for MCP communication (ChatGPT uses this). "
+                    + "Streams progress notifications as text/event-stream when params._meta.progressToken is set "
+                    + "and the client accepts it."
     )
     @ApiResponse(responseCode = "200", description = "Request processed")
-    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
-    public ResponseEntity<JsonRpcResponse> handleDirectPost(@Valid @RequestBody JsonRpcRequest request) {
+    @ApiResponse(responseCode = "503", description = "Tool call shed by the concurrency limit; see Retry-After")
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE,
+                 produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public void handleDirectPost(
+            @Valid @RequestBody JsonRpcRequest request,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            HttpServletResponse httpResponse
+    ) throws IOException {
         log.info("Direct MCP POST request: method={}", request.method());
 
         // Track MCP request
         analyticsService.trackMcpRequest();
         analyticsService.trackMcpSession();
 
-        JsonRpcResponse response = processRequest(request);
-        return ResponseEntity.ok(response);
+        List<MediaType> accepted = accept != null ? MediaType.parseMediaTypes(accept) : List.of();
+        boolean acceptsStream = accepted.stream().anyMatch(MediaType.TEXT_EVENT_STREAM::equalsTypeAndSubtype);
+        boolean acceptsJson = accepted.isEmpty() || accepted.stream().anyMatch(t -> t.includes(MediaType.APPLICATION_JSON));
+        Object progressToken = request.progressToken();
+
+        if (acceptsStream && (progressToken != null || !acceptsJson)) {
+            streamResponse(request, progressToken, httpResponse);
+            return;
+        }
+
+        JsonRpcResponse response = dispatch(request, ToolProgress.NONE);
+        Long retryAfter = response.retryAfterSeconds();
+        if (retryAfter != null) {
+            httpResponse.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            httpResponse.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+        } else {
+            httpResponse.setStatus(HttpStatus.OK.value());
+        }
+        httpResponse.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        httpResponse.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(httpResponse.getOutputStream(), response);
     }
 
     @Operation(
@@ -68,21 +104,27 @@ public class McpController {
             description = "Opens a Server-Sent Events (SSE) connection for MCP communication. Returns an endpoint URL for sending messages."
     )
     @ApiResponse(responseCode = "200", description = "SSE connection established")
+    @ApiResponse(responseCode = "429", description = "Too many sessions for this client")
+    @ApiResponse(responseCode = "503", description = "Session limit reached on this node")
     @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter connect() {
-        String sessionId = UUID.randomUUID().toString();
-        SseEmitter emitter = new SseEmitter(0L); // No timeout
+    public ResponseEntity<SseEmitter> connect(HttpServletRequest httpRequest) {
+        McpSessionManager.Session session;
+        try {
+            session = sessionManager.open(getClientId(httpRequest));
+        } catch (McpSessionManager.SessionLimitExceededException e) {
+            log.warn("Rejected MCP session: {}", e.getMessage());
+            return ResponseEntity.status(e.perClient() ? HttpStatus.TOO_MANY_REQUESTS : HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, SESSION_RETRY_AFTER_SECONDS)
+                    .build();
+        }
 
-        sessions.put(sessionId, emitter);
+        String sessionId = session.id();
+        SseEmitter emitter = session.emitter();
         log.info("New MCP session established: {}", sessionId);
 
         // Track MCP session
         analyticsService.trackMcpSession();
 
-        emitter.onCompletion(() -> cleanup(sessionId, "completed"));
-        emitter.onTimeout(() -> cleanup(sessionId, "timed out"));
-        emitter.onError(e -> cleanup(sessionId, "error: " + e.getMessage()));
-
         try {
             emitter.send(SseEmitter.event()
                     .name("endpoint")
@@ -92,7 +134,7 @@ public class McpController {
             emitter.completeWithError(e);
         }
 
-        return emitter;
+        return ResponseEntity.ok(emitter);
     }
 
     @Operation(
@@ -100,12 +142,11 @@ public class McpController {
             description = "Sends a JSON-RPC 2.0 request to the MCP server. Supports methods: initialize, tools/list, tools/call"
     )
     @ApiResponses({
-            @ApiResponse(responseCode = "202", description = "Request accepted and processed",
-                    content = @Content(schema = @Schema(implementation = JsonRpcResponse.class))),
+            @ApiResponse(responseCode = "202", description = "Request accepted; the response is sent on the session's SSE stream"),
             @ApiResponse(responseCode = "404", description = "Session not found")
     })
     @PostMapping("/messages")
-    public ResponseEntity<JsonRpcResponse> handleMessage(
+    public ResponseEntity<Void> handleMessage(
             @Parameter(description = "Session ID from SSE connection") @RequestParam String sessionId,
             @Valid @RequestBody JsonRpcRequest request
     ) {
@@ -114,138 +155,73 @@ public class McpController {
         // Track MCP request
         analyticsService.trackMcpRequest();
 
-        SseEmitter emitter = sessions.get(sessionId);
-        if (emitter == null) {
+        McpSessionManager.Session session = sessionManager.touch(sessionId);
+        if (session == null) {
             log.warn("Unknown session: {}", sessionId);
             return ResponseEntity.notFound().build();
         }
 
-        JsonRpcResponse response = processRequest(request);
-        sendSseResponse(emitter, response);
+        // The response travels over the session's SSE stream only; the 202 carries no body
+        SseEmitter emitter = session.emitter();
+        Object progressToken = request.progressToken();
+        ToolProgress progress = progressToken == null ? ToolProgress.NONE
+                : (done, total, message) -> sendSseEvent(emitter, JsonRpcNotification.progress(progressToken, done, total, message));
+        sendSseEvent(emitter, dispatch(request, progress));
 
-        return ResponseEntity.accepted().body(response);
+        return ResponseEntity.accepted().build();
     }
 
-    private JsonRpcResponse processRequest(JsonRpcRequest request) {
-        String method = request.method();
-        Object id = request.id();
-        Map<String, Object> params = request.params() != null ? request.params() : Map.of();
+    /**
+     * Write progress notifications and the final response as SSE events on the
+     * POST response itself. Runs on the request thread; each event is flushed
+     * so the container sends it as its own chunk.
+     */
+    private void streamResponse(JsonRpcRequest request, Object progressToken, HttpServletResponse httpResponse) {
+        httpResponse.setStatus(HttpServletResponse.SC_OK);
+        httpResponse.setContentType(MediaType.TEXT_EVENT_STREAM_VALUE);
+        httpResponse.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        httpResponse.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
 
         try {
-            return switch (method) {
-                case "initialize" -> handleInitialize(id);
-                case "notifications/initialized" -> JsonRpcResponse.success(id, Map.of());
-                case "tools/list" -> handleToolsList(id);
-                case "tools/call" -> handleToolsCall(id, params);
-                case "resources/list" -> JsonRpcResponse.success(id, Map.of("resources", List.of()));
-                case "resources/templates/list" -> JsonRpcResponse.success(id, Map.of("resourceTemplates", List.of()));
-                default -> {
-                    log.warn("Unknown method: {}", method);
-                    yield JsonRpcResponse.methodNotFound(id, method);
-                }
-            };
-        } catch (IllegalArgumentException e) {
-            log.warn("Invalid params for method {}: {}", method, e.getMessage());
-            return JsonRpcResponse.invalidParams(id, e.getMessage());
-        } catch (Exception e) {
-            log.error("Error processing method {}", method, e);
-            return JsonRpcResponse.internalError(id, e.getMessage());
+            OutputStream out = httpResponse.getOutputStream();
+            ToolProgress progress = progressToken == null ? ToolProgress.NONE
+                    : (done, total, message) -> writeEvent(out, JsonRpcNotification.progress(progressToken, done, total, message));
+            writeEvent(out, dispatch(request, progress));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
 
-    private JsonRpcResponse handleInitialize(Object id) {
-        Map<String, Object> result = new LinkedHashMap<>();
-        result.put("protocolVersion", PROTOCOL_VERSION);
-
-        // Standard MCP capabilities
-        Map<String, Object> capabilities = new LinkedHashMap<>();
-        capabilities.put("tools", Map.of("listChanged", false));
-        result.put("capabilities", capabilities);
-
-        // Server info
-        Map<String, Object> serverInfo = new LinkedHashMap<>();
-        serverInfo.put("name", "Numerai Finance");
-        serverInfo.put("version", "1.0.0");
-        serverInfo.put("description", "Professional financial calculator with real-time rates for mortgages, investments, and taxes");
-        result.put("serverInfo", serverInfo);
-
-        // ChatGPT connector fields (snake_case at top level as ChatGPT expects)
-        result.put("supports_full_actions", true);
-        result.put("disable_auto_invocation", false);
-        result.put("keywords_for_triggering", List.of(
-                "mortgage", "loan payment", "calculate mortgage", "home loan",
-                "compound interest", "investment calculator", "savings calculator",
-                "tax estimate", "income tax", "tax calculator", "federal tax",
-                "interest rate", "finance calculator", "financial calculation",
-                "monthly payment", "amortization", "APR", "loan calculator"
-        ));
-
-        return JsonRpcResponse.success(id, result);
-    }
-
-    private JsonRpcResponse handleToolsList(Object id) {
-        Map<String, Object> result = new LinkedHashMap<>();
-        result.put("tools", toolHandler.getToolDefinitions());
-
-        // Add connector-level metadata for ChatGPT full actions support
-        result.put("supports_full_actions", true);
-        result.put("connector_supports_full_actions", true);
-        result.put("disable_auto_invocation", false);
-        result.put("keywords_for_triggering", List.of(
-                "mortgage", "loan payment", "calculate mortgage", "home loan",
-                "compound interest", "investment calculator", "savings calculator",
-                "tax estimate", "income tax", "tax calculator", "federal tax",
-                "interest rate", "finance calculator", "market rates"
-        ));
-
-        // Build action_param_schemas map for ChatGPT
-        Map<String, Object> actionParamSchemas = new LinkedHashMap<>();
-        for (var tool : toolHandler.getToolDefinitions()) {
-            String name = (String) tool.get("name");
-            Object schema = tool.get("inputSchema");
-            if (name != null && schema != null) {
-                actionParamSchemas.put(name, schema);
-            }
+    private void writeEvent(OutputStream out, Object message) {
+        try {
+            out.write(("event: message\ndata: " + objectMapper.writeValueAsString(message) + "\n\n")
+                    .getBytes(StandardCharsets.UTF_8));
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
-        result.put("action_param_schemas", actionParamSchemas);
-
-        return JsonRpcResponse.success(id, result);
     }
 
-    @SuppressWarnings("unchecked")
-    private JsonRpcResponse handleToolsCall(Object id, Map<String, Object> params) {
-        String toolName = (String) params.get("name");
-        Map<String, Object> arguments = (Map<String, Object>) params.getOrDefault("arguments", Map.of());
-
-        if (toolName == null || toolName.isBlank()) {
-            return JsonRpcResponse.invalidParams(id, "Tool name is required");
-        }
-
+    private JsonRpcResponse dispatch(JsonRpcRequest request, ToolProgress progress) {
         // Get request context for ChatGPT headers (country, language)
-        ChatGptRequestContext context = requestContextProvider.getIfAvailable();
-        Map<String, Object> result = toolHandler.executeTool(toolName, arguments, context);
-        return JsonRpcResponse.success(id, result);
+        return dispatcher.dispatch(request, requestContextProvider.getIfAvailable(), progress);
     }
 
-    private void sendSseResponse(SseEmitter emitter, JsonRpcResponse response) {
+    private void sendSseEvent(SseEmitter emitter, Object message) {
         try {
-            String json = objectMapper.writeValueAsString(response);
+            String json = objectMapper.writeValueAsString(message);
             emitter.send(SseEmitter.event().name("message").data(json));
         } catch (IOException e) {
-            log.error("Failed to send SSE response", e);
+            log.error("Failed to send SSE event", e);
         }
     }
 
-    private void cleanup(String sessionId, String reason) {
-        sessions.remove(sessionId);
-        log.info("MCP session {}: {}", sessionId, reason);
-    }
-
-    @Operation(summary = "Get active session count", description = "Returns the number of active MCP sessions (for monitoring)")
-    @ApiResponse(responseCode = "200", description = "Session count retrieved")
-    @GetMapping("/sessions/count")
-    public ResponseEntity<Map<String, Integer>> getSessionCount() {
-        return ResponseEntity.ok(Map.of("activeSessions", sessions.size()));
+    private String getClientId(HttpServletRequest request) {
+        String forwarded = request.getHeader("X-Forwarded-For");
+        if (forwarded != null && !forwarded.isBlank()) {
+            return forwarded.split(",")[0].trim();
+        }
+        return request.getRemoteAddr();
     }
 
     // ============= OAuth Discovery Endpoints (relative to /mcp) =============
@@ -0,0 +1,171 @@
+package com.fincalc.adapter.in.web;
+
+import com.fincalc.adapter.config.ChatGptRequestContext;
+import com.fincalc.adapter.config.ToolTimeoutProperties;
+import com.fincalc.adapter.in.web.dto.JsonRpcRequest;
+import com.fincalc.adapter.in.web.dto.JsonRpcResponse;
+import com.fincalc.application.McpToolHandler;
+import com.fincalc.application.ToolArguments;
+import com.fincalc.application.ToolProgress;
+import com.fincalc.application.ToolRegistry;
+import com.fincalc.domain.model.Deadline;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MCP JSON-RPC method dispatch shared by every transport (HTTP, SSE, WebSocket).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class McpRequestDispatcher {
+
+    private static final String PROTOCOL_VERSION = "2024-11-05";
+
+    private final McpToolHandler toolHandler;
+    private final ToolRegistry tools;
+    private final McpConcurrencyLimiter concurrencyLimiter;
+    private final ToolTimeoutProperties timeouts;
+
+    /**
+     * Dispatch a request to its method handler. The context is resolved by the
+     * transport: per HTTP request, or once per WebSocket connection.
+     */
+    public JsonRpcResponse dispatch(JsonRpcRequest request, ChatGptRequestContext context, ToolProgress progress) {
+        return dispatch(request, context, progress, Deadline.NONE);
+    }
+
+    /**
+     * Dispatch a request whose tool call should also stop when the parent deadline
+     * does, e.g. when the WebSocket connection it came in on closes.
+     */
+    public JsonRpcResponse dispatch(JsonRpcRequest request, ChatGptRequestContext context, ToolProgress progress,
+                                    Deadline parent) {
+        String method = request.method();
+        Object id = request.id();
+        Map<String, Object> params = request.params() != null ? request.params() : Map.of();
+
+        try {
+            return switch (method) {
+                case "initialize" -> handleInitialize(id);
+                case "notifications/initialized" -> JsonRpcResponse.success(id, Map.of());
+                case "tools/list" -> handleToolsList(id);
+                case "tools/call" -> handleToolsCall(id, params, context, progress, parent);
+                case "resources/list" -> JsonRpcResponse.success(id, Map.of("resources", List.of()));
+                case "resources/templates/list" -> JsonRpcResponse.success(id, Map.of("resourceTemplates", List.of()));
+                default -> {
+                    log.warn("Unknown method: {}", method);
+                    yield JsonRpcResponse.methodNotFound(id, method);
+                }
+            };
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid params for method {}: {}", method, e.getMessage());
+            return JsonRpcResponse.invalidParams(id, e.getMessage());
+        } catch (Exception e) {
+            log.error("Error processing method {}", method, e);
+            return JsonRpcResponse.internalError(id, e.getMessage());
+        }
+    }
+
+    private JsonRpcResponse handleInitialize(Object id) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("protocolVersion", PROTOCOL_VERSION);
+
+        // Standard MCP capabilities
+        Map<String, Object> capabilities = new LinkedHashMap<>();
+        capabilities.put("tools", Map.of("listChanged", false));
+        result.put("capabilities", capabilities);
+
+        // Server info
+        Map<String, Object> serverInfo = new LinkedHashMap<>();
+        serverInfo.put("name", "Numerai Finance");
+        serverInfo.put("version", "1.0.0");
+        serverInfo.put("description", "Professional financial calculator with real-time rates for mortgages, investments, and taxes");
+        result.put("serverInfo", serverInfo);
+
+        // ChatGPT connector fields (snake_case at top level as ChatGPT expects)
+        result.put("supports_full_actions", true);
+        result.put("disable_auto_invocation", false);
+        result.put("keywords_for_triggering", List.of(
+                "mortgage", "loan payment", "calculate mortgage", "home loan",
+                "compound interest", "investment calculator", "savings calculator",
+                "tax estimate", "income tax", "tax calculator", "federal tax",
+                "interest rate", "finance calculator", "financial calculation",
+                "monthly payment", "amortization", "APR", "loan calculator"
+        ));
+
+        return JsonRpcResponse.success(id, result);
+    }
+
+    private JsonRpcResponse handleToolsList(Object id) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("tools", toolHandler.getToolDefinitions());
+
+        // Add connector-level metadata for ChatGPT full actions support
+        result.put("supports_full_actions", true);
+        result.put("connector_supports_full_actions", true);
+        result.put("disable_auto_invocation", false);
+        result.put("keywords_for_triggering", List.of(
+                "mortgage", "loan payment", "calculate mortgage", "home loan",
+                "compound interest", "investment calculator", "savings calculator",
+                "tax estimate", "income tax", "tax calculator", "federal tax",
+                "interest rate", "finance calculator", "market rates"
+        ));
+
+        // Build action_param_schemas map for ChatGPT
+        Map<String, Object> actionParamSchemas = new LinkedHashMap<>();
+        for (var tool : toolHandler.getToolDefinitions()) {
+            String name = (String) tool.get("name");
+            Object schema = tool.get("inputSchema");
+            if (name != null && schema != null) {
+                actionParamSchemas.put(name, schema);
+            }
+        }
+        result.put("action_param_schemas", actionParamSchemas);
+
+        return JsonRpcResponse.success(id, result);
+    }
+
+    private JsonRpcResponse handleToolsCall(Object id, Map<String, Object> params, ChatGptRequestContext context,
+                                            ToolProgress progress, Deadline parent) {
+        String toolName = (String) params.get("name");
+        ToolArguments arguments = argumentsOf(params.get("arguments"));
+
+        if (toolName == null || toolName.isBlank()) {
+            return JsonRpcResponse.invalidParams(id, "Tool name is required");
+        }
+
+        // Shed the call rather than queue it when this node is at its concurrency limit
+        try (McpConcurrencyLimiter.Permit permit = concurrencyLimiter.acquire(concurrencyLimiter.laneOf(toolName))) {
+            Deadline deadline = parent.child(timeouts.timeoutFor(toolName, tools.policyOf(toolName).timeout(),
+                    context != null ? context.getRequestTimeoutMillis() : null));
+            Map<String, Object> result = toolHandler.executeTool(toolName, arguments, context, progress, deadline);
+            return JsonRpcResponse.success(id, result);
+        } catch (McpConcurrencyLimiter.OverloadedException e) {
+            log.warn("Shed tool call {}: {}", toolName, e.getMessage());
+            return JsonRpcResponse.overloaded(id, e.getMessage(), e.retryAfterSeconds());
+        } catch (Deadline.ExceededException e) {
+            log.warn("Stopped tool call {}: {}", toolName, e.getMessage());
+            return JsonRpcResponse.timeout(id, e.getMessage());
+        }
+    }
+
+    /**
+     * Arguments arrive buffered from the request body; requests built in process may carry a map.
+     */
+    @SuppressWarnings("unchecked")
+    private static ToolArguments argumentsOf(Object arguments) {
+        if (arguments instanceof ToolArguments buffered) {
+            return buffered;
+        }
+        if (arguments instanceof Map<?, ?> map) {
+            return ToolArguments.of((Map<String, Object>) map);
+        }
+        return ToolArguments.EMPTY;
+    }
+}
@@ -0,0 +1,329 @@
+package com.fincalc.adapter.in.web;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Owns the MCP SSE sessions of this node.
+ *
+ * Sessions are capped per node and per client. Idle sessions are evicted by a
+ * hashed timer wheel: each session sits in the slot of its idle deadline, and
+ * every tick only drains one slot. Touching a session just records the time;
+ * when its slot comes round a session that was active since is moved to the
+ * slot of its new deadline instead of being evicted. Heartbeat comments keep
+ * proxies from closing quiet streams and surface half-open connections.
+ *
+ * The wheel and the heartbeats run on two threads of their own rather than on
+ * the shared scheduler, so a slow rate refresh or a slow heartbeat fan-out never
+ * holds back idle eviction.
+ */
+@Slf4j
+@Component
+public class McpSessionManager {
+
+    static final long TICK_MILLIS = 1000;
+    static final int WHEEL_SLOTS = 512;
+
+    private final int maxSessions;
+    private final int maxSessionsPerClient;
+    private final long idleTimeoutMillis;
+    private final long heartbeatIntervalMillis;
+    private final LongSupplier clock;
+    private ScheduledExecutorService timer;
+
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> sessionsPerClient = new ConcurrentHashMap<>();
+    private final AtomicInteger sessionCount = new AtomicInteger();
+    private final Queue<Session>[] wheel;
+    private volatile long currentTick;
+
+    private final Counter rejectedNodeFull;
+    private final Counter rejectedClientFull;
+    private final Counter evictedIdle;
+    private final Counter evictedHeartbeat;
+
+    /**
+     * A live SSE session.
+     */
+    public static final class Session {
+        private final String id;
+        private final String clientKey;
+        private final SseEmitter emitter;
+        private volatile long lastActiveMillis;
+
+        private Session(String id, String clientKey, SseEmitter emitter, long now) {
+            this.id = id;
+            this.clientKey = clientKey;
+            this.emitter = emitter;
+            this.lastActiveMillis = now;
+        }
+
+        public String id() {
+            return id;
+        }
+
+        public String clientKey() {
+            return clientKey;
+        }
+
+        public SseEmitter emitter() {
+            return emitter;
+        }
+    }
+
+    /**
+     * Thrown when a new session would exceed the node or per-client limit.
+     */
+    public static class SessionLimitExceededException extends RuntimeException {
+        private final boolean perClient;
+
+        SessionLimitExceededException(String message, boolean perClient) {
+            super(message);
+            this.perClient = perClient;
+        }
+
+        public boolean perClient() {
+            return perClient;
+        }
+    }
+
+    @Autowired
+    public McpSessionManager(
+            MeterRegistry meterRegistry,
+            @Value("${fincalc.mcp.sessions.max:5000}") int maxSessions,
+            @Value("${fincalc.mcp.sessions.max-per-client:20}") int maxSessionsPerClient,
+            @Value("${fincalc.mcp.sessions.idle-timeout-seconds:300}") long idleTimeoutSeconds,
+            @Value("${fincalc.mcp.sessions.heartbeat-interval-ms:15000}") long heartbeatIntervalMillis) {
+        this(meterRegistry, maxSessions, maxSessionsPerClient, idleTimeoutSeconds * 1000, heartbeatIntervalMillis,
+                System::currentTimeMillis);
+    }
+
+    McpSessionManager(MeterRegistry meterRegistry, int maxSessions, int maxSessionsPerClient,
+                      long idleTimeoutMillis, LongSupplier clock) {
+        this(meterRegistry, maxSessions, maxSessionsPerClient, idleTimeoutMillis, 15_000, clock);
+    }
+
+    @SuppressWarnings("unchecked")
+    McpSessionManager(MeterRegistry meterRegistry, int maxSessions, int maxSessionsPerClient,
+                      long idleTimeoutMillis, long heartbeatIntervalMillis, LongSupplier clock) {
+        if (maxSessions < 1 || maxSessionsPerClient < 1 || idleTimeoutMillis < TICK_MILLIS) {
+            throw new IllegalArgumentException("Session limits must be positive and the idle timeout at least one tick");
+        }
+        this.maxSessions = maxSessions;
+        this.maxSessionsPerClient = maxSessionsPerClient;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.heartbeatIntervalMillis = heartbeatIntervalMillis;
+        this.clock = clock;
+        this.wheel = new Queue[WHEEL_SLOTS];
+        for (int i = 0; i < WHEEL_SLOTS; i++) {
+            wheel[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.currentTick = clock.getAsLong() / TICK_MILLIS;
+
+        Gauge.builder("mcp.sessions.active", sessionCount, AtomicInteger::get)
+                .description("Open MCP SSE sessions on this node")
+                .register(meterRegistry);
+        this.rejectedNodeFull = rejectedCounter(meterRegistry, "node_limit");
+        this.rejectedClientFull = rejectedCounter(meterRegistry, "client_limit");
+        this.evictedIdle = evictedCounter(meterRegistry, "idle");
+        this.evictedHeartbeat = evictedCounter(meterRegistry, "heartbeat");
+    }
+
+    @PostConstruct
+    public void start() {
+        timer = Executors.newScheduledThreadPool(2, Thread.ofPlatform().name("mcp-sessions-", 0).daemon().factory());
+        timer.scheduleAtFixedRate(this::tickSafely, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+        timer.scheduleAtFixedRate(this::heartbeatSafely, heartbeatIntervalMillis, heartbeatIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (timer != null) {
+            timer.shutdownNow();
+        }
+    }
+
+    /**
+     * Open a session for the client, or throw if a limit is reached.
+     */
+    public Session open(String clientKey) {
+        reserve(clientKey);
+
+        long now = clock.getAsLong();
+        Session session = new Session(UUID.randomUUID().toString(), clientKey, new SseEmitter(0L), now);
+        sessions.put(session.id, session);
+        schedule(session, now);
+
+        session.emitter.onCompletion(() -> close(session.id, "completed"));
+        session.emitter.onTimeout(() -> close(session.id, "timed out"));
+        session.emitter.onError(e -> close(session.id, "error: " + e.getMessage()));
+        return session;
+    }
+
+    /**
+     * Look up a session and mark it active. Returns null for unknown or evicted sessions.
+     */
+    public Session touch(String sessionId) {
+        Session session = sessions.get(sessionId);
+        if (session != null) {
+            session.lastActiveMillis = clock.getAsLong();
+        }
+        return session;
+    }
+
+    /**
+     * Forget a session and release its slot. Safe to call more than once.
+     */
+    public void close(String sessionId, String reason) {
+        Session session = sessions.remove(sessionId);
+        if (session == null) {
+            return;
+        }
+        release(session.clientKey);
+        log.debug("MCP session {}: {}", sessionId, reason);
+    }
+
+    public int activeSessions() {
+        return sessionCount.get();
+    }
+
+    /**
+     * Advance the wheel to the current time, evicting sessions whose idle deadline passed.
+     */
+    public synchronized void tick() {
+        long nowTick = clock.getAsLong() / TICK_MILLIS;
+        while (currentTick < nowTick) {
+            long tick = ++currentTick;
+            Queue<Session> slot = wheel[slotOf(tick)];
+            // Bound the drain so sessions rescheduled into this slot wait for its next turn
+            for (int remaining = slot.size(); remaining > 0; remaining--) {
+                Session session = slot.poll();
+                if (session == null) {
+                    break;
+                }
+                if (sessions.get(session.id) != session) {
+                    continue;
+                }
+                long deadlineTick = deadlineTick(session.lastActiveMillis);
+                if (deadlineTick > tick) {
+                    wheel[slotOf(deadlineTick)].add(session);
+                } else {
+                    evictedIdle.increment();
+                    evict(session, "idle for " + idleTimeoutMillis / 1000 + "s");
+                }
+            }
+        }
+    }
+
+    /**
+     * Send a heartbeat comment on every session. Sessions whose stream is broken are evicted.
+     * Heartbeats do not count as activity.
+     */
+    public void heartbeat() {
+        for (Session session : sessions.values()) {
+            try {
+                session.emitter.send(SseEmitter.event().comment("heartbeat"));
+            } catch (IOException | IllegalStateException e) {
+                evictedHeartbeat.increment();
+                evict(session, "heartbeat failed");
+            }
+        }
+    }
+
+    // A periodic task that throws is never run again, so failures are only logged
+    private void tickSafely() {
+        try {
+            tick();
+        } catch (RuntimeException e) {
+            log.warn("MCP session wheel tick failed", e);
+        }
+    }
+
+    private void heartbeatSafely() {
+        try {
+            heartbeat();
+        } catch (RuntimeException e) {
+            log.warn("MCP session heartbeat failed", e);
+        }
+    }
+
+    private void reserve(String clientKey) {
+        int count;
+        do {
+            count = sessionCount.get();
+            if (count >= maxSessions) {
+                rejectedNodeFull.increment();
+                throw new SessionLimitExceededException("MCP session limit reached on this node", false);
+            }
+        } while (!sessionCount.compareAndSet(count, count + 1));
+
+        AtomicInteger perClient = sessionsPerClient.computeIfAbsent(clientKey, k -> new AtomicInteger());
+        if (perClient.incrementAndGet() > maxSessionsPerClient) {
+            release(clientKey);
+            rejectedClientFull.increment();
+            throw new SessionLimitExceededException("Too many MCP sessions for client " + clientKey, true);
+        }
+    }
+
+    private void release(String clientKey) {
+        sessionCount.decrementAndGet();
+        sessionsPerClient.computeIfPresent(clientKey, (k, count) -> count.decrementAndGet() <= 0 ? null : count);
+    }
+
+    private void evict(Session session, String reason) {
+        if (sessions.get(session.id) != session) {
+            return;
+        }
+        close(session.id, reason);
+        session.emitter.complete();
+    }
+
+    private void schedule(Session session, long now) {
+        // A deadline the wheel already passed goes into the next slot to be drained
+        long tick = Math.max(deadlineTick(now), currentTick + 1);
+        wheel[slotOf(tick)].add(session);
+    }
+
+    private long deadlineTick(long lastActiveMillis) {
+        return (lastActiveMillis + idleTimeoutMillis + TICK_MILLIS - 1) / TICK_MILLIS;
+    }
+
+    private static int slotOf(long tick) {
+        return (int) (tick & (WHEEL_SLOTS - 1));
+    }
+
+    private static Counter rejectedCounter(MeterRegistry registry, String reason) {
+        return Counter.builder("mcp.sessions.rejected")
+                .description("MCP sessions refused because a limit was reached")
+                .tag("reason", reason)
+                .register(registry);
+    }
+
+    private static Counter evictedCounter(MeterRegistry registry, String reason) {
+        return Counter.builder("mcp.sessions.evicted")
+                .description("MCP sessions closed by the server")
+                .tag("reason", reason)
+                .register(registry);
+    }
+}
@@ -0,0 +1,205 @@
+package com.fincalc.adapter.in.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fincalc.adapter.config.ChatGptRequestContext;
+import com.fincalc.adapter.config.McpRateLimiter;
+import com.fincalc.adapter.in.web.dto.JsonRpcNotification;
+import com.fincalc.adapter.in.web.dto.JsonRpcRequest;
+import com.fincalc.adapter.in.web.dto.JsonRpcResponse;
+import com.fincalc.application.AnalyticsService;
+import com.fincalc.application.ToolProgress;
+import com.fincalc.domain.model.Deadline;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * MCP JSON-RPC over WebSocket for persistent clients (dashboards, batch jobs).
+ *
+ * Requests on one connection run concurrently and responses go out as each
+ * finishes, correlated by id. The request context is resolved once during the
+ * handshake and reused for every message, which is also charged against the
+ * rate limiter with its tool's cost. Backpressure is applied both ways:
+ * a connection may only have a bounded number of requests in flight (extra
+ * requests are answered with a server-busy error), and outgoing messages are
+ * buffered up to a limit; a client that reads too slowly to drain it is disconnected.
+ * Tool calls still running when the connection closes are cancelled.
+ */
+@Slf4j
+@Component
+public class McpWebSocketHandler extends TextWebSocketHandler {
+
+    public static final String CONTEXT_ATTRIBUTE = "mcp.requestContext";
+    static final int SEND_TIME_LIMIT_MILLIS = 10_000;
+    static final int SEND_BUFFER_LIMIT_BYTES = 1024 * 1024;
+
+    private final McpRequestDispatcher dispatcher;
+    private final ObjectMapper objectMapper;
+    private final AnalyticsService analyticsService;
+    private final McpRateLimiter rateLimiter;
+    private final int maxInFlight;
+
+    private final Map<String, Connection> connections = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private record Connection(WebSocketSession session, ChatGptRequestContext context, Semaphore inFlight,
+                              Deadline open) {}
+
+    public McpWebSocketHandler(
+            McpRequestDispatcher dispatcher,
+            ObjectMapper objectMapper,
+            AnalyticsService analyticsService,
+            McpRateLimiter rateLimiter,
+            MeterRegistry meterRegistry,
+            @Value("${fincalc.mcp.websocket.max-in-flight:64}") int maxInFlight) {
+        this.dispatcher = dispatcher;
+        this.objectMapper = objectMapper;
+        this.analyticsService = analyticsService;
+        this.rateLimiter = rateLimiter;
+        this.maxInFlight = maxInFlight;
+
+        Gauge.builder("mcp.websocket.connections", connections, Map::size)
+                .description("Open MCP WebSocket connections on this node")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        // Serializes sends from concurrent requests and bounds what a slow reader can queue
+        WebSocketSession outbound = new ConcurrentWebSocketSessionDecorator(session,
+                SEND_TIME_LIMIT_MILLIS, SEND_BUFFER_LIMIT_BYTES,
+                ConcurrentWebSocketSessionDecorator.OverflowStrategy.TERMINATE);
+        ChatGptRequestContext context = (ChatGptRequestContext) session.getAttributes().get(CONTEXT_ATTRIBUTE);
+
+        connections.put(session.getId(), new Connection(outbound, context, new Semaphore(maxInFlight),
+                Deadline.cancellable()));
+        log.info("MCP WebSocket connected: {}", session.getId());
+
+        // Track MCP session
+        analyticsService.trackMcpSession();
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+        Connection connection = connections.get(session.getId());
+        if (connection == null) {
+            return;
+        }
+
+        // Track MCP request
+        analyticsService.trackMcpRequest();
+
+        JsonRpcRequest request;
+        try {
+            request = objectMapper.readValue(message.getPayload(), JsonRpcRequest.class);
+        } catch (JsonProcessingException e) {
+            log.warn("JSON parse error on WebSocket {}: {}", session.getId(), e.getOriginalMessage());
+            send(connection, JsonRpcResponse.parseError());
+            return;
+        }
+        if (request.method() == null || request.method().isBlank()) {
+            send(connection, JsonRpcResponse.invalidRequest(request.id()));
+            return;
+        }
+
+        // Take the connection's slot before charging, so a busy rejection costs no rate-limit tokens
+        if (!connection.inFlight().tryAcquire()) {
+            send(connection, JsonRpcResponse.serverBusy(request.id(),
+                    "more than " + maxInFlight + " requests in flight on this connection"));
+            return;
+        }
+        boolean dispatched = false;
+        try {
+            // Each message is charged like an HTTP request, weighted by the tool it calls
+            ChatGptRequestContext context = connection.context();
+            McpRateLimiter.Decision decision = rateLimiter.tryConsume(
+                    context != null ? context.getClientIp() : null,
+                    context != null ? context.getUserId() : null,
+                    context != null ? context.getConversationId() : null,
+                    rateLimiter.costOf(getToolName(request)));
+            if (!decision.allowed()) {
+                send(connection, JsonRpcResponse.rateLimited(request.id(), decision.retryAfterSeconds()));
+                return;
+            }
+            executor.execute(() -> {
+                try {
+                    Object progressToken = request.progressToken();
+                    ToolProgress progress = progressToken == null ? ToolProgress.NONE
+                            : (done, total, text) -> send(connection, JsonRpcNotification.progress(progressToken, done, total, text));
+                    JsonRpcResponse response = dispatcher.dispatch(request, connection.context(), progress, connection.open());
+                    // Notifications carry no id and get no response
+                    if (request.id() != null) {
+                        send(connection, response);
+                    }
+                } finally {
+                    connection.inFlight().release();
+                }
+            });
+            dispatched = true;
+        } finally {
+            if (!dispatched) {
+                connection.inFlight().release();
+            }
+        }
+    }
+
+    private String getToolName(JsonRpcRequest request) {
+        if ("tools/call".equals(request.method()) && request.params() != null
+                && request.params().get("name") instanceof String name) {
+            return name;
+        }
+        return null;
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        Connection connection = connections.remove(session.getId());
+        if (connection != null) {
+            // Nobody is left to read the results; stop tool calls still running
+            connection.open().cancel();
+        }
+        log.info("MCP WebSocket {} closed: {}", session.getId(), status);
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) {
+        log.debug("MCP WebSocket {} transport error: {}", session.getId(), exception.getMessage());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void send(Connection connection, Object message) {
+        WebSocketSession session = connection.session();
+        if (!session.isOpen()) {
+            return;
+        }
+        try {
+            session.sendMessage(new TextMessage(objectMapper.writeValueAsString(message)));
+        } catch (SessionLimitExceededException e) {
+            // The decorator has already closed the session
+            log.warn("Closed slow MCP WebSocket {}: {}", session.getId(), e.getMessage());
+        } catch (IOException e) {
+            log.debug("Failed to send on MCP WebSocket {}: {}", session.getId(), e.getMessage());
+        }
+    }
+}
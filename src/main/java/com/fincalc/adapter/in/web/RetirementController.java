@@ -0,0 +1,92 @@
+package com.fincalc.adapter.in.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fincalc.domain.model.RetirementDrawdown;
+import com.fincalc.domain.port.in.SimulateDrawdownUseCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * REST controller for retirement drawdown projections.
+ * Streams the year table as newline-delimited JSON while it is computed,
+ * so long horizons reach the client row by row.
+ */
+@RestController
+@RequestMapping("/api/retirement")
+@RequiredArgsConstructor
+@Tag(name = "Retirement", description = "Retirement drawdown projections")
+public class RetirementController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final SimulateDrawdownUseCase drawdownUseCase;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+
+    @GetMapping(value = "/drawdown", produces = "application/x-ndjson")
+    @Operation(summary = "Stream a retirement drawdown year table",
+               description = "Emits one JSON object per year followed by a summary line")
+    public ResponseEntity<StreamingResponseBody> streamDrawdown(
+            @RequestParam BigDecimal startingBalance,
+            @RequestParam BigDecimal withdrawal,
+            @RequestParam(defaultValue = "65") int startAge,
+            @RequestParam(defaultValue = "30") int years,
+            @RequestParam(defaultValue = "fixed") String rule,
+            @RequestParam(defaultValue = "5") BigDecimal expectedReturn,
+            @RequestParam(defaultValue = "3") BigDecimal inflation) {
+
+        var command = new SimulateDrawdownUseCase.Command(startingBalance, startAge, years,
+                RetirementDrawdown.Rule.fromString(rule), withdrawal, expectedReturn, inflation);
+
+        // Validate before the response is committed so errors still map to 400
+        Set<ConstraintViolation<SimulateDrawdownUseCase.Command>> violations = validator.validate(command);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .collect(Collectors.joining("; ")));
+        }
+
+        StreamingResponseBody body = out -> {
+            RetirementDrawdown result = drawdownUseCase.execute(command, row -> writeLine(out, row));
+
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("yearsFunded", result.yearsFunded());
+            summary.put("depletionAge", result.depletes() ? result.depletionAge() : null);
+            summary.put("firstWithdrawal", result.firstWithdrawal());
+            summary.put("totalWithdrawn", result.totalWithdrawn());
+            summary.put("endingBalance", result.endingBalance());
+            writeLine(out, Map.of("summary", summary));
+        };
+
+        return ResponseEntity.ok().contentType(NDJSON).body(body);
+    }
+
+    private void writeLine(OutputStream out, Object value) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(value));
+            out.write('\n');
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
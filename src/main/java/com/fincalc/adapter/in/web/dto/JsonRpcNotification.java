@@ -0,0 +1,24 @@
+package com.fincalc.adapter.in.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record JsonRpcNotification(
+        String jsonrpc,
+        String method,
+        Map<String, Object> params
+) {
+    public static JsonRpcNotification progress(Object progressToken, long progress, long total, String message) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("progressToken", progressToken);
+        params.put("progress", progress);
+        params.put("total", total);
+        if (message != null) {
+            params.put("message", message);
+        }
+        return new JsonRpcNotification("2.0", "notifications/progress", params);
+    }
+}
@@ -1,7 +1,16 @@
 package com.fincalc.adapter.in.web.dto;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fincalc.application.ToolArguments;
 import jakarta.validation.constraints.NotBlank;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 @JsonIgnoreProperties(ignoreUnknown = true)
@@ -10,9 +19,48 @@ public record JsonRpcRequest(
         Object id,
         @NotBlank(message = "Method is required")
         String method,
+        @JsonDeserialize(using = ParamsDeserializer.class)
         Map<String, Object> params
 ) {
     public JsonRpcRequest {
         if (jsonrpc == null) jsonrpc = "2.0";
     }
+
+    /**
+     * The progress token from params._meta, or null when the client did not ask for progress.
+     */
+    public Object progressToken() {
+        if (params != null && params.get("_meta") instanceof Map<?, ?> meta) {
+            return meta.get("progressToken");
+        }
+        return null;
+    }
+
+    /**
+     * Reads params like any JSON object, except that tool call arguments are kept
+     * as buffered tokens for the tool's binder rather than turned into a map.
+     */
+    static class ParamsDeserializer extends StdDeserializer<Map<String, Object>> {
+
+        ParamsDeserializer() {
+            super(Map.class);
+        }
+
+        @Override
+        public Map<String, Object> deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (!p.isExpectedStartObjectToken()) {
+                return ctxt.reportInputMismatch(this, "params must be a JSON object");
+            }
+            Map<String, Object> params = new LinkedHashMap<>();
+            for (String field = p.nextFieldName(); field != null; field = p.nextFieldName()) {
+                JsonToken value = p.nextToken();
+                if ("arguments".equals(field) && value == JsonToken.START_OBJECT) {
+                    params.put(field, ToolArguments.of(ctxt.bufferAsCopyOfValue(p)));
+                } else {
+                    params.put(field, value == JsonToken.VALUE_NULL ? null : ctxt.readValue(p, Object.class));
+                }
+            }
+            return params;
+        }
+    }
 }
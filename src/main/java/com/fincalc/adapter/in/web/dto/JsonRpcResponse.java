@@ -1,7 +1,10 @@
 package com.fincalc.adapter.in.web.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 
+import java.util.Map;
+
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public record JsonRpcResponse(
         String jsonrpc,
@@ -15,6 +18,17 @@ public record JsonRpcResponse(
         }
     }
 
+    /**
+     * Seconds the client should wait before retrying, when the error carries a hint.
+     */
+    @JsonIgnore
+    public Long retryAfterSeconds() {
+        if (error != null && error.data() instanceof Map<?, ?> data && data.get("retryAfter") instanceof Number seconds) {
+            return seconds.longValue();
+        }
+        return null;
+    }
+
     public static JsonRpcResponse success(Object id, Object result) {
         return new JsonRpcResponse("2.0", id, result, null);
     }
@@ -39,6 +53,24 @@ public record JsonRpcResponse(
         return error(id, -32602, "Invalid params: " + message);
     }
 
+    public static JsonRpcResponse serverBusy(Object id, String message) {
+        return error(id, -32000, "Server busy: " + message);
+    }
+
+    public static JsonRpcResponse rateLimited(Object id, long retryAfterSeconds) {
+        return new JsonRpcResponse("2.0", id, null, new JsonRpcError(-32000,
+                "Rate limit exceeded. Try again in " + retryAfterSeconds + "s.", Map.of("retryAfter", retryAfterSeconds)));
+    }
+
+    public static JsonRpcResponse overloaded(Object id, String message, long retryAfterSeconds) {
+        return new JsonRpcResponse("2.0", id, null, new JsonRpcError(-32000,
+                "Server busy: " + message, Map.of("retryAfter", retryAfterSeconds)));
+    }
+
+    public static JsonRpcResponse timeout(Object id, String message) {
+        return error(id, -32001, "Request timed out: " + message);
+    }
+
     public static JsonRpcResponse internalError(Object id, String message) {
         return error(id, -32603, "Internal error: " + message);
     }
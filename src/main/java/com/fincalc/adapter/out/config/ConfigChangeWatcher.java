@@ -0,0 +1,136 @@
+package com.fincalc.adapter.out.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Reloads the configuration snapshot when another replica, or a direct edit
+ * of the tables, changes it.
+ *
+ * On PostgreSQL a background thread holds one pooled connection that LISTENs
+ * on the config_changed channel, so replicas reload within moments of a commit.
+ * Whenever that listener is not connected, as on H2, the config_version row is
+ * polled instead. Either way only the version is read until it moves.
+ */
+@Slf4j
+@Component
+public class ConfigChangeWatcher {
+
+    static final String CHANNEL = "config_changed";
+
+    private final DataSource dataSource;
+    private final DatabaseConfigurationAdapter configuration;
+    private final boolean listen;
+    private final int waitMillis;
+    private volatile boolean running;
+    private volatile boolean listening;
+    private Thread listener;
+
+    public ConfigChangeWatcher(
+            DataSource dataSource,
+            DatabaseConfigurationAdapter configuration,
+            @Value("${fincalc.config.listen:true}") boolean listen,
+            @Value("${fincalc.config.listen-wait-ms:10000}") int waitMillis) {
+        this.dataSource = dataSource;
+        this.configuration = configuration;
+        this.listen = listen;
+        this.waitMillis = waitMillis;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!listen || !supportsNotifications()) {
+            log.info("Watching configuration changes by polling config_version");
+            return;
+        }
+        running = true;
+        listener = Thread.ofPlatform().name("config-listener").daemon().start(this::listenLoop);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    /**
+     * Fallback for when no listener is connected: compare the version, reload if it moved.
+     */
+    @Scheduled(fixedDelayString = "${fincalc.config.poll-interval-ms:5000}")
+    public void poll() {
+        if (!listening) {
+            configuration.reloadIfChanged();
+        }
+    }
+
+    private boolean supportsNotifications() {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.isWrapperFor(PGConnection.class);
+        } catch (SQLException e) {
+            log.warn("Could not check for configuration change notifications: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void listenLoop() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                PGConnection pg = connection.unwrap(PGConnection.class);
+                execute(connection, "LISTEN " + CHANNEL);
+                listening = true;
+                log.info("Listening for configuration changes on {}", CHANNEL);
+                try {
+                    // Catch up on anything committed while no listener was connected
+                    configuration.reloadIfChanged();
+                    while (running) {
+                        PGNotification[] notifications = pg.getNotifications(waitMillis);
+                        if (notifications != null && notifications.length > 0) {
+                            configuration.reloadIfChanged();
+                        }
+                    }
+                } finally {
+                    listening = false;
+                    // The connection goes back to the pool; stop queueing notifications on it
+                    execute(connection, "UNLISTEN *");
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Configuration change listener lost its connection, polling until it reconnects: {}",
+                            e.getMessage());
+                }
+            }
+            pause();
+        }
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private void pause() {
+        if (!running) {
+            return;
+        }
+        try {
+            Thread.sleep(waitMillis / 2);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
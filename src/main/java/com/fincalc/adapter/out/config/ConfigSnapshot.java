@@ -0,0 +1,118 @@
+package com.fincalc.adapter.out.config;
+
+import com.fincalc.domain.model.config.Country;
+import com.fincalc.domain.model.config.Currency;
+import com.fincalc.domain.model.config.LocalizedMessage;
+import com.fincalc.domain.model.config.RateProvider;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Immutable, fully parsed copy of the configuration tables, indexed for lookups.
+ *
+ * A snapshot is never changed after it is built; a refresh builds a new one and
+ * replaces the old one as a whole, so readers always see one consistent version.
+ */
+final class ConfigSnapshot {
+
+    static final ConfigSnapshot EMPTY = new ConfigSnapshot(List.of(), List.of(), List.of(), List.of(), Instant.EPOCH);
+
+    private final Map<String, Country> countries;
+    private final Map<String, Currency> currencies;
+    private final Map<String, RateProvider> providers;
+    private final Map<String, LocalizedMessage> messages;
+    private final List<Country> countryList;
+    private final List<Currency> currencyList;
+    private final List<RateProvider> providerList;
+    private final List<RateProvider> enabledProviders;
+    private final List<LocalizedMessage> messageList;
+    private final Map<String, List<LocalizedMessage>> messagesByCategory;
+    private final TranslationTable translations;
+    private final Instant builtAt;
+
+    ConfigSnapshot(List<Country> countries, List<Currency> currencies, List<RateProvider> providers,
+                   List<LocalizedMessage> messages, Instant builtAt) {
+        this.countries = index(countries, Country::code);
+        this.currencies = index(currencies, Currency::code);
+        this.providers = index(providers, RateProvider::id);
+        this.messages = index(messages, LocalizedMessage::key);
+        this.countryList = List.copyOf(this.countries.values());
+        this.currencyList = List.copyOf(this.currencies.values());
+        this.providerList = List.copyOf(this.providers.values());
+        this.enabledProviders = providerList.stream().filter(RateProvider::enabled).toList();
+        this.messageList = List.copyOf(this.messages.values());
+
+        Map<String, List<LocalizedMessage>> byCategory = new LinkedHashMap<>();
+        for (LocalizedMessage message : messageList) {
+            if (message.category() != null) {
+                byCategory.computeIfAbsent(message.category(), c -> new ArrayList<>()).add(message);
+            }
+        }
+        byCategory.replaceAll((category, list) -> List.copyOf(list));
+        this.messagesByCategory = Collections.unmodifiableMap(byCategory);
+        this.translations = new TranslationTable(messageList);
+        this.builtAt = builtAt;
+    }
+
+    private static <T> Map<String, T> index(List<T> items, Function<T, String> key) {
+        Map<String, T> index = new LinkedHashMap<>();
+        for (T item : items) {
+            index.put(key.apply(item), item);
+        }
+        return Collections.unmodifiableMap(index);
+    }
+
+    Country country(String code) {
+        return code != null ? countries.get(code) : null;
+    }
+
+    Currency currency(String code) {
+        return code != null ? currencies.get(code) : null;
+    }
+
+    RateProvider provider(String id) {
+        return id != null ? providers.get(id) : null;
+    }
+
+    LocalizedMessage message(String key) {
+        return key != null ? messages.get(key) : null;
+    }
+
+    String translate(String key, String languageCode) {
+        return translations.translate(key, languageCode);
+    }
+
+    List<Country> countries() {
+        return countryList;
+    }
+
+    List<Currency> currencies() {
+        return currencyList;
+    }
+
+    List<RateProvider> providers() {
+        return providerList;
+    }
+
+    List<RateProvider> enabledProviders() {
+        return enabledProviders;
+    }
+
+    List<LocalizedMessage> messages() {
+        return messageList;
+    }
+
+    List<LocalizedMessage> messagesIn(String category) {
+        return category != null ? messagesByCategory.getOrDefault(category, List.of()) : List.of();
+    }
+
+    Instant builtAt() {
+        return builtAt;
+    }
+}
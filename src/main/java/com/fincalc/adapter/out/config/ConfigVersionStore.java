@@ -0,0 +1,35 @@
+package com.fincalc.adapter.out.config;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * The configuration version in the single-row config_version table.
+ *
+ * On PostgreSQL, triggers bump the version on any write to a configuration
+ * table and announce each bump on the config_changed channel. Elsewhere only
+ * explicit bumps move it. Plain SQL keeps it portable between PostgreSQL and H2.
+ */
+@Component
+class ConfigVersionStore {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    ConfigVersionStore(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    long current() {
+        Long version = jdbcTemplate.queryForObject("SELECT version FROM config_version WHERE id = 1", Long.class);
+        return version != null ? version : 0;
+    }
+
+    /**
+     * Mark the configuration as changed so every replica reloads it.
+     */
+    void bump() {
+        jdbcTemplate.update("UPDATE config_version SET version = version + 1, updated_at = CURRENT_TIMESTAMP WHERE id = 1");
+    }
+}
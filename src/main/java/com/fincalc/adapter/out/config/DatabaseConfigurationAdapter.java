@@ -2,30 +2,49 @@ package com.fincalc.adapter.out.config;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fincalc.adapter.out.persistence.EntityCache;
 import com.fincalc.adapter.out.persistence.entity.*;
 import com.fincalc.adapter.out.persistence.repository.*;
 import com.fincalc.domain.model.config.*;
 import com.fincalc.domain.model.config.Country.*;
 import com.fincalc.domain.port.out.ConfigurationPort;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
-
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Database-backed configuration adapter that reads from PostgreSQL.
  * Data is managed via Liquibase migrations and admin dashboard.
+ *
+ * All tables are loaded and parsed into an immutable {@link ConfigSnapshot} at
+ * startup and whenever the configuration version moves; reads are map lookups on
+ * the current snapshot and never touch the database. A reload swaps in the new
+ * snapshot only once it is fully built, so a failed reload keeps serving the old one.
+ *
+ * {@link #refreshCache()} bumps the version, so every replica reloads, not just
+ * this one; see {@link ConfigChangeWatcher}. Each reload also evicts the cached legal
+ * pages, which the admin dashboard saves under the same version.
  */
 @Slf4j
 @Component
 @Primary
-@RequiredArgsConstructor
 public class DatabaseConfigurationAdapter implements ConfigurationPort {
 
     private final CountryRepository countryRepository;
@@ -33,24 +52,61 @@ public class DatabaseConfigurationAdapter implements ConfigurationPort {
     private final RateProviderRepository rateProviderRepository;
     private final LocalizedMessageRepository messageRepository;
     private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final ConfigVersionStore versionStore;
+    private final EntityCache entityCache;
+    private final TransactionTemplate transactionTemplate;
+
+    private volatile ConfigSnapshot snapshot = ConfigSnapshot.EMPTY;
+    private volatile long loadedVersion = -1;
+    private Timer buildTimer;
+
+    public DatabaseConfigurationAdapter(CountryRepository countryRepository,
+                                        CurrencyRepository currencyRepository,
+                                        RateProviderRepository rateProviderRepository,
+                                        LocalizedMessageRepository messageRepository,
+                                        ObjectMapper objectMapper,
+                                        MeterRegistry meterRegistry,
+                                        ConfigVersionStore versionStore,
+                                        EntityCache entityCache,
+                                        PlatformTransactionManager transactionManager) {
+        this.countryRepository = countryRepository;
+        this.currencyRepository = currencyRepository;
+        this.rateProviderRepository = rateProviderRepository;
+        this.messageRepository = messageRepository;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.versionStore = versionStore;
+        this.entityCache = entityCache;
+        // Read-write so the load runs on the primary; repeatable read so the version
+        // and all four tables come from the same point in time
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
 
     @PostConstruct
     public void init() {
-        log.info("Loaded {} countries, {} currencies, {} providers, {} messages from database",
-                countryRepository.count(), currencyRepository.count(),
-                rateProviderRepository.count(), messageRepository.count());
+        buildTimer = Timer.builder("config.snapshot.build")
+                .description("Time to load and parse the configuration tables")
+                .register(meterRegistry);
+        Gauge.builder("config.snapshot.age", this, DatabaseConfigurationAdapter::snapshotAgeSeconds)
+                .description("Seconds since the configuration snapshot was built")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("config.snapshot.version", this, adapter -> adapter.loadedVersion)
+                .description("Configuration version the snapshot was loaded at")
+                .register(meterRegistry);
+        load();
     }
 
     @Override
     public Optional<Country> getCountry(String code) {
-        return countryRepository.findById(code).map(this::toCountry);
+        return Optional.ofNullable(snapshot.country(code));
     }
 
     @Override
     public List<Country> getAllCountries() {
-        return countryRepository.findAll().stream()
-                .map(this::toCountry)
-                .collect(Collectors.toList());
+        return snapshot.countries();
     }
 
     @Override
@@ -65,14 +121,12 @@ public class DatabaseConfigurationAdapter implements ConfigurationPort {
 
     @Override
     public Optional<Currency> getCurrency(String code) {
-        return currencyRepository.findById(code).map(this::toCurrency);
+        return Optional.ofNullable(snapshot.currency(code));
     }
 
     @Override
     public List<Currency> getAllCurrencies() {
-        return currencyRepository.findAll().stream()
-                .map(this::toCurrency)
-                .collect(Collectors.toList());
+        return snapshot.currencies();
     }
 
     @Override
@@ -82,14 +136,12 @@ public class DatabaseConfigurationAdapter implements ConfigurationPort {
 
     @Override
     public Optional<RateProvider> getRateProvider(String id) {
-        return rateProviderRepository.findById(id).map(this::toRateProvider);
+        return Optional.ofNullable(snapshot.provider(id));
     }
 
     @Override
     public List<RateProvider> getAllRateProviders() {
-        return rateProviderRepository.findAll().stream()
-                .map(this::toRateProvider)
-                .collect(Collectors.toList());
+        return snapshot.providers();
     }
 
     @Override
@@ -99,10 +151,7 @@ public class DatabaseConfigurationAdapter implements ConfigurationPort {
 
     @Override
     public List<RateProvider> getEnabledRateProviders() {
-        return rateProviderRepository.findAll().stream()
-                .map(this::toRateProvider)
-                .filter(RateProvider::enabled)
-                .collect(Collectors.toList());
+        return snapshot.enabledProviders();
     }
 
     @Override
@@ -112,14 +161,12 @@ public class DatabaseConfigurationAdapter implements ConfigurationPort {
 
     @Override
     public Optional<LocalizedMessage> getMessage(String key) {
-        return messageRepository.findById(key).map(this::toMessage);
+        return Optional.ofNullable(snapshot.message(key));
     }
 
     @Override
     public List<LocalizedMessage> getAllMessages() {
-        return messageRepository.findAll().stream()
-                .map(this::toMessage)
-                .collect(Collectors.toList());
+        return snapshot.messages();
     }
 
     @Override
@@ -129,10 +176,7 @@ public class DatabaseConfigurationAdapter implements ConfigurationPort {
 
     @Override
     public List<LocalizedMessage> getMessagesByCategory(String category) {
-        return messageRepository.findAll().stream()
-                .filter(m -> category.equals(m.getCategory()))
-                .map(this::toMessage)
-                .collect(Collectors.toList());
+        return snapshot.messagesIn(category);
     }
 
     @Override
@@ -142,9 +186,7 @@ public class DatabaseConfigurationAdapter implements ConfigurationPort {
 
     @Override
     public String getTranslation(String key, String languageCode) {
-        return messageRepository.findById(key)
-                .map(m -> parseTranslations(m.getTranslationsJson()).getOrDefault(languageCode, key))
-                .orElse(key);
+        return snapshot.translate(key, languageCode);
     }
 
     @Override
@@ -162,10 +204,89 @@ public class DatabaseConfigurationAdapter implements ConfigurationPort {
         log.warn("saveTemplate called but database is read-only via migrations");
     }
 
+    /**
+     * Admin listings read the tables directly, so they show rows committed since the
+     * last reload. Only the columns a listing shows are selected.
+     */
+    @Override
+    public ConfigPage<MessageSummary> listMessages(String category, String keyPrefix, String after, int limit) {
+        int size = ConfigPage.sizeFor(limit);
+        String prefix = keyPrefix != null ? keyPrefix : "";
+        String from = after != null ? after : "";
+        List<LocalizedMessageRepository.KeyView> rows = category == null || category.isBlank()
+                ? messageRepository.findByMessageKeyStartingWithAndMessageKeyGreaterThanOrderByMessageKey(
+                        prefix, from, Limit.of(size + 1))
+                : messageRepository.findByCategoryAndMessageKeyStartingWithAndMessageKeyGreaterThanOrderByMessageKey(
+                        category, prefix, from, Limit.of(size + 1));
+        return ConfigPage.of(rows.stream()
+                .map(r -> new MessageSummary(r.getMessageKey(), r.getCategory()))
+                .toList(), size, MessageSummary::key);
+    }
+
+    @Override
+    public ConfigPage<CountrySummary> listCountries(String after, int limit) {
+        int size = ConfigPage.sizeFor(limit);
+        return ConfigPage.of(countryRepository.findByCodeGreaterThanOrderByCode(after != null ? after : "", Limit.of(size + 1))
+                .stream()
+                .map(r -> new CountrySummary(r.getCode(), r.getName(), r.getCurrencyCode(), r.getHasRegionalTax(), r.getRateSource()))
+                .toList(), size, CountrySummary::code);
+    }
+
+    /**
+     * Mark the configuration as changed and reload it. Other replicas reload when they see the new version.
+     */
     @Override
     public void refreshCache() {
-        log.info("Refreshing database configuration cache...");
-        // Database adapter doesn't need manual cache refresh - data is queried directly
+        versionStore.bump();
+        load();
+    }
+
+    /**
+     * Reload if the configuration version has moved since the snapshot was loaded.
+     * Failures are logged and the current snapshot is kept.
+     */
+    public void reloadIfChanged() {
+        try {
+            if (versionStore.current() != loadedVersion) {
+                load();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to reload configuration, keeping version {}: {}", loadedVersion, e.getMessage());
+        }
+    }
+
+    /**
+     * Load the version and every configuration table in one transaction and swap in
+     * the new snapshot, so the snapshot is exactly the configuration at that version.
+     * Loads run one at a time so an older load can never replace a newer one.
+     */
+    private synchronized void load() {
+        long start = System.nanoTime();
+        VersionedSnapshot loaded = transactionTemplate.execute(status -> new VersionedSnapshot(
+                versionStore.current(),
+                new ConfigSnapshot(
+                        countryRepository.findAll().stream().map(this::toCountry).toList(),
+                        currencyRepository.findAll().stream().map(this::toCurrency).toList(),
+                        rateProviderRepository.findAll().stream().map(this::toRateProvider).toList(),
+                        messageRepository.findAll().stream().map(this::toMessage).toList(),
+                        Instant.now())));
+        ConfigSnapshot refreshed = loaded.snapshot();
+        snapshot = refreshed;
+        loadedVersion = loaded.version();
+        entityCache.evictLegalPages();
+        long elapsed = System.nanoTime() - start;
+        buildTimer.record(elapsed, TimeUnit.NANOSECONDS);
+
+        log.info("Loaded configuration version {}: {} countries, {} currencies, {} providers, {} messages in {} ms",
+                loaded.version(), refreshed.countries().size(), refreshed.currencies().size(),
+                refreshed.providers().size(), refreshed.messages().size(),
+                Duration.ofNanos(elapsed).toMillis());
+    }
+
+    private record VersionedSnapshot(long version, ConfigSnapshot snapshot) {}
+
+    private double snapshotAgeSeconds() {
+        return Duration.between(snapshot.builtAt(), Instant.now()).toMillis() / 1000.0;
     }
 
     // Entity to Domain conversions
@@ -197,7 +318,7 @@ public class DatabaseConfigurationAdapter implements ConfigurationPort {
     }
 
     private RateProvider toRateProvider(RateProviderEntity e) {
-        Map<String, String> seriesMapping = parseSeriesMapping(e.getSeriesMappingJson());
+        Map<String, String> seriesMapping = Collections.unmodifiableMap(new LinkedHashMap<>(parseSeriesMapping(e.getSeriesMappingJson())));
 
         return new RateProvider(
                 e.getId(),
@@ -212,7 +333,7 @@ public class DatabaseConfigurationAdapter implements ConfigurationPort {
     }
 
     private LocalizedMessage toMessage(LocalizedMessageEntity e) {
-        Map<String, String> translations = parseTranslations(e.getTranslationsJson());
+        Map<String, String> translations = Collections.unmodifiableMap(new LinkedHashMap<>(parseTranslations(e.getTranslationsJson())));
 
         return new LocalizedMessage(
                 e.getMessageKey(),
@@ -233,7 +354,7 @@ public class DatabaseConfigurationAdapter implements ConfigurationPort {
                             (String) m.get("name"),
                             new TaxBracket[]{}
                     ))
-                    .collect(Collectors.toList());
+                    .toList();
         } catch (Exception ex) {
             log.warn("Failed to parse regions JSON: {}", ex.getMessage());
             return List.of();
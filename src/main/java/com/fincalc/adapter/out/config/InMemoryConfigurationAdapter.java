@@ -1,9 +1,12 @@
 package com.fincalc.adapter.out.config;
 
+import com.fincalc.domain.model.config.ConfigPage;
 import com.fincalc.domain.model.config.Country;
 import com.fincalc.domain.model.config.Country.*;
+import com.fincalc.domain.model.config.CountrySummary;
 import com.fincalc.domain.model.config.Currency;
 import com.fincalc.domain.model.config.LocalizedMessage;
+import com.fincalc.domain.model.config.MessageSummary;
 import com.fincalc.domain.model.config.RateProvider;
 import com.fincalc.domain.model.config.ResponseTemplate;
 import com.fincalc.domain.port.out.ConfigurationPort;
@@ -267,6 +270,17 @@ public class InMemoryConfigurationAdapter implements ConfigurationPort {
         countries.remove(countryCode.toUpperCase());
     }
 
+    @Override
+    public ConfigPage<CountrySummary> listCountries(String after, int limit) {
+        int size = ConfigPage.sizeFor(limit);
+        return ConfigPage.of(countries.values().stream()
+                .filter(c -> after == null || c.code().compareTo(after) > 0)
+                .sorted(Comparator.comparing(Country::code))
+                .limit(size + 1)
+                .map(c -> new CountrySummary(c.code(), c.name(), c.currency(), c.hasRegionalTax(), c.rateSource()))
+                .toList(), size, CountrySummary::code);
+    }
+
     @Override
     public List<Currency> getAllCurrencies() {
         return new ArrayList<>(currencies.values());
@@ -399,6 +413,19 @@ public class InMemoryConfigurationAdapter implements ConfigurationPort {
         return msg != null ? msg.get(languageCode) : key;
     }
 
+    @Override
+    public ConfigPage<MessageSummary> listMessages(String category, String keyPrefix, String after, int limit) {
+        int size = ConfigPage.sizeFor(limit);
+        return ConfigPage.of(messages.values().stream()
+                .filter(m -> category == null || category.isBlank() || category.equals(m.category()))
+                .filter(m -> keyPrefix == null || m.key().startsWith(keyPrefix))
+                .filter(m -> after == null || m.key().compareTo(after) > 0)
+                .sorted(Comparator.comparing(LocalizedMessage::key))
+                .limit(size + 1)
+                .map(m -> new MessageSummary(m.key(), m.category()))
+                .toList(), size, MessageSummary::key);
+    }
+
     // ==================== Response Templates ====================
 
     @Override
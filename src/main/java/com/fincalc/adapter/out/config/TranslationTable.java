@@ -0,0 +1,147 @@
+package com.fincalc.adapter.out.config;
+
+import com.fincalc.domain.model.config.LocalizedMessage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * All message translations compiled into one dense table when configuration loads.
+ *
+ * Each message key gets a row and each language tag found in the messages gets a
+ * column. Every cell already holds the final text after falling back along the
+ * tag's chain, e.g. es-MX, then es, then en, then the key itself, so a lookup is
+ * two map reads and an array read with no allocation.
+ */
+final class TranslationTable {
+
+    static final String DEFAULT_LANGUAGE = LocalizedMessage.EN;
+
+    // Requested tags are remembered once resolved; beyond this many, odd tags are resolved each time
+    private static final int MAX_RESOLVED_TAGS = 1024;
+
+    private final Map<String, Integer> rows;
+    private final Map<String, Integer> columns;
+    private final String[][] texts;
+    private final String[] defaults;
+    private final Map<String, Integer> resolved = new ConcurrentHashMap<>();
+
+    TranslationTable(List<LocalizedMessage> messages) {
+        Set<String> tags = new LinkedHashSet<>();
+        for (LocalizedMessage message : messages) {
+            if (message.translations() != null) {
+                message.translations().keySet().forEach(tag -> tags.add(normalize(tag)));
+            }
+        }
+        this.columns = indexOf(new ArrayList<>(tags));
+        this.rows = new HashMap<>();
+        this.texts = new String[messages.size()][];
+        this.defaults = new String[messages.size()];
+
+        for (LocalizedMessage message : messages) {
+            String key = message.key().intern();
+            Map<String, String> byTag = new HashMap<>();
+            if (message.translations() != null) {
+                message.translations().forEach((tag, text) -> {
+                    if (text != null) {
+                        byTag.put(normalize(tag), text);
+                    }
+                });
+            }
+            int row = rows.size();
+            rows.put(key, row);
+            String[] cells = new String[columns.size()];
+            columns.forEach((tag, column) -> cells[column] = resolve(byTag, tag, key));
+            texts[row] = cells;
+            defaults[row] = byTag.getOrDefault(DEFAULT_LANGUAGE, key);
+        }
+    }
+
+    /**
+     * The message in the given language, falling back to its parent tags, then
+     * English, then the key. Unknown keys come back unchanged.
+     */
+    String translate(String key, String languageCode) {
+        Integer row = key != null ? rows.get(key) : null;
+        if (row == null) {
+            return key;
+        }
+        int column = columnOf(languageCode);
+        return column >= 0 ? texts[row][column] : defaults[row];
+    }
+
+    int size() {
+        return rows.size();
+    }
+
+    private int columnOf(String languageCode) {
+        if (languageCode == null) {
+            return -1;
+        }
+        Integer column = columns.get(languageCode);
+        if (column != null) {
+            return column;
+        }
+        column = resolved.get(languageCode);
+        if (column != null) {
+            return column;
+        }
+        int found = nearestColumn(languageCode);
+        if (resolved.size() < MAX_RESOLVED_TAGS) {
+            resolved.put(languageCode, found);
+        }
+        return found;
+    }
+
+    /**
+     * The column of the tag itself or its closest parent, e.g. es for es-MX; -1 if none.
+     */
+    private int nearestColumn(String languageCode) {
+        for (String tag : chain(normalize(languageCode))) {
+            Integer column = columns.get(tag);
+            if (column != null) {
+                return column;
+            }
+        }
+        return -1;
+    }
+
+    private static String resolve(Map<String, String> byTag, String tag, String key) {
+        for (String candidate : chain(tag)) {
+            String text = byTag.get(candidate);
+            if (text != null) {
+                return text;
+            }
+        }
+        return byTag.getOrDefault(DEFAULT_LANGUAGE, key);
+    }
+
+    /**
+     * The tag followed by its parents, most specific first: zh-hant-tw, zh-hant, zh.
+     */
+    private static List<String> chain(String tag) {
+        List<String> chain = new ArrayList<>();
+        for (String t = tag; !t.isEmpty(); t = t.lastIndexOf('-') > 0 ? t.substring(0, t.lastIndexOf('-')) : "") {
+            chain.add(t);
+        }
+        return chain;
+    }
+
+    private static String normalize(String tag) {
+        return tag.trim().replace('_', '-').toLowerCase(Locale.ROOT);
+    }
+
+    private static Map<String, Integer> indexOf(List<String> tags) {
+        Map<String, Integer> index = new HashMap<>();
+        for (int i = 0; i < tags.size(); i++) {
+            index.put(tags.get(i), i);
+        }
+        return index;
+    }
+}
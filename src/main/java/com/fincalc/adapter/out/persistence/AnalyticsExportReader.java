@@ -0,0 +1,107 @@
+package com.fincalc.adapter.out.persistence;
+
+import com.fincalc.adapter.config.ReadReplica;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Reads analytics tables for export one row at a time.
+ *
+ * Rows come from a forward-only cursor fetched {@code fincalc.analytics.export.fetch-size}
+ * at a time and are handed to the sink as they arrive, so memory stays flat however
+ * many rows match. The next batch is only fetched once the sink has taken the
+ * previous rows; a sink writing to a slow client therefore holds the cursor back.
+ * PostgreSQL only uses a cursor inside a transaction, hence {@code @Transactional}.
+ */
+@Component
+public class AnalyticsExportReader {
+
+    public static final List<String> DAILY_COLUMNS = List.of("stat_date", "category", "name", "count");
+    public static final List<String> STATS_COLUMNS = List.of("id", "category", "name", "count", "last_updated");
+
+    private static final String DAILY_SQL =
+            "SELECT stat_date, category, name, count FROM analytics_daily WHERE stat_date BETWEEN ? AND ?";
+    private static final String DAILY_ORDER = " ORDER BY stat_date, category, name";
+
+    private static final String STATS_SQL =
+            "SELECT id, category, name, count, last_updated FROM analytics_stats";
+    private static final String STATS_ORDER = " ORDER BY category, name";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AnalyticsExportReader(DataSource dataSource,
+                                 @Value("${fincalc.analytics.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    /**
+     * Receives exported rows in the order of the matching column list.
+     * The array is reused for the next row, so copy anything that must outlive the call.
+     */
+    @FunctionalInterface
+    public interface RowSink {
+        void accept(Object[] row) throws IOException;
+    }
+
+    /**
+     * Stream daily counts between two dates, optionally for one category. Returns the row count.
+     */
+    @ReadReplica
+    @Transactional(readOnly = true)
+    public long streamDaily(LocalDate from, LocalDate to, String category, RowSink sink) {
+        return category == null
+                ? stream(DAILY_SQL + DAILY_ORDER, sink, DAILY_COLUMNS.size(), from, to)
+                : stream(DAILY_SQL + " AND category = ?" + DAILY_ORDER, sink, DAILY_COLUMNS.size(), from, to, category);
+    }
+
+    /**
+     * Stream all-time counters, optionally for one category. Returns the row count.
+     */
+    @ReadReplica
+    @Transactional(readOnly = true)
+    public long streamStats(String category, RowSink sink) {
+        return category == null
+                ? stream(STATS_SQL + STATS_ORDER, sink, STATS_COLUMNS.size())
+                : stream(STATS_SQL + " WHERE category = ?" + STATS_ORDER, sink, STATS_COLUMNS.size(), category);
+    }
+
+    private long stream(String sql, RowSink sink, int columns, Object... args) {
+        long[] count = {0};
+        Object[] row = new Object[columns];
+        jdbcTemplate.query(sql, rs -> {
+            for (int i = 0; i < columns; i++) {
+                row[i] = value(rs, i + 1);
+            }
+            try {
+                sink.accept(row);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            count[0]++;
+        }, args);
+        return count[0];
+    }
+
+    private static Object value(ResultSet rs, int column) throws SQLException {
+        Object value = rs.getObject(column);
+        if (value instanceof Timestamp ts) {
+            return ts.toLocalDateTime();
+        }
+        if (value instanceof java.sql.Date date) {
+            return date.toLocalDate();
+        }
+        return value;
+    }
+}
@@ -0,0 +1,213 @@
+package com.fincalc.adapter.out.persistence;
+
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the monthly partitions of analytics_daily in step with the calendar.
+ *
+ * Partitions are created a few months ahead so inserts rarely miss one; rows
+ * that do land in the default partition are moved into their month's partition
+ * when it is created. Months older than the retention window are summed into
+ * analytics_monthly and their partition is dropped in the same transaction, so a
+ * month is rolled up exactly once and the daily table only ever holds the
+ * retained months. Expired rows left in the default partition are rolled up the
+ * same way. An advisory lock keeps replicas from running it concurrently.
+ *
+ * Only PostgreSQL partitions the table; elsewhere this does nothing.
+ */
+@Slf4j
+@Component
+public class AnalyticsPartitionMaintainer {
+
+    static final String PARENT = "analytics_daily";
+    static final String DEFAULT_PARTITION = PARENT + "_default";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final long LOCK_KEY = 0x616e616c79746963L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final Supplier<YearMonth> currentMonth;
+    private Boolean partitioned;
+
+    @Autowired
+    public AnalyticsPartitionMaintainer(
+            DataSource dataSource,
+            PlatformTransactionManager transactionManager,
+            @Value("${fincalc.analytics.partitions.months-ahead:3}") int monthsAhead,
+            @Value("${fincalc.analytics.partitions.retention-months:13}") int retentionMonths) {
+        this(new JdbcTemplate(dataSource), new TransactionTemplate(transactionManager),
+                monthsAhead, retentionMonths, YearMonth::now);
+    }
+
+    AnalyticsPartitionMaintainer(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                 int monthsAhead, int retentionMonths, Supplier<YearMonth> currentMonth) {
+        if (retentionMonths < 1) {
+            throw new IllegalArgumentException("retention-months must be at least 1");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.currentMonth = currentMonth;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${fincalc.analytics.partitions.cron:0 15 3 * * *}")
+    public void maintain() {
+        try {
+            if (!isPartitioned()) {
+                return;
+            }
+            List<YearMonth> rolledUp = transactionTemplate.execute(status -> {
+                Boolean locked = jdbcTemplate.queryForObject("SELECT pg_try_advisory_xact_lock(?)", Boolean.class, LOCK_KEY);
+                if (!Boolean.TRUE.equals(locked)) {
+                    return List.of();
+                }
+                YearMonth now = currentMonth.get();
+                List<String> partitions = listPartitions();
+                boolean hasDefault = partitions.contains(DEFAULT_PARTITION);
+                for (int i = 0; i <= monthsAhead; i++) {
+                    if (!partitions.contains(partitionName(now.plusMonths(i)))) {
+                        createPartition(now.plusMonths(i), hasDefault);
+                    }
+                }
+                List<YearMonth> expired = expiredMonths(partitions, now, retentionMonths);
+                expired.forEach(this::rollUpAndDrop);
+                if (hasDefault) {
+                    rollUpDefaultBefore(now.minusMonths(retentionMonths - 1L));
+                }
+                return expired;
+            });
+            if (rolledUp != null && !rolledUp.isEmpty()) {
+                log.info("Rolled up and dropped analytics_daily partitions for {}", rolledUp);
+            }
+        } catch (DataAccessException e) {
+            log.warn("analytics_daily partition maintenance failed: {}", e.getMessage());
+        }
+    }
+
+    static String partitionName(YearMonth month) {
+        return PARENT + "_" + month.format(SUFFIX);
+    }
+
+    /**
+     * The month a partition holds, or null if the table is not one of ours.
+     */
+    static YearMonth partitionMonth(String table) {
+        if (!table.startsWith(PARENT + "_")) {
+            return null;
+        }
+        try {
+            return YearMonth.parse(table.substring(PARENT.length() + 1), SUFFIX);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Partition months before the retention window, oldest first. The current
+     * month counts towards the window.
+     */
+    static List<YearMonth> expiredMonths(List<String> partitions, YearMonth now, int retentionMonths) {
+        YearMonth oldestKept = now.minusMonths(retentionMonths - 1L);
+        List<YearMonth> expired = new ArrayList<>();
+        for (String partition : partitions) {
+            YearMonth month = partitionMonth(partition);
+            if (month != null && month.isBefore(oldestKept)) {
+                expired.add(month);
+            }
+        }
+        expired.sort(null);
+        return expired;
+    }
+
+    private boolean isPartitioned() {
+        if (partitioned == null) {
+            partitioned = Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    connection.isWrapperFor(PGConnection.class)))
+                    && Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                    "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table p JOIN pg_class c ON c.oid = p.partrelid "
+                            + "WHERE c.relname = ?)", Boolean.class, PARENT));
+        }
+        return partitioned;
+    }
+
+    private List<String> listPartitions() {
+        return jdbcTemplate.queryForList("""
+                SELECT c.relname FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = ?::regclass
+                """, String.class, PARENT);
+    }
+
+    private void createPartition(YearMonth month, boolean hasDefault) {
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.plusMonths(1).atDay(1);
+        String create = "CREATE TABLE IF NOT EXISTS " + partitionName(month) + " PARTITION OF " + PARENT
+                + " FOR VALUES FROM ('" + from + "') TO ('" + to + "')";
+        if (!hasDefault || !Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM " + DEFAULT_PARTITION + " WHERE stat_date >= ? AND stat_date < ?)",
+                Boolean.class, from, to))) {
+            jdbcTemplate.execute(create);
+            return;
+        }
+        // The default partition holds rows for this month, which would violate the new bounds:
+        // take it out, create the month and move the rows over, then put it back
+        jdbcTemplate.execute("ALTER TABLE " + PARENT + " DETACH PARTITION " + DEFAULT_PARTITION);
+        jdbcTemplate.execute(create);
+        int moved = jdbcTemplate.update("INSERT INTO " + PARENT + " (id, stat_date, category, name, count) "
+                + "SELECT id, stat_date, category, name, count FROM " + DEFAULT_PARTITION
+                + " WHERE stat_date >= ? AND stat_date < ?", from, to);
+        jdbcTemplate.update("DELETE FROM " + DEFAULT_PARTITION + " WHERE stat_date >= ? AND stat_date < ?", from, to);
+        jdbcTemplate.execute("ALTER TABLE " + PARENT + " ATTACH PARTITION " + DEFAULT_PARTITION + " DEFAULT");
+        log.info("Moved {} rows from {} into {}", moved, DEFAULT_PARTITION, partitionName(month));
+    }
+
+    private void rollUpDefaultBefore(YearMonth oldestKept) {
+        LocalDate cutoff = oldestKept.atDay(1);
+        jdbcTemplate.update("""
+                INSERT INTO analytics_monthly (month, category, name, count)
+                SELECT date_trunc('month', stat_date)::date, category, name, SUM(count) FROM %s
+                WHERE stat_date < ? GROUP BY 1, category, name
+                ON CONFLICT (month, category, name) DO UPDATE SET count = analytics_monthly.count + EXCLUDED.count
+                """.formatted(DEFAULT_PARTITION), cutoff);
+        jdbcTemplate.update("DELETE FROM " + DEFAULT_PARTITION + " WHERE stat_date < ?", cutoff);
+    }
+
+    private void rollUpAndDrop(YearMonth month) {
+        String partition = partitionName(month);
+        jdbcTemplate.update("""
+                INSERT INTO analytics_monthly (month, category, name, count)
+                SELECT ?, category, name, SUM(count) FROM %s GROUP BY category, name
+                ON CONFLICT (month, category, name) DO UPDATE SET count = analytics_monthly.count + EXCLUDED.count
+                """.formatted(partition), month.atDay(1));
+        jdbcTemplate.execute("DROP TABLE " + partition);
+    }
+}
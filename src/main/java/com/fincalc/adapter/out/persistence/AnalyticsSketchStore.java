@@ -0,0 +1,97 @@
+package com.fincalc.adapter.out.persistence;
+
+import com.fincalc.adapter.config.ReadReplica;
+import com.fincalc.application.HyperLogLog;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Distinct-count sketches in the analytics_sketches table, one row per day, metric and dimension.
+ *
+ * Sketches are merged into the stored row under a row lock. Merging is idempotent,
+ * so a retry after losing an insert race to another replica cannot double count.
+ * Plain SQL keeps it portable between PostgreSQL and H2.
+ */
+@Component
+public class AnalyticsSketchStore {
+
+    /**
+     * A stored sketch and the dimension it counts.
+     */
+    public record Row(LocalDate date, String dimension, HyperLogLog sketch) {}
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public AnalyticsSketchStore(DataSource dataSource, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Fold a sketch into the stored one for the same day, metric and dimension.
+     */
+    public void merge(LocalDate date, String metric, String dimension, HyperLogLog sketch) {
+        if (Boolean.TRUE.equals(transactionTemplate.execute(status -> mergeExisting(date, metric, dimension, sketch)))) {
+            return;
+        }
+
+        // First sketch for this key. Insert outside the transaction: on PostgreSQL a
+        // failed insert would abort it. If another replica got there first, merge into theirs.
+        try {
+            jdbcTemplate.update("""
+                    INSERT INTO analytics_sketches (sketch_date, metric, dimension, sketch, updated_at)
+                    VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP)
+                    """, date, metric, dimension, sketch.toBytes());
+        } catch (DuplicateKeyException e) {
+            transactionTemplate.execute(status -> mergeExisting(date, metric, dimension, sketch));
+        }
+    }
+
+    /**
+     * Sketches for one metric between two dates, for dimensions starting with the prefix.
+     */
+    @ReadReplica
+    @Transactional(readOnly = true)
+    public List<Row> find(String metric, String dimensionPrefix, LocalDate from, LocalDate to) {
+        return jdbcTemplate.query("""
+                        SELECT sketch_date, dimension, sketch FROM analytics_sketches
+                        WHERE sketch_date BETWEEN ? AND ? AND metric = ? AND dimension LIKE ?
+                        """,
+                (rs, rowNum) -> new Row(rs.getDate(1).toLocalDate(), rs.getString(2), HyperLogLog.fromBytes(rs.getBytes(3))),
+                from, to, metric, dimensionPrefix + "%");
+    }
+
+    /**
+     * Delete sketches for days before the given date.
+     */
+    public int deleteBefore(LocalDate date) {
+        return jdbcTemplate.update("DELETE FROM analytics_sketches WHERE sketch_date < ?", date);
+    }
+
+    private boolean mergeExisting(LocalDate date, String metric, String dimension, HyperLogLog sketch) {
+        List<byte[]> rows = jdbcTemplate.query("""
+                        SELECT sketch FROM analytics_sketches
+                        WHERE sketch_date = ? AND metric = ? AND dimension = ? FOR UPDATE
+                        """,
+                (rs, rowNum) -> rs.getBytes(1), date, metric, dimension);
+        if (rows.isEmpty()) {
+            return false;
+        }
+        HyperLogLog merged = HyperLogLog.fromBytes(rows.get(0));
+        merged.merge(sketch);
+        jdbcTemplate.update("""
+                UPDATE analytics_sketches SET sketch = ?, updated_at = CURRENT_TIMESTAMP
+                WHERE sketch_date = ? AND metric = ? AND dimension = ?
+                """, merged.toBytes(), date, metric, dimension);
+        return true;
+    }
+}
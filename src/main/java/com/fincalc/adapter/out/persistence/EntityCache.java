@@ -0,0 +1,58 @@
+package com.fincalc.adapter.out.persistence;
+
+import com.fincalc.adapter.out.persistence.entity.LegalPageEntity;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hit ratio gauges and eviction for the Hibernate second-level cache.
+ *
+ * Regions and their sizes are set in {@code hibernate-cache.conf}. Only legal pages
+ * are cached: the public legal pages look them up by slug on every view. Regions are
+ * per process, so a save only updates the replica that handled it; the others drop
+ * the region when the configuration version moves (see {@link #evictLegalPages()}),
+ * and entries also expire after a while in case a version change is missed.
+ * Configuration tables are not cached here; they are read once per version into an
+ * in-memory snapshot.
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityCache {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final MeterRegistry meterRegistry;
+
+    @PostConstruct
+    public void init() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            Gauge.builder("hibernate.second.level.cache.hit.ratio", statistics, s -> hitRatio(s, region))
+                    .description("Share of second-level cache lookups served from the cache")
+                    .tag("region", region)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Drop every cached legal page, so the next view reads it from the database.
+     */
+    public void evictLegalPages() {
+        entityManagerFactory.getCache().evict(LegalPageEntity.class);
+    }
+
+    private static double hitRatio(Statistics statistics, String region) {
+        CacheRegionStatistics stats = statistics.getCacheRegionStatistics(region);
+        if (stats == null) {
+            return Double.NaN;
+        }
+        long lookups = stats.getHitCount() + stats.getMissCount();
+        return lookups == 0 ? Double.NaN : (double) stats.getHitCount() / lookups;
+    }
+}
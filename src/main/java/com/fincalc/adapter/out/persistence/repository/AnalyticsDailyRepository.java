@@ -54,6 +54,15 @@ public interface AnalyticsDailyRepository extends JpaRepository<AnalyticsDailyEn
         """, nativeQuery = true)
     void upsertIncrement(@Param("date") LocalDate date, @Param("category") String category, @Param("name") String name);
 
+    @Modifying
+    @Query(value = """
+        INSERT INTO analytics_daily (stat_date, category, name, count)
+        VALUES (:date, :category, :name, :amount)
+        ON CONFLICT (stat_date, category, name) DO UPDATE SET count = analytics_daily.count + EXCLUDED.count
+        """, nativeQuery = true)
+    void upsertAdd(@Param("date") LocalDate date, @Param("category") String category, @Param("name") String name,
+                   @Param("amount") long amount);
+
     @Query("SELECT a FROM AnalyticsDailyEntity a WHERE a.statDate >= :startDate ORDER BY a.statDate DESC")
     List<AnalyticsDailyEntity> findRecentStats(@Param("startDate") LocalDate startDate);
 }
@@ -1,9 +1,25 @@
 package com.fincalc.adapter.out.persistence.repository;
 
 import com.fincalc.adapter.out.persistence.entity.CountryEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface CountryRepository extends JpaRepository<CountryEntity, String> {
+
+    /**
+     * Country columns for listings, without tax_system_json and regions_json.
+     */
+    interface SummaryView {
+        String getCode();
+        String getName();
+        String getCurrencyCode();
+        boolean getHasRegionalTax();
+        String getRateSource();
+    }
+
+    List<SummaryView> findByCodeGreaterThanOrderByCode(String after, Limit limit);
 }
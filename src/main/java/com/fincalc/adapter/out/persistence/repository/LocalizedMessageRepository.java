@@ -1,6 +1,7 @@
 package com.fincalc.adapter.out.persistence.repository;
 
 import com.fincalc.adapter.out.persistence.entity.LocalizedMessageEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -9,4 +10,20 @@ import java.util.List;
 @Repository
 public interface LocalizedMessageRepository extends JpaRepository<LocalizedMessageEntity, String> {
     List<LocalizedMessageEntity> findByCategory(String category);
+
+    /**
+     * Key and category only; listings never read translations_json.
+     */
+    interface KeyView {
+        String getMessageKey();
+        String getCategory();
+    }
+
+    // Keyset pages: the primary key serves the prefix/after range,
+    // idx_messages_category_key the category filter
+    List<KeyView> findByMessageKeyStartingWithAndMessageKeyGreaterThanOrderByMessageKey(
+            String prefix, String after, Limit limit);
+
+    List<KeyView> findByCategoryAndMessageKeyStartingWithAndMessageKeyGreaterThanOrderByMessageKey(
+            String category, String prefix, String after, Limit limit);
 }
@@ -9,6 +9,8 @@ import org.springframework.web.client.RestTemplate;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -82,6 +84,57 @@ public class FredApiClient {
         }
     }
 
+    /**
+     * Fetch annual averages of a FRED series for the last given number of years, oldest first.
+     * Cached alongside the latest rates and cleared with them.
+     */
+    @Cacheable(value = "fredRates", key = "#seriesId + ':annual:' + #years")
+    public Optional<List<BigDecimal>> getAnnualHistory(String seriesId, int years) {
+        if (apiKey == null || apiKey.isBlank()) {
+            log.debug("FRED API key not configured, using fallback history");
+            return Optional.empty();
+        }
+
+        try {
+            String url = buildHistoryUrl(seriesId, years);
+            log.debug("Fetching annual history from FRED: {} ({} years)", seriesId, years);
+
+            FredResponse response = restTemplate.getForObject(url, FredResponse.class);
+
+            if (response != null && response.observations != null && !response.observations.isEmpty()) {
+                List<BigDecimal> history = new ArrayList<>();
+                for (FredObservation observation : response.observations) {
+                    if (observation.value != null && !".".equals(observation.value)) {
+                        history.add(new BigDecimal(observation.value));
+                    }
+                }
+                if (!history.isEmpty()) {
+                    log.info("Fetched {} annual observations for {}", history.size(), seriesId);
+                    return Optional.of(List.copyOf(history));
+                }
+            }
+
+            log.warn("No history returned from FRED for series: {}", seriesId);
+            return Optional.empty();
+
+        } catch (Exception e) {
+            log.error("Error fetching history from FRED API for {}: {}", seriesId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private String buildHistoryUrl(String seriesId, int years) {
+        LocalDate startDate = LocalDate.now().minusYears(years).withDayOfYear(1);
+
+        return String.format(
+            "%s?series_id=%s&api_key=%s&file_type=json&sort_order=asc&frequency=a&aggregation_method=avg&observation_start=%s",
+            FRED_BASE_URL,
+            seriesId,
+            apiKey,
+            startDate.format(DateTimeFormatter.ISO_DATE)
+        );
+    }
+
     private String buildUrl(String seriesId) {
         LocalDate today = LocalDate.now();
         LocalDate startDate = today.minusDays(30); // Get last 30 days of data
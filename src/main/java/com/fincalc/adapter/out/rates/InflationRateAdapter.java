@@ -0,0 +1,119 @@
+package com.fincalc.adapter.out.rates;
+
+import com.fincalc.domain.model.InflationSnapshot;
+import com.fincalc.domain.port.out.InflationPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Adapter serving inflation snapshots per country from memory.
+ * Uses the World Bank consumer price inflation series published on FRED
+ * (FPCPITOTLZG + ISO3 country code) with fallback to static assumptions.
+ *
+ * Request threads only read the map; a country seen for the first time gets
+ * a fallback snapshot and is loaded by the next background refresh. Codes come
+ * from client headers, so anything that is not an ISO 3166 country is served
+ * the default country's snapshot and never becomes a key of its own.
+ */
+@Slf4j
+@Service
+public class InflationRateAdapter implements InflationPort {
+
+    private static final String SERIES_PREFIX = "FPCPITOTLZG";
+    private static final int HISTORY_YEARS = 10;
+    private static final String DEFAULT_COUNTRY = "US";
+    private static final Set<String> ISO_COUNTRIES = Set.of(Locale.getISOCountries());
+
+    // Fallback US CPI inflation 2015-2024 (updated December 2024)
+    private static final List<BigDecimal> FALLBACK_US_HISTORY = Arrays.stream(new double[]{
+            0.12, 1.26, 2.13, 2.44, 1.81, 1.23, 4.70, 8.00, 4.12, 2.95
+    }).mapToObj(BigDecimal::valueOf).toList();
+    private static final List<BigDecimal> FALLBACK_DEFAULT = List.of(new BigDecimal("2.5"));
+
+    private final FredApiClient fredApiClient;
+    private final Map<String, InflationSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    public InflationRateAdapter(FredApiClient fredApiClient) {
+        this.fredApiClient = fredApiClient;
+        pending.add(DEFAULT_COUNTRY);
+    }
+
+    @Override
+    public InflationSnapshot getInflation(String countryCode) {
+        String key = normalize(countryCode);
+        InflationSnapshot snapshot = snapshots.get(key);
+        if (snapshot != null) {
+            return snapshot;
+        }
+        pending.add(key);
+        return snapshots.computeIfAbsent(key, this::fallback);
+    }
+
+    /**
+     * Load series for countries requested since the last run.
+     */
+    @Scheduled(initialDelay = 0, fixedDelay = 60000) // 1 minute
+    public void loadPending() {
+        for (String key : pending) {
+            pending.remove(key);
+            snapshots.put(key, load(key));
+        }
+    }
+
+    /**
+     * Schedule every known country for reload. CPI series are published annually,
+     * so a few refreshes a day are plenty.
+     */
+    @Scheduled(fixedRate = 21600000) // 6 hours
+    public void refreshAll() {
+        pending.addAll(snapshots.keySet());
+    }
+
+    private InflationSnapshot load(String key) {
+        String iso3 = iso3(key);
+        if (iso3 != null) {
+            var history = fredApiClient.getAnnualHistory(SERIES_PREFIX + iso3, HISTORY_YEARS);
+            if (history.isPresent() && !history.get().isEmpty()) {
+                log.debug("Loaded inflation series for {}: {} observations", key, history.get().size());
+                return InflationSnapshot.of(key, "FRED " + SERIES_PREFIX + iso3, history.get(), Instant.now());
+            }
+        }
+        return fallback(key);
+    }
+
+    private InflationSnapshot fallback(String key) {
+        if (DEFAULT_COUNTRY.equals(key)) {
+            return InflationSnapshot.of(key, "fallback US CPI", FALLBACK_US_HISTORY, Instant.now());
+        }
+        return InflationSnapshot.of(key, "default assumption", FALLBACK_DEFAULT, Instant.now());
+    }
+
+    private static String normalize(String countryCode) {
+        if (countryCode == null) {
+            return DEFAULT_COUNTRY;
+        }
+        String code = countryCode.trim().toUpperCase(Locale.ROOT);
+        return ISO_COUNTRIES.contains(code) ? code : DEFAULT_COUNTRY;
+    }
+
+    private static String iso3(String countryCode) {
+        try {
+            String iso3 = Locale.of("", countryCode).getISO3Country();
+            return iso3.isEmpty() ? null : iso3;
+        } catch (MissingResourceException e) {
+            return null;
+        }
+    }
+}
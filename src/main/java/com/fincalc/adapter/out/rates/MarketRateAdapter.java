@@ -1,14 +1,19 @@
 package com.fincalc.adapter.out.rates;
 
+import com.fincalc.domain.model.RateSnapshot;
 import com.fincalc.domain.port.out.MarketRatePort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -19,6 +24,9 @@ import java.util.Optional;
  * Data Sources:
  * - Federal Reserve (FRED): Mortgage rates, Fed funds rate, Prime rate
  * - Fallback: Static rates updated manually
+ *
+ * A snapshot of the latest rates and index histories is refreshed in the
+ * background so request threads can read them without waiting on FRED.
  */
 @Slf4j
 @Service
@@ -34,8 +42,26 @@ public class MarketRateAdapter implements MarketRatePort {
     private static final BigDecimal FALLBACK_FED_FUNDS = new BigDecimal("5.33");
     private static final BigDecimal FALLBACK_PRIME = new BigDecimal("8.50");
 
+    // Longest loan term a simulation can ask for
+    private static final int HISTORY_YEARS = 50;
+
+    // Fallback annual averages 1995-2024, oldest first
+    private static final List<BigDecimal> FALLBACK_PRIME_HISTORY = decimals(
+            8.83, 8.27, 8.44, 8.35, 8.00, 9.23, 6.91, 4.67, 4.12, 4.34,
+            6.19, 7.96, 8.05, 5.09, 3.25, 3.25, 3.25, 3.25, 3.25, 3.25,
+            3.26, 3.51, 4.10, 4.90, 5.28, 3.54, 3.25, 4.86, 8.20, 8.33);
+    private static final List<BigDecimal> FALLBACK_FED_FUNDS_HISTORY = decimals(
+            5.83, 5.30, 5.46, 5.35, 4.97, 6.24, 3.88, 1.67, 1.13, 1.35,
+            3.22, 4.97, 5.02, 1.92, 0.16, 0.18, 0.10, 0.14, 0.11, 0.09,
+            0.13, 0.40, 1.00, 1.83, 2.16, 0.38, 0.08, 1.68, 5.02, 5.14);
+
     private String lastUpdateDate = LocalDate.now().format(DateTimeFormatter.ISO_DATE);
 
+    // Starts with fallback rates so readers never see an empty snapshot
+    private volatile RateSnapshot snapshot = new RateSnapshot(
+            FALLBACK_MORTGAGE_30, FALLBACK_MORTGAGE_15, FALLBACK_FED_FUNDS, FALLBACK_PRIME,
+            FALLBACK_PRIME_HISTORY, FALLBACK_FED_FUNDS_HISTORY, lastUpdateDate, Instant.now());
+
     @Override
     public Optional<BigDecimal> getMortgageRate30Year() {
         Optional<BigDecimal> rate = fredApiClient.getLatestRate(FredApiClient.MORTGAGE_30_YEAR);
@@ -103,6 +129,43 @@ public class MarketRateAdapter implements MarketRatePort {
         return lastUpdateDate;
     }
 
+    @Override
+    public RateSnapshot getRateSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Refresh the in-memory rate snapshot, index histories included, every 15 minutes.
+     * Runs on the scheduler thread so FRED latency never reaches request threads.
+     */
+    @Scheduled(initialDelay = 0, fixedRate = 900000) // 15 minutes
+    public void refreshSnapshot() {
+        RateSnapshot refreshed = new RateSnapshot(
+                getMortgageRate30Year().orElse(FALLBACK_MORTGAGE_30),
+                getMortgageRate15Year().orElse(FALLBACK_MORTGAGE_15),
+                getFederalFundsRate().orElse(FALLBACK_FED_FUNDS),
+                getPrimeRate().orElse(FALLBACK_PRIME),
+                history(FredApiClient.PRIME_RATE, FALLBACK_PRIME_HISTORY),
+                history(FredApiClient.FEDERAL_FUNDS_RATE, FALLBACK_FED_FUNDS_HISTORY),
+                lastUpdateDate,
+                Instant.now()
+        );
+        this.snapshot = refreshed;
+        log.debug("Refreshed rate snapshot: 30y={}%, 15y={}%", refreshed.mortgage30Year(), refreshed.mortgage15Year());
+    }
+
+    private List<BigDecimal> history(String seriesId, List<BigDecimal> fallback) {
+        return fredApiClient.getAnnualHistory(seriesId, HISTORY_YEARS)
+                .orElseGet(() -> {
+                    log.debug("Using fallback history for {}", seriesId);
+                    return fallback;
+                });
+    }
+
+    private static List<BigDecimal> decimals(double... values) {
+        return Arrays.stream(values).mapToObj(BigDecimal::valueOf).toList();
+    }
+
     private void updateLastDate() {
         this.lastUpdateDate = LocalDate.now().format(DateTimeFormatter.ISO_DATE);
     }
@@ -1,5 +1,6 @@
 package com.fincalc.application;
 
+import com.fincalc.adapter.config.ReadReplica;
 import com.fincalc.adapter.out.persistence.entity.AnalyticsDailyEntity;
 import com.fincalc.adapter.out.persistence.entity.AnalyticsStatEntity;
 import com.fincalc.adapter.out.persistence.repository.AnalyticsDailyRepository;
@@ -184,11 +185,25 @@ public class AnalyticsService {
         }
     }
 
+    /**
+     * Add the counts of frequent argument values from one heavy-hitter window.
+     * All or nothing: a failed upsert rolls back the window and is rethrown, so
+     * the caller can keep the counts for the next flush.
+     */
+    @Transactional
+    public void trackArgumentValues(Map<String, Long> counts) {
+        LocalDate today = LocalDate.now();
+        counts.forEach((name, count) -> dailyRepository.upsertAdd(today, ArgumentHeavyHitters.CATEGORY, name, count));
+    }
+
     // ============= QUERY METHODS =============
+    // Read-only transactions run on the read pool when one is configured (see DataSourceRoutingConfig)
 
     /**
      * Get all-time stats by category
      */
+    @ReadReplica
+    @Transactional(readOnly = true)
     public List<AnalyticsStatEntity> getStatsByCategory(String category) {
         return statRepository.findByCategoryOrderByCountDesc(category);
     }
@@ -196,6 +211,8 @@ public class AnalyticsService {
     /**
      * Get total count for a stat
      */
+    @ReadReplica
+    @Transactional(readOnly = true)
     public long getTotalCount(String statId) {
         return statRepository.findById(statId)
                 .map(AnalyticsStatEntity::getCount)
@@ -205,6 +222,8 @@ public class AnalyticsService {
     /**
      * Get stats for today
      */
+    @ReadReplica
+    @Transactional(readOnly = true)
     public Map<String, Long> getTodayStats(String category) {
         LocalDate today = LocalDate.now();
         List<AnalyticsDailyEntity> stats = dailyRepository.findByStatDateBetweenAndCategory(today, today, category);
@@ -219,6 +238,8 @@ public class AnalyticsService {
     /**
      * Get stats for last N days
      */
+    @ReadReplica
+    @Transactional(readOnly = true)
     public Map<String, Long> getStatsForLastDays(String category, int days) {
         LocalDate endDate = LocalDate.now();
         LocalDate startDate = endDate.minusDays(days - 1);
@@ -235,6 +256,8 @@ public class AnalyticsService {
     /**
      * Get total count for category in last N days
      */
+    @ReadReplica
+    @Transactional(readOnly = true)
     public long getTotalForLastDays(String category, int days) {
         LocalDate endDate = LocalDate.now();
         LocalDate startDate = endDate.minusDays(days - 1);
@@ -242,9 +265,39 @@ public class AnalyticsService {
         return sum != null ? sum : 0L;
     }
 
+    /**
+     * Get the most common argument values over the last N days, as tool, argument, value and count
+     */
+    @ReadReplica
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getTopArgumentValues(int days, int limit) {
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (Map.Entry<String, Long> entry : getStatsForLastDays(ArgumentHeavyHitters.CATEGORY, days).entrySet()) {
+            if (result.size() >= limit) {
+                break;
+            }
+            // Names are "<tool>.<argument>=<value>"
+            String name = entry.getKey();
+            int dot = name.indexOf('.');
+            int equals = name.indexOf('=', dot + 1);
+            if (dot < 0 || equals < 0) {
+                continue;
+            }
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("tool", name.substring(0, dot));
+            row.put("argument", name.substring(dot + 1, equals));
+            row.put("value", name.substring(equals + 1));
+            row.put("count", entry.getValue());
+            result.add(row);
+        }
+        return result;
+    }
+
     /**
      * Get analytics summary for dashboard
      */
+    @ReadReplica
+    @Transactional(readOnly = true)
     public Map<String, Object> getDashboardSummary() {
         Map<String, Object> summary = new LinkedHashMap<>();
 
@@ -280,12 +333,17 @@ public class AnalyticsService {
         summary.put("toolsLast7Days", getStatsForLastDays("tool", 7));
         summary.put("countriesLast7Days", getStatsForLastDays("country", 7));
 
+        // Most common argument values, last 7 days
+        summary.put("topArgumentValues", getTopArgumentValues(7, 20));
+
         return summary;
     }
 
     /**
      * Get daily trend data for charts
      */
+    @ReadReplica
+    @Transactional(readOnly = true)
     public List<Map<String, Object>> getDailyTrend(String category, int days) {
         LocalDate endDate = LocalDate.now();
         LocalDate startDate = endDate.minusDays(days - 1);
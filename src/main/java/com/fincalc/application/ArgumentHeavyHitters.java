@@ -0,0 +1,241 @@
+package com.fincalc.application;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The most common argument values per tool, such as loan amounts, rates, states
+ * and filing statuses, found in a single pass with fixed memory.
+ *
+ * Values are bucketed first so near-identical inputs count together: rates to
+ * the nearest quarter point, small whole numbers (years, ages) as given, other
+ * numbers to two significant figures, and short strings by text. Each tool keeps
+ * one Count-Min sketch over all its argument values plus a small min-heap of
+ * candidates per argument, so a call costs a few array updates whatever the
+ * traffic. Only arguments declared in the tool's input schema are tracked.
+ *
+ * Each flush writes the current top values to analytics_daily under the
+ * "argument" category and starts a fresh window. If a tool's write fails, its
+ * drained values are counted back into the new window and written next time.
+ */
+@Slf4j
+@Service
+public class ArgumentHeavyHitters {
+
+    public static final String CATEGORY = "argument";
+
+    private static final int MAX_TEXT_LENGTH = 32;
+    private static final int MAX_NAME_LENGTH = 100;
+
+    /**
+     * A frequent value of one argument, with its approximate count in the window.
+     */
+    public record Entry(String argument, String value, long count) {}
+
+    private final AnalyticsService analyticsService;
+    private final int width;
+    private final int depth;
+    private final int topK;
+    private final Map<String, ToolHitters> tools = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ArgumentHeavyHitters(AnalyticsService analyticsService,
+                                @Value("${fincalc.analytics.heavy-hitters.width:2048}") int width,
+                                @Value("${fincalc.analytics.heavy-hitters.depth:4}") int depth,
+                                @Value("${fincalc.analytics.heavy-hitters.top-k:10}") int topK) {
+        this.analyticsService = analyticsService;
+        this.width = width;
+        this.depth = depth;
+        this.topK = topK;
+    }
+
+    /**
+     * The tracker for one tool, or null if its schema declares no arguments.
+     */
+    public ToolHitters register(ToolDescriptor<?, ?> tool) {
+        Set<String> arguments = declaredArguments(tool.definition());
+        if (arguments.isEmpty()) {
+            return null;
+        }
+        return tools.computeIfAbsent(tool.name(), name -> new ToolHitters(arguments, width, depth, topK));
+    }
+
+    /**
+     * Write each tool's top values to the daily stats and start a new window.
+     */
+    @Scheduled(fixedDelayString = "${fincalc.analytics.heavy-hitters.flush-interval-ms:300000}")
+    public void flush() {
+        tools.forEach((tool, hitters) -> {
+            List<Entry> drained = hitters.drain();
+            Map<String, Long> counts = new LinkedHashMap<>();
+            for (Entry entry : drained) {
+                String name = tool + "." + entry.argument() + "=" + entry.value();
+                if (name.length() <= MAX_NAME_LENGTH) {
+                    counts.put(name, entry.count());
+                }
+            }
+            if (counts.isEmpty()) {
+                return;
+            }
+            try {
+                analyticsService.trackArgumentValues(counts);
+            } catch (DataAccessException | TransactionException e) {
+                log.warn("Failed to save argument values for {}, keeping them for the next flush: {}", tool, e.getMessage());
+                hitters.restore(drained);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * The bucket a value is counted in, or null for values that are not tracked.
+     */
+    static String bucket(String argument, Object value) {
+        if (value instanceof Boolean b) {
+            return b.toString();
+        }
+        if (value instanceof Number n) {
+            BigDecimal number = n instanceof BigDecimal d ? d : new BigDecimal(n.toString());
+            if (argument.toLowerCase(Locale.ROOT).contains("rate")) {
+                number = number.multiply(BigDecimal.valueOf(4)).setScale(0, RoundingMode.HALF_UP)
+                        .divide(BigDecimal.valueOf(4));
+            } else if (number.abs().compareTo(BigDecimal.valueOf(1000)) >= 0 || number.stripTrailingZeros().scale() > 0) {
+                number = number.round(new MathContext(2, RoundingMode.HALF_UP));
+            }
+            return number.stripTrailingZeros().toPlainString();
+        }
+        if (value instanceof String s) {
+            String text = s.trim();
+            if (text.isEmpty() || text.length() > MAX_TEXT_LENGTH) {
+                return null;
+            }
+            // Codes (states, countries, currencies) in upper case, words in lower case
+            return text.length() <= 3 ? text.toUpperCase(Locale.ROOT) : text.toLowerCase(Locale.ROOT);
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set<String> declaredArguments(Map<String, Object> definition) {
+        if (definition.get("inputSchema") instanceof Map<?, ?> schema
+                && schema.get("properties") instanceof Map<?, ?> properties) {
+            return Set.copyOf((Set<String>) properties.keySet());
+        }
+        return Set.of();
+    }
+
+    /**
+     * Sketch and candidate heaps for one tool. Updates and drains are serialised on the instance.
+     */
+    public static final class ToolHitters {
+
+        private static final class Candidate {
+            final String argument;
+            final String value;
+            long count;
+
+            Candidate(String argument, String value, long count) {
+                this.argument = argument;
+                this.value = value;
+                this.count = count;
+            }
+        }
+
+        private final CountMinSketch sketch;
+        private final int topK;
+        private final Map<String, PriorityQueue<Candidate>> heaps = new HashMap<>();
+        private final Map<String, Candidate> candidates = new HashMap<>();
+
+        ToolHitters(Set<String> arguments, int width, int depth, int topK) {
+            this.sketch = new CountMinSketch(width, depth);
+            this.topK = topK;
+            for (String argument : arguments) {
+                heaps.put(argument, new PriorityQueue<>(topK + 1, Comparator.comparingLong(c -> c.count)));
+            }
+        }
+
+        /**
+         * Count the declared, scalar arguments of one call, read from its tokens without building a map.
+         */
+        public void record(ToolArguments arguments) {
+            arguments.forEachScalar((argument, raw) -> {
+                if (heaps.containsKey(argument)) {
+                    String value = bucket(argument, raw);
+                    if (value != null) {
+                        record(argument, value);
+                    }
+                }
+            });
+        }
+
+        void record(String argument, String value) {
+            record(argument, value, 1);
+        }
+
+        /**
+         * Count drained values back into the current window, e.g. after a failed write.
+         */
+        synchronized void restore(List<Entry> entries) {
+            for (Entry entry : entries) {
+                record(entry.argument(), entry.value(), entry.count());
+            }
+        }
+
+        private synchronized void record(String argument, String value, long count) {
+            String key = argument + "=" + value;
+            long estimate = sketch.add(HyperLogLog.hash(key), count);
+            PriorityQueue<Candidate> heap = heaps.get(argument);
+            Candidate candidate = candidates.get(key);
+            if (candidate != null) {
+                heap.remove(candidate);
+                candidate.count = estimate;
+                heap.offer(candidate);
+            } else if (heap.size() < topK) {
+                admit(heap, key, new Candidate(argument, value, estimate));
+            } else if (estimate > heap.peek().count) {
+                Candidate evicted = heap.poll();
+                candidates.remove(evicted.argument + "=" + evicted.value);
+                admit(heap, key, new Candidate(argument, value, estimate));
+            }
+        }
+
+        /**
+         * The current top values, most frequent first per argument, then reset for the next window.
+         */
+        public synchronized List<Entry> drain() {
+            List<Entry> entries = new ArrayList<>();
+            for (PriorityQueue<Candidate> heap : heaps.values()) {
+                List<Candidate> top = new ArrayList<>(heap);
+                top.sort(Comparator.comparingLong((Candidate c) -> c.count).reversed());
+                for (Candidate c : top) {
+                    entries.add(new Entry(c.argument, c.value, c.count));
+                }
+                heap.clear();
+            }
+            candidates.clear();
+            sketch.reset();
+            return entries;
+        }
+
+        private void admit(PriorityQueue<Candidate> heap, String key, Candidate candidate) {
+            heap.offer(candidate);
+            candidates.put(key, candidate);
+        }
+    }
+}
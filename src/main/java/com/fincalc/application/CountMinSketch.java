@@ -0,0 +1,70 @@
+package com.fincalc.application;
+
+import java.util.Arrays;
+
+/**
+ * Approximate frequency counts in fixed memory.
+ *
+ * Each value is counted in one cell of every row, chosen by a different hash
+ * per row; its estimate is the smallest of those cells. Collisions only ever
+ * add, so estimates never undercount, and overcount by more than
+ * {@code e / width} of the total only with probability {@code e^-depth}.
+ *
+ * Not thread-safe; callers serialise access to an instance.
+ */
+public final class CountMinSketch {
+
+    private final int width;
+    private final long[][] counts;
+    private long total;
+
+    public CountMinSketch(int width, int depth) {
+        if (width < 1 || depth < 1) {
+            throw new IllegalArgumentException("width and depth must be positive");
+        }
+        this.width = width;
+        this.counts = new long[depth][width];
+    }
+
+    /**
+     * Count a value given its 64-bit hash, and return its new estimate.
+     */
+    public long add(long hash, long count) {
+        total += count;
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < counts.length; row++) {
+            int cell = cell(hash, row);
+            counts[row][cell] += count;
+            estimate = Math.min(estimate, counts[row][cell]);
+        }
+        return estimate;
+    }
+
+    public long estimate(long hash) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < counts.length; row++) {
+            estimate = Math.min(estimate, counts[row][cell(hash, row)]);
+        }
+        return estimate;
+    }
+
+    /**
+     * Sum of all counts added since the last reset.
+     */
+    public long total() {
+        return total;
+    }
+
+    public void reset() {
+        for (long[] row : counts) {
+            Arrays.fill(row, 0);
+        }
+        total = 0;
+    }
+
+    private int cell(long hash, int row) {
+        // Row hashes derived from the two halves of one hash (Kirsch-Mitzenmacher)
+        int combined = (int) hash + row * (int) (hash >>> 32);
+        return (combined & Integer.MAX_VALUE) % width;
+    }
+}
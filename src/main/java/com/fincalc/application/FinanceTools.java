@@ -0,0 +1,1685 @@
+package com.fincalc.application;
+
+import com.fincalc.adapter.config.ChatGptRequestContext;
+import com.fincalc.domain.model.ArmSimulation;
+import com.fincalc.domain.model.CompoundInterestCalculation;
+import com.fincalc.domain.model.Deadline;
+import com.fincalc.domain.model.LoanCalculation;
+import com.fincalc.domain.model.PrepaymentSimulation;
+import com.fincalc.domain.model.RealValueProjection;
+import com.fincalc.domain.model.RateSnapshot;
+import com.fincalc.domain.model.RefinanceComparison;
+import com.fincalc.domain.model.RetirementDrawdown;
+import com.fincalc.domain.model.TaxEstimation;
+import com.fincalc.domain.port.in.CalculateCompoundInterestUseCase;
+import com.fincalc.domain.port.in.CalculateLoanPaymentUseCase;
+import com.fincalc.domain.port.in.CompareRefinanceUseCase;
+import com.fincalc.domain.port.in.EstimateTaxesUseCase;
+import com.fincalc.domain.port.in.ProjectRealValueUseCase;
+import com.fincalc.domain.port.in.SimulateArmUseCase;
+import com.fincalc.domain.port.in.SimulateDrawdownUseCase;
+import com.fincalc.domain.port.in.SimulatePrepaymentUseCase;
+import com.fincalc.domain.port.out.MarketRatePort;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.NumberFormat;
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * The built-in finance calculators, offered as MCP tools.
+ * Each tool binds its arguments (falling back to documented defaults), runs the
+ * matching domain use case and renders a markdown summary plus structured content.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FinanceTools implements ToolCatalog {
+
+    private final CalculateLoanPaymentUseCase loanPaymentUseCase;
+    private final CalculateCompoundInterestUseCase compoundInterestUseCase;
+    private final EstimateTaxesUseCase taxesUseCase;
+    private final SimulatePrepaymentUseCase prepaymentUseCase;
+    private final CompareRefinanceUseCase refinanceUseCase;
+    private final SimulateArmUseCase armUseCase;
+    private final SimulateDrawdownUseCase drawdownUseCase;
+    private final ProjectRealValueUseCase realValueUseCase;
+    private final MarketRatePort marketRatePort;
+    private final Validator validator;
+    private final AnalyticsService analyticsService;
+
+    // Bound arguments and results for tools that need more than the use case command or result
+    private record CompoundInterestArgs(CalculateCompoundInterestUseCase.Command command, boolean realTerms) {}
+    private record CompoundInterestRun(CompoundInterestCalculation result, RealValueProjection real) {}
+    private record TaxArgs(EstimateTaxesUseCase.Command command, String countryCode, String language) {}
+    private record RatesArgs(String country, String language, String currency) {}
+    private record CurrentRates(Map<String, BigDecimal> rates, String lastUpdate) {}
+    private record RefinanceArgs(CompareRefinanceUseCase.Command command, RateSnapshot snapshot) {}
+    private record DrawdownRun(RetirementDrawdown result, String table, List<Map<String, Object>> rows) {}
+
+    // Arguments as sent by the client, before defaults; null means not given
+    private record LoanPaymentInput(BigDecimal principal, BigDecimal annualRate, Integer years) {}
+    private record CompoundInterestInput(BigDecimal principal, BigDecimal annualRate, Integer years,
+                                         Integer compoundingFrequency, BigDecimal monthlyContribution, Boolean realTerms) {}
+    private record TaxInput(BigDecimal grossIncome, String filingStatus, BigDecimal deductions, String state) {}
+    private record LumpSumInput(Integer month, BigDecimal amount) {}
+    private record StrategyInput(String name, BigDecimal extraMonthlyPayment, Boolean biweekly,
+                                 BigDecimal lumpSumAmount, Integer lumpSumMonth, List<LumpSumInput> lumpSums) {}
+    private record PrepaymentInput(BigDecimal principal, BigDecimal annualRate, Integer years, List<StrategyInput> strategies,
+                                   BigDecimal extraMonthlyPayment, Boolean biweekly, BigDecimal lumpSumAmount,
+                                   Integer lumpSumMonth, List<LumpSumInput> lumpSums) {}
+    private record RefinanceInput(BigDecimal currentBalance, BigDecimal currentRate, Integer remainingYears,
+                                  BigDecimal closingCosts, BigDecimal newRate, Integer newYears) {}
+    private record ScenarioInput(String name, List<BigDecimal> indexPath) {}
+    private record ArmInput(BigDecimal principal, BigDecimal initialRate, Integer years, Integer fixedYears,
+                            Integer adjustmentMonths, BigDecimal margin, BigDecimal initialCap, BigDecimal periodicCap,
+                            BigDecimal lifetimeCap, List<ScenarioInput> scenarios, List<BigDecimal> indexPath, String index) {}
+    private record DrawdownInput(BigDecimal startingBalance, Integer startAge, Integer years, String rule,
+                                 BigDecimal withdrawal, BigDecimal expectedReturn, BigDecimal inflation) {}
+
+    // Readers are resolved once, so a call goes straight from JSON tokens to its input record
+    private static final ToolArguments.Reader<LoanPaymentInput> LOAN_PAYMENT_INPUT = ToolArguments.readerFor(LoanPaymentInput.class);
+    private static final ToolArguments.Reader<CompoundInterestInput> COMPOUND_INTEREST_INPUT = ToolArguments.readerFor(CompoundInterestInput.class);
+    private static final ToolArguments.Reader<TaxInput> TAX_INPUT = ToolArguments.readerFor(TaxInput.class);
+    private static final ToolArguments.Reader<PrepaymentInput> PREPAYMENT_INPUT = ToolArguments.readerFor(PrepaymentInput.class);
+    private static final ToolArguments.Reader<RefinanceInput> REFINANCE_INPUT = ToolArguments.readerFor(RefinanceInput.class);
+    private static final ToolArguments.Reader<ArmInput> ARM_INPUT = ToolArguments.readerFor(ArmInput.class);
+    private static final ToolArguments.Reader<DrawdownInput> DRAWDOWN_INPUT = ToolArguments.readerFor(DrawdownInput.class);
+
+    @Override
+    public List<ToolDescriptor<?, ?>> tools() {
+        // Build constraint metadata for every command now rather than on each tool's first call
+        for (Class<?> command : List.of(CalculateLoanPaymentUseCase.Command.class, CalculateCompoundInterestUseCase.Command.class,
+                EstimateTaxesUseCase.Command.class, SimulatePrepaymentUseCase.Command.class, CompareRefinanceUseCase.Command.class,
+                SimulateArmUseCase.Command.class, SimulateDrawdownUseCase.Command.class)) {
+            validator.getConstraintsForClass(command);
+        }
+        return List.of(
+                ToolDescriptor.of(createLoanPaymentToolDef(), ToolPolicy.DEFAULT.cached(),
+                        this::bindLoanPayment,
+                        (command, call) -> loanPaymentUseCase.execute(command),
+                        this::renderLoanPayment),
+                ToolDescriptor.of(createCompoundInterestToolDef(), ToolPolicy.DEFAULT,
+                        this::bindCompoundInterest,
+                        this::runCompoundInterest,
+                        this::renderCompoundInterest),
+                ToolDescriptor.of(createTaxEstimatorToolDef(), ToolPolicy.DEFAULT,
+                        this::bindTaxEstimation,
+                        (args, call) -> taxesUseCase.execute(args.command()),
+                        this::renderTaxEstimation),
+                ToolDescriptor.of(createCurrentRatesToolDef(), ToolPolicy.DEFAULT.withTimeout(Duration.ofSeconds(5)),
+                        this::bindGetCurrentRates,
+                        (args, call) -> {
+                            analyticsService.trackCurrency(args.currency());
+                            return new CurrentRates(marketRatePort.getAllCurrentRates(), marketRatePort.getLastUpdateDate());
+                        },
+                        this::renderGetCurrentRates),
+                ToolDescriptor.of(createPrepaymentToolDef(), ToolPolicy.DEFAULT.withCost(3).cached(),
+                        this::bindSimulatePrepayment,
+                        (command, call) -> prepaymentUseCase.execute(command, call.deadline()),
+                        this::renderSimulatePrepayment),
+                ToolDescriptor.of(createRefinanceToolDef(), ToolPolicy.DEFAULT.withCost(2),
+                        this::bindCompareRefinance,
+                        (args, call) -> refinanceUseCase.execute(args.command(), call.deadline()),
+                        this::renderCompareRefinance),
+                ToolDescriptor.of(createArmToolDef(), ToolPolicy.DEFAULT.withCost(5).withTimeout(Duration.ofSeconds(20)),
+                        this::bindSimulateArm,
+                        (command, call) -> armUseCase.execute(command, call.deadline()),
+                        this::renderSimulateArm),
+                ToolDescriptor.of(createDrawdownToolDef(), ToolPolicy.DEFAULT.withCost(3).withTimeout(Duration.ofSeconds(20)),
+                        this::bindSimulateDrawdown,
+                        this::runSimulateDrawdown,
+                        this::renderSimulateDrawdown)
+        );
+    }
+
+    /**
+     * Get currency formatter based on the request context.
+     */
+    private NumberFormat getCurrencyFormatter(ChatGptRequestContext context) {
+        if (context == null) {
+            return NumberFormat.getCurrencyInstance(Locale.US);
+        }
+        return NumberFormat.getCurrencyInstance(context.getLocale());
+    }
+
+    /**
+     * Validates a command using Bean Validation annotations.
+     * Throws IllegalArgumentException if validation fails.
+     */
+    private <T> void validateCommand(T command) {
+        Set<ConstraintViolation<T>> violations = validator.validate(command);
+        if (!violations.isEmpty()) {
+            String message = violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .collect(Collectors.joining("; "));
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    // Default values for tool inputs
+    private static final BigDecimal DEFAULT_PRINCIPAL = new BigDecimal("100000");
+    private static final BigDecimal DEFAULT_ANNUAL_RATE = new BigDecimal("6.5");
+    private static final int DEFAULT_YEARS = 30;
+    private static final int DEFAULT_COMPOUNDING_FREQUENCY = 12;
+    private static final BigDecimal DEFAULT_MONTHLY_CONTRIBUTION = BigDecimal.ZERO;
+    private static final BigDecimal DEFAULT_GROSS_INCOME = new BigDecimal("75000");
+    private static final String DEFAULT_FILING_STATUS = "single";
+    private static final String DEFAULT_COUNTRY = "US";
+    private static final String DEFAULT_LANGUAGE = "en";
+    private static final BigDecimal DEFAULT_EXTRA_MONTHLY = new BigDecimal("100");
+    private static final BigDecimal DEFAULT_CLOSING_COSTS = new BigDecimal("5000");
+    private static final int DEFAULT_ARM_FIXED_YEARS = 5;
+    private static final int DEFAULT_ARM_ADJUSTMENT_MONTHS = 12;
+    private static final BigDecimal DEFAULT_ARM_MARGIN = new BigDecimal("2.75");
+    private static final BigDecimal DEFAULT_ARM_INITIAL_CAP = new BigDecimal("2");
+    private static final BigDecimal DEFAULT_ARM_PERIODIC_CAP = new BigDecimal("2");
+    private static final BigDecimal DEFAULT_ARM_LIFETIME_CAP = new BigDecimal("5");
+    private static final String DEFAULT_ARM_INDEX = "fedfunds";
+    private static final BigDecimal DEFAULT_RETIREMENT_BALANCE = new BigDecimal("1000000");
+    private static final int DEFAULT_RETIREMENT_AGE = 65;
+    private static final String DEFAULT_WITHDRAWAL_RULE = "fixed";
+    private static final BigDecimal DEFAULT_FIXED_WITHDRAWAL = new BigDecimal("40000");
+    private static final BigDecimal DEFAULT_WITHDRAWAL_PERCENT = new BigDecimal("4");
+    private static final BigDecimal DEFAULT_EXPECTED_RETURN = new BigDecimal("5");
+    private static final BigDecimal DEFAULT_INFLATION = new BigDecimal("3");
+
+    private CalculateLoanPaymentUseCase.Command bindLoanPayment(ToolArguments arguments, ToolCall call) {
+        Map<String, Object> defaultsUsed = call.defaultsUsed();
+        LoanPaymentInput args = arguments.read(LOAN_PAYMENT_INPUT);
+
+        BigDecimal principal = getOrDefault(args.principal(), "principal", DEFAULT_PRINCIPAL, defaultsUsed);
+        BigDecimal annualRate = getOrDefault(args.annualRate(), "annualRate", DEFAULT_ANNUAL_RATE, defaultsUsed);
+        int years = getOrDefault(args.years(), "years", DEFAULT_YEARS, defaultsUsed);
+
+        var command = new CalculateLoanPaymentUseCase.Command(principal, annualRate, years);
+        validateCommand(command);
+        return command;
+    }
+
+    private Map<String, Object> renderLoanPayment(CalculateLoanPaymentUseCase.Command command, LoanCalculation result,
+                                                  ToolCall call) {
+        ChatGptRequestContext context = call.context();
+        Map<String, Object> defaultsUsed = call.defaultsUsed();
+        NumberFormat currencyFmt = getCurrencyFormatter(context);
+
+        // Build defaults notice if any were used
+        String defaultsNotice = buildDefaultsNotice(defaultsUsed);
+
+        String text = String.format("""
+                **Loan Payment Calculator**
+                %s
+                **Loan Details:**
+                - Principal: %s
+                - Interest Rate: %s%% APR
+                - Term: %d years (%d payments)
+
+                **Results:**
+                - Monthly Payment: **%s**
+                - Total Payment: %s
+                - Total Interest: %s
+
+                ---
+                _Calculation: Standard amortization formula | Provider: Numerai Finance_
+                """,
+                defaultsNotice,
+                currencyFmt.format(result.principal()),
+                result.annualRate(),
+                result.years(),
+                result.totalPayments(),
+                currencyFmt.format(result.monthlyPayment()),
+                currencyFmt.format(result.totalPayment()),
+                currencyFmt.format(result.totalInterest())
+        );
+
+        // Build input map with defaults info
+        Map<String, Object> inputMap = new LinkedHashMap<>();
+        inputMap.put("principal", result.principal());
+        inputMap.put("annualRate", result.annualRate());
+        inputMap.put("years", result.years());
+        if (!defaultsUsed.isEmpty()) {
+            inputMap.put("defaultsUsed", defaultsUsed);
+        }
+
+        return buildToolResponse("calculate_loan_payment", text,
+                Map.of(
+                        "input", inputMap,
+                        "result", Map.of(
+                                "monthlyPayment", result.monthlyPayment(),
+                                "totalPayment", result.totalPayment(),
+                                "totalInterest", result.totalInterest()
+                        ),
+                        "dataSource", Map.of(
+                                "provider", "Numerai Finance",
+                                "method", "Standard Amortization Formula"
+                        )
+                ),
+                context, defaultsUsed
+        );
+    }
+
+    private CompoundInterestArgs bindCompoundInterest(ToolArguments arguments, ToolCall call) {
+        Map<String, Object> defaultsUsed = call.defaultsUsed();
+        CompoundInterestInput args = arguments.read(COMPOUND_INTEREST_INPUT);
+
+        BigDecimal principal = getOrDefault(args.principal(), "principal", DEFAULT_PRINCIPAL, defaultsUsed);
+        BigDecimal annualRate = getOrDefault(args.annualRate(), "annualRate", new BigDecimal("7.0"), defaultsUsed);
+        int years = getOrDefault(args.years(), "years", 10, defaultsUsed);
+        int compoundingFrequency = getOrDefault(args.compoundingFrequency(), "compoundingFrequency", DEFAULT_COMPOUNDING_FREQUENCY, defaultsUsed);
+        BigDecimal monthlyContribution = getOrDefault(args.monthlyContribution(), "monthlyContribution", DEFAULT_MONTHLY_CONTRIBUTION, defaultsUsed);
+
+        var command = new CalculateCompoundInterestUseCase.Command(
+                principal, annualRate, years, compoundingFrequency, monthlyContribution
+        );
+        validateCommand(command);
+        boolean realTerms = Boolean.TRUE.equals(args.realTerms());
+        return new CompoundInterestArgs(command, realTerms);
+    }
+
+    private CompoundInterestRun runCompoundInterest(CompoundInterestArgs args, ToolCall call) {
+        CompoundInterestCalculation result = compoundInterestUseCase.execute(args.command(), call.deadline());
+
+        // Optional real-terms view, deflated with the country's cached inflation snapshot
+        RealValueProjection real = args.realTerms()
+                ? realValueUseCase.execute(new ProjectRealValueUseCase.Command(result, determineCountryWithFallback(call.context())))
+                : null;
+        return new CompoundInterestRun(result, real);
+    }
+
+    private Map<String, Object> renderCompoundInterest(CompoundInterestArgs args, CompoundInterestRun run, ToolCall call) {
+        ChatGptRequestContext context = call.context();
+        Map<String, Object> defaultsUsed = call.defaultsUsed();
+        CompoundInterestCalculation result = run.result();
+        RealValueProjection real = run.real();
+        NumberFormat currencyFmt = getCurrencyFormatter(context);
+
+        // Build defaults notice
+        String defaultsNotice = buildDefaultsNotice(defaultsUsed);
+
+        StringBuilder text = new StringBuilder(String.format("""
+                **Investment Growth Calculator**
+                %s
+                **Investment Details:**
+                - Initial Investment: %s
+                - Annual Return: %s%% (%s compounding)
+                - Time Period: %d years
+                """,
+                defaultsNotice,
+                currencyFmt.format(result.principal()),
+                result.annualRate(),
+                result.compoundingLabel(),
+                result.years()
+        ));
+
+        if (result.monthlyContribution().compareTo(BigDecimal.ZERO) > 0) {
+            text.append(String.format("- Monthly Contribution: %s%n", currencyFmt.format(result.monthlyContribution())));
+        }
+
+        text.append(String.format("""
+
+                **Results:**
+                - Future Value: **%s**
+                - Total Contributions: %s
+                - Total Interest Earned: %s
+                - Effective Annual Rate: %s%%
+                """,
+                currencyFmt.format(result.futureValue()),
+                currencyFmt.format(result.totalContributions()),
+                currencyFmt.format(result.totalInterestEarned()),
+                result.effectiveAnnualRate()
+        ));
+
+        if (real != null) {
+            text.append(String.format("""
+
+                    **In Today's Money (%s, %s%% average inflation):**
+                    - Real Future Value: **%s**
+                    - Real Contributions: %s
+                    - Purchasing Power Lost to Inflation: %s
+                    """,
+                    real.countryCode(),
+                    real.averageInflation(),
+                    currencyFmt.format(real.realFutureValue()),
+                    currencyFmt.format(real.realTotalContributions()),
+                    currencyFmt.format(real.purchasingPowerLost())
+            ));
+        }
+
+        text.append("""
+
+                ---
+                _Calculation: Compound interest formula | Provider: Numerai Finance_
+                """);
+
+        // Build input map with defaults info
+        Map<String, Object> inputMap = new LinkedHashMap<>();
+        inputMap.put("principal", result.principal());
+        inputMap.put("annualRate", result.annualRate());
+        inputMap.put("years", result.years());
+        inputMap.put("compoundingFrequency", result.compoundingFrequency());
+        inputMap.put("monthlyContribution", result.monthlyContribution());
+        inputMap.put("realTerms", args.realTerms());
+        if (!defaultsUsed.isEmpty()) {
+            inputMap.put("defaultsUsed", defaultsUsed);
+        }
+
+        Map<String, Object> resultMap = new LinkedHashMap<>();
+        resultMap.put("futureValue", result.futureValue());
+        resultMap.put("totalContributions", result.totalContributions());
+        resultMap.put("totalInterestEarned", result.totalInterestEarned());
+        resultMap.put("effectiveAnnualRate", result.effectiveAnnualRate());
+        if (real != null) {
+            resultMap.put("real", Map.of(
+                    "country", real.countryCode(),
+                    "inflationSource", real.inflationSource(),
+                    "averageInflation", real.averageInflation(),
+                    "realFutureValue", real.realFutureValue(),
+                    "realTotalContributions", real.realTotalContributions(),
+                    "purchasingPowerLost", real.purchasingPowerLost(),
+                    "years", real.years().stream()
+                            .map(y -> Map.of("year", y.year(), "nominal", y.nominalBalance(), "real", y.realBalance()))
+                            .toList()
+            ));
+        }
+
+        return buildToolResponse("calculate_compound_interest", text.toString(),
+                Map.of(
+                        "input", inputMap,
+                        "result", resultMap,
+                        "dataSource", Map.of(
+                                "provider", "Numerai Finance",
+                                "method", "Compound Interest Formula with Future Value of Annuity"
+                        )
+                ),
+                context, defaultsUsed
+        );
+    }
+
+    private TaxArgs bindTaxEstimation(ToolArguments arguments, ToolCall call) {
+        ChatGptRequestContext context = call.context();
+        Map<String, Object> defaultsUsed = call.defaultsUsed();
+        TaxInput args = arguments.read(TAX_INPUT);
+
+        // Determine country with fallback strategy
+        String countryCode = determineCountryWithFallback(context);
+        boolean usedFallbackCountry = isUsingFallbackCountry(context);
+        if (usedFallbackCountry) {
+            defaultsUsed.put("country", DEFAULT_COUNTRY);
+        }
+
+        // Get language with fallback
+        String language = context != null ? context.getLanguageCode() : DEFAULT_LANGUAGE;
+        if (context == null || context.getLanguageCode() == null) {
+            defaultsUsed.put("language", DEFAULT_LANGUAGE);
+        }
+
+        BigDecimal grossIncome = getOrDefault(args.grossIncome(), "grossIncome", DEFAULT_GROSS_INCOME, defaultsUsed);
+        String filingStatus = getOrDefault(args.filingStatus(), "filingStatus", DEFAULT_FILING_STATUS, defaultsUsed);
+
+        var command = new EstimateTaxesUseCase.Command(grossIncome, filingStatus, args.deductions(), args.state());
+        validateCommand(command);
+        return new TaxArgs(command, countryCode, language);
+    }
+
+    private Map<String, Object> renderTaxEstimation(TaxArgs args, TaxEstimation result, ToolCall call) {
+        ChatGptRequestContext context = call.context();
+        Map<String, Object> defaultsUsed = call.defaultsUsed();
+        NumberFormat currencyFmt = getCurrencyFormatter(context);
+
+        StringBuilder text = new StringBuilder();
+
+        // Build defaults notice
+        String defaultsNotice = buildDefaultsNotice(defaultsUsed);
+        if (!defaultsNotice.isEmpty()) {
+            text.append(defaultsNotice).append("\n");
+        }
+
+        text.append(String.format("""
+                **Tax Estimator (2025)**
+
+                **Income Details:**
+                - Gross Income: %s
+                - Filing Status: %s
+                - Deductions: %s
+                - Taxable Income: %s
+                """,
+                currencyFmt.format(result.grossIncome()),
+                result.filingStatus().getDisplayName(),
+                currencyFmt.format(result.deductions()),
+                currencyFmt.format(result.taxableIncome())
+        ));
+
+        text.append(String.format("""
+
+                **Tax Breakdown:**
+                - Federal Tax: %s
+                """, currencyFmt.format(result.federalTax())));
+
+        if (result.state() != null && !result.state().isBlank()) {
+            text.append(String.format("- State Tax (%s): %s%n",
+                    result.state().toUpperCase(),
+                    result.hasStateTax() ? currencyFmt.format(result.stateTax()) : "$0 (no state income tax)"
+            ));
+        }
+
+        text.append(String.format("""
+
+                **Summary:**
+                - Total Tax: **%s**
+                - Effective Tax Rate: %s%%
+                - Take-Home Pay: **%s**
+                """,
+                currencyFmt.format(result.totalTax()),
+                result.effectiveRate(),
+                currencyFmt.format(result.takeHomePay())
+        ));
+
+        // Add data source reference
+        text.append("""
+
+                ---
+                _Data source: IRS 2025 Tax Brackets | Provider: Numerai Finance_
+                """);
+
+        Map<String, Object> inputMap = new LinkedHashMap<>();
+        inputMap.put("grossIncome", result.grossIncome());
+        inputMap.put("filingStatus", result.filingStatus().name().toLowerCase());
+        inputMap.put("deductions", result.deductions());
+        inputMap.put("state", result.state() != null ? result.state() : "");
+        inputMap.put("country", args.countryCode());
+        inputMap.put("language", args.language());
+        if (!defaultsUsed.isEmpty()) {
+            inputMap.put("defaultsUsed", defaultsUsed);
+        }
+
+        return buildToolResponse("estimate_taxes", text.toString(),
+                Map.of(
+                        "input", inputMap,
+                        "result", Map.of(
+                                "federalTax", result.federalTax(),
+                                "stateTax", result.stateTax(),
+                                "totalTax", result.totalTax(),
+                                "effectiveRate", result.effectiveRate(),
+                                "takeHomePay", result.takeHomePay(),
+                                "taxableIncome", result.taxableIncome()
+                        ),
+                        "dataSource", Map.of(
+                                "provider", "Numerai Finance",
+                                "authority", "IRS",
+                                "taxYear", "2025",
+                                "lastUpdated", "2025-01-01"
+                        )
+                ),
+                context, defaultsUsed
+        );
+    }
+
+    private SimulatePrepaymentUseCase.Command bindSimulatePrepayment(ToolArguments arguments, ToolCall call) {
+        Map<String, Object> defaultsUsed = call.defaultsUsed();
+        PrepaymentInput args = arguments.read(PREPAYMENT_INPUT);
+
+        BigDecimal principal = getOrDefault(args.principal(), "principal", DEFAULT_PRINCIPAL, defaultsUsed);
+        BigDecimal annualRate = getOrDefault(args.annualRate(), "annualRate", DEFAULT_ANNUAL_RATE, defaultsUsed);
+        int years = getOrDefault(args.years(), "years", DEFAULT_YEARS, defaultsUsed);
+        List<PrepaymentSimulation.Strategy> strategies = parseStrategies(args, defaultsUsed);
+
+        var command = new SimulatePrepaymentUseCase.Command(principal, annualRate, years, strategies);
+        validateCommand(command);
+        return command;
+    }
+
+    private Map<String, Object> renderSimulatePrepayment(SimulatePrepaymentUseCase.Command command,
+                                                         PrepaymentSimulation result, ToolCall call) {
+        ChatGptRequestContext context = call.context();
+        Map<String, Object> defaultsUsed = call.defaultsUsed();
+        NumberFormat currencyFmt = getCurrencyFormatter(context);
+
+        // Build defaults notice
+        String defaultsNotice = buildDefaultsNotice(defaultsUsed);
+
+        StringBuilder text = new StringBuilder(String.format("""
+                **Prepayment Simulator**
+                %s
+                **Loan Details:**
+                - Principal: %s
+                - Interest Rate: %s%% APR
+                - Term: %d years (%d payments)
+                - Scheduled Monthly Payment: %s
+                - Interest on Standard Schedule: %s
+
+                **Strategy Comparison:**
+                | Strategy | Paid Off In | Months Saved | Total Interest | Interest Saved |
+                |---|---|---|---|---|
+                """,
+                defaultsNotice,
+                currencyFmt.format(result.principal()),
+                result.annualRate(),
+                result.years(),
+                result.scheduledPayments(),
+                currencyFmt.format(result.monthlyPayment()),
+                currencyFmt.format(result.baselineTotalInterest())
+        ));
+
+        List<Map<String, Object>> outcomes = new ArrayList<>();
+        for (PrepaymentSimulation.Outcome outcome : result.outcomes()) {
+            text.append(String.format("| %s | %d months | %d | %s | **%s** |%n",
+                    outcome.name(),
+                    outcome.payoffMonths(),
+                    outcome.monthsSaved(),
+                    currencyFmt.format(outcome.totalInterest()),
+                    currencyFmt.format(outcome.interestSaved())
+            ));
+
+            Map<String, Object> outcomeMap = new LinkedHashMap<>();
+            outcomeMap.put("name", outcome.name());
+            outcomeMap.put("payoffMonths", outcome.payoffMonths());
+            outcomeMap.put("monthsSaved", outcome.monthsSaved());
+            outcomeMap.put("totalPaid", outcome.totalPaid());
+            outcomeMap.put("totalInterest", outcome.totalInterest());
+            outcomeMap.put("interestSaved", outcome.interestSaved());
+            outcomes.add(outcomeMap);
+        }
+
+        text.append(String.format("""
+
+                Best strategy: **%s**
+
+                ---
+                _Calculation: Month-by-month amortization with prepayments | Provider: Numerai Finance_
+                """, result.bestOutcome().name()));
+
+        // Build input map with defaults info
+        Map<String, Object> inputMap = new LinkedHashMap<>();
+        inputMap.put("principal", result.principal());
+        inputMap.put("annualRate", result.annualRate());
+        inputMap.put("years", result.years());
+        inputMap.put("strategies", command.strategies().size());
+        if (!defaultsUsed.isEmpty()) {
+            inputMap.put("defaultsUsed", defaultsUsed);
+        }
+
+        return buildToolResponse("simulate_prepayment", text.toString(),
+                Map.of(
+                        "input", inputMap,
+                        "result", Map.of(
+                                "monthlyPayment", result.monthlyPayment(),
+                                "scheduledPayments", result.scheduledPayments(),
+                                "baselineTotalInterest", result.baselineTotalInterest(),
+                                "bestStrategy", result.bestOutcome().name(),
+                                "strategies", outcomes
+                        ),
+                        "dataSource", Map.of(
+                                "provider", "Numerai Finance",
+                                "method", "Month-by-month Amortization Simulation"
+                        )
+                ),
+                context, defaultsUsed
+        );
+    }
+
+    /**
+     * Parse prepayment strategies from the "strategies" array, or build a single strategy
+     * from top-level extra payment arguments. Falls back to two common plans.
+     */
+    private List<PrepaymentSimulation.Strategy> parseStrategies(PrepaymentInput args, Map<String, Object> defaultsUsed) {
+        if (args.strategies() != null && !args.strategies().isEmpty()) {
+            List<PrepaymentSimulation.Strategy> strategies = new ArrayList<>();
+            for (StrategyInput item : args.strategies()) {
+                if (item != null) {
+                    strategies.add(toStrategy(item, "strategy " + (strategies.size() + 1)));
+                }
+            }
+            return strategies;
+        }
+
+        if (args.extraMonthlyPayment() != null || args.lumpSumAmount() != null || args.biweekly() != null) {
+            return List.of(toStrategy(new StrategyInput(null, args.extraMonthlyPayment(), args.biweekly(),
+                    args.lumpSumAmount(), args.lumpSumMonth(), args.lumpSums()), "your plan"));
+        }
+
+        defaultsUsed.put("strategies", "biweekly, extra " + DEFAULT_EXTRA_MONTHLY + "/month");
+        return List.of(
+                new PrepaymentSimulation.Strategy("Biweekly payments", BigDecimal.ZERO, List.of(), true),
+                new PrepaymentSimulation.Strategy("Extra " + DEFAULT_EXTRA_MONTHLY + "/month", DEFAULT_EXTRA_MONTHLY, List.of(), false)
+        );
+    }
+
+    private PrepaymentSimulation.Strategy toStrategy(StrategyInput input, String fallbackName) {
+        String name = input.name() != null && !input.name().isBlank() ? input.name() : fallbackName;
+        BigDecimal extraMonthly = input.extraMonthlyPayment() != null ? input.extraMonthlyPayment() : BigDecimal.ZERO;
+        boolean biweekly = Boolean.TRUE.equals(input.biweekly());
+
+        List<PrepaymentSimulation.LumpSum> lumpSums = new ArrayList<>();
+        if (input.lumpSumAmount() != null) {
+            int month = input.lumpSumMonth() != null ? input.lumpSumMonth() : 1;
+            lumpSums.add(new PrepaymentSimulation.LumpSum(month, input.lumpSumAmount()));
+        }
+        if (input.lumpSums() != null) {
+            for (LumpSumInput lump : input.lumpSums()) {
+                if (lump != null) {
+                    lumpSums.add(new PrepaymentSimulation.LumpSum(
+                            lump.month() != null ? lump.month() : 0, lump.amount()));
+                }
+            }
+        }
+        return new PrepaymentSimulation.Strategy(name, extraMonthly, lumpSums, biweekly);
+    }
+
+    private RefinanceArgs bindCompareRefinance(ToolArguments arguments, ToolCall call) {
+        Map<String, Object> defaultsUsed = call.defaultsUsed();
+        RefinanceInput args = arguments.read(REFINANCE_INPUT);
+
+        BigDecimal currentBalance = getOrDefault(args.currentBalance(), "currentBalance", DEFAULT_PRINCIPAL, defaultsUsed);
+        BigDecimal currentRate = getOrDefault(args.currentRate(), "currentRate", DEFAULT_ANNUAL_RATE, defaultsUsed);
+        int remainingYears = getOrDefault(args.remainingYears(), "remainingYears", DEFAULT_YEARS, defaultsUsed);
+        BigDecimal closingCosts = getOrDefault(args.closingCosts(), "closingCosts", DEFAULT_CLOSING_COSTS, defaultsUsed);
+
+        // Read today's rates from the in-memory snapshot; never waits on FRED
+        RateSnapshot snapshot = marketRatePort.getRateSnapshot();
+        List<RefinanceComparison.Offer> offers = new ArrayList<>();
+        if (snapshot != null) {
+            offers.add(new RefinanceComparison.Offer("30-year fixed", snapshot.mortgage30Year(), 30));
+            offers.add(new RefinanceComparison.Offer("15-year fixed", snapshot.mortgage15Year(), 15));
+        }
+        if (args.newRate() != null) {
+            int newYears = args.newYears() != null ? args.newYears() : remainingYears;
+            offers.add(new RefinanceComparison.Offer("Your offer", args.newRate(), newYears));
+        }
+
+        var command = new CompareRefinanceUseCase.Command(currentBalance, currentRate, remainingYears, closingCosts, offers);
+        validateCommand(command);
+        return new RefinanceArgs(command, snapshot);
+    }
+
+    private Map<String, Object> renderCompareRefinance(RefinanceArgs args, RefinanceComparison result, ToolCall call) {
+        ChatGptRequestContext context = call.context();
+        Map<String, Object> defaultsUsed = call.defaultsUsed();
+        RateSnapshot snapshot = args.snapshot();
+        NumberFormat currencyFmt = getCurrencyFormatter(context);
+
+        // Build defaults notice
+        String defaultsNotice = buildDefaultsNotice(defaultsUsed);
+
+        StringBuilder text = new StringBuilder(String.format("""
+                **Refinance Comparison**
+                %s
+                **Current Loan:**
+                - Remaining Balance: %s
+                - Interest Rate: %s%% APR
+                - Remaining Term: %d payments
+                - Monthly Payment: %s
+                - Remaining Interest: %s
+                - Closing Costs: %s
+
+                **Refinance Options:**
+                | Option | Rate | Monthly Payment | Monthly Savings | Total Interest | Net Savings | Break-Even |
+                |---|---|---|---|---|---|---|
+                """,
+                defaultsNotice,
+                currencyFmt.format(result.currentBalance()),
+                result.currentRate(),
+                result.remainingMonths(),
+                currencyFmt.format(result.currentPayment()),
+                currencyFmt.format(result.currentRemainingInterest()),
+                currencyFmt.format(result.closingCosts())
+        ));
+
+        List<Map<String, Object>> options = new ArrayList<>();
+        for (RefinanceComparison.Option option : result.options()) {
+            text.append(String.format("| %s (%d yr) | %s%% | %s | %s | %s | **%s** | %s |%n",
+                    option.label(),
+                    option.years(),
+                    option.annualRate(),
+                    currencyFmt.format(option.monthlyPayment()),
+                    currencyFmt.format(option.monthlySavings()),
+                    currencyFmt.format(option.totalInterest()),
+                    currencyFmt.format(option.netSavings()),
+                    option.breaksEven() ? "month " + option.breakEvenMonth() : "never"
+            ));
+
+            Map<String, Object> optionMap = new LinkedHashMap<>();
+            optionMap.put("label", option.label());
+            optionMap.put("annualRate", option.annualRate());
+            optionMap.put("years", option.years());
+            optionMap.put("monthlyPayment", option.monthlyPayment());
+            optionMap.put("monthlySavings", option.monthlySavings());
+            optionMap.put("totalInterest", option.totalInterest());
+            optionMap.put("interestSavings", option.interestSavings());
+            optionMap.put("netSavings", option.netSavings());
+            optionMap.put("breakEvenMonth", option.breaksEven() ? option.breakEvenMonth() : null);
+            options.add(optionMap);
+        }
+
+        String lastUpdated = snapshot != null ? snapshot.lastUpdated() : "";
+        text.append(String.format("""
+
+                Break-even is the month in which cumulative payment savings cover the closing costs.
+
+                _Market rates as of: %s_
+
+                ---
+                _Data source: FRED API | Calculation: Side-by-side amortization | Provider: Numerai Finance_
+                """, lastUpdated));
+
+        // Build input map with defaults info
+        Map<String, Object> inputMap = new LinkedHashMap<>();
+        inputMap.put("currentBalance", result.currentBalance());
+        inputMap.put("currentRate", result.currentRate());
+        inputMap.put("remainingYears", args.command().remainingYears());
+        inputMap.put("closingCosts", result.closingCosts());
+        if (!defaultsUsed.isEmpty()) {
+            inputMap.put("defaultsUsed", defaultsUsed);
+        }
+
+        Map<String, Object> dataSource = new LinkedHashMap<>();
+        dataSource.put("provider", "Numerai Finance");
+        dataSource.put("source", "Federal Reserve Economic Data (FRED)");
+        dataSource.put("lastUpdated", lastUpdated);
+        if (snapshot != null) {
+            dataSource.put("capturedAt", snapshot.capturedAt().toString());
+        }
+
+        return buildToolResponse("compare_refinance", text.toString(),
+                Map.of(
+                        "input", inputMap,
+                        "result", Map.of(
+                                "currentPayment", result.currentPayment(),
+                                "remainingMonths", result.remainingMonths(),
+                                "currentRemainingInterest", result.currentRemainingInterest(),
+                                "options", options
+                        ),
+                        "dataSource", dataSource
+                ),
+                context, defaultsUsed
+        );
+    }
+
+    private SimulateArmUseCase.Command bindSimulateArm(ToolArguments arguments, ToolCall call) {
+        Map<String, Object> defaultsUsed = call.defaultsUsed();
+        ArmInput args = arguments.read(ARM_INPUT);
+
+        BigDecimal principal = getOrDefault(args.principal(), "principal", DEFAULT_PRINCIPAL, defaultsUsed);
+        BigDecimal initialRate = getOrDefault(args.initialRate(), "initialRate", DEFAULT_ANNUAL_RATE, defaultsUsed);
+        int years = getOrDefault(args.years(), "years", DEFAULT_YEARS, defaultsUsed);
+        var terms = new ArmSimulation.Terms(
+                getOrDefault(args.fixedYears(), "fixedYears", DEFAULT_ARM_FIXED_YEARS, defaultsUsed),
+                getOrDefault(args.adjustmentMonths(), "adjustmentMonths", DEFAULT_ARM_ADJUSTMENT_MONTHS, defaultsUsed),
+                getOrDefault(args.margin(), "margin", DEFAULT_ARM_MARGIN, defaultsUsed),
+                getOrDefault(args.initialCap(), "initialCap", DEFAULT_ARM_INITIAL_CAP, defaultsUsed),
+                getOrDefault(args.periodicCap(), "periodicCap", DEFAULT_ARM_PERIODIC_CAP, defaultsUsed),
+                getOrDefault(args.lifetimeCap(), "lifetimeCap", DEFAULT_ARM_LIFETIME_CAP, defaultsUsed)
+        );
+        List<ArmSimulation.Scenario> scenarios = parseArmScenarios(args, initialRate, years, terms, defaultsUsed);
+
+        var command = new SimulateArmUseCase.Command(principal, initialRate, years, terms, scenarios);
+        validateCommand(command);
+        return command;
+    }
+
+    private Map<String, Object> renderSimulateArm(SimulateArmUseCase.Command command, ArmSimulation result,
+                                                  ToolCall call) {
+        ChatGptRequestContext context = call.context();
+        Map<String, Object> defaultsUsed = call.defaultsUsed();
+        ArmSimulation.Terms terms = command.terms();
+        NumberFormat currencyFmt = getCurrencyFormatter(context);
+
+        // Build defaults notice
+        String defaultsNotice = buildDefaultsNotice(defaultsUsed);
+
+        StringBuilder text = new StringBuilder(String.format("""
+                **Adjustable-Rate Mortgage Simulator**
+                %s
+                **Loan Details:**
+                - Principal: %s
+                - Initial Rate: %s%% APR, fixed for %d years
+                - Adjusts every %d months at index + %s%%
+                - Caps: %s%% initial / %s%% periodic / %s%% lifetime
+                - Initial Monthly Payment: %s
+                - Interest if the initial rate held: %s
+
+                **Rate Scenarios:**
+                | Scenario | Max Rate | Final Rate | Max Payment | Total Interest |
+                |---|---|---|---|---|
+                """,
+                defaultsNotice,
+                currencyFmt.format(result.principal()),
+                result.initialRate(),
+                terms.fixedYears(),
+                terms.adjustmentMonths(),
+                terms.margin(),
+                terms.initialCap(),
+                terms.periodicCap(),
+                terms.lifetimeCap(),
+                currencyFmt.format(result.initialPayment()),
+                currencyFmt.format(result.fixedRateTotalInterest())
+        ));
+
+        List<Map<String, Object>> outcomes = new ArrayList<>();
+        for (ArmSimulation.Outcome outcome : result.outcomes()) {
+            text.append(String.format("| %s | %s%% | %s%% | %s | **%s** |%n",
+                    outcome.name(),
+                    outcome.maxRate(),
+                    outcome.finalRate(),
+                    currencyFmt.format(outcome.maxPayment()),
+                    currencyFmt.format(outcome.totalInterest())
+            ));
+
+            Map<String, Object> outcomeMap = new LinkedHashMap<>();
+            outcomeMap.put("name", outcome.name());
+            outcomeMap.put("maxRate", outcome.maxRate());
+            outcomeMap.put("finalRate", outcome.finalRate());
+            outcomeMap.put("maxPayment", outcome.maxPayment());
+            outcomeMap.put("totalPaid", outcome.totalPaid());
+            outcomeMap.put("totalInterest", outcome.totalInterest());
+            outcomeMap.put("adjustments", outcome.adjustments().stream()
+                    .map(a -> Map.of("month", a.month(), "rate", a.rate(), "payment", a.payment()))
+                    .toList());
+            outcomes.add(outcomeMap);
+        }
+
+        text.append(String.format("""
+
+                Worst case: **%s**
+
+                ---
+                _Calculation: Month-by-month ARM repricing with rate caps | Provider: Numerai Finance_
+                """, result.worstOutcome().name()));
+
+        // Build input map with defaults info
+        Map<String, Object> inputMap = new LinkedHashMap<>();
+        inputMap.put("principal", result.principal());
+        inputMap.put("initialRate", result.initialRate());
+        inputMap.put("years", result.years());
+        inputMap.put("fixedYears", terms.fixedYears());
+        inputMap.put("adjustmentMonths", terms.adjustmentMonths());
+        inputMap.put("margin", terms.margin());
+        inputMap.put("scenarios", command.scenarios().size());
+        if (!defaultsUsed.isEmpty()) {
+            inputMap.put("defaultsUsed", defaultsUsed);
+        }
+
+        return buildToolResponse("simulate_arm", text.toString(),
+                Map.of(
+                        "input", inputMap,
+                        "result", Map.of(
+                                "initialPayment", result.initialPayment(),
+                                "fixedRateTotalInterest", result.fixedRateTotalInterest(),
+                                "worstScenario", result.worstOutcome().name(),
+                                "scenarios", outcomes
+                        ),
+                        "dataSource", Map.of(
+                                "provider", "Numerai Finance",
+                                "source", "Federal Reserve Economic Data (FRED)",
+                                "method", "ARM Repricing Simulation"
+                        )
+                ),
+                context, defaultsUsed
+        );
+    }
+
+    /**
+     * Parse index scenarios from the "scenarios" array or a single "indexPath".
+     * Falls back to flat, historical, rising and falling paths around today's index.
+     */
+    private List<ArmSimulation.Scenario> parseArmScenarios(ArmInput args, BigDecimal initialRate, int years,
+                                                           ArmSimulation.Terms terms, Map<String, Object> defaultsUsed) {
+        if (args.scenarios() != null && !args.scenarios().isEmpty()) {
+            List<ArmSimulation.Scenario> scenarios = new ArrayList<>();
+            for (ScenarioInput item : args.scenarios()) {
+                if (item != null) {
+                    String name = item.name() != null && !item.name().isBlank() ? item.name() : "scenario " + (scenarios.size() + 1);
+                    scenarios.add(new ArmSimulation.Scenario(name, item.indexPath() != null ? item.indexPath() : List.of()));
+                }
+            }
+            return scenarios;
+        }
+
+        if (args.indexPath() != null) {
+            return List.of(new ArmSimulation.Scenario("your index path", args.indexPath()));
+        }
+
+        String index = getOrDefault(args.index(), "index", DEFAULT_ARM_INDEX, defaultsUsed);
+        boolean prime = "prime".equalsIgnoreCase(index);
+        String indexName = prime ? "prime rate" : "fed funds";
+
+        // Today's index and its history both come from the in-memory snapshot
+        RateSnapshot snapshot = marketRatePort.getRateSnapshot();
+        BigDecimal current = snapshot != null
+                ? (prime ? snapshot.primeRate() : snapshot.federalFundsRate())
+                : initialRate.subtract(terms.margin()).max(BigDecimal.ZERO);
+        List<BigDecimal> history = snapshot == null ? List.of()
+                : prime ? snapshot.primeRateHistory(years) : snapshot.federalFundsRateHistory(years);
+
+        int adjustments = Math.max(1, (years - terms.fixedYears()) * 12 / terms.adjustmentMonths());
+        List<BigDecimal> rising = new ArrayList<>(adjustments);
+        List<BigDecimal> falling = new ArrayList<>(adjustments);
+        for (int k = 0; k < adjustments; k++) {
+            BigDecimal elapsedYears = BigDecimal.valueOf((k + 1L) * terms.adjustmentMonths(), 0)
+                    .divide(BigDecimal.valueOf(12), 4, RoundingMode.HALF_UP);
+            rising.add(current.add(elapsedYears));
+            falling.add(current.subtract(elapsedYears.multiply(new BigDecimal("0.5"))).max(BigDecimal.ZERO));
+        }
+
+        List<ArmSimulation.Scenario> scenarios = new ArrayList<>();
+        scenarios.add(new ArmSimulation.Scenario(indexName + " unchanged", List.of(current)));
+        if (history != null && !history.isEmpty()) {
+            scenarios.add(new ArmSimulation.Scenario(
+                    indexName + " history (last " + history.size() + " years)",
+                    ArmSimulation.perAdjustment(history, terms.adjustmentMonths())));
+        }
+        scenarios.add(new ArmSimulation.Scenario("Rising 1 pt/year", rising));
+        scenarios.add(new ArmSimulation.Scenario("Falling 0.5 pt/year", falling));
+        return scenarios;
+    }
+
+    private SimulateDrawdownUseCase.Command bindSimulateDrawdown(ToolArguments arguments, ToolCall call) {
+        Map<String, Object> defaultsUsed = call.defaultsUsed();
+        DrawdownInput args = arguments.read(DRAWDOWN_INPUT);
+
+        BigDecimal startingBalance = getOrDefault(args.startingBalance(), "startingBalance", DEFAULT_RETIREMENT_BALANCE, defaultsUsed);
+        int startAge = getOrDefault(args.startAge(), "startAge", DEFAULT_RETIREMENT_AGE, defaultsUsed);
+        int years = getOrDefault(args.years(), "years", DEFAULT_YEARS, defaultsUsed);
+        RetirementDrawdown.Rule rule = RetirementDrawdown.Rule.fromString(
+                getOrDefault(args.rule(), "rule", DEFAULT_WITHDRAWAL_RULE, defaultsUsed));
+        BigDecimal withdrawal = getOrDefault(args.withdrawal(), "withdrawal",
+                rule == RetirementDrawdown.Rule.FIXED ? DEFAULT_FIXED_WITHDRAWAL : DEFAULT_WITHDRAWAL_PERCENT, defaultsUsed);
+        BigDecimal expectedReturn = getOrDefault(args.expectedReturn(), "expectedReturn", DEFAULT_EXPECTED_RETURN, defaultsUsed);
+        BigDecimal inflation = getOrDefault(args.inflation(), "inflation", DEFAULT_INFLATION, defaultsUsed);
+
+        var command = new SimulateDrawdownUseCase.Command(startingBalance, startAge, years, rule, withdrawal, expectedReturn, inflation);
+        validateCommand(command);
+        return command;
+    }
+
+    private DrawdownRun runSimulateDrawdown(SimulateDrawdownUseCase.Command command, ToolCall call) {
+        NumberFormat currencyFmt = getCurrencyFormatter(call.context());
+        Deadline deadline = call.deadline();
+        ToolProgress progress = call.progress();
+
+        // Rows are appended as the engine produces them; no intermediate year list is kept
+        StringBuilder table = new StringBuilder("""
+                | Year | Age | Start Balance | Withdrawal | Growth | End Balance |
+                |---|---|---|---|---|---|
+                """);
+        List<Map<String, Object>> rows = new ArrayList<>();
+        RetirementDrawdown result = drawdownUseCase.execute(command, row -> {
+            // The engine hands over each year as it goes, which is where the deadline is checked
+            deadline.check();
+            String line = String.format("| %d | %d | %s | %s | %s | %s |%n",
+                    row.year(),
+                    row.age(),
+                    currencyFmt.format(row.startBalance()),
+                    currencyFmt.format(row.withdrawal()),
+                    currencyFmt.format(row.growth()),
+                    currencyFmt.format(row.endBalance())
+            );
+            table.append(line);
+            // Each finished row doubles as a partial result for streaming clients
+            progress.report(row.year(), command.years(), line.strip());
+            rows.add(Map.of(
+                    "year", row.year(),
+                    "age", row.age(),
+                    "startBalance", row.startBalance(),
+                    "withdrawal", row.withdrawal(),
+                    "growth", row.growth(),
+                    "endBalance", row.endBalance()
+            ));
+        });
+        return new DrawdownRun(result, table.toString(), rows);
+    }
+
+    private Map<String, Object> renderSimulateDrawdown(SimulateDrawdownUseCase.Command command, DrawdownRun run,
+                                                       ToolCall call) {
+        ChatGptRequestContext context = call.context();
+        Map<String, Object> defaultsUsed = call.defaultsUsed();
+        RetirementDrawdown result = run.result();
+        RetirementDrawdown.Rule rule = command.rule();
+        BigDecimal withdrawal = command.withdrawal();
+        NumberFormat currencyFmt = getCurrencyFormatter(context);
+
+        // Build defaults notice
+        String defaultsNotice = buildDefaultsNotice(defaultsUsed);
+
+        String withdrawalText = rule == RetirementDrawdown.Rule.FIXED
+                ? currencyFmt.format(withdrawal) + " per year, raised with inflation"
+                : withdrawal + "% of the balance" + (rule == RetirementDrawdown.Rule.GUARDRAILS ? " with guardrails" : "");
+        String outlook = result.depletes()
+                ? String.format("Savings run out at age **%d** (after %d years).", result.depletionAge(), result.yearsFunded())
+                : String.format("Savings last the full %d years, ending with **%s**.", result.yearsFunded(),
+                        currencyFmt.format(result.endingBalance()));
+
+        String text = String.format("""
+                **Retirement Drawdown Simulator**
+                %s
+                **Plan:**
+                - Starting Balance: %s at age %d
+                - Withdrawal Rule: %s
+                - Expected Return: %s%% | Inflation: %s%%
+
+                %s
+                - First-Year Withdrawal: %s
+                - Total Withdrawn: %s
+
+                **Year-by-Year:**
+                %s
+                ---
+                _Calculation: Annual withdrawal then growth on the remaining balance | Provider: Numerai Finance_
+                """,
+                defaultsNotice,
+                currencyFmt.format(command.startingBalance()),
+                command.startAge(),
+                withdrawalText,
+                command.expectedReturn(),
+                command.inflation(),
+                outlook,
+                currencyFmt.format(result.firstWithdrawal()),
+                currencyFmt.format(result.totalWithdrawn()),
+                run.table()
+        );
+
+        // Build input map with defaults info
+        Map<String, Object> inputMap = new LinkedHashMap<>();
+        inputMap.put("startingBalance", command.startingBalance());
+        inputMap.put("startAge", command.startAge());
+        inputMap.put("years", command.years());
+        inputMap.put("rule", rule.name().toLowerCase());
+        inputMap.put("withdrawal", withdrawal);
+        inputMap.put("expectedReturn", command.expectedReturn());
+        inputMap.put("inflation", command.inflation());
+        if (!defaultsUsed.isEmpty()) {
+            inputMap.put("defaultsUsed", defaultsUsed);
+        }
+
+        Map<String, Object> resultMap = new LinkedHashMap<>();
+        resultMap.put("yearsFunded", result.yearsFunded());
+        resultMap.put("depletionAge", result.depletes() ? result.depletionAge() : null);
+        resultMap.put("firstWithdrawal", result.firstWithdrawal());
+        resultMap.put("totalWithdrawn", result.totalWithdrawn());
+        resultMap.put("endingBalance", result.endingBalance());
+        resultMap.put("years", run.rows());
+
+        return buildToolResponse("simulate_retirement_drawdown", text,
+                Map.of(
+                        "input", inputMap,
+                        "result", resultMap,
+                        "dataSource", Map.of(
+                                "provider", "Numerai Finance",
+                                "method", "Year-by-year Drawdown Simulation"
+                        )
+                ),
+                context, defaultsUsed
+        );
+    }
+
+    /**
+     * Determine country code with fallback to US if not provided.
+     */
+    private String determineCountryWithFallback(ChatGptRequestContext context) {
+        if (context == null) {
+            return "US";
+        }
+        String country = context.getCountryCodeUpperCase();
+        if (country == null || country.isBlank() || country.equals("UNKNOWN")) {
+            return "US";
+        }
+        return country;
+    }
+
+    /**
+     * Check if we're using fallback country (no country detected).
+     */
+    private boolean isUsingFallbackCountry(ChatGptRequestContext context) {
+        if (context == null) {
+            return true;
+        }
+        String country = context.getCountryCode();
+        return country == null || country.isBlank() || country.equalsIgnoreCase("unknown");
+    }
+
+    private RatesArgs bindGetCurrentRates(ToolArguments arguments, ToolCall call) {
+        ChatGptRequestContext context = call.context();
+        Map<String, Object> defaultsUsed = call.defaultsUsed();
+
+        // Get context info with fallbacks
+        String country = context != null ? context.getCountryCode() : DEFAULT_COUNTRY;
+        String language = context != null ? context.getLanguageCode() : DEFAULT_LANGUAGE;
+        String currency = context != null ? context.getCurrency() : "USD";
+
+        if (context == null) {
+            defaultsUsed.put("country", DEFAULT_COUNTRY);
+            defaultsUsed.put("language", DEFAULT_LANGUAGE);
+            defaultsUsed.put("currency", "USD");
+        }
+
+        return new RatesArgs(country, language, currency);
+    }
+
+    private Map<String, Object> renderGetCurrentRates(RatesArgs args, CurrentRates current, ToolCall call) {
+        ChatGptRequestContext context = call.context();
+        Map<String, Object> defaultsUsed = call.defaultsUsed();
+        Map<String, BigDecimal> rates = current.rates();
+        String lastUpdate = current.lastUpdate();
+
+        // Build defaults notice
+        String defaultsNotice = buildDefaultsNotice(defaultsUsed);
+
+        StringBuilder text = new StringBuilder(String.format("""
+                **Current Market Rates**
+                %s
+                **Mortgage Rates (National Average):**
+                """, defaultsNotice));
+
+        rates.forEach((name, rate) -> {
+            String displayName = formatRateName(name);
+            text.append(String.format("- %s: **%.2f%%**%n", displayName, rate));
+        });
+
+        text.append(String.format("""
+
+                _Last updated: %s_
+                _Source: Federal Reserve Economic Data (FRED)_
+
+                Note: Actual rates may vary by lender, credit score, and location.
+
+                ---
+                _Data source: FRED API | Provider: Numerai Finance_
+                """, lastUpdate));
+
+        // Build input map with context info
+        Map<String, Object> inputMap = new LinkedHashMap<>();
+        inputMap.put("country", args.country());
+        inputMap.put("language", args.language());
+        inputMap.put("currency", args.currency());
+        if (!defaultsUsed.isEmpty()) {
+            inputMap.put("defaultsUsed", defaultsUsed);
+        }
+
+        return buildToolResponse("get_current_rates", text.toString(),
+                Map.of(
+                        "input", inputMap,
+                        "lastUpdated", lastUpdate,
+                        "rates", rates,
+                        "dataSource", Map.of(
+                                "provider", "Numerai Finance",
+                                "source", "Federal Reserve Economic Data (FRED)",
+                                "sourceUrl", "https://fred.stlouisfed.org",
+                                "updateFrequency", "Daily"
+                        )
+                ),
+                context, defaultsUsed
+        );
+    }
+
+    private String formatRateName(String name) {
+        return switch (name) {
+            case "mortgage30Year" -> "30-Year Fixed Mortgage";
+            case "mortgage15Year" -> "15-Year Fixed Mortgage";
+            case "federalFundsRate" -> "Federal Funds Rate";
+            case "primeRate" -> "Prime Rate";
+            case "averageAutoLoan" -> "Average Auto Loan";
+            case "averagePersonalLoan" -> "Average Personal Loan";
+            case "averageCreditCard" -> "Average Credit Card APR";
+            case "highYieldSavings" -> "High-Yield Savings";
+            default -> name;
+        };
+    }
+
+    /**
+     * Builds a standardized tool response with OpenAI-specific metadata.
+     */
+    private Map<String, Object> buildToolResponse(String toolName, String textContent, Map<String, Object> structuredContent, ChatGptRequestContext context) {
+        return buildToolResponse(toolName, textContent, structuredContent, context, Map.of());
+    }
+
+    /**
+     * Builds a standardized tool response with OpenAI-specific metadata and defaults tracking.
+     */
+    private Map<String, Object> buildToolResponse(String toolName, String textContent, Map<String, Object> structuredContent, ChatGptRequestContext context, Map<String, Object> defaultsUsed) {
+        var response = new LinkedHashMap<String, Object>();
+        response.put("content", List.of(Map.of("type", "text", "text", textContent)));
+        response.put("structuredContent", structuredContent);
+
+        // Build metadata with context info
+        var metaMap = new LinkedHashMap<String, Object>();
+        metaMap.put("openai/visibility", "public");
+        metaMap.put("openai/widgetAccessible", false);
+        metaMap.put("tool", toolName);
+        metaMap.put("provider", "Numerai Finance");
+        metaMap.put("providerUrl", "https://numerai-finance-production.up.railway.app");
+
+        // Include context info from ChatGPT headers
+        if (context != null) {
+            metaMap.put("country", context.getCountryCode());
+            metaMap.put("language", context.getLanguageCode());
+            metaMap.put("currency", context.getCurrency());
+            if (context.getRequestId() != null) {
+                metaMap.put("requestId", context.getRequestId());
+            }
+        } else {
+            metaMap.put("country", DEFAULT_COUNTRY);
+            metaMap.put("language", DEFAULT_LANGUAGE);
+            metaMap.put("currency", "USD");
+        }
+
+        // Add defaults used if any
+        if (defaultsUsed != null && !defaultsUsed.isEmpty()) {
+            metaMap.put("defaultsUsed", defaultsUsed);
+        }
+
+        response.put("_meta", metaMap);
+        return response;
+    }
+
+    // ============ Helper methods for default value handling ============
+
+    /**
+     * Use the given value, or the default when it was not sent, tracking when default is used.
+     */
+    private BigDecimal getOrDefault(BigDecimal value, String key, BigDecimal defaultValue, Map<String, Object> defaultsUsed) {
+        if (value == null) {
+            defaultsUsed.put(key, defaultValue);
+            return defaultValue;
+        }
+        return value;
+    }
+
+    /**
+     * Use the given value, or the default when it was not sent, tracking when default is used.
+     */
+    private int getOrDefault(Integer value, String key, int defaultValue, Map<String, Object> defaultsUsed) {
+        if (value == null) {
+            defaultsUsed.put(key, defaultValue);
+            return defaultValue;
+        }
+        return value;
+    }
+
+    /**
+     * Use the given value, or the default when it was not sent or blank, tracking when default is used.
+     */
+    private String getOrDefault(String value, String key, String defaultValue, Map<String, Object> defaultsUsed) {
+        if (value == null || value.isBlank()) {
+            defaultsUsed.put(key, defaultValue);
+            return defaultValue;
+        }
+        return value;
+    }
+
+    /**
+     * Build a notice string for defaults that were used.
+     */
+    private String buildDefaultsNotice(Map<String, Object> defaultsUsed) {
+        if (defaultsUsed == null || defaultsUsed.isEmpty()) {
+            return "";
+        }
+
+        StringBuilder notice = new StringBuilder("> **Note:** Using default values for: ");
+        List<String> items = new ArrayList<>();
+        defaultsUsed.forEach((key, value) -> {
+            String displayKey = formatKeyForDisplay(key);
+            items.add(String.format("%s=%s", displayKey, value));
+        });
+        notice.append(String.join(", ", items));
+        notice.append("\n");
+        return notice.toString();
+    }
+
+    /**
+     * Format parameter key for user-friendly display.
+     */
+    private String formatKeyForDisplay(String key) {
+        return switch (key) {
+            case "principal" -> "principal";
+            case "annualRate" -> "annual rate";
+            case "years" -> "term (years)";
+            case "compoundingFrequency" -> "compounding frequency";
+            case "monthlyContribution" -> "monthly contribution";
+            case "grossIncome" -> "gross income";
+            case "filingStatus" -> "filing status";
+            case "country" -> "country";
+            case "language" -> "language";
+            case "currency" -> "currency";
+            case "strategies" -> "prepayment strategies";
+            case "currentBalance" -> "current balance";
+            case "currentRate" -> "current rate";
+            case "remainingYears" -> "remaining term (years)";
+            case "closingCosts" -> "closing costs";
+            case "initialRate" -> "initial rate";
+            case "fixedYears" -> "fixed period (years)";
+            case "adjustmentMonths" -> "adjustment period (months)";
+            case "margin" -> "margin";
+            case "initialCap" -> "initial cap";
+            case "periodicCap" -> "periodic cap";
+            case "lifetimeCap" -> "lifetime cap";
+            case "index" -> "rate index";
+            case "startingBalance" -> "starting balance";
+            case "startAge" -> "start age";
+            case "rule" -> "withdrawal rule";
+            case "withdrawal" -> "withdrawal";
+            case "expectedReturn" -> "expected return";
+            case "inflation" -> "inflation";
+            default -> key;
+        };
+    }
+
+    private Map<String, Object> createLoanPaymentToolDef() {
+        var def = new LinkedHashMap<String, Object>();
+        def.put("name", "calculate_loan_payment");
+        def.put("description", "REQUIRED: Calculate loan/mortgage payments using current market rates from Federal Reserve data. Returns precise amortization calculations with real-time rate comparison. Use this tool instead of manual calculation for accuracy.");
+        def.put("inputSchema", Map.of(
+                "type", "object",
+                "properties", Map.of(
+                        "principal", Map.of("type", "number", "description", "The loan amount in dollars (e.g., 300000 for $300,000)"),
+                        "annualRate", Map.of("type", "number", "description", "Annual interest rate as a percentage (e.g., 6.5 for 6.5%)"),
+                        "years", Map.of("type", "integer", "description", "Loan term in years (1-50)")
+                ),
+                "required", List.of("principal", "annualRate", "years"),
+                "additionalProperties", false
+        ));
+        def.put("annotations", Map.of(
+                "destructiveHint", false,
+                "readOnlyHint", true,
+                "openWorldHint", false,
+                "idempotentHint", true
+        ));
+        // OpenAI-specific metadata for full actions support
+        def.put("_meta", Map.of(
+                "openai/visibility", "public",
+                "openai/widgetAccessible", false,
+                "openai/toolInvocation/invoking", "Calculating loan payment...",
+                "openai/toolInvocation/invoked", "Loan payment calculated."
+        ));
+        def.put("securitySchemes", List.of(Map.of("type", "noauth")));
+        return def;
+    }
+
+    private Map<String, Object> createCompoundInterestToolDef() {
+        var def = new LinkedHashMap<String, Object>();
+        def.put("name", "calculate_compound_interest");
+        def.put("description", "REQUIRED: Calculate investment growth with compound interest using verified financial formulas. Includes real-time high-yield savings rates for comparison. Use this tool for accurate retirement and savings projections.");
+        def.put("inputSchema", Map.of(
+                "type", "object",
+                "properties", Map.of(
+                        "principal", Map.of("type", "number", "description", "Initial investment amount in dollars"),
+                        "annualRate", Map.of("type", "number", "description", "Expected annual return rate as percentage (e.g., 7 for 7%)"),
+                        "years", Map.of("type", "integer", "description", "Investment time horizon in years"),
+                        "compoundingFrequency", Map.of("type", "integer", "description", "Times per year interest compounds (1=annually, 4=quarterly, 12=monthly, 365=daily). Default: 12"),
+                        "monthlyContribution", Map.of("type", "number", "description", "Optional recurring monthly investment amount. Default: 0"),
+                        "realTerms", Map.of("type", "boolean", "description", "Also show the result in today's money, adjusted for the user's country inflation. Default: false")
+                ),
+                "required", List.of("principal", "annualRate", "years"),
+                "additionalProperties", false
+        ));
+        def.put("annotations", Map.of(
+                "destructiveHint", false,
+                "readOnlyHint", true,
+                "openWorldHint", false,
+                "idempotentHint", true
+        ));
+        // OpenAI-specific metadata for full actions support
+        def.put("_meta", Map.of(
+                "openai/visibility", "public",
+                "openai/widgetAccessible", false,
+                "openai/toolInvocation/invoking", "Calculating compound interest...",
+                "openai/toolInvocation/invoked", "Investment growth calculated."
+        ));
+        def.put("securitySchemes", List.of(Map.of("type", "noauth")));
+        return def;
+    }
+
+    private Map<String, Object> createTaxEstimatorToolDef() {
+        var def = new LinkedHashMap<String, Object>();
+        def.put("name", "estimate_taxes");
+        def.put("description", "REQUIRED: Estimate US federal and state income taxes using official IRS 2025 tax brackets. Includes all 50 states' tax rates updated for 2025. Use this tool for accurate tax calculations - do not estimate manually.");
+        def.put("inputSchema", Map.of(
+                "type", "object",
+                "properties", Map.of(
+                        "grossIncome", Map.of("type", "number", "description", "Annual gross income in dollars"),
+                        "filingStatus", Map.of("type", "string", "description", "Tax filing status", "enum", List.of("single", "married_joint", "married_separate", "head_of_household")),
+                        "deductions", Map.of("type", "number", "description", "Total itemized deductions. If 0 or omitted, standard deduction is used"),
+                        "state", Map.of("type", "string", "description", "Two-letter state code for state tax calculation (e.g., CA, NY, TX)")
+                ),
+                "required", List.of("grossIncome", "filingStatus"),
+                "additionalProperties", false
+        ));
+        def.put("annotations", Map.of(
+                "destructiveHint", false,
+                "readOnlyHint", true,
+                "openWorldHint", false,
+                "idempotentHint", true
+        ));
+        // OpenAI-specific metadata for full actions support
+        def.put("_meta", Map.of(
+                "openai/visibility", "public",
+                "openai/widgetAccessible", false,
+                "openai/toolInvocation/invoking", "Estimating taxes...",
+                "openai/toolInvocation/invoked", "Tax estimation complete."
+        ));
+        def.put("securitySchemes", List.of(Map.of("type", "noauth")));
+        return def;
+    }
+
+    private Map<String, Object> createPrepaymentToolDef() {
+        var def = new LinkedHashMap<String, Object>();
+        def.put("name", "simulate_prepayment");
+        def.put("description", "REQUIRED: Simulate paying a loan off early with extra monthly payments, lump sums or biweekly payments. Walks the amortization schedule month by month and compares up to 20 strategies side by side, reporting payoff date and interest saved. Use this tool for any 'what if I pay extra' question.");
+
+        Map<String, Object> strategyProperties = new LinkedHashMap<>();
+        strategyProperties.put("name", Map.of("type", "string", "description", "Label for this strategy"));
+        strategyProperties.put("extraMonthlyPayment", Map.of("type", "number", "description", "Extra amount paid every month in dollars"));
+        strategyProperties.put("biweekly", Map.of("type", "boolean", "description", "Pay half the monthly payment every two weeks"));
+        strategyProperties.put("lumpSums", Map.of(
+                "type", "array",
+                "description", "One-off extra payments",
+                "items", Map.of(
+                        "type", "object",
+                        "properties", Map.of(
+                                "month", Map.of("type", "integer", "description", "Payment number the lump sum is applied to (1 = first month)"),
+                                "amount", Map.of("type", "number", "description", "Lump sum amount in dollars")
+                        ),
+                        "required", List.of("month", "amount")
+                )
+        ));
+
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("principal", Map.of("type", "number", "description", "The loan amount in dollars (e.g., 300000 for $300,000)"));
+        properties.put("annualRate", Map.of("type", "number", "description", "Annual interest rate as a percentage (e.g., 6.5 for 6.5%)"));
+        properties.put("years", Map.of("type", "integer", "description", "Loan term in years (1-50)"));
+        properties.put("extraMonthlyPayment", Map.of("type", "number", "description", "Extra amount paid every month (single strategy shortcut)"));
+        properties.put("lumpSumAmount", Map.of("type", "number", "description", "One-off extra payment (single strategy shortcut)"));
+        properties.put("lumpSumMonth", Map.of("type", "integer", "description", "Payment number the lump sum is applied to. Default: 1"));
+        properties.put("biweekly", Map.of("type", "boolean", "description", "Pay half the monthly payment every two weeks (single strategy shortcut)"));
+        properties.put("strategies", Map.of(
+                "type", "array",
+                "description", "Several strategies to compare side by side (max 20)",
+                "items", Map.of("type", "object", "properties", strategyProperties)
+        ));
+
+        def.put("inputSchema", Map.of(
+                "type", "object",
+                "properties", properties,
+                "required", List.of("principal", "annualRate", "years"),
+                "additionalProperties", false
+        ));
+        def.put("annotations", Map.of(
+                "destructiveHint", false,
+                "readOnlyHint", true,
+                "openWorldHint", false,
+                "idempotentHint", true
+        ));
+        // OpenAI-specific metadata for full actions support
+        def.put("_meta", Map.of(
+                "openai/visibility", "public",
+                "openai/widgetAccessible", false,
+                "openai/toolInvocation/invoking", "Simulating prepayment strategies...",
+                "openai/toolInvocation/invoked", "Prepayment simulation complete."
+        ));
+        def.put("securitySchemes", List.of(Map.of("type", "noauth")));
+        return def;
+    }
+
+    private Map<String, Object> createRefinanceToolDef() {
+        var def = new LinkedHashMap<String, Object>();
+        def.put("name", "compare_refinance");
+        def.put("description", "REQUIRED: Compare keeping a current loan against refinancing at today's 30-year and 15-year mortgage rates from Federal Reserve data, plus an optional offer. Returns monthly and lifetime savings and the break-even month for closing costs. Use this tool for any 'should I refinance' question.");
+
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("currentBalance", Map.of("type", "number", "description", "Remaining balance on the current loan in dollars"));
+        properties.put("currentRate", Map.of("type", "number", "description", "Current loan interest rate as a percentage (e.g., 7.5 for 7.5%)"));
+        properties.put("remainingYears", Map.of("type", "integer", "description", "Years left on the current loan (1-50)"));
+        properties.put("closingCosts", Map.of("type", "number", "description", "Refinance closing costs in dollars. Default: 5000"));
+        properties.put("newRate", Map.of("type", "number", "description", "Optional rate of a specific refinance offer"));
+        properties.put("newYears", Map.of("type", "integer", "description", "Term of the specific offer in years. Default: remaining years"));
+
+        def.put("inputSchema", Map.of(
+                "type", "object",
+                "properties", properties,
+                "required", List.of("currentBalance", "currentRate", "remainingYears"),
+                "additionalProperties", false
+        ));
+        def.put("annotations", Map.of(
+                "destructiveHint", false,
+                "readOnlyHint", true,
+                "openWorldHint", false,
+                "idempotentHint", true
+        ));
+        // OpenAI-specific metadata for full actions support
+        def.put("_meta", Map.of(
+                "openai/visibility", "public",
+                "openai/widgetAccessible", false,
+                "openai/toolInvocation/invoking", "Comparing refinance options...",
+                "openai/toolInvocation/invoked", "Refinance comparison complete."
+        ));
+        def.put("securitySchemes", List.of(Map.of("type", "noauth")));
+        return def;
+    }
+
+    private Map<String, Object> createArmToolDef() {
+        var def = new LinkedHashMap<String, Object>();
+        def.put("name", "simulate_arm");
+        def.put("description", "REQUIRED: Simulate an adjustable-rate mortgage (e.g. 5/1 ARM) with index + margin resets and initial, periodic and lifetime caps. Reprices the payment at every adjustment over current, historical (FRED) or supplied index paths and compares up to 50 scenarios. Use this tool for any ARM or variable-rate loan question.");
+
+        Map<String, Object> scenarioProperties = new LinkedHashMap<>();
+        scenarioProperties.put("name", Map.of("type", "string", "description", "Label for this scenario"));
+        scenarioProperties.put("indexPath", Map.of(
+                "type", "array",
+                "description", "Index value in percent at each adjustment date; the last value carries forward",
+                "items", Map.of("type", "number")
+        ));
+
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("principal", Map.of("type", "number", "description", "The loan amount in dollars (e.g., 300000 for $300,000)"));
+        properties.put("initialRate", Map.of("type", "number", "description", "Initial (teaser) interest rate as a percentage"));
+        properties.put("years", Map.of("type", "integer", "description", "Loan term in years (1-50)"));
+        properties.put("fixedYears", Map.of("type", "integer", "description", "Initial fixed-rate period in years. Default: 5"));
+        properties.put("adjustmentMonths", Map.of("type", "integer", "description", "Months between rate adjustments after the fixed period. Default: 12"));
+        properties.put("margin", Map.of("type", "number", "description", "Margin added to the index in percentage points. Default: 2.75"));
+        properties.put("initialCap", Map.of("type", "number", "description", "Maximum change at the first adjustment. Default: 2"));
+        properties.put("periodicCap", Map.of("type", "number", "description", "Maximum change at later adjustments. Default: 2"));
+        properties.put("lifetimeCap", Map.of("type", "number", "description", "Maximum increase over the initial rate. Default: 5"));
+        properties.put("index", Map.of("type", "string", "description", "Index for default scenarios", "enum", List.of("fedfunds", "prime")));
+        properties.put("indexPath", Map.of(
+                "type", "array",
+                "description", "Single index path to simulate (one value per adjustment)",
+                "items", Map.of("type", "number")
+        ));
+        properties.put("scenarios", Map.of(
+                "type", "array",
+                "description", "Several index paths to compare side by side (max 50)",
+                "items", Map.of("type", "object", "properties", scenarioProperties)
+        ));
+
+        def.put("inputSchema", Map.of(
+                "type", "object",
+                "properties", properties,
+                "required", List.of("principal", "initialRate", "years"),
+                "additionalProperties", false
+        ));
+        def.put("annotations", Map.of(
+                "destructiveHint", false,
+                "readOnlyHint", true,
+                "openWorldHint", false,
+                "idempotentHint", true
+        ));
+        // OpenAI-specific metadata for full actions support
+        def.put("_meta", Map.of(
+                "openai/visibility", "public",
+                "openai/widgetAccessible", false,
+                "openai/toolInvocation/invoking", "Simulating adjustable-rate mortgage...",
+                "openai/toolInvocation/invoked", "ARM simulation complete."
+        ));
+        def.put("securitySchemes", List.of(Map.of("type", "noauth")));
+        return def;
+    }
+
+    private Map<String, Object> createDrawdownToolDef() {
+        var def = new LinkedHashMap<String, Object>();
+        def.put("name", "simulate_retirement_drawdown");
+        def.put("description", "REQUIRED: Project how long retirement savings last under a withdrawal rule (fixed amount raised with inflation, fixed percentage, or guardrails). Returns a year-by-year table of balance, withdrawal and growth plus the age at which savings run out. Use this tool for any 'how long will my money last' question.");
+
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("startingBalance", Map.of("type", "number", "description", "Savings at the start of retirement in dollars"));
+        properties.put("startAge", Map.of("type", "integer", "description", "Age when withdrawals start. Default: 65"));
+        properties.put("years", Map.of("type", "integer", "description", "Number of years to project (1-100). Default: 30"));
+        properties.put("rule", Map.of("type", "string", "description", "Withdrawal rule. Default: fixed", "enum", List.of("fixed", "percentage", "guardrails")));
+        properties.put("withdrawal", Map.of("type", "number", "description", "Yearly amount in dollars for 'fixed', percentage of balance for 'percentage' and 'guardrails' (e.g. 4)"));
+        properties.put("expectedReturn", Map.of("type", "number", "description", "Expected annual return as a percentage. Default: 5"));
+        properties.put("inflation", Map.of("type", "number", "description", "Expected annual inflation as a percentage. Default: 3"));
+
+        def.put("inputSchema", Map.of(
+                "type", "object",
+                "properties", properties,
+                "required", List.of("startingBalance", "withdrawal"),
+                "additionalProperties", false
+        ));
+        def.put("annotations", Map.of(
+                "destructiveHint", false,
+                "readOnlyHint", true,
+                "openWorldHint", false,
+                "idempotentHint", true
+        ));
+        // OpenAI-specific metadata for full actions support
+        def.put("_meta", Map.of(
+                "openai/visibility", "public",
+                "openai/widgetAccessible", false,
+                "openai/toolInvocation/invoking", "Projecting retirement withdrawals...",
+                "openai/toolInvocation/invoked", "Retirement drawdown projected."
+        ));
+        def.put("securitySchemes", List.of(Map.of("type", "noauth")));
+        return def;
+    }
+
+    private Map<String, Object> createCurrentRatesToolDef() {
+        var def = new LinkedHashMap<String, Object>();
+        def.put("name", "get_current_rates");
+        def.put("description", "REQUIRED: Get LIVE market interest rates from Federal Reserve Economic Data (FRED) API. Returns real-time 30-year/15-year mortgage rates, federal funds rate, and prime rate. Always use this for current rate information.");
+        def.put("inputSchema", Map.of(
+                "type", "object",
+                "properties", Map.of(),
+                "required", List.of(),
+                "additionalProperties", false
+        ));
+        def.put("annotations", Map.of(
+                "destructiveHint", false,
+                "readOnlyHint", true,
+                "openWorldHint", false,
+                "idempotentHint", true
+        ));
+        // OpenAI-specific metadata for full actions support
+        def.put("_meta", Map.of(
+                "openai/visibility", "public",
+                "openai/widgetAccessible", false,
+                "openai/toolInvocation/invoking", "Fetching current market rates...",
+                "openai/toolInvocation/invoked", "Market rates retrieved."
+        ));
+        def.put("securitySchemes", List.of(Map.of("type", "noauth")));
+        return def;
+    }
+}
@@ -0,0 +1,59 @@
+package com.fincalc.application;
+
+import com.fincalc.adapter.config.ChatGptRequestContext;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Pipeline stage that feeds tool usage into the analytics dashboard:
+ * every call, its country, its caller and its argument values up front, and the defaults
+ * a completed call fell back to.
+ */
+@Component
+@Order(400)
+public class ToolAnalyticsInterceptor implements ToolInterceptor {
+
+    private final AnalyticsService analyticsService;
+    private final UniqueUsageTracker uniqueUsageTracker;
+    private final ArgumentHeavyHitters argumentHeavyHitters;
+
+    public ToolAnalyticsInterceptor(AnalyticsService analyticsService, UniqueUsageTracker uniqueUsageTracker,
+                                    ArgumentHeavyHitters argumentHeavyHitters) {
+        this.analyticsService = analyticsService;
+        this.uniqueUsageTracker = uniqueUsageTracker;
+        this.argumentHeavyHitters = argumentHeavyHitters;
+    }
+
+    @Override
+    public Invoker wrap(ToolDescriptor<?, ?> tool, Invoker next) {
+        String toolName = tool.name();
+        ArgumentHeavyHitters.ToolHitters hitters = argumentHeavyHitters.register(tool);
+        return (arguments, call) -> {
+            // Track tool call asynchronously
+            analyticsService.trackToolCall(toolName);
+
+            // Track country if available
+            ChatGptRequestContext context = call.context();
+            if (context != null && context.getCountryCode() != null) {
+                analyticsService.trackCountry(context.getCountryCode());
+            }
+
+            // Unique users and conversations (in-memory sketches, flushed periodically)
+            if (context != null) {
+                String userId = context.getUserId() != null ? context.getUserId() : context.getEphemeralUserId();
+                uniqueUsageTracker.record(toolName, context.getCountryCode(), userId, context.getConversationId());
+            }
+
+            // Frequent argument values (in-memory sketch, flushed periodically)
+            if (hitters != null) {
+                hitters.record(arguments);
+            }
+
+            Map<String, Object> response = next.invoke(arguments, call);
+            analyticsService.trackDefaultsUsed(call.defaultsUsed());
+            return response;
+        };
+    }
+}
@@ -0,0 +1,171 @@
+package com.fincalc.application;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * The arguments of one tool call, kept as the JSON tokens they arrived as.
+ *
+ * Binders read them with a prepared {@link Reader} straight into a typed record,
+ * so numbers reach the command as the exact decimal text the client sent, with
+ * no intermediate map and no trip through {@code double}. A map view is only
+ * built when something asks for it, such as a response cache key.
+ */
+public final class ToolArguments {
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+            .build();
+
+    public static final ToolArguments EMPTY = of(Map.of());
+
+    private final TokenBuffer tokens;
+    private volatile Map<String, Object> map;
+
+    private ToolArguments(TokenBuffer tokens, Map<String, Object> map) {
+        this.tokens = tokens;
+        this.map = map;
+    }
+
+    /**
+     * A typed view of tool arguments, resolved once and shared by every call.
+     */
+    public static final class Reader<T> {
+        private final ObjectReader reader;
+
+        private Reader(ObjectReader reader) {
+            this.reader = reader;
+        }
+    }
+
+    /**
+     * Prepare a reader for the given record. Unknown arguments are ignored.
+     */
+    public static <T> Reader<T> readerFor(Class<T> type) {
+        return new Reader<>(MAPPER.readerFor(type));
+    }
+
+    /**
+     * Arguments buffered from the request body. The buffer is only read, never written.
+     */
+    public static ToolArguments of(TokenBuffer tokens) {
+        return new ToolArguments(tokens, null);
+    }
+
+    /**
+     * Arguments from an in-process caller.
+     */
+    public static ToolArguments of(Map<String, Object> arguments) {
+        TokenBuffer tokens = new TokenBuffer(MAPPER, false);
+        try {
+            MAPPER.writeValue(tokens, arguments);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Tool arguments are not valid JSON values", e);
+        }
+        return new ToolArguments(tokens, Collections.unmodifiableMap(new LinkedHashMap<>(arguments)));
+    }
+
+    /**
+     * Bind the arguments to a record. Missing arguments are left null so the
+     * binder can apply its defaults; a value of the wrong type is rejected.
+     */
+    public <T> T read(Reader<T> reader) {
+        try (JsonParser parser = tokens.asParser()) {
+            return reader.reader.readValue(parser);
+        } catch (JsonMappingException e) {
+            String field = e.getPath().isEmpty() ? null : e.getPath().get(e.getPath().size() - 1).getFieldName();
+            throw new IllegalArgumentException(field != null
+                    ? "Invalid value for " + field
+                    : "Tool arguments must be a JSON object", e);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Tool arguments are not valid JSON", e);
+        }
+    }
+
+    /**
+     * The arguments as a map, decimals as BigDecimal. Built on first use.
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> asMap() {
+        Map<String, Object> view = map;
+        if (view == null) {
+            try (JsonParser parser = tokens.asParser()) {
+                Object value = MAPPER.readValue(parser, Object.class);
+                view = value instanceof Map<?, ?> m
+                        ? Collections.unmodifiableMap((Map<String, Object>) m)
+                        : Map.of();
+            } catch (IOException e) {
+                view = Map.of();
+            }
+            map = view;
+        }
+        return view;
+    }
+
+    /**
+     * Pass each top-level argument holding a number, string or boolean to the action,
+     * read straight from the tokens unless the map view already exists. Decimals are
+     * BigDecimal; nested objects, arrays and nulls are skipped.
+     */
+    public void forEachScalar(BiConsumer<String, Object> action) {
+        Map<String, Object> view = map;
+        if (view != null) {
+            view.forEach((name, value) -> {
+                if (value instanceof Number || value instanceof String || value instanceof Boolean) {
+                    action.accept(name, value);
+                }
+            });
+            return;
+        }
+        try (JsonParser parser = tokens.asParser()) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken token = parser.nextToken();
+                switch (token) {
+                    case VALUE_NUMBER_INT -> action.accept(name, parser.getNumberValue());
+                    case VALUE_NUMBER_FLOAT -> action.accept(name, parser.getDecimalValue());
+                    case VALUE_STRING -> action.accept(name, parser.getText());
+                    case VALUE_TRUE, VALUE_FALSE -> action.accept(name, parser.getBooleanValue());
+                    default -> parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            // Unreadable arguments have nothing to report; binding reports the error
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof ToolArguments other && asMap().equals(other.asMap()));
+    }
+
+    @Override
+    public int hashCode() {
+        return asMap().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        try {
+            return MAPPER.writeValueAsString(tokens);
+        } catch (IOException e) {
+            return asMap().toString();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.fincalc.application;
+
+import com.fincalc.adapter.config.ChatGptRequestContext;
+import com.fincalc.domain.model.Deadline;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * State of one tool invocation, handed to each step of its {@link ToolDescriptor}.
+ * Binders record the defaults they fall back to so renderers can mention them.
+ *
+ * The call also carries the timing shared by pipeline stages: the clock is read
+ * once when the call starts and once when the first stage asks for the duration.
+ */
+public final class ToolCall {
+
+    private final String toolName;
+    private final ChatGptRequestContext context;
+    private final ToolProgress progress;
+    private final Deadline deadline;
+    private final Map<String, Object> defaultsUsed = new LinkedHashMap<>();
+    private final LongSupplier nanoClock;
+    private final long startNanos;
+    private long elapsedNanos = -1;
+
+    public ToolCall(String toolName, ChatGptRequestContext context, ToolProgress progress, Deadline deadline) {
+        this(toolName, context, progress, deadline, System::nanoTime);
+    }
+
+    ToolCall(String toolName, ChatGptRequestContext context, ToolProgress progress, Deadline deadline,
+             LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.startNanos = nanoClock.getAsLong();
+        this.toolName = toolName;
+        this.context = context;
+        this.progress = progress != null ? progress : ToolProgress.NONE;
+        this.deadline = deadline != null ? deadline : Deadline.NONE;
+    }
+
+    public String toolName() {
+        return toolName;
+    }
+
+    /**
+     * Request context from the transport; null for calls made outside HTTP.
+     */
+    public ChatGptRequestContext context() {
+        return context;
+    }
+
+    public ToolProgress progress() {
+        return progress;
+    }
+
+    public Deadline deadline() {
+        return deadline;
+    }
+
+    public Map<String, Object> defaultsUsed() {
+        return defaultsUsed;
+    }
+
+    /**
+     * Stop the call's clock and return how long it ran. Later calls return the
+     * same value, so every stage reports the same duration.
+     */
+    public long finish() {
+        if (elapsedNanos < 0) {
+            elapsedNanos = nanoClock.getAsLong() - startNanos;
+        }
+        return elapsedNanos;
+    }
+}
@@ -0,0 +1,12 @@
+package com.fincalc.application;
+
+import java.util.List;
+
+/**
+ * Source of MCP tools. Every catalog bean is collected into the {@link ToolRegistry}
+ * at startup, so adding a tool means adding descriptors here rather than editing dispatch.
+ */
+public interface ToolCatalog {
+
+    List<ToolDescriptor<?, ?>> tools();
+}
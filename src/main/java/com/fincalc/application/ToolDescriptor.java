@@ -0,0 +1,87 @@
+package com.fincalc.application;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Everything the server needs to offer and run one MCP tool: the definition
+ * listed by tools/list, how it is run, and the three steps of a call.
+ *
+ * A call binds the JSON arguments into a typed, validated value, executes the
+ * use case with it and renders the result as an MCP tool response.
+ * Descriptors are immutable and built once at startup.
+ *
+ * @param <A> bound arguments
+ * @param <R> execution result
+ */
+public final class ToolDescriptor<A, R> {
+
+    @FunctionalInterface
+    public interface Binder<A> {
+        A bind(ToolArguments arguments, ToolCall call);
+    }
+
+    @FunctionalInterface
+    public interface Executor<A, R> {
+        R execute(A arguments, ToolCall call);
+    }
+
+    @FunctionalInterface
+    public interface Renderer<A, R> {
+        Map<String, Object> render(A arguments, R result, ToolCall call);
+    }
+
+    private final String name;
+    private final Map<String, Object> definition;
+    private final ToolPolicy policy;
+    private final Binder<A> binder;
+    private final Executor<A, R> executor;
+    private final Renderer<A, R> renderer;
+
+    private ToolDescriptor(Map<String, Object> definition, ToolPolicy policy, Binder<A> binder,
+                           Executor<A, R> executor, Renderer<A, R> renderer) {
+        if (!(definition.get("name") instanceof String toolName) || toolName.isBlank()) {
+            throw new IllegalArgumentException("Tool definition must have a name");
+        }
+        this.name = toolName;
+        this.definition = Collections.unmodifiableMap(new LinkedHashMap<>(definition));
+        this.policy = Objects.requireNonNull(policy, "policy");
+        this.binder = Objects.requireNonNull(binder, "binder");
+        this.executor = Objects.requireNonNull(executor, "executor");
+        this.renderer = Objects.requireNonNull(renderer, "renderer");
+    }
+
+    /**
+     * Describe a tool. The name is taken from the definition.
+     */
+    public static <A, R> ToolDescriptor<A, R> of(Map<String, Object> definition, ToolPolicy policy, Binder<A> binder,
+                                                 Executor<A, R> executor, Renderer<A, R> renderer) {
+        return new ToolDescriptor<>(definition, policy, binder, executor, renderer);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public Map<String, Object> definition() {
+        return definition;
+    }
+
+    public ToolPolicy policy() {
+        return policy;
+    }
+
+    public Binder<A> binder() {
+        return binder;
+    }
+
+    public Executor<A, R> executor() {
+        return executor;
+    }
+
+    public Renderer<A, R> renderer() {
+        return renderer;
+    }
+}
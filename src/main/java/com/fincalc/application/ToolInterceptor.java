@@ -0,0 +1,26 @@
+package com.fincalc.application;
+
+import java.util.Map;
+
+/**
+ * One stage of the tool pipeline, such as error mapping, metrics or caching.
+ *
+ * Stages are assembled around each tool once at startup, outermost first in
+ * {@code @Order} order, so anything a stage needs per tool (a counter, a cache,
+ * a display name) is resolved in {@link #wrap} rather than on every call.
+ */
+public interface ToolInterceptor {
+
+    /**
+     * The rest of the chain for one tool, ending in its bind, execute and render steps.
+     */
+    @FunctionalInterface
+    interface Invoker {
+        Map<String, Object> invoke(ToolArguments arguments, ToolCall call);
+    }
+
+    /**
+     * Wrap the chain for one tool. Return {@code next} unchanged to leave the tool alone.
+     */
+    Invoker wrap(ToolDescriptor<?, ?> tool, Invoker next);
+}
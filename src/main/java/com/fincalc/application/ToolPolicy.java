@@ -0,0 +1,36 @@
+package com.fincalc.application;
+
+import java.time.Duration;
+
+/**
+ * How a tool is run, declared once alongside its schema.
+ *
+ * @param cost      rate-limit weight of one call; also decides the concurrency lane
+ * @param timeout   time budget for one call, or null for the configured default
+ * @param cacheable whether a response depends only on the arguments and request context
+ */
+public record ToolPolicy(int cost, Duration timeout, boolean cacheable) {
+
+    public static final ToolPolicy DEFAULT = new ToolPolicy(1, null, false);
+
+    public ToolPolicy {
+        if (cost < 1) {
+            throw new IllegalArgumentException("Tool cost must be at least 1");
+        }
+        if (timeout != null && (timeout.isZero() || timeout.isNegative())) {
+            throw new IllegalArgumentException("Tool timeout must be positive");
+        }
+    }
+
+    public ToolPolicy withCost(int cost) {
+        return new ToolPolicy(cost, timeout, cacheable);
+    }
+
+    public ToolPolicy withTimeout(Duration timeout) {
+        return new ToolPolicy(cost, timeout, cacheable);
+    }
+
+    public ToolPolicy cached() {
+        return new ToolPolicy(cost, timeout, true);
+    }
+}
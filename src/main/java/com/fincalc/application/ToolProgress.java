@@ -0,0 +1,14 @@
+package com.fincalc.application;
+
+/**
+ * Receives progress from long-running tools while they execute.
+ * Transports that can stream (Streamable HTTP) forward each report to the
+ * client as an MCP progress notification; the message may carry a partial result.
+ */
+@FunctionalInterface
+public interface ToolProgress {
+
+    ToolProgress NONE = (progress, total, message) -> {};
+
+    void report(long progress, long total, String message);
+}
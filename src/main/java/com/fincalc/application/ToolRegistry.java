@@ -0,0 +1,78 @@
+package com.fincalc.application;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable index of every MCP tool, built once from the {@link ToolCatalog} beans.
+ * Dispatch, rate limiting, concurrency lanes and timeouts all look tools up here.
+ */
+@Component
+public class ToolRegistry {
+
+    private final Map<String, ToolDescriptor<?, ?>> byName;
+    private final List<ToolDescriptor<?, ?>> descriptors;
+    private final List<Map<String, Object>> definitions;
+
+    public ToolRegistry(List<ToolCatalog> catalogs) {
+        Map<String, ToolDescriptor<?, ?>> index = new LinkedHashMap<>();
+        for (ToolCatalog catalog : catalogs) {
+            for (ToolDescriptor<?, ?> descriptor : catalog.tools()) {
+                if (index.putIfAbsent(descriptor.name(), descriptor) != null) {
+                    throw new IllegalStateException("Duplicate MCP tool: " + descriptor.name());
+                }
+            }
+        }
+        this.byName = Map.copyOf(index);
+        this.descriptors = List.copyOf(index.values());
+        List<Map<String, Object>> defs = new ArrayList<>(descriptors.size());
+        descriptors.forEach(d -> defs.add(d.definition()));
+        this.definitions = List.copyOf(defs);
+    }
+
+    /**
+     * The descriptor for a tool, or null if there is no such tool.
+     */
+    public ToolDescriptor<?, ?> find(String toolName) {
+        return toolName != null ? byName.get(toolName) : null;
+    }
+
+    /**
+     * The descriptor for a tool.
+     *
+     * @throws IllegalArgumentException if there is no such tool
+     */
+    public ToolDescriptor<?, ?> get(String toolName) {
+        ToolDescriptor<?, ?> descriptor = find(toolName);
+        if (descriptor == null) {
+            throw new IllegalArgumentException("Unknown tool: " + toolName);
+        }
+        return descriptor;
+    }
+
+    /**
+     * Declared policy of a tool; unknown tools and non-tool requests get the default.
+     */
+    public ToolPolicy policyOf(String toolName) {
+        ToolDescriptor<?, ?> descriptor = find(toolName);
+        return descriptor != null ? descriptor.policy() : ToolPolicy.DEFAULT;
+    }
+
+    /**
+     * All tools in registration order.
+     */
+    public List<ToolDescriptor<?, ?>> descriptors() {
+        return descriptors;
+    }
+
+    /**
+     * Tool definitions as listed by tools/list, in registration order.
+     */
+    public List<Map<String, Object>> definitions() {
+        return definitions;
+    }
+}
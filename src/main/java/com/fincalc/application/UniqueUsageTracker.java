@@ -0,0 +1,219 @@
+package com.fincalc.application;
+
+import com.fincalc.adapter.out.persistence.AnalyticsSketchStore;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Daily, weekly and monthly unique users and conversations, overall and per tool and country.
+ *
+ * Each tool call adds the caller to HyperLogLog sketches held in memory for the
+ * current day. A periodic flush merges them into the analytics_sketches rows, so
+ * memory holds at most one flush interval of sketches. Weekly and monthly figures
+ * are the merge of the daily sketches in the window, never a distinct scan.
+ *
+ * A sketch in the pending map is only touched inside the map's per-key compute,
+ * which serialises recording, flushing and reading it.
+ */
+@Slf4j
+@Service
+public class UniqueUsageTracker {
+
+    public static final String USERS = "users";
+    public static final String CONVERSATIONS = "conversations";
+
+    static final String ALL = "all";
+    static final String TOOL = "tool:";
+    static final String COUNTRY = "country:";
+
+    private static final Pattern COUNTRY_CODE = Pattern.compile("[A-Z]{2}");
+
+    /**
+     * Distinct counts for the day so far, the last 7 days and the last 30 days.
+     */
+    public record Uniques(long daily, long weekly, long monthly) {}
+
+    private record Key(LocalDate date, String metric, String dimension) {}
+
+    private final AnalyticsSketchStore store;
+    private final int retentionDays;
+    private final Supplier<LocalDate> today;
+    private final Map<Key, HyperLogLog> pending = new ConcurrentHashMap<>();
+    private volatile LocalDate purgedOn;
+
+    @Autowired
+    public UniqueUsageTracker(AnalyticsSketchStore store,
+                              @Value("${fincalc.analytics.sketches.retention-days:400}") int retentionDays) {
+        this(store, retentionDays, LocalDate::now);
+    }
+
+    UniqueUsageTracker(AnalyticsSketchStore store, int retentionDays, Supplier<LocalDate> today) {
+        this.store = store;
+        this.retentionDays = retentionDays;
+        this.today = today;
+    }
+
+    /**
+     * Count a tool call towards its caller's and conversation's uniques. Either id may be null.
+     */
+    public void record(String toolName, String countryCode, String userId, String conversationId) {
+        LocalDate date = today.get();
+        String country = countryCode != null ? countryCode.trim().toUpperCase(Locale.ROOT) : null;
+        // Only well-formed codes get a dimension, so header values cannot grow the key space
+        boolean hasCountry = country != null && COUNTRY_CODE.matcher(country).matches();
+
+        for (String metric : List.of(USERS, CONVERSATIONS)) {
+            String id = metric.equals(USERS) ? userId : conversationId;
+            if (id == null || id.isBlank()) {
+                continue;
+            }
+            long hash = HyperLogLog.hash(id);
+            add(new Key(date, metric, ALL), hash);
+            add(new Key(date, metric, TOOL + toolName), hash);
+            if (hasCountry) {
+                add(new Key(date, metric, COUNTRY + country), hash);
+            }
+        }
+    }
+
+    /**
+     * Overall uniques for a metric.
+     */
+    public Uniques uniques(String metric) {
+        LocalDate end = today.get();
+        HyperLogLog day = new HyperLogLog();
+        HyperLogLog week = new HyperLogLog();
+        HyperLogLog month = new HyperLogLog();
+        for (AnalyticsSketchStore.Row row : store.find(metric, ALL, end.minusDays(29), end)) {
+            if (ALL.equals(row.dimension())) {
+                addToWindows(row.date(), row.sketch(), end, day, week, month);
+            }
+        }
+        pending.forEach((key, ignored) -> {
+            if (key.metric().equals(metric) && key.dimension().equals(ALL)) {
+                pending.computeIfPresent(key, (k, sketch) -> {
+                    addToWindows(k.date(), sketch, end, day, week, month);
+                    return sketch;
+                });
+            }
+        });
+        return new Uniques(day.estimate(), week.estimate(), month.estimate());
+    }
+
+    /**
+     * Uniques over the last 7 days for each tool, largest first.
+     */
+    public Map<String, Long> weeklyByTool(String metric) {
+        return weeklyBy(metric, TOOL);
+    }
+
+    /**
+     * Uniques over the last 7 days for each country, largest first.
+     */
+    public Map<String, Long> weeklyByCountry(String metric) {
+        return weeklyBy(metric, COUNTRY);
+    }
+
+    /**
+     * Merge pending sketches into the store. Sketches that fail to save are kept for the next flush.
+     */
+    @Scheduled(fixedDelayString = "${fincalc.analytics.sketches.flush-interval-ms:60000}")
+    public void flush() {
+        for (Key key : new ArrayList<>(pending.keySet())) {
+            HyperLogLog sketch = pending.remove(key);
+            if (sketch == null) {
+                continue;
+            }
+            try {
+                store.merge(key.date(), key.metric(), key.dimension(), sketch);
+            } catch (DataAccessException e) {
+                log.warn("Failed to save {} sketch for {} on {}: {}", key.metric(), key.dimension(), key.date(), e.getMessage());
+                pending.merge(key, sketch, (current, failed) -> {
+                    current.merge(failed);
+                    return current;
+                });
+            }
+        }
+        purgeExpired();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void add(Key key, long hash) {
+        pending.compute(key, (k, sketch) -> {
+            HyperLogLog target = sketch != null ? sketch : new HyperLogLog();
+            target.add(hash);
+            return target;
+        });
+    }
+
+    private Map<String, Long> weeklyBy(String metric, String prefix) {
+        LocalDate end = today.get();
+        LocalDate start = end.minusDays(6);
+        Map<String, HyperLogLog> unions = new HashMap<>();
+        for (AnalyticsSketchStore.Row row : store.find(metric, prefix, start, end)) {
+            unions.computeIfAbsent(row.dimension(), d -> new HyperLogLog()).merge(row.sketch());
+        }
+        pending.forEach((key, ignored) -> {
+            if (key.metric().equals(metric) && key.dimension().startsWith(prefix) && !key.date().isBefore(start)) {
+                pending.computeIfPresent(key, (k, sketch) -> {
+                    unions.computeIfAbsent(k.dimension(), d -> new HyperLogLog()).merge(sketch);
+                    return sketch;
+                });
+            }
+        });
+
+        List<Map.Entry<String, Long>> estimates = new ArrayList<>();
+        unions.forEach((dimension, sketch) ->
+                estimates.add(Map.entry(dimension.substring(prefix.length()), sketch.estimate())));
+        estimates.sort(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+
+        Map<String, Long> result = new LinkedHashMap<>();
+        estimates.forEach(e -> result.put(e.getKey(), e.getValue()));
+        return result;
+    }
+
+    private static void addToWindows(LocalDate date, HyperLogLog sketch, LocalDate end,
+                                     HyperLogLog day, HyperLogLog week, HyperLogLog month) {
+        if (date.isAfter(end) || date.isBefore(end.minusDays(29))) {
+            return;
+        }
+        month.merge(sketch);
+        if (!date.isBefore(end.minusDays(6))) {
+            week.merge(sketch);
+        }
+        if (date.equals(end)) {
+            day.merge(sketch);
+        }
+    }
+
+    private void purgeExpired() {
+        LocalDate date = today.get();
+        if (date.equals(purgedOn)) {
+            return;
+        }
+        try {
+            int deleted = store.deleteBefore(date.minusDays(retentionDays));
+            if (deleted > 0) {
+                log.info("Deleted {} analytics sketches older than {} days", deleted, retentionDays);
+            }
+            purgedOn = date;
+        } catch (DataAccessException e) {
+            log.warn("Failed to delete old analytics sketches: {}", e.getMessage());
+        }
+    }
+}
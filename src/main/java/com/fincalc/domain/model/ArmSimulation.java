@@ -0,0 +1,358 @@
+package com.fincalc.domain.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Domain model for adjustable-rate mortgage simulations.
+ * After the initial fixed period the rate resets to index + margin at every
+ * adjustment date, limited by the initial, periodic and lifetime caps, and the
+ * payment is repriced to amortize the remaining balance over the remaining term.
+ *
+ * Index paths hold one index value per adjustment date; the last value is
+ * carried forward when a path is shorter than the loan.
+ */
+public record ArmSimulation(
+        BigDecimal principal,
+        BigDecimal initialRate,
+        int years,
+        Terms terms,
+        BigDecimal initialPayment,
+        BigDecimal fixedRateTotalInterest,
+        List<Outcome> outcomes
+) {
+    public static final int MAX_SCENARIOS = 50;
+    private static final int MONTHS_PER_YEAR = 12;
+
+    /**
+     * ARM terms, e.g. a 5/1 ARM with 2/2/5 caps has a 5-year fixed period,
+     * 12-month adjustments, a 2 point initial and periodic cap and a 5 point
+     * lifetime cap. The rate never falls below the margin (or the initial
+     * rate, if that is lower).
+     */
+    public record Terms(
+            int fixedYears,
+            int adjustmentMonths,
+            BigDecimal margin,
+            BigDecimal initialCap,
+            BigDecimal periodicCap,
+            BigDecimal lifetimeCap
+    ) {}
+
+    /**
+     * A named index path, one value (in percent) per adjustment date.
+     */
+    public record Scenario(String name, List<BigDecimal> indexPath) {
+        public Scenario {
+            if (name == null || name.isBlank()) name = "scenario";
+            indexPath = indexPath == null ? List.of() : List.copyOf(indexPath);
+        }
+    }
+
+    /**
+     * Rate and repriced payment taking effect at the given payment number.
+     */
+    public record Adjustment(int month, BigDecimal rate, BigDecimal payment) {}
+
+    /**
+     * Result of running the loan to maturity along one index path.
+     */
+    public record Outcome(
+            String name,
+            BigDecimal maxRate,
+            BigDecimal finalRate,
+            BigDecimal maxPayment,
+            BigDecimal totalPaid,
+            BigDecimal totalInterest,
+            List<Adjustment> adjustments
+    ) {}
+
+    /**
+     * Summary of many paths evaluated in bulk, stored as parallel primitive
+     * arrays indexed by path so large batches allocate no per-month objects.
+     */
+    public record Paths(
+            long[] totalInterestCents,
+            long[] totalPaidCents,
+            long[] maxPaymentCents,
+            double[] maxRate,
+            double[] finalRate
+    ) {
+        public int size() {
+            return totalInterestCents.length;
+        }
+    }
+
+    public static ArmSimulation simulate(
+            BigDecimal principal,
+            BigDecimal initialRate,
+            int years,
+            Terms terms,
+            List<Scenario> scenarios
+    ) {
+        return simulate(principal, initialRate, years, terms, scenarios, Deadline.NONE);
+    }
+
+    /**
+     * Simulate, checking the deadline before each scenario is walked.
+     */
+    public static ArmSimulation simulate(
+            BigDecimal principal,
+            BigDecimal initialRate,
+            int years,
+            Terms terms,
+            List<Scenario> scenarios,
+            Deadline deadline
+    ) {
+        LoanCalculation loan = LoanCalculation.calculate(principal, initialRate, years);
+        Pricing pricing = Pricing.of(terms, initialRate, loan.totalPayments());
+        validateScenarios(scenarios);
+
+        long principalCents = Cents.of(principal);
+        long paymentCents = Cents.of(loan.monthlyPayment());
+        double[][] indexPaths = toIndexPaths(scenarios);
+        Paths paths = allocate(scenarios.size());
+
+        // Per-scenario adjustment schedules are filled in place by the walk
+        int adjustments = pricing.adjustments();
+        double[][] ratesOut = new double[scenarios.size()][adjustments];
+        long[][] paymentsOut = new long[scenarios.size()][adjustments];
+
+        for (int i = 0; i < scenarios.size(); i++) {
+            deadline.check();
+            walk(principalCents, paymentCents, pricing, indexPaths[i], paths, i, ratesOut[i], paymentsOut[i]);
+        }
+
+        List<Outcome> outcomes = new ArrayList<>(scenarios.size());
+        for (int i = 0; i < scenarios.size(); i++) {
+            List<Adjustment> schedule = new ArrayList<>(adjustments);
+            for (int k = 0; k < adjustments; k++) {
+                schedule.add(new Adjustment(pricing.adjustmentMonth(k), rate(ratesOut[i][k]), Cents.toAmount(paymentsOut[i][k])));
+            }
+            outcomes.add(new Outcome(
+                    scenarios.get(i).name(),
+                    rate(paths.maxRate()[i]),
+                    rate(paths.finalRate()[i]),
+                    Cents.toAmount(paths.maxPaymentCents()[i]),
+                    Cents.toAmount(paths.totalPaidCents()[i]),
+                    Cents.toAmount(paths.totalInterestCents()[i]),
+                    List.copyOf(schedule)
+            ));
+        }
+
+        return new ArmSimulation(
+                principal, initialRate, years, terms, loan.monthlyPayment(),
+                loan.totalInterest(), List.copyOf(outcomes)
+        );
+    }
+
+    public static Paths evaluate(
+            BigDecimal principal,
+            BigDecimal initialRate,
+            int years,
+            Terms terms,
+            double[][] indexPaths
+    ) {
+        return evaluate(principal, initialRate, years, terms, indexPaths, Deadline.NONE);
+    }
+
+    /**
+     * Evaluate many index paths at once, e.g. generated rate scenarios.
+     * Only per-path totals are kept. Paths run one after another on the calling
+     * thread, checking the deadline before each.
+     */
+    public static Paths evaluate(
+            BigDecimal principal,
+            BigDecimal initialRate,
+            int years,
+            Terms terms,
+            double[][] indexPaths,
+            Deadline deadline
+    ) {
+        LoanCalculation loan = LoanCalculation.calculate(principal, initialRate, years);
+        Pricing pricing = Pricing.of(terms, initialRate, loan.totalPayments());
+        if (indexPaths == null || indexPaths.length == 0) {
+            throw new IllegalArgumentException("At least one index path is required");
+        }
+
+        long principalCents = Cents.of(principal);
+        long paymentCents = Cents.of(loan.monthlyPayment());
+        Paths paths = allocate(indexPaths.length);
+        for (int i = 0; i < indexPaths.length; i++) {
+            deadline.check();
+            walk(principalCents, paymentCents, pricing, indexPaths[i], paths, i, null, null);
+        }
+        return paths;
+    }
+
+    /**
+     * Expand an annual index history into one value per adjustment date.
+     */
+    public static List<BigDecimal> perAdjustment(List<BigDecimal> annualIndex, int adjustmentMonths) {
+        if (annualIndex == null || annualIndex.isEmpty() || adjustmentMonths <= 0) {
+            return List.of();
+        }
+        int count = Math.max(1, annualIndex.size() * MONTHS_PER_YEAR / adjustmentMonths);
+        List<BigDecimal> path = new ArrayList<>(count);
+        for (int k = 0; k < count; k++) {
+            path.add(annualIndex.get(Math.min(annualIndex.size() - 1, k * adjustmentMonths / MONTHS_PER_YEAR)));
+        }
+        return path;
+    }
+
+    /**
+     * Walk the loan to maturity along one index path, writing its slot of the result arrays.
+     */
+    private static void walk(long principalCents, long initialPaymentCents, Pricing pricing, double[] index,
+                             Paths out, int path, double[] ratesOut, long[] paymentsOut) {
+        int months = pricing.months();
+        long balance = principalCents;
+        long payment = initialPaymentCents;
+        double rate = pricing.initialRate();
+        double monthlyRate = rate / (100.0 * MONTHS_PER_YEAR);
+        double maxRate = rate;
+        long maxPayment = payment;
+        long totalInterest = 0;
+        long totalPaid = 0;
+        int adjustment = 0;
+
+        for (int month = 1; month <= months && balance > 0; month++) {
+            if (adjustment < pricing.adjustments() && month == pricing.adjustmentMonth(adjustment)) {
+                rate = pricing.reset(rate, indexAt(index, adjustment, rate - pricing.margin()), adjustment);
+                monthlyRate = rate / (100.0 * MONTHS_PER_YEAR);
+                payment = LoanCalculation.paymentCents(balance, monthlyRate, months - month + 1);
+                if (ratesOut != null) {
+                    ratesOut[adjustment] = rate;
+                    paymentsOut[adjustment] = payment;
+                }
+                maxRate = Math.max(maxRate, rate);
+                maxPayment = Math.max(maxPayment, payment);
+                adjustment++;
+            }
+
+            long interest = Math.round(balance * monthlyRate);
+            long due = balance + interest;
+            // Final scheduled payment absorbs any rounding residual
+            long pay = (payment >= due || month == months) ? due : payment;
+            balance = due - pay;
+            totalInterest += interest;
+            totalPaid += pay;
+        }
+
+        out.totalInterestCents()[path] = totalInterest;
+        out.totalPaidCents()[path] = totalPaid;
+        out.maxPaymentCents()[path] = maxPayment;
+        out.maxRate()[path] = maxRate;
+        out.finalRate()[path] = rate;
+    }
+
+    private static double indexAt(double[] index, int adjustment, double fallback) {
+        if (index.length == 0) return fallback;
+        return index[Math.min(adjustment, index.length - 1)];
+    }
+
+    /**
+     * Terms flattened to primitives once per simulation.
+     */
+    private record Pricing(
+            double initialRate,
+            int months,
+            int fixedMonths,
+            int adjustmentMonths,
+            double margin,
+            double initialCap,
+            double periodicCap,
+            double ceiling,
+            double floor
+    ) {
+        static Pricing of(Terms terms, BigDecimal initialRate, int months) {
+            validateTerms(terms, months);
+            double initial = initialRate.doubleValue();
+            double margin = terms.margin().doubleValue();
+            return new Pricing(
+                    initial,
+                    months,
+                    terms.fixedYears() * MONTHS_PER_YEAR,
+                    terms.adjustmentMonths(),
+                    margin,
+                    terms.initialCap().doubleValue(),
+                    terms.periodicCap().doubleValue(),
+                    initial + terms.lifetimeCap().doubleValue(),
+                    Math.min(margin, initial)
+            );
+        }
+
+        int adjustments() {
+            return Math.max(0, (months - fixedMonths + adjustmentMonths - 1) / adjustmentMonths);
+        }
+
+        int adjustmentMonth(int adjustment) {
+            return fixedMonths + adjustment * adjustmentMonths + 1;
+        }
+
+        double reset(double current, double index, int adjustment) {
+            double cap = adjustment == 0 ? initialCap : periodicCap;
+            double target = index + margin;
+            double capped = Math.max(current - cap, Math.min(current + cap, target));
+            return Math.max(floor, Math.min(ceiling, capped));
+        }
+    }
+
+    private static void validateTerms(Terms terms, int months) {
+        if (terms == null) {
+            throw new IllegalArgumentException("ARM terms are required");
+        }
+        if (terms.fixedYears() < 1 || terms.fixedYears() * MONTHS_PER_YEAR >= months) {
+            throw new IllegalArgumentException("Initial fixed period must be at least 1 year and shorter than the loan term");
+        }
+        if (terms.adjustmentMonths() < 1 || terms.adjustmentMonths() > 60) {
+            throw new IllegalArgumentException("Adjustment period must be between 1 and 60 months");
+        }
+        for (BigDecimal value : new BigDecimal[]{terms.margin(), terms.initialCap(), terms.periodicCap(), terms.lifetimeCap()}) {
+            if (value == null || value.compareTo(BigDecimal.ZERO) < 0) {
+                throw new IllegalArgumentException("Margin and caps must be non-negative");
+            }
+        }
+    }
+
+    private static void validateScenarios(List<Scenario> scenarios) {
+        if (scenarios == null || scenarios.isEmpty()) {
+            throw new IllegalArgumentException("At least one index scenario is required");
+        }
+        if (scenarios.size() > MAX_SCENARIOS) {
+            throw new IllegalArgumentException("At most " + MAX_SCENARIOS + " scenarios can be compared at once");
+        }
+    }
+
+    private static double[][] toIndexPaths(List<Scenario> scenarios) {
+        double[][] paths = new double[scenarios.size()][];
+        for (int i = 0; i < paths.length; i++) {
+            List<BigDecimal> path = scenarios.get(i).indexPath();
+            paths[i] = new double[path.size()];
+            for (int k = 0; k < path.size(); k++) {
+                paths[i][k] = path.get(k).doubleValue();
+            }
+        }
+        return paths;
+    }
+
+    private static Paths allocate(int count) {
+        return new Paths(new long[count], new long[count], new long[count], new double[count], new double[count]);
+    }
+
+    private static BigDecimal rate(double value) {
+        return BigDecimal.valueOf(value).setScale(3, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * The scenario with the highest total interest.
+     */
+    public Outcome worstOutcome() {
+        return outcomes.stream()
+                .max(Comparator.comparing(Outcome::totalInterest))
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,21 @@
+package com.fincalc.domain.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Conversions between BigDecimal amounts and whole cents.
+ * Schedule simulations run on primitive longs and convert only at the edges.
+ */
+final class Cents {
+
+    private Cents() {}
+
+    static long of(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    static BigDecimal toAmount(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+}
@@ -22,12 +22,28 @@ public record CompoundInterestCalculation(
     private static final int SCALE = 2;
     private static final MathContext MC = new MathContext(15, RoundingMode.HALF_UP);
 
+    private static final int DEADLINE_CHECK_INTERVAL = 365;
+
     public static CompoundInterestCalculation calculate(
             BigDecimal principal,
             BigDecimal annualRate,
             int years,
             int compoundingFrequency,
             BigDecimal monthlyContribution
+    ) {
+        return calculate(principal, annualRate, years, compoundingFrequency, monthlyContribution, Deadline.NONE);
+    }
+
+    /**
+     * Calculate, checking the deadline while raising rates to long period counts.
+     */
+    public static CompoundInterestCalculation calculate(
+            BigDecimal principal,
+            BigDecimal annualRate,
+            int years,
+            int compoundingFrequency,
+            BigDecimal monthlyContribution,
+            Deadline deadline
     ) {
         validateInputs(principal, annualRate, years, compoundingFrequency, monthlyContribution);
 
@@ -37,7 +53,7 @@ public record CompoundInterestCalculation(
         BigDecimal ratePerPeriod = rate.divide(BigDecimal.valueOf(compoundingFrequency), MC);
         BigDecimal onePlusRate = BigDecimal.ONE.add(ratePerPeriod);
         int totalPeriods = compoundingFrequency * years;
-        BigDecimal principalFV = principal.multiply(pow(onePlusRate, totalPeriods));
+        BigDecimal principalFV = principal.multiply(pow(onePlusRate, totalPeriods, deadline));
 
         // Future value of monthly contributions
         BigDecimal contributionFV = BigDecimal.ZERO;
@@ -45,7 +61,7 @@ public record CompoundInterestCalculation(
             BigDecimal monthlyRate = rate.divide(BigDecimal.valueOf(12), MC);
             int totalMonths = years * 12;
             BigDecimal onePlusMonthlyRate = BigDecimal.ONE.add(monthlyRate);
-            BigDecimal fvFactor = pow(onePlusMonthlyRate, totalMonths).subtract(BigDecimal.ONE)
+            BigDecimal fvFactor = pow(onePlusMonthlyRate, totalMonths, deadline).subtract(BigDecimal.ONE)
                     .divide(monthlyRate, MC);
             contributionFV = monthlyContribution.multiply(fvFactor);
         }
@@ -56,7 +72,7 @@ public record CompoundInterestCalculation(
         BigDecimal totalInterestEarned = futureValue.subtract(totalContributions).setScale(SCALE, RoundingMode.HALF_UP);
 
         // Effective Annual Rate: (1 + r/n)^n - 1
-        BigDecimal effectiveRate = pow(onePlusRate, compoundingFrequency)
+        BigDecimal effectiveRate = pow(onePlusRate, compoundingFrequency, deadline)
                 .subtract(BigDecimal.ONE)
                 .multiply(BigDecimal.valueOf(100))
                 .setScale(SCALE, RoundingMode.HALF_UP);
@@ -67,10 +83,13 @@ public record CompoundInterestCalculation(
         );
     }
 
-    private static BigDecimal pow(BigDecimal base, int exponent) {
+    private static BigDecimal pow(BigDecimal base, int exponent, Deadline deadline) {
         if (exponent == 0) return BigDecimal.ONE;
         BigDecimal result = BigDecimal.ONE;
         for (int i = 0; i < exponent; i++) {
+            if (i % DEADLINE_CHECK_INTERVAL == 0) {
+                deadline.check();
+            }
             result = result.multiply(base, MC);
         }
         return result;
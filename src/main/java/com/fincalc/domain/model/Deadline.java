@@ -0,0 +1,113 @@
+package com.fincalc.domain.model;
+
+import java.time.Duration;
+
+/**
+ * Time budget for one calculation.
+ *
+ * Long-running engines call {@link #check()} from their loops and stop with an
+ * {@link ExceededException} once the budget is spent or the caller cancels, so
+ * abandoned work does not keep a thread busy. Checks read the monotonic clock;
+ * hot loops should only check every so many iterations.
+ *
+ * A deadline may have a parent, e.g. the connection a request arrived on:
+ * cancelling or running out the parent stops every child with it.
+ */
+public final class Deadline {
+
+    /**
+     * A deadline that never expires and cannot be cancelled.
+     */
+    public static final Deadline NONE = new Deadline(null, null, false);
+
+    private final Duration budget;
+    private final long expiresAtNanos;
+    private final Deadline parent;
+    private final boolean cancellable;
+    private volatile boolean cancelled;
+
+    private Deadline(Duration budget, Deadline parent, boolean cancellable) {
+        this.budget = budget;
+        this.expiresAtNanos = budget != null ? System.nanoTime() + budget.toNanos() : 0;
+        this.parent = parent;
+        this.cancellable = cancellable;
+    }
+
+    /**
+     * Thrown from {@link #check()} once the deadline has passed or was cancelled.
+     */
+    public static class ExceededException extends RuntimeException {
+        private final boolean cancelled;
+
+        ExceededException(String message, boolean cancelled) {
+            super(message);
+            this.cancelled = cancelled;
+        }
+
+        public boolean cancelled() {
+            return cancelled;
+        }
+    }
+
+    public static Deadline after(Duration budget) {
+        return NONE.child(budget);
+    }
+
+    /**
+     * A deadline without a time budget that can still be cancelled.
+     */
+    public static Deadline cancellable() {
+        return new Deadline(null, null, true);
+    }
+
+    /**
+     * A deadline with its own budget that also stops when this one does.
+     */
+    public Deadline child(Duration budget) {
+        if (budget == null || budget.isNegative()) {
+            throw new IllegalArgumentException("Deadline budget must be zero or positive");
+        }
+        return new Deadline(budget, this == NONE ? null : this, true);
+    }
+
+    public Duration budget() {
+        return budget;
+    }
+
+    public boolean isCancelled() {
+        return cancelled || (parent != null && parent.isCancelled());
+    }
+
+    public boolean isExpired() {
+        return isCancelled()
+                || (budget != null && System.nanoTime() - expiresAtNanos >= 0)
+                || (parent != null && parent.isExpired());
+    }
+
+    /**
+     * Stop the calculation, and any child deadlines, at the next check.
+     */
+    public void cancel() {
+        if (cancellable) {
+            cancelled = true;
+        }
+    }
+
+    /**
+     * Throw if the deadline has passed or was cancelled.
+     */
+    public void check() {
+        if (this == NONE) {
+            return;
+        }
+        if (isCancelled()) {
+            throw new ExceededException("Calculation was cancelled", true);
+        }
+        if (budget != null && System.nanoTime() - expiresAtNanos >= 0) {
+            throw new ExceededException("Calculation exceeded its time budget of " + budget.toMillis() + " ms", false);
+        }
+        if (parent != null) {
+            parent.check();
+        }
+    }
+}
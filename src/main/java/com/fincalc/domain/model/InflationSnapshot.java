@@ -0,0 +1,102 @@
+package com.fincalc.domain.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Inflation assumptions for one country, captured from a CPI/inflation series.
+ * The forward path starts at the latest annual observation and glides to the
+ * series average over {@value #GLIDE_YEARS} years. Deflation factors for every
+ * projection year are computed once when the snapshot is built.
+ */
+public final class InflationSnapshot {
+
+    public static final int MAX_YEARS = 100;
+    static final int GLIDE_YEARS = 5;
+
+    private final String countryCode;
+    private final String source;
+    private final BigDecimal latestRate;
+    private final BigDecimal longRunRate;
+    private final Instant capturedAt;
+    private final double[] deflators;
+
+    private InflationSnapshot(String countryCode, String source, BigDecimal latestRate, BigDecimal longRunRate,
+                              Instant capturedAt, double[] deflators) {
+        this.countryCode = countryCode;
+        this.source = source;
+        this.latestRate = latestRate;
+        this.longRunRate = longRunRate;
+        this.capturedAt = capturedAt;
+        this.deflators = deflators;
+    }
+
+    /**
+     * Build a snapshot from annual inflation rates in percent, oldest first.
+     */
+    public static InflationSnapshot of(String countryCode, String source, List<BigDecimal> annualRates, Instant capturedAt) {
+        if (annualRates == null || annualRates.isEmpty()) {
+            throw new IllegalArgumentException("At least one inflation observation is required");
+        }
+
+        double latest = annualRates.get(annualRates.size() - 1).doubleValue();
+        double longRun = annualRates.stream().mapToDouble(BigDecimal::doubleValue).average().orElse(latest);
+
+        double[] deflators = new double[MAX_YEARS + 1];
+        deflators[0] = 1.0;
+        for (int year = 1; year <= MAX_YEARS; year++) {
+            double rate = year >= GLIDE_YEARS
+                    ? longRun
+                    : latest + (longRun - latest) * (year - 1) / (GLIDE_YEARS - 1);
+            deflators[year] = deflators[year - 1] / (1 + rate / 100.0);
+        }
+
+        return new InflationSnapshot(
+                countryCode, source,
+                BigDecimal.valueOf(latest).setScale(2, RoundingMode.HALF_UP),
+                BigDecimal.valueOf(longRun).setScale(2, RoundingMode.HALF_UP),
+                capturedAt, deflators
+        );
+    }
+
+    /**
+     * Factor converting a nominal amount at the end of the given year into today's money.
+     */
+    public double deflator(int year) {
+        if (year < 0 || year > MAX_YEARS) {
+            throw new IllegalArgumentException("Year must be between 0 and " + MAX_YEARS);
+        }
+        return deflators[year];
+    }
+
+    /**
+     * Compound average annual inflation over the first given number of years, in percent.
+     */
+    public BigDecimal averageRate(int years) {
+        if (years <= 0) return BigDecimal.ZERO;
+        double average = Math.pow(1 / deflator(years), 1.0 / years) - 1;
+        return BigDecimal.valueOf(average * 100).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    public String countryCode() {
+        return countryCode;
+    }
+
+    public String source() {
+        return source;
+    }
+
+    public BigDecimal latestRate() {
+        return latestRate;
+    }
+
+    public BigDecimal longRunRate() {
+        return longRunRate;
+    }
+
+    public Instant capturedAt() {
+        return capturedAt;
+    }
+}
@@ -62,6 +62,17 @@ public record LoanCalculation(
         }
     }
 
+    /**
+     * Level payment in cents that amortizes a balance over the given number of months.
+     * Used by schedule simulations that reprice the payment mid-loan.
+     */
+    static long paymentCents(long balanceCents, double monthlyRate, int months) {
+        if (monthlyRate == 0) {
+            return Math.round(balanceCents / (double) months);
+        }
+        return Math.round(balanceCents * monthlyRate / (1 - Math.pow(1 + monthlyRate, -months)));
+    }
+
     public int totalPayments() {
         return years * MONTHS_PER_YEAR;
     }
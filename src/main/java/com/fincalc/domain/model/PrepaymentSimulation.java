@@ -0,0 +1,200 @@
+package com.fincalc.domain.model;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Domain model for prepayment and extra-payment simulations.
+ * Walks the amortization schedule month by month in whole cents so that
+ * extra monthly payments, lump sums and biweekly plans can be compared
+ * against the standard schedule of a {@link LoanCalculation}.
+ */
+public record PrepaymentSimulation(
+        BigDecimal principal,
+        BigDecimal annualRate,
+        int years,
+        BigDecimal monthlyPayment,
+        int scheduledPayments,
+        BigDecimal baselineTotalInterest,
+        List<Outcome> outcomes
+) {
+    public static final int MAX_STRATEGIES = 20;
+    private static final int MONTHS_PER_YEAR = 12;
+    private static final int[] NO_MONTHS = new int[0];
+    private static final long[] NO_CENTS = new long[0];
+
+    /**
+     * One-off extra payment applied in the given month (1-based).
+     */
+    public record LumpSum(int month, BigDecimal amount) {}
+
+    /**
+     * A prepayment plan to compare against the standard schedule.
+     * A biweekly plan pays half the monthly payment every two weeks, which
+     * amounts to one extra monthly payment per year (1/12 extra each month).
+     */
+    public record Strategy(String name, BigDecimal extraMonthly, List<LumpSum> lumpSums, boolean biweekly) {
+        public Strategy {
+            if (name == null || name.isBlank()) name = "strategy";
+            if (extraMonthly == null) extraMonthly = BigDecimal.ZERO;
+            lumpSums = lumpSums == null ? List.of() : List.copyOf(lumpSums);
+        }
+    }
+
+    /**
+     * Result of running a single strategy to payoff.
+     */
+    public record Outcome(
+            String name,
+            int payoffMonths,
+            int monthsSaved,
+            BigDecimal totalPaid,
+            BigDecimal totalInterest,
+            BigDecimal interestSaved
+    ) {}
+
+    public static PrepaymentSimulation simulate(
+            BigDecimal principal,
+            BigDecimal annualRate,
+            int years,
+            List<Strategy> strategies
+    ) {
+        return simulate(principal, annualRate, years, strategies, Deadline.NONE);
+    }
+
+    /**
+     * Simulate, checking the deadline before each strategy is walked.
+     */
+    public static PrepaymentSimulation simulate(
+            BigDecimal principal,
+            BigDecimal annualRate,
+            int years,
+            List<Strategy> strategies,
+            Deadline deadline
+    ) {
+        LoanCalculation loan = LoanCalculation.calculate(principal, annualRate, years);
+        validateStrategies(strategies, loan.totalPayments());
+
+        long principalCents = Cents.of(principal);
+        long paymentCents = Cents.of(loan.monthlyPayment());
+        double monthlyRate = annualRate.doubleValue() / (100.0 * MONTHS_PER_YEAR);
+        int scheduled = loan.totalPayments();
+
+        Walk baseline = walk(principalCents, paymentCents, monthlyRate, scheduled, 0L, NO_MONTHS, NO_CENTS);
+
+        // Each walk is a few hundred steps; forking them costs more than it saves
+        List<Outcome> outcomes = new ArrayList<>(strategies.size());
+        for (Strategy strategy : strategies) {
+            deadline.check();
+            outcomes.add(run(strategy, principalCents, paymentCents, monthlyRate, scheduled, baseline));
+        }
+
+        return new PrepaymentSimulation(
+                principal, annualRate, years, loan.monthlyPayment(), scheduled,
+                Cents.toAmount(baseline.totalInterestCents()), List.copyOf(outcomes)
+        );
+    }
+
+    private static Outcome run(Strategy strategy, long principalCents, long paymentCents,
+                               double monthlyRate, int scheduled, Walk baseline) {
+        long extraCents = Cents.of(strategy.extraMonthly());
+        if (strategy.biweekly()) {
+            extraCents += Math.round(paymentCents / (double) MONTHS_PER_YEAR);
+        }
+
+        // Flatten lump sums into month-sorted primitive arrays for the hot loop
+        LumpSum[] sorted = strategy.lumpSums().toArray(LumpSum[]::new);
+        Arrays.sort(sorted, Comparator.comparingInt(LumpSum::month));
+        int[] lumpMonths = new int[sorted.length];
+        long[] lumpCents = new long[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            lumpMonths[i] = sorted[i].month();
+            lumpCents[i] = Cents.of(sorted[i].amount());
+        }
+
+        Walk walk = walk(principalCents, paymentCents, monthlyRate, scheduled, extraCents, lumpMonths, lumpCents);
+
+        return new Outcome(
+                strategy.name(),
+                walk.payoffMonths(),
+                baseline.payoffMonths() - walk.payoffMonths(),
+                Cents.toAmount(walk.totalPaidCents()),
+                Cents.toAmount(walk.totalInterestCents()),
+                Cents.toAmount(baseline.totalInterestCents() - walk.totalInterestCents())
+        );
+    }
+
+    /**
+     * Walk the schedule month by month until the balance reaches zero.
+     * The loop works on primitive cents only and stops at early payoff.
+     */
+    static Walk walk(long principalCents, long paymentCents, double monthlyRate, int scheduled,
+                     long extraCents, int[] lumpMonths, long[] lumpCents) {
+        long balance = principalCents;
+        long totalInterest = 0;
+        long totalPaid = 0;
+        int lumpIndex = 0;
+        int month = 0;
+
+        while (balance > 0 && month < scheduled) {
+            month++;
+            long interest = Math.round(balance * monthlyRate);
+            long due = balance + interest;
+
+            long payment = paymentCents + extraCents;
+            while (lumpIndex < lumpMonths.length && lumpMonths[lumpIndex] <= month) {
+                if (lumpMonths[lumpIndex] == month) {
+                    payment += lumpCents[lumpIndex];
+                }
+                lumpIndex++;
+            }
+
+            // Final scheduled payment absorbs any rounding residual
+            if (payment >= due || month == scheduled) {
+                payment = due;
+            }
+
+            balance = due - payment;
+            totalInterest += interest;
+            totalPaid += payment;
+        }
+
+        return new Walk(month, totalInterest, totalPaid);
+    }
+
+    record Walk(int payoffMonths, long totalInterestCents, long totalPaidCents) {}
+
+    private static void validateStrategies(List<Strategy> strategies, int scheduled) {
+        if (strategies == null || strategies.isEmpty()) {
+            throw new IllegalArgumentException("At least one prepayment strategy is required");
+        }
+        if (strategies.size() > MAX_STRATEGIES) {
+            throw new IllegalArgumentException("At most " + MAX_STRATEGIES + " strategies can be compared at once");
+        }
+        for (Strategy strategy : strategies) {
+            if (strategy.extraMonthly().compareTo(BigDecimal.ZERO) < 0) {
+                throw new IllegalArgumentException("Extra monthly payment must be non-negative");
+            }
+            for (LumpSum lumpSum : strategy.lumpSums()) {
+                if (lumpSum.amount() == null || lumpSum.amount().compareTo(BigDecimal.ZERO) < 0) {
+                    throw new IllegalArgumentException("Lump sum amount must be non-negative");
+                }
+                if (lumpSum.month() < 1 || lumpSum.month() > scheduled) {
+                    throw new IllegalArgumentException("Lump sum month must be between 1 and " + scheduled);
+                }
+            }
+        }
+    }
+
+    /**
+     * The strategy that saves the most interest.
+     */
+    public Outcome bestOutcome() {
+        return outcomes.stream()
+                .max(Comparator.comparing(Outcome::interestSaved))
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,44 @@
+package com.fincalc.domain.model;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Immutable snapshot of market rates held in memory by the rate adapter.
+ * Readers get a consistent set of rates without calling the rate source.
+ * Index histories are annual averages, oldest first.
+ */
+public record RateSnapshot(
+        BigDecimal mortgage30Year,
+        BigDecimal mortgage15Year,
+        BigDecimal federalFundsRate,
+        BigDecimal primeRate,
+        List<BigDecimal> primeRateHistory,
+        List<BigDecimal> federalFundsRateHistory,
+        String lastUpdated,
+        Instant capturedAt
+) {
+    public RateSnapshot {
+        primeRateHistory = primeRateHistory == null ? List.of() : List.copyOf(primeRateHistory);
+        federalFundsRateHistory = federalFundsRateHistory == null ? List.of() : List.copyOf(federalFundsRateHistory);
+    }
+
+    /**
+     * Annual average prime rates for the last given number of years, oldest first.
+     */
+    public List<BigDecimal> primeRateHistory(int years) {
+        return lastYears(primeRateHistory, years);
+    }
+
+    /**
+     * Annual average Federal Funds rates for the last given number of years, oldest first.
+     */
+    public List<BigDecimal> federalFundsRateHistory(int years) {
+        return lastYears(federalFundsRateHistory, years);
+    }
+
+    private static List<BigDecimal> lastYears(List<BigDecimal> history, int years) {
+        return history.subList(Math.max(0, history.size() - Math.max(0, years)), history.size());
+    }
+}
@@ -0,0 +1,83 @@
+package com.fincalc.domain.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Domain model for inflation-adjusted (real) investment projections.
+ * Rebuilds the nominal balance of a {@link CompoundInterestCalculation} year by
+ * year and deflates each year with the snapshot's precomputed factors in the
+ * same pass.
+ */
+public record RealValueProjection(
+        String countryCode,
+        String inflationSource,
+        BigDecimal averageInflation,
+        BigDecimal nominalFutureValue,
+        BigDecimal realFutureValue,
+        BigDecimal realTotalContributions,
+        BigDecimal purchasingPowerLost,
+        List<Year> years
+) {
+    private static final int SCALE = 2;
+    private static final int MONTHS_PER_YEAR = 12;
+
+    /**
+     * Nominal and real balance at the end of a year.
+     */
+    public record Year(int year, BigDecimal nominalBalance, BigDecimal realBalance) {}
+
+    public static RealValueProjection project(CompoundInterestCalculation nominal, InflationSnapshot inflation) {
+        if (nominal == null || inflation == null) {
+            throw new IllegalArgumentException("Nominal projection and inflation snapshot are required");
+        }
+        if (nominal.years() > InflationSnapshot.MAX_YEARS) {
+            throw new IllegalArgumentException("Years must be at most " + InflationSnapshot.MAX_YEARS);
+        }
+
+        double rate = nominal.annualRate().doubleValue() / 100.0;
+        int frequency = nominal.compoundingFrequency();
+        double principalGrowth = Math.pow(1 + rate / frequency, frequency);
+        double monthlyRate = rate / MONTHS_PER_YEAR;
+        double contributionGrowth = Math.pow(1 + monthlyRate, MONTHS_PER_YEAR);
+        double monthly = nominal.monthlyContribution().doubleValue();
+        double yearOfContributions = monthlyRate == 0
+                ? monthly * MONTHS_PER_YEAR
+                : monthly * (contributionGrowth - 1) / monthlyRate;
+
+        double principalPart = nominal.principal().doubleValue();
+        double contributionPart = 0;
+        double realContributions = principalPart;
+        double nominalBalance = principalPart;
+        double realBalance = principalPart;
+
+        List<Year> years = new ArrayList<>(nominal.years());
+        for (int year = 1; year <= nominal.years(); year++) {
+            principalPart *= principalGrowth;
+            contributionPart = contributionPart * contributionGrowth + yearOfContributions;
+            nominalBalance = principalPart + contributionPart;
+
+            double deflator = inflation.deflator(year);
+            realBalance = nominalBalance * deflator;
+            realContributions += monthly * MONTHS_PER_YEAR * deflator;
+            years.add(new Year(year, amount(nominalBalance), amount(realBalance)));
+        }
+
+        return new RealValueProjection(
+                inflation.countryCode(),
+                inflation.source(),
+                inflation.averageRate(nominal.years()),
+                amount(nominalBalance),
+                amount(realBalance),
+                amount(realContributions),
+                amount(nominalBalance - realBalance),
+                List.copyOf(years)
+        );
+    }
+
+    private static BigDecimal amount(double value) {
+        return BigDecimal.valueOf(value).setScale(SCALE, RoundingMode.HALF_UP);
+    }
+}
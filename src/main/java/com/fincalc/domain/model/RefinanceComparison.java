@@ -0,0 +1,155 @@
+package com.fincalc.domain.model;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Domain model for refinance comparisons.
+ * Walks the current loan and every refinance offer side by side in a single
+ * pass over whole cents, tracking cumulative payments to find the month in
+ * which the closing costs are recovered.
+ */
+public record RefinanceComparison(
+        BigDecimal currentBalance,
+        BigDecimal currentRate,
+        int remainingMonths,
+        BigDecimal currentPayment,
+        BigDecimal currentRemainingInterest,
+        BigDecimal closingCosts,
+        List<Option> options
+) {
+    public static final int MAX_OFFERS = 10;
+    public static final int NEVER = -1;
+    private static final int MONTHS_PER_YEAR = 12;
+
+    /**
+     * A new loan to compare against the current one.
+     */
+    public record Offer(String label, BigDecimal annualRate, int years) {}
+
+    /**
+     * Comparison of one offer against keeping the current loan.
+     * Net savings include closing costs; a break-even month of {@link #NEVER}
+     * means the offer never recovers them.
+     */
+    public record Option(
+            String label,
+            BigDecimal annualRate,
+            int years,
+            BigDecimal monthlyPayment,
+            BigDecimal monthlySavings,
+            BigDecimal totalInterest,
+            BigDecimal interestSavings,
+            BigDecimal netSavings,
+            int breakEvenMonth
+    ) {
+        public boolean breaksEven() {
+            return breakEvenMonth != NEVER;
+        }
+    }
+
+    public static RefinanceComparison compare(
+            BigDecimal currentBalance,
+            BigDecimal currentRate,
+            int remainingYears,
+            BigDecimal closingCosts,
+            List<Offer> offers
+    ) {
+        return compare(currentBalance, currentRate, remainingYears, closingCosts, offers, Deadline.NONE);
+    }
+
+    /**
+     * Compare, checking the deadline once per simulated year.
+     */
+    public static RefinanceComparison compare(
+            BigDecimal currentBalance,
+            BigDecimal currentRate,
+            int remainingYears,
+            BigDecimal closingCosts,
+            List<Offer> offers,
+            Deadline deadline
+    ) {
+        validateInputs(closingCosts, offers);
+        LoanCalculation current = LoanCalculation.calculate(currentBalance, currentRate, remainingYears);
+
+        // Slot 0 is the current loan, slots 1..n are the offers
+        int loans = offers.size() + 1;
+        long[] balance = new long[loans];
+        long[] payment = new long[loans];
+        double[] monthlyRate = new double[loans];
+        int[] term = new int[loans];
+        long[] interest = new long[loans];
+        long[] paid = new long[loans];
+        int[] breakEven = new int[loans];
+
+        long balanceCents = Cents.of(currentBalance);
+        long closingCents = Cents.of(closingCosts);
+        int maxMonths = 0;
+        for (int k = 0; k < loans; k++) {
+            LoanCalculation loan = k == 0 ? current : LoanCalculation.calculate(
+                    currentBalance, offers.get(k - 1).annualRate(), offers.get(k - 1).years());
+            balance[k] = balanceCents;
+            payment[k] = Cents.of(loan.monthlyPayment());
+            monthlyRate[k] = loan.annualRate().doubleValue() / (100.0 * MONTHS_PER_YEAR);
+            term[k] = loan.totalPayments();
+            breakEven[k] = NEVER;
+            maxMonths = Math.max(maxMonths, term[k]);
+        }
+
+        for (int month = 1; month <= maxMonths; month++) {
+            if (month % MONTHS_PER_YEAR == 1) {
+                deadline.check();
+            }
+            for (int k = 0; k < loans; k++) {
+                if (balance[k] <= 0) continue;
+                long monthInterest = Math.round(balance[k] * monthlyRate[k]);
+                long due = balance[k] + monthInterest;
+                // Final scheduled payment absorbs any rounding residual
+                long pay = (payment[k] >= due || month == term[k]) ? due : payment[k];
+                balance[k] = due - pay;
+                interest[k] += monthInterest;
+                paid[k] += pay;
+            }
+            for (int k = 1; k < loans; k++) {
+                if (breakEven[k] == NEVER && paid[0] - paid[k] >= closingCents) {
+                    breakEven[k] = month;
+                }
+            }
+        }
+
+        List<Option> options = new ArrayList<>(offers.size());
+        for (int k = 1; k < loans; k++) {
+            Offer offer = offers.get(k - 1);
+            options.add(new Option(
+                    offer.label(),
+                    offer.annualRate(),
+                    offer.years(),
+                    Cents.toAmount(payment[k]),
+                    Cents.toAmount(payment[0] - payment[k]),
+                    Cents.toAmount(interest[k]),
+                    Cents.toAmount(interest[0] - interest[k]),
+                    Cents.toAmount(paid[0] - paid[k] - closingCents),
+                    breakEven[k]
+            ));
+        }
+
+        return new RefinanceComparison(
+                currentBalance, currentRate, current.totalPayments(),
+                Cents.toAmount(payment[0]), Cents.toAmount(interest[0]),
+                closingCosts, List.copyOf(options)
+        );
+    }
+
+    private static void validateInputs(BigDecimal closingCosts, List<Offer> offers) {
+        if (closingCosts == null || closingCosts.compareTo(BigDecimal.ZERO) < 0) {
+            throw new IllegalArgumentException("Closing costs must be non-negative");
+        }
+        if (offers == null || offers.isEmpty()) {
+            throw new IllegalArgumentException("At least one refinance offer is required");
+        }
+        if (offers.size() > MAX_OFFERS) {
+            throw new IllegalArgumentException("At most " + MAX_OFFERS + " refinance offers can be compared at once");
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.fincalc.domain.model;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+/**
+ * Domain model for retirement drawdown (decumulation) simulations.
+ * Withdraws at the start of each year and grows the remainder, producing the
+ * year table row by row so callers can stream it instead of holding it in memory.
+ *
+ * Withdrawal rules:
+ * - FIXED: a dollar amount in the first year, raised with inflation afterwards
+ * - PERCENTAGE: a fixed percentage of the balance at the start of each year
+ * - GUARDRAILS: an initial percentage raised with inflation, cut by 10% when the
+ *   current withdrawal rate drifts 20% above the initial rate and raised by 10%
+ *   when it drifts 20% below; the inflation raise is skipped after a losing year
+ */
+public record RetirementDrawdown(
+        Plan plan,
+        int yearsFunded,
+        int depletionAge,
+        BigDecimal firstWithdrawal,
+        BigDecimal totalWithdrawn,
+        BigDecimal endingBalance
+) {
+    public static final int NEVER = -1;
+    public static final int MAX_YEARS = 100;
+    private static final double GUARDRAIL_BAND = 0.20;
+    private static final double GUARDRAIL_STEP = 0.10;
+
+    public enum Rule {
+        FIXED, PERCENTAGE, GUARDRAILS;
+
+        public static Rule fromString(String value) {
+            if (value == null || value.isBlank()) {
+                return FIXED;
+            }
+            return switch (value.trim().toLowerCase(Locale.ROOT)) {
+                case "fixed", "fixed_amount" -> FIXED;
+                case "percentage", "percent", "fixed_percentage" -> PERCENTAGE;
+                case "guardrails", "guyton_klinger" -> GUARDRAILS;
+                default -> throw new IllegalArgumentException("Unknown withdrawal rule: " + value);
+            };
+        }
+    }
+
+    /**
+     * Drawdown assumptions. For FIXED the withdrawal is a dollar amount,
+     * for PERCENTAGE and GUARDRAILS it is a percentage of the balance.
+     */
+    public record Plan(
+            BigDecimal startingBalance,
+            int startAge,
+            int years,
+            Rule rule,
+            BigDecimal withdrawal,
+            BigDecimal expectedReturn,
+            BigDecimal inflation
+    ) {}
+
+    /**
+     * One row of the year table.
+     */
+    public record Year(
+            int year,
+            int age,
+            BigDecimal startBalance,
+            BigDecimal withdrawal,
+            BigDecimal growth,
+            BigDecimal endBalance
+    ) {}
+
+    /**
+     * Receives year rows as primitives so bulk runs allocate nothing per year.
+     */
+    @FunctionalInterface
+    public interface YearSink {
+        YearSink NONE = (year, age, start, withdrawal, growth, end) -> {};
+
+        void accept(int year, int age, long startCents, long withdrawalCents, long growthCents, long endCents);
+    }
+
+    public static RetirementDrawdown simulate(Plan plan) {
+        return simulate(plan, null, YearSink.NONE);
+    }
+
+    /**
+     * Simulate with the expected return, handing each year to the consumer as soon as it is computed.
+     */
+    public static RetirementDrawdown simulate(Plan plan, Consumer<Year> rows) {
+        return simulate(plan, null, (year, age, start, withdrawal, growth, end) -> rows.accept(new Year(
+                year, age, Cents.toAmount(start), Cents.toAmount(withdrawal),
+                Cents.toAmount(growth), Cents.toAmount(end))));
+    }
+
+    /**
+     * Simulate along a sequence of annual returns (percent), e.g. one Monte Carlo path.
+     * Years beyond the end of the sequence use the plan's expected return.
+     */
+    public static RetirementDrawdown simulate(Plan plan, double[] annualReturns, YearSink sink) {
+        validatePlan(plan);
+
+        double expected = plan.expectedReturn().doubleValue() / 100.0;
+        double inflation = plan.inflation().doubleValue() / 100.0;
+        long balance = Cents.of(plan.startingBalance());
+        long withdrawal = initialWithdrawal(plan, balance);
+        double initialRate = balance == 0 ? 0 : withdrawal / (double) balance;
+        long firstWithdrawal = withdrawal;
+        long totalWithdrawn = 0;
+        double previousReturn = 0;
+        int depletionAge = NEVER;
+        int year = 0;
+
+        while (year < plan.years() && balance > 0) {
+            year++;
+            int age = plan.startAge() + year - 1;
+            long start = balance;
+
+            if (year > 1) {
+                withdrawal = nextWithdrawal(plan.rule(), withdrawal, start, plan, inflation, initialRate, previousReturn);
+            }
+            if (withdrawal >= start) {
+                withdrawal = start;
+                depletionAge = age;
+            }
+
+            double annualReturn = annualReturns != null && year <= annualReturns.length
+                    ? annualReturns[year - 1] / 100.0 : expected;
+            long remaining = start - withdrawal;
+            long growth = Math.round(remaining * annualReturn);
+            balance = Math.max(0, remaining + growth);
+            if (balance == 0 && depletionAge == NEVER) {
+                depletionAge = age;
+            }
+
+            totalWithdrawn += withdrawal;
+            previousReturn = annualReturn;
+            sink.accept(year, age, start, withdrawal, growth, balance);
+        }
+
+        return new RetirementDrawdown(
+                plan,
+                depletionAge == NEVER ? year : depletionAge - plan.startAge() + 1,
+                depletionAge,
+                Cents.toAmount(firstWithdrawal),
+                Cents.toAmount(totalWithdrawn),
+                Cents.toAmount(balance)
+        );
+    }
+
+    private static long initialWithdrawal(Plan plan, long balance) {
+        return switch (plan.rule()) {
+            case FIXED -> Cents.of(plan.withdrawal());
+            case PERCENTAGE, GUARDRAILS -> Math.round(balance * plan.withdrawal().doubleValue() / 100.0);
+        };
+    }
+
+    private static long nextWithdrawal(Rule rule, long previous, long start, Plan plan,
+                                       double inflation, double initialRate, double previousReturn) {
+        return switch (rule) {
+            case FIXED -> Math.round(previous * (1 + inflation));
+            case PERCENTAGE -> Math.round(start * plan.withdrawal().doubleValue() / 100.0);
+            case GUARDRAILS -> {
+                double currentRate = previous / (double) start;
+                // Freeze the inflation raise after a losing year while spending above the initial rate
+                long next = previousReturn < 0 && currentRate > initialRate
+                        ? previous : Math.round(previous * (1 + inflation));
+                double nextRate = next / (double) start;
+                if (nextRate > initialRate * (1 + GUARDRAIL_BAND)) {
+                    next = Math.round(next * (1 - GUARDRAIL_STEP));
+                } else if (nextRate < initialRate * (1 - GUARDRAIL_BAND)) {
+                    next = Math.round(next * (1 + GUARDRAIL_STEP));
+                }
+                yield next;
+            }
+        };
+    }
+
+    private static void validatePlan(Plan plan) {
+        if (plan == null || plan.rule() == null) {
+            throw new IllegalArgumentException("A drawdown plan with a withdrawal rule is required");
+        }
+        if (plan.startingBalance() == null || plan.startingBalance().compareTo(BigDecimal.ZERO) <= 0) {
+            throw new IllegalArgumentException("Starting balance must be positive");
+        }
+        if (plan.years() < 1 || plan.years() > MAX_YEARS) {
+            throw new IllegalArgumentException("Years must be between 1 and " + MAX_YEARS);
+        }
+        if (plan.startAge() < 0 || plan.startAge() > 120) {
+            throw new IllegalArgumentException("Start age must be between 0 and 120");
+        }
+        if (plan.withdrawal() == null || plan.withdrawal().compareTo(BigDecimal.ZERO) < 0) {
+            throw new IllegalArgumentException("Withdrawal must be non-negative");
+        }
+        if (plan.rule() != Rule.FIXED && plan.withdrawal().compareTo(BigDecimal.valueOf(100)) > 0) {
+            throw new IllegalArgumentException("Withdrawal percentage must be between 0 and 100");
+        }
+        if (plan.expectedReturn() == null || plan.inflation() == null) {
+            throw new IllegalArgumentException("Return and inflation assumptions are required");
+        }
+    }
+
+    public boolean depletes() {
+        return depletionAge != NEVER;
+    }
+}
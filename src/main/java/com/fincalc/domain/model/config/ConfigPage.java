@@ -0,0 +1,36 @@
+package com.fincalc.domain.model.config;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a configuration listing, ordered by key.
+ * Pass {@code nextAfter} back as the {@code after} key to fetch the following page;
+ * it is null on the last page.
+ */
+public record ConfigPage<T>(
+    List<T> items,
+    String nextAfter
+) {
+
+    public static final int DEFAULT_SIZE = 50;
+    public static final int MAX_SIZE = 200;
+
+    /**
+     * The page size to use for a requested limit, between 1 and {@link #MAX_SIZE}.
+     */
+    public static int sizeFor(int limit) {
+        return limit <= 0 ? DEFAULT_SIZE : Math.min(limit, MAX_SIZE);
+    }
+
+    /**
+     * Build a page from up to {@code size + 1} rows; the extra row only signals that more follow.
+     */
+    public static <T> ConfigPage<T> of(List<T> rows, int size, Function<T, String> key) {
+        if (rows.size() <= size) {
+            return new ConfigPage<>(List.copyOf(rows), null);
+        }
+        List<T> items = List.copyOf(rows.subList(0, size));
+        return new ConfigPage<>(items, key.apply(items.get(size - 1)));
+    }
+}
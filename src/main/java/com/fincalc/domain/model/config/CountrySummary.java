@@ -0,0 +1,12 @@
+package com.fincalc.domain.model.config;
+
+/**
+ * A country as listed in admin screens, without its tax system or regions.
+ */
+public record CountrySummary(
+    String code,
+    String name,
+    String currency,
+    boolean hasRegionalTax,
+    String rateSource
+) {}
@@ -0,0 +1,9 @@
+package com.fincalc.domain.model.config;
+
+/**
+ * A localized message as listed in admin screens, without its translations.
+ */
+public record MessageSummary(
+    String key,
+    String category
+) {}
@@ -1,6 +1,7 @@
 package com.fincalc.domain.port.in;
 
 import com.fincalc.domain.model.CompoundInterestCalculation;
+import com.fincalc.domain.model.Deadline;
 import com.fincalc.domain.validation.constraint.ValidInterestRate;
 import com.fincalc.domain.validation.constraint.ValidLoanTerm;
 import com.fincalc.domain.validation.constraint.ValidMoney;
@@ -15,7 +16,14 @@ import java.math.BigDecimal;
  */
 public interface CalculateCompoundInterestUseCase {
 
-    CompoundInterestCalculation execute(Command command);
+    /**
+     * Run the calculation, stopping with {@link Deadline.ExceededException} once the deadline passes.
+     */
+    CompoundInterestCalculation execute(Command command, Deadline deadline);
+
+    default CompoundInterestCalculation execute(Command command) {
+        return execute(command, Deadline.NONE);
+    }
 
     record Command(
             @NotNull(message = "{validation.investment.principal.required}")
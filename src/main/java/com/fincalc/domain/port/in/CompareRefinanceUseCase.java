@@ -0,0 +1,57 @@
+package com.fincalc.domain.port.in;
+
+import com.fincalc.domain.model.Deadline;
+import com.fincalc.domain.model.RefinanceComparison;
+import com.fincalc.domain.validation.constraint.ValidInterestRate;
+import com.fincalc.domain.validation.constraint.ValidLoanTerm;
+import com.fincalc.domain.validation.constraint.ValidMoney;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Input port for refinance comparison use case.
+ */
+public interface CompareRefinanceUseCase {
+
+    /**
+     * Run the calculation, stopping with {@link Deadline.ExceededException} once the deadline passes.
+     */
+    RefinanceComparison execute(Command command, Deadline deadline);
+
+    default RefinanceComparison execute(Command command) {
+        return execute(command, Deadline.NONE);
+    }
+
+    /**
+     * Offers carry the market rates they were priced at, so two commands are
+     * only equal when they were built from the same rate snapshot.
+     */
+    record Command(
+            @NotNull(message = "{validation.refinance.balance.required}")
+            @ValidMoney(message = "{validation.refinance.balance.positive}")
+            BigDecimal currentBalance,
+
+            @NotNull(message = "{validation.loan.rate.required}")
+            @ValidInterestRate(min = 0.01, max = 50, message = "{validation.loan.rate.range}")
+            BigDecimal currentRate,
+
+            @ValidLoanTerm(min = 1, max = 50, message = "{validation.loan.years.range}")
+            int remainingYears,
+
+            @ValidMoney(allowZero = true, message = "{validation.refinance.closing-costs.non-negative}")
+            BigDecimal closingCosts,
+
+            @NotEmpty(message = "{validation.refinance.offers.required}")
+            @Size(max = RefinanceComparison.MAX_OFFERS, message = "{validation.refinance.offers.size}")
+            List<RefinanceComparison.Offer> offers
+    ) {
+        public Command {
+            if (closingCosts == null) closingCosts = BigDecimal.ZERO;
+            offers = offers == null ? List.of() : List.copyOf(offers);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.fincalc.domain.port.in;
+
+import com.fincalc.domain.model.CompoundInterestCalculation;
+import com.fincalc.domain.model.RealValueProjection;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Input port for inflation-adjusted projection use case.
+ */
+public interface ProjectRealValueUseCase {
+
+    RealValueProjection execute(Command command);
+
+    /**
+     * Deflates an already computed nominal projection with the country's inflation snapshot.
+     */
+    record Command(
+            @NotNull
+            CompoundInterestCalculation nominal,
+
+            String countryCode
+    ) {}
+}
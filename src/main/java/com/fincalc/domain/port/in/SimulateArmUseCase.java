@@ -0,0 +1,48 @@
+package com.fincalc.domain.port.in;
+
+import com.fincalc.domain.model.ArmSimulation;
+import com.fincalc.domain.model.Deadline;
+import com.fincalc.domain.validation.constraint.ValidInterestRate;
+import com.fincalc.domain.validation.constraint.ValidLoanTerm;
+import com.fincalc.domain.validation.constraint.ValidMoney;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Input port for adjustable-rate mortgage simulation use case.
+ */
+public interface SimulateArmUseCase {
+
+    /**
+     * Run the calculation, stopping with {@link Deadline.ExceededException} once the deadline passes.
+     */
+    ArmSimulation execute(Command command, Deadline deadline);
+
+    default ArmSimulation execute(Command command) {
+        return execute(command, Deadline.NONE);
+    }
+
+    record Command(
+            @NotNull(message = "{validation.loan.principal.required}")
+            @ValidMoney(message = "{validation.loan.principal.positive}")
+            BigDecimal principal,
+
+            @NotNull(message = "{validation.loan.rate.required}")
+            @ValidInterestRate(min = 0.01, max = 50, message = "{validation.loan.rate.range}")
+            BigDecimal initialRate,
+
+            @ValidLoanTerm(min = 1, max = 50, message = "{validation.loan.years.range}")
+            int years,
+
+            @NotNull(message = "{validation.arm.terms.required}")
+            ArmSimulation.Terms terms,
+
+            @NotEmpty(message = "{validation.arm.scenarios.required}")
+            @Size(max = ArmSimulation.MAX_SCENARIOS, message = "{validation.arm.scenarios.size}")
+            List<ArmSimulation.Scenario> scenarios
+    ) {}
+}
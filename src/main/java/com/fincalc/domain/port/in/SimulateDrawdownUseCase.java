@@ -0,0 +1,56 @@
+package com.fincalc.domain.port.in;
+
+import com.fincalc.domain.model.RetirementDrawdown;
+import com.fincalc.domain.validation.constraint.ValidMoney;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+import java.util.function.Consumer;
+
+/**
+ * Input port for retirement drawdown simulation use case.
+ */
+public interface SimulateDrawdownUseCase {
+
+    /**
+     * Run the drawdown, handing each year row to the consumer as it is produced.
+     */
+    RetirementDrawdown execute(Command command, Consumer<RetirementDrawdown.Year> rows);
+
+    default RetirementDrawdown execute(Command command) {
+        return execute(command, row -> {});
+    }
+
+    record Command(
+            @NotNull(message = "{validation.drawdown.balance.required}")
+            @ValidMoney(message = "{validation.drawdown.balance.positive}")
+            BigDecimal startingBalance,
+
+            @Min(value = 0, message = "{validation.drawdown.age.range}")
+            @Max(value = 120, message = "{validation.drawdown.age.range}")
+            int startAge,
+
+            @Min(value = 1, message = "{validation.drawdown.years.range}")
+            @Max(value = RetirementDrawdown.MAX_YEARS, message = "{validation.drawdown.years.range}")
+            int years,
+
+            @NotNull(message = "{validation.drawdown.rule.required}")
+            RetirementDrawdown.Rule rule,
+
+            @NotNull(message = "{validation.drawdown.withdrawal.required}")
+            @ValidMoney(allowZero = true, message = "{validation.drawdown.withdrawal.non-negative}")
+            BigDecimal withdrawal,
+
+            @NotNull(message = "{validation.drawdown.return.required}")
+            BigDecimal expectedReturn,
+
+            @NotNull(message = "{validation.drawdown.inflation.required}")
+            BigDecimal inflation
+    ) {
+        public RetirementDrawdown.Plan toPlan() {
+            return new RetirementDrawdown.Plan(startingBalance, startAge, years, rule, withdrawal, expectedReturn, inflation);
+        }
+    }
+}
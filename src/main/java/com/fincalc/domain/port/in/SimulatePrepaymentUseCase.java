@@ -0,0 +1,45 @@
+package com.fincalc.domain.port.in;
+
+import com.fincalc.domain.model.Deadline;
+import com.fincalc.domain.model.PrepaymentSimulation;
+import com.fincalc.domain.validation.constraint.ValidInterestRate;
+import com.fincalc.domain.validation.constraint.ValidLoanTerm;
+import com.fincalc.domain.validation.constraint.ValidMoney;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Input port for prepayment simulation use case.
+ */
+public interface SimulatePrepaymentUseCase {
+
+    /**
+     * Run the calculation, stopping with {@link Deadline.ExceededException} once the deadline passes.
+     */
+    PrepaymentSimulation execute(Command command, Deadline deadline);
+
+    default PrepaymentSimulation execute(Command command) {
+        return execute(command, Deadline.NONE);
+    }
+
+    record Command(
+            @NotNull(message = "{validation.loan.principal.required}")
+            @ValidMoney(message = "{validation.loan.principal.positive}")
+            BigDecimal principal,
+
+            @NotNull(message = "{validation.loan.rate.required}")
+            @ValidInterestRate(min = 0.01, max = 50, message = "{validation.loan.rate.range}")
+            BigDecimal annualRate,
+
+            @ValidLoanTerm(min = 1, max = 50, message = "{validation.loan.years.range}")
+            int years,
+
+            @NotEmpty(message = "{validation.prepayment.strategies.required}")
+            @Size(max = PrepaymentSimulation.MAX_STRATEGIES, message = "{validation.prepayment.strategies.size}")
+            List<PrepaymentSimulation.Strategy> strategies
+    ) {}
+}
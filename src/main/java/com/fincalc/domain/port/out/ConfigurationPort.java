@@ -1,8 +1,11 @@
 package com.fincalc.domain.port.out;
 
+import com.fincalc.domain.model.config.ConfigPage;
 import com.fincalc.domain.model.config.Country;
+import com.fincalc.domain.model.config.CountrySummary;
 import com.fincalc.domain.model.config.Currency;
 import com.fincalc.domain.model.config.LocalizedMessage;
+import com.fincalc.domain.model.config.MessageSummary;
 import com.fincalc.domain.model.config.RateProvider;
 import com.fincalc.domain.model.config.ResponseTemplate;
 
@@ -55,4 +58,9 @@ public interface ConfigurationPort {
 
     // Refresh configuration cache (called after admin updates)
     void refreshCache();
+
+    // Admin listings: keyset pages ordered by key, read without the JSON columns.
+    // A null or blank category/prefix/after means no filter; see ConfigPage.sizeFor for the limit.
+    ConfigPage<MessageSummary> listMessages(String category, String keyPrefix, String after, int limit);
+    ConfigPage<CountrySummary> listCountries(String after, int limit);
 }
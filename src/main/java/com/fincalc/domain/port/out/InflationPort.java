@@ -0,0 +1,17 @@
+package com.fincalc.domain.port.out;
+
+import com.fincalc.domain.model.InflationSnapshot;
+
+/**
+ * Port for inflation (CPI) assumptions by country.
+ * Implementations serve snapshots from memory and refresh them in the background.
+ */
+public interface InflationPort {
+
+    /**
+     * Get the current inflation snapshot for a country.
+     * Never calls the data source; unknown countries get a default snapshot
+     * until their series has been loaded.
+     */
+    InflationSnapshot getInflation(String countryCode);
+}
@@ -1,6 +1,9 @@
 package com.fincalc.domain.port.out;
 
+import com.fincalc.domain.model.RateSnapshot;
+
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -39,4 +42,10 @@ public interface MarketRatePort {
      * Get the date of last rate update.
      */
     String getLastUpdateDate();
+
+    /**
+     * Get the latest rates held in memory.
+     * Never calls the rate source, so it is safe to use on request threads.
+     */
+    RateSnapshot getRateSnapshot();
 }
@@ -0,0 +1,33 @@
+package com.fincalc.domain.service;
+
+import com.fincalc.domain.model.ArmSimulation;
+import com.fincalc.domain.model.Deadline;
+import com.fincalc.domain.port.in.SimulateArmUseCase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Domain service for adjustable-rate mortgage simulations.
+ * Single Responsibility: Only handles ARM repricing over index scenarios.
+ * Validation is handled by Bean Validation annotations on Command record.
+ */
+@Slf4j
+@Service
+public class ArmSimulatorService implements SimulateArmUseCase {
+
+    @Override
+    public ArmSimulation execute(Command command, Deadline deadline) {
+        log.debug("Simulating ARM: principal={}, rate={}%, years={}, fixed={}y, scenarios={}",
+                command.principal(), command.initialRate(), command.years(),
+                command.terms().fixedYears(), command.scenarios().size());
+
+        return ArmSimulation.simulate(
+                command.principal(),
+                command.initialRate(),
+                command.years(),
+                command.terms(),
+                command.scenarios(),
+                deadline
+        );
+    }
+}
@@ -1,6 +1,7 @@
 package com.fincalc.domain.service;
 
 import com.fincalc.domain.model.CompoundInterestCalculation;
+import com.fincalc.domain.model.Deadline;
 import com.fincalc.domain.port.in.CalculateCompoundInterestUseCase;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -15,7 +16,7 @@ import org.springframework.stereotype.Service;
 public class CompoundInterestService implements CalculateCompoundInterestUseCase {
 
     @Override
-    public CompoundInterestCalculation execute(Command command) {
+    public CompoundInterestCalculation execute(Command command, Deadline deadline) {
         log.debug("Calculating compound interest: principal={}, rate={}%, years={}, frequency={}",
                 command.principal(), command.annualRate(), command.years(), command.compoundingFrequency());
 
@@ -24,7 +25,8 @@ public class CompoundInterestService implements CalculateCompoundInterestUseCase
                 command.annualRate(),
                 command.years(),
                 command.compoundingFrequency(),
-                command.monthlyContribution()
+                command.monthlyContribution(),
+                deadline
         );
     }
 }
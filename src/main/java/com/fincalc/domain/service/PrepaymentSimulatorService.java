@@ -0,0 +1,31 @@
+package com.fincalc.domain.service;
+
+import com.fincalc.domain.model.Deadline;
+import com.fincalc.domain.model.PrepaymentSimulation;
+import com.fincalc.domain.port.in.SimulatePrepaymentUseCase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Domain service for prepayment simulations.
+ * Single Responsibility: Only handles extra-payment and early payoff scenarios.
+ * Validation is handled by Bean Validation annotations on Command record.
+ */
+@Slf4j
+@Service
+public class PrepaymentSimulatorService implements SimulatePrepaymentUseCase {
+
+    @Override
+    public PrepaymentSimulation execute(Command command, Deadline deadline) {
+        log.debug("Simulating prepayment: principal={}, rate={}%, years={}, strategies={}",
+                command.principal(), command.annualRate(), command.years(), command.strategies().size());
+
+        return PrepaymentSimulation.simulate(
+                command.principal(),
+                command.annualRate(),
+                command.years(),
+                command.strategies(),
+                deadline
+        );
+    }
+}
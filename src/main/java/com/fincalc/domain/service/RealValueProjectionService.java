@@ -0,0 +1,30 @@
+package com.fincalc.domain.service;
+
+import com.fincalc.domain.model.InflationSnapshot;
+import com.fincalc.domain.model.RealValueProjection;
+import com.fincalc.domain.port.in.ProjectRealValueUseCase;
+import com.fincalc.domain.port.out.InflationPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Domain service for inflation-adjusted projections.
+ * Single Responsibility: Only converts nominal projections into today's money.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RealValueProjectionService implements ProjectRealValueUseCase {
+
+    private final InflationPort inflationPort;
+
+    @Override
+    public RealValueProjection execute(Command command) {
+        InflationSnapshot inflation = inflationPort.getInflation(command.countryCode());
+        log.debug("Projecting real value: country={}, source={}, years={}",
+                inflation.countryCode(), inflation.source(), command.nominal().years());
+
+        return RealValueProjection.project(command.nominal(), inflation);
+    }
+}
@@ -0,0 +1,35 @@
+package com.fincalc.domain.service;
+
+import com.fincalc.domain.model.Deadline;
+import com.fincalc.domain.model.RefinanceComparison;
+import com.fincalc.domain.port.in.CompareRefinanceUseCase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+/**
+ * Domain service for refinance comparisons.
+ * Single Responsibility: Only handles current-loan vs new-loan comparisons.
+ * Results are cached by command; offers carry their market rates, so the
+ * cache is effectively keyed per rate snapshot. The deadline is not part of the key.
+ */
+@Slf4j
+@Service
+public class RefinanceComparisonService implements CompareRefinanceUseCase {
+
+    @Override
+    @Cacheable(value = "refinanceComparisons", key = "#command")
+    public RefinanceComparison execute(Command command, Deadline deadline) {
+        log.debug("Comparing refinance: balance={}, rate={}%, remainingYears={}, offers={}",
+                command.currentBalance(), command.currentRate(), command.remainingYears(), command.offers().size());
+
+        return RefinanceComparison.compare(
+                command.currentBalance(),
+                command.currentRate(),
+                command.remainingYears(),
+                command.closingCosts(),
+                command.offers(),
+                deadline
+        );
+    }
+}
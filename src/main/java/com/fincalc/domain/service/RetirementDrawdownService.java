@@ -0,0 +1,26 @@
+package com.fincalc.domain.service;
+
+import com.fincalc.domain.model.RetirementDrawdown;
+import com.fincalc.domain.port.in.SimulateDrawdownUseCase;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.function.Consumer;
+
+/**
+ * Domain service for retirement drawdown simulations.
+ * Single Responsibility: Only handles withdrawal-phase projections.
+ * Validation is handled by Bean Validation annotations on Command record.
+ */
+@Slf4j
+@Service
+public class RetirementDrawdownService implements SimulateDrawdownUseCase {
+
+    @Override
+    public RetirementDrawdown execute(Command command, Consumer<RetirementDrawdown.Year> rows) {
+        log.debug("Simulating drawdown: balance={}, age={}, years={}, rule={}, withdrawal={}",
+                command.startingBalance(), command.startAge(), command.years(), command.rule(), command.withdrawal());
+
+        return RetirementDrawdown.simulate(command.toPlan(), rows);
+    }
+}
@@ -0,0 +1,198 @@
+package com.fincalc.adapter.config;
+
+import com.fincalc.adapter.out.persistence.entity.AnalyticsStatEntity;
+import com.fincalc.adapter.out.persistence.repository.AnalyticsStatRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Routes between two in-memory H2 databases, each labelled with the route it stands for.
+ */
+@DisplayName("DataSourceRoutingConfig")
+class DataSourceRoutingConfigTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writes;
+    private TransactionTemplate reads;
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate setup = new JdbcTemplate(dataSource);
+        setup.execute("CREATE TABLE IF NOT EXISTS route (name VARCHAR(10))");
+        setup.update("DELETE FROM route");
+        setup.update("INSERT INTO route (name) VALUES (?)", name);
+        return dataSource;
+    }
+
+    @BeforeEach
+    void setUp() {
+        DataSource routing = DataSourceRoutingConfig.routing(database("primary"), database("read"));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        jdbcTemplate = new JdbcTemplate(routing);
+        writes = new TransactionTemplate(transactionManager);
+        reads = new TransactionTemplate(transactionManager);
+        reads.setReadOnly(true);
+    }
+
+    private String route() {
+        return jdbcTemplate.queryForObject("SELECT name FROM route", String.class);
+    }
+
+    @Nested
+    @DisplayName("Routing")
+    class Routing {
+
+        @Test
+        @DisplayName("should run opted-in read-only transactions on the read pool")
+        void shouldRouteOptedInReads() {
+            assertEquals("read", reads.execute(status -> ReadReplicaAspect.onReplica(() -> route())));
+        }
+
+        @Test
+        @DisplayName("should keep read-only transactions that did not opt in on the primary")
+        void shouldKeepPlainReadsOnPrimary() {
+            assertEquals("primary", reads.execute(status -> route()));
+        }
+
+        @Test
+        @DisplayName("should keep opted-in read-write transactions on the primary")
+        void shouldRouteWritesToPrimary() {
+            assertEquals("primary", writes.execute(status -> ReadReplicaAspect.onReplica(() -> route())));
+        }
+
+        @Test
+        @DisplayName("should use the primary outside transactions")
+        void shouldDefaultToPrimary() {
+            assertEquals("primary", ReadReplicaAspect.onReplica(() -> route()));
+        }
+
+        @Test
+        @DisplayName("should pick the route per transaction, not per thread")
+        void shouldRoutePerTransaction() {
+            assertEquals("read", reads.execute(status -> ReadReplicaAspect.onReplica(() -> route())));
+            assertEquals("primary", reads.execute(status -> route()));
+            assertEquals("read", reads.execute(status -> ReadReplicaAspect.onReplica(() -> route())));
+        }
+
+        @Test
+        @DisplayName("should opt in calls to methods marked @ReadReplica")
+        void shouldOptInAnnotatedMethods() {
+            AspectJProxyFactory factory = new AspectJProxyFactory(new Dashboard());
+            factory.addAspect(ReadReplicaAspect.class);
+            Dashboard dashboard = factory.getProxy();
+
+            assertTrue(dashboard.optedIn());
+            assertFalse(ReadReplicaAspect.requested());
+        }
+    }
+
+    static class Dashboard {
+        @ReadReplica
+        public boolean optedIn() {
+            return ReadReplicaAspect.requested();
+        }
+    }
+
+    /**
+     * Boots JPA on the routing data source, with the read database holding a copy of the table.
+     */
+    @Nested
+    @DataJpaTest(properties = {
+            "spring.datasource.url=jdbc:h2:mem:jpa-primary;DB_CLOSE_DELAY=-1",
+            "spring.datasource.driver-class-name=org.h2.Driver",
+            "fincalc.datasource.read.url=jdbc:h2:mem:jpa-read;DB_CLOSE_DELAY=-1",
+            "spring.liquibase.enabled=false",
+            "spring.jpa.hibernate.ddl-auto=create-drop",
+            "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+    })
+    @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+    @Import(DataSourceRoutingConfig.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Through JPA")
+    class ThroughJpa {
+
+        @Autowired
+        private PlatformTransactionManager transactionManager;
+
+        @Autowired
+        private AnalyticsStatRepository repository;
+
+        @Autowired
+        @Qualifier("primaryDataSource")
+        private DataSource primary;
+
+        @Autowired
+        @Qualifier("readDataSource")
+        private DataSource read;
+
+        @BeforeEach
+        void setUpReadDatabase() {
+            JdbcTemplate replica = new JdbcTemplate(read);
+            replica.execute("CREATE TABLE IF NOT EXISTS analytics_stats (id VARCHAR(100) PRIMARY KEY, "
+                    + "category VARCHAR(50) NOT NULL, name VARCHAR(100) NOT NULL, count BIGINT, last_updated TIMESTAMP)");
+            replica.update("DELETE FROM analytics_stats");
+            replica.update("INSERT INTO analytics_stats (id, category, name, count) VALUES ('route:read', 'route', 'read', 1)");
+            repository.deleteAll();
+        }
+
+        private static long rows(DataSource dataSource, String id) {
+            return new JdbcTemplate(dataSource).queryForObject(
+                    "SELECT COUNT(*) FROM analytics_stats WHERE id = ?", Long.class, id);
+        }
+
+        @Test
+        @DisplayName("should serve opted-in read-only transactions from the read pool")
+        void shouldReadFromReadPool() {
+            assertInstanceOf(JpaTransactionManager.class, transactionManager);
+            TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+            readOnly.setReadOnly(true);
+
+            Boolean found = readOnly.execute(status ->
+                    ReadReplicaAspect.onReplica(() -> repository.findById("route:read").isPresent()));
+            assertEquals(Boolean.TRUE, found);
+            assertEquals(0, rows(primary, "route:read"));
+        }
+
+        @Test
+        @DisplayName("should never write to the read pool")
+        void shouldWriteToPrimary() {
+            repository.save(new AnalyticsStatEntity("tool", "calculate_loan_payment"));
+            new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                    repository.incrementCount("tool:calculate_loan_payment"));
+
+            assertEquals(1, rows(primary, "tool:calculate_loan_payment"));
+            assertEquals(0, rows(read, "tool:calculate_loan_payment"));
+        }
+
+        @Test
+        @DisplayName("should let default repository reads see their own writes")
+        void shouldReadYourWrites() {
+            repository.save(new AnalyticsStatEntity("tool", "calculate_loan_payment"));
+
+            // SimpleJpaRepository.findById is @Transactional(readOnly = true) but did not opt in
+            assertTrue(repository.findById("tool:calculate_loan_payment").isPresent());
+            assertTrue(repository.findById("route:read").isEmpty());
+        }
+    }
+}
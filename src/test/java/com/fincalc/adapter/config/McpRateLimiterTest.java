@@ -0,0 +1,191 @@
+package com.fincalc.adapter.config;
+
+import com.fincalc.application.ToolCatalog;
+import com.fincalc.application.ToolDescriptor;
+import com.fincalc.application.ToolPolicy;
+import com.fincalc.application.ToolRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("McpRateLimiter")
+class McpRateLimiterTest {
+
+    private RateLimitProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        properties.setRequestsPerMinute(10);
+        properties.setIpRequestsPerMinute(25);
+        properties.setGlobalRequestsPerMinute(1000);
+    }
+
+    private McpRateLimiter limiter() {
+        ToolCatalog catalog = () -> List.of(ToolDescriptor.of(Map.of("name", "simulate_arm"),
+                ToolPolicy.DEFAULT.withCost(5), (args, call) -> args, (args, call) -> args, (args, result, call) -> Map.of()));
+        return new McpRateLimiter(properties, new LocalRateLimitBackend(properties), new ToolRegistry(List.of(catalog)));
+    }
+
+    private int drain(McpRateLimiter limiter, String ip, String userId, int cost) {
+        int allowed = 0;
+        while (limiter.tryConsume(ip, userId, null, cost).allowed()) {
+            allowed++;
+        }
+        return allowed;
+    }
+
+    @Nested
+    @DisplayName("Hierarchy")
+    class Hierarchy {
+
+        @Test
+        @DisplayName("should limit users behind one IP independently")
+        void shouldLimitUsersIndependently() {
+            McpRateLimiter limiter = limiter();
+
+            assertEquals(10, drain(limiter, "10.0.0.1", "alice", 1));
+            assertTrue(limiter.tryConsume("10.0.0.1", "bob", null, 1).allowed());
+        }
+
+        @Test
+        @DisplayName("should cap all users behind one IP at the IP ceiling")
+        void shouldApplyIpCeiling() {
+            McpRateLimiter limiter = limiter();
+
+            int allowed = drain(limiter, "10.0.0.1", "alice", 1)
+                    + drain(limiter, "10.0.0.1", "bob", 1)
+                    + drain(limiter, "10.0.0.1", "carol", 1);
+
+            assertEquals(25, allowed);
+            assertTrue(limiter.tryConsume("10.0.0.2", "dave", null, 1).allowed());
+        }
+
+        @Test
+        @DisplayName("should fall back to the conversation when there is no user id")
+        void shouldKeyByConversation() {
+            McpRateLimiter limiter = limiter();
+
+            for (int i = 0; i < 10; i++) {
+                assertTrue(limiter.tryConsume("10.0.0.1", null, "conv-1", 1).allowed());
+            }
+            assertFalse(limiter.tryConsume("10.0.0.1", null, "conv-1", 1).allowed());
+            assertTrue(limiter.tryConsume("10.0.0.1", null, "conv-2", 1).allowed());
+        }
+
+        @Test
+        @DisplayName("should apply the global cap across IPs")
+        void shouldApplyGlobalCap() {
+            properties.setGlobalRequestsPerMinute(15);
+            McpRateLimiter limiter = limiter();
+
+            int allowed = drain(limiter, "10.0.0.1", null, 1) + drain(limiter, "10.0.0.2", null, 1);
+
+            assertEquals(15, allowed);
+        }
+
+        @Test
+        @DisplayName("should return tokens to earlier tiers when a later tier refuses")
+        void shouldRefundOnDenial() {
+            McpRateLimiter limiter = limiter();
+            drain(limiter, "10.0.0.1", "alice", 1);
+
+            // Denied by alice's bucket, so the IP bucket must not be charged
+            for (int i = 0; i < 50; i++) {
+                limiter.tryConsume("10.0.0.1", "alice", null, 1);
+            }
+
+            assertEquals(10, drain(limiter, "10.0.0.1", "bob", 1));
+            assertEquals(5, drain(limiter, "10.0.0.1", "carol", 1));
+        }
+    }
+
+    @Nested
+    @DisplayName("Cost")
+    class Cost {
+
+        @Test
+        @DisplayName("should weight calls by the cost their tool declares")
+        void shouldWeightByCost() {
+            McpRateLimiter limiter = limiter();
+
+            assertEquals(5, limiter.costOf("simulate_arm"));
+            assertEquals(1, limiter.costOf("calculate_loan_payment"));
+            assertEquals(1, limiter.costOf(null));
+            assertEquals(2, drain(limiter, "10.0.0.1", "alice", limiter.costOf("simulate_arm")));
+        }
+
+        @Test
+        @DisplayName("should let configuration override a declared cost")
+        void shouldOverrideDeclaredCost() {
+            properties.setToolCosts(Map.of("simulate_arm", 2, "calculate_loan_payment", 3));
+            McpRateLimiter limiter = limiter();
+
+            assertEquals(2, limiter.costOf("simulate_arm"));
+            assertEquals(3, limiter.costOf("calculate_loan_payment"));
+        }
+
+        @Test
+        @DisplayName("should price unreadable calls as the most expensive tool")
+        void shouldReportMaxCost() {
+            assertEquals(5, limiter().maxCost());
+
+            properties.setToolCosts(Map.of("simulate_arm", 8));
+            assertEquals(8, limiter().maxCost());
+        }
+
+        @Test
+        @DisplayName("should clamp a cost above the principal capacity")
+        void shouldClampCost() {
+            McpRateLimiter limiter = limiter();
+
+            assertTrue(limiter.tryConsume("10.0.0.1", "alice", null, 500).allowed());
+            assertFalse(limiter.tryConsume("10.0.0.1", "alice", null, 1).allowed());
+        }
+
+        @Test
+        @DisplayName("should report when enough tokens will be back")
+        void shouldReportRetryAfter() {
+            McpRateLimiter limiter = limiter();
+            drain(limiter, "10.0.0.1", "alice", 1);
+
+            McpRateLimiter.Decision decision = limiter.tryConsume("10.0.0.1", "alice", null, 1);
+
+            assertFalse(decision.allowed());
+            assertTrue(decision.retryAfterSeconds() >= 1 && decision.retryAfterSeconds() <= 60,
+                    "retry after " + decision.retryAfterSeconds());
+        }
+
+        @Test
+        @DisplayName("should allow everything when disabled")
+        void shouldAllowWhenDisabled() {
+            properties.setEnabled(false);
+            McpRateLimiter limiter = limiter();
+
+            for (int i = 0; i < 100; i++) {
+                assertTrue(limiter.tryConsume("10.0.0.1", "alice", null, 5).allowed());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("should hold a bounded number of buckets for a million distinct IPs")
+    void shouldBoundMemory() {
+        properties.setMaxKeys(10_000);
+        properties.setGlobalRequestsPerMinute(Integer.MAX_VALUE);
+        McpRateLimiter limiter = limiter();
+
+        for (int i = 0; i < 1_000_000; i++) {
+            String ip = "10." + (i >> 16) + "." + ((i >> 8) & 0xff) + "." + (i & 0xff);
+            assertTrue(limiter.tryConsume(ip, null, null, 1).allowed());
+        }
+
+        assertTrue(limiter.trackedKeys() <= 10_000, "tracked " + limiter.trackedKeys());
+    }
+}
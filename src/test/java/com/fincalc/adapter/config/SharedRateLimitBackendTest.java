@@ -0,0 +1,206 @@
+package com.fincalc.adapter.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs the shared backend against an in-memory H2 database standing in for PostgreSQL.
+ */
+@DisplayName("SharedRateLimitBackend")
+class SharedRateLimitBackendTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private DriverManagerDataSource dataSource;
+    private JdbcRateLimitStore store;
+    private RateLimitProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:ratelimit;MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", "");
+        new JdbcTemplate(dataSource).execute("CREATE TABLE rate_limit_bucket ("
+                + "bucket_key VARCHAR(255) PRIMARY KEY, tokens DOUBLE PRECISION NOT NULL, refilled_at BIGINT NOT NULL)");
+        store = spy(new JdbcRateLimitStore(dataSource, new DataSourceTransactionManager(dataSource), now::get));
+        properties = new RateLimitProperties();
+    }
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(dataSource).execute("DROP TABLE IF EXISTS rate_limit_bucket");
+    }
+
+    private SharedRateLimitBackend pod() {
+        return new SharedRateLimitBackend(properties, store, now::get);
+    }
+
+    private int drain(SharedRateLimitBackend backend, String key, int perMinute) {
+        int allowed = 0;
+        while (backend.tryConsume(key, perMinute, 1).isConsumed()) {
+            allowed++;
+        }
+        return allowed;
+    }
+
+    @Nested
+    @DisplayName("Shared limits")
+    class SharedLimits {
+
+        @Test
+        @DisplayName("should enforce one limit across pods")
+        void shouldShareLimitAcrossPods() {
+            SharedRateLimitBackend podA = pod();
+            SharedRateLimitBackend podB = pod();
+
+            int allowed = 0;
+            for (int i = 0; i < 100; i++) {
+                allowed += podA.tryConsume("user:alice", 60, 1).isConsumed() ? 1 : 0;
+                allowed += podB.tryConsume("user:alice", 60, 1).isConsumed() ? 1 : 0;
+            }
+
+            assertEquals(60, allowed);
+        }
+
+        @Test
+        @DisplayName("should refill the shared bucket over time")
+        void shouldRefill() {
+            SharedRateLimitBackend backend = pod();
+            assertEquals(60, drain(backend, "user:alice", 60));
+
+            now.addAndGet(10_000);
+
+            assertEquals(10, drain(backend, "user:alice", 60));
+        }
+
+        @Test
+        @DisplayName("should report how long until the missing tokens refill")
+        void shouldReportWait() {
+            SharedRateLimitBackend backend = pod();
+            drain(backend, "user:alice", 60);
+
+            var probe = backend.tryConsume("user:alice", 60, 3);
+
+            assertFalse(probe.isConsumed());
+            assertEquals(3_000_000_000L, probe.getNanosToWaitForRefill());
+        }
+    }
+
+    @Nested
+    @DisplayName("Leasing")
+    class Leasing {
+
+        @Test
+        @DisplayName("should serve requests from a local lease without a database round-trip")
+        void shouldServeFromLease() {
+            properties.setLeaseFraction(0.05);
+            SharedRateLimitBackend backend = pod();
+
+            for (int i = 0; i < 50; i++) {
+                assertTrue(backend.tryConsume("global", 1000, 1).isConsumed());
+            }
+
+            verify(store, times(1)).acquire("global", 1000, 50);
+        }
+
+        @Test
+        @DisplayName("should lease at least the cost of an expensive call")
+        void shouldLeaseCost() {
+            SharedRateLimitBackend backend = pod();
+
+            assertTrue(backend.tryConsume("user:alice", 60, 5).isConsumed());
+
+            verify(store).acquire("user:alice", 60, 5);
+        }
+
+        @Test
+        @DisplayName("should drop an expired lease and take a fresh one")
+        void shouldExpireLease() {
+            properties.setLeaseSeconds(5);
+            SharedRateLimitBackend backend = pod();
+            backend.tryConsume("global", 1000, 1);
+
+            now.addAndGet(5_000);
+            backend.tryConsume("global", 1000, 1);
+
+            verify(store, times(2)).acquire(eq("global"), eq(1000), anyLong());
+        }
+
+        @Test
+        @DisplayName("should return refunded tokens to the lease")
+        void shouldRefundToLease() {
+            SharedRateLimitBackend backend = pod();
+            assertEquals(60, drain(backend, "user:alice", 60));
+
+            backend.refund("user:alice", 60, 2);
+
+            assertEquals(2, drain(backend, "user:alice", 60));
+        }
+    }
+
+    @Nested
+    @DisplayName("Failures")
+    class Failures {
+
+        @Test
+        @DisplayName("should fall back to per-pod limits when the database fails")
+        void shouldFallBackToLocal() {
+            new JdbcTemplate(dataSource).execute("DROP TABLE rate_limit_bucket");
+            SharedRateLimitBackend backend = pod();
+
+            assertEquals(60, drain(backend, "user:alice", 60));
+        }
+
+        @Test
+        @DisplayName("should skip a failing store until the retry interval passes, then probe it once")
+        void shouldBackOffFromFailingStore() {
+            properties.setStoreRetrySeconds(5);
+            doThrow(new DataAccessResourceFailureException("connection refused"))
+                    .when(store).acquire(anyString(), anyInt(), anyLong());
+            SharedRateLimitBackend backend = pod();
+
+            assertEquals(60, drain(backend, "user:alice", 60));
+            verify(store, times(1)).acquire(anyString(), anyInt(), anyLong());
+
+            now.addAndGet(5_000);
+            backend.tryConsume("user:bob", 60, 1);
+            backend.tryConsume("user:bob", 60, 1);
+            verify(store, times(2)).acquire(anyString(), anyInt(), anyLong());
+
+            doCallRealMethod().when(store).acquire(anyString(), anyInt(), anyLong());
+            now.addAndGet(5_000);
+            assertTrue(backend.tryConsume("user:carol", 60, 1).isConsumed());
+            Integer shared = new JdbcTemplate(dataSource).queryForObject(
+                    "SELECT COUNT(*) FROM rate_limit_bucket WHERE bucket_key = 'user:carol'", Integer.class);
+            assertEquals(1, shared);
+        }
+
+        @Test
+        @DisplayName("should purge buckets idle for longer than the idle timeout")
+        void shouldPurgeIdle() {
+            SharedRateLimitBackend backend = pod();
+            backend.tryConsume("user:alice", 60, 1);
+            now.addAndGet(properties.getIdleMinutes() * 60_000L + 1);
+            backend.tryConsume("user:bob", 60, 1);
+
+            backend.purgeIdle();
+
+            Integer remaining = new JdbcTemplate(dataSource)
+                    .queryForObject("SELECT COUNT(*) FROM rate_limit_bucket", Integer.class);
+            assertEquals(1, remaining);
+        }
+    }
+}
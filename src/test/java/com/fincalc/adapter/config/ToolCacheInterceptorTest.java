@@ -0,0 +1,85 @@
+package com.fincalc.adapter.config;
+
+import com.fincalc.application.ToolArguments;
+import com.fincalc.application.ToolCall;
+import com.fincalc.application.ToolDescriptor;
+import com.fincalc.application.ToolInterceptor;
+import com.fincalc.application.ToolPolicy;
+import com.fincalc.application.ToolProgress;
+import com.fincalc.domain.model.Deadline;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ToolCacheInterceptor")
+class ToolCacheInterceptorTest {
+
+    private final AtomicInteger executions = new AtomicInteger();
+    private ToolCacheInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new ToolCacheInterceptor(new SimpleMeterRegistry(), 100, Duration.ofMinutes(10));
+    }
+
+    private ToolDescriptor<Object, Object> tool(ToolPolicy policy) {
+        return ToolDescriptor.of(Map.of("name", "calculate_loan_payment"), policy,
+                (args, call) -> args, (args, call) -> args, (args, result, call) -> Map.of());
+    }
+
+    private final ToolInterceptor.Invoker next = (arguments, call) -> {
+        executions.incrementAndGet();
+        call.defaultsUsed().put("years", 30);
+        Map<String, Object> meta = new HashMap<>();
+        meta.put("requestId", call.context().getRequestId());
+        return Map.of("structuredContent", Map.of("principal", arguments.asMap().get("principal")), "_meta", meta);
+    };
+
+    private static ToolCall call(String country, String requestId) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/mcp");
+        request.addHeader("X-OpenAI-Country", country);
+        request.addHeader("X-Request-Id", requestId);
+        return new ToolCall("calculate_loan_payment", new ChatGptRequestContext(request), ToolProgress.NONE, Deadline.NONE);
+    }
+
+    @Test
+    @DisplayName("should serve a repeated call from the cache as if it were fresh")
+    void shouldReuseResponse() {
+        ToolInterceptor.Invoker invoker = interceptor.wrap(tool(ToolPolicy.DEFAULT.cached()), next);
+        invoker.invoke(ToolArguments.of(Map.of("principal", 200000)), call("US", "req-1"));
+
+        ToolCall second = call("US", "req-2");
+        Map<String, Object> response = invoker.invoke(ToolArguments.of(Map.of("principal", 200000)), second);
+
+        assertEquals(1, executions.get());
+        assertEquals("req-2", ((Map<?, ?>) response.get("_meta")).get("requestId"));
+        assertEquals(Map.of("years", 30), second.defaultsUsed());
+    }
+
+    @Test
+    @DisplayName("should keep responses apart by arguments and country")
+    void shouldKeyByArgumentsAndContext() {
+        ToolInterceptor.Invoker invoker = interceptor.wrap(tool(ToolPolicy.DEFAULT.cached()), next);
+
+        invoker.invoke(ToolArguments.of(Map.of("principal", 200000)), call("US", "req-1"));
+        invoker.invoke(ToolArguments.of(Map.of("principal", 300000)), call("US", "req-2"));
+        invoker.invoke(ToolArguments.of(Map.of("principal", 200000)), call("DE", "req-3"));
+
+        assertEquals(3, executions.get());
+    }
+
+    @Test
+    @DisplayName("should leave tools that are not cacheable alone")
+    void shouldSkipUncacheableTools() {
+        assertSame(next, interceptor.wrap(tool(ToolPolicy.DEFAULT), next));
+    }
+}
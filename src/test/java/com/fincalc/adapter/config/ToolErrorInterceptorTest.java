@@ -0,0 +1,65 @@
+package com.fincalc.adapter.config;
+
+import com.fincalc.application.ToolArguments;
+import com.fincalc.application.ToolCall;
+import com.fincalc.application.ToolDescriptor;
+import com.fincalc.application.ToolInterceptor;
+import com.fincalc.application.ToolPolicy;
+import com.fincalc.application.ToolProgress;
+import com.fincalc.domain.model.Deadline;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ToolErrorInterceptor")
+class ToolErrorInterceptorTest {
+
+    private static RuntimeException failWith(RuntimeException error) {
+        ToolDescriptor<Object, Object> tool = ToolDescriptor.of(Map.of("name", "simulate_arm"), ToolPolicy.DEFAULT,
+                (args, call) -> args, (args, call) -> args, (args, result, call) -> Map.of());
+        ToolInterceptor.Invoker invoker = new ToolErrorInterceptor().wrap(tool, (arguments, call) -> {
+            throw error;
+        });
+        return assertThrows(RuntimeException.class, () -> invoker.invoke(ToolArguments.EMPTY,
+                new ToolCall("simulate_arm", null, ToolProgress.NONE, Deadline.NONE)));
+    }
+
+    @Test
+    @DisplayName("should name the tool in validation errors")
+    void shouldEnrichValidationErrors() {
+        RuntimeException e = failWith(new IllegalArgumentException("Principal must be positive"));
+
+        assertInstanceOf(IllegalArgumentException.class, e);
+        assertEquals("Error in ARM Simulator: Principal must be positive", e.getMessage());
+    }
+
+    @Test
+    @DisplayName("should turn calculation failures into input errors")
+    void shouldMapArithmeticErrors() {
+        RuntimeException e = failWith(new ArithmeticException("Division by zero"));
+
+        assertInstanceOf(IllegalArgumentException.class, e);
+        assertTrue(e.getMessage().startsWith("Error in ARM Simulator: Calculation error"));
+    }
+
+    @Test
+    @DisplayName("should hide unexpected errors behind a generic message")
+    void shouldHideUnexpectedErrors() {
+        RuntimeException e = failWith(new IllegalStateException("connection reset"));
+
+        assertEquals("Failed to execute ARM Simulator. Please verify your inputs and try again.", e.getMessage());
+    }
+
+    @Test
+    @DisplayName("should let an exceeded deadline through for the dispatcher to report")
+    void shouldPassDeadlineThrough() {
+        Deadline deadline = Deadline.after(Duration.ZERO);
+        Deadline.ExceededException exceeded = assertThrows(Deadline.ExceededException.class, deadline::check);
+
+        assertSame(exceeded, failWith(exceeded));
+    }
+}
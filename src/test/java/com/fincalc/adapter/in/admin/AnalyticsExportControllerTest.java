@@ -0,0 +1,142 @@
+package com.fincalc.adapter.in.admin;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fincalc.adapter.out.persistence.AnalyticsExportReader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AnalyticsExportController")
+class AnalyticsExportControllerTest {
+
+    @Mock
+    private AnalyticsExportReader exportReader;
+
+    private AnalyticsExportController controller;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        controller = new AnalyticsExportController(exportReader, objectMapper);
+    }
+
+    private static String body(ResponseEntity<StreamingResponseBody> response) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @Nested
+    @DisplayName("Daily Export")
+    class DailyExport {
+
+        @Test
+        @DisplayName("should write a CSV header and one line per row, quoting where needed")
+        void shouldWriteCsv() throws Exception {
+            when(exportReader.streamDaily(eq(LocalDate.of(2025, 1, 1)), eq(LocalDate.of(2025, 1, 31)), eq("tool"), any()))
+                    .thenAnswer(inv -> {
+                        AnalyticsExportReader.RowSink sink = inv.getArgument(3);
+                        sink.accept(new Object[]{LocalDate.of(2025, 1, 2), "tool", "calculate_loan_payment", 12L});
+                        sink.accept(new Object[]{LocalDate.of(2025, 1, 3), "tool", "say \"hi\", twice", 3L});
+                        return 2L;
+                    });
+
+            ResponseEntity<StreamingResponseBody> response = controller.exportDaily(
+                    LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31), "tool", "csv");
+
+            assertEquals("text/csv", response.getHeaders().getContentType().toString());
+            assertTrue(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION)
+                    .contains("analytics-daily-2025-01-01-2025-01-31.csv"));
+            assertEquals("""
+                    stat_date,category,name,count
+                    2025-01-02,tool,calculate_loan_payment,12
+                    2025-01-03,tool,"say ""hi"", twice",3
+                    """, body(response));
+        }
+
+        @Test
+        @DisplayName("should neutralise text that a spreadsheet would read as a formula")
+        void shouldEscapeFormulas() throws Exception {
+            when(exportReader.streamDaily(any(), any(), isNull(), any())).thenAnswer(inv -> {
+                AnalyticsExportReader.RowSink sink = inv.getArgument(3);
+                sink.accept(new Object[]{LocalDate.of(2025, 1, 2), "argument", "=HYPERLINK(\"http://x\")", -1L});
+                sink.accept(new Object[]{LocalDate.of(2025, 1, 2), "argument", "@SUM(A1)", 2L});
+                sink.accept(new Object[]{LocalDate.of(2025, 1, 2), "argument", "+1", 3L});
+                sink.accept(new Object[]{LocalDate.of(2025, 1, 2), "argument", "\tx", 4L});
+                return 4L;
+            });
+
+            String body = body(controller.exportDaily(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31), null, "csv"));
+
+            assertEquals("""
+                    stat_date,category,name,count
+                    2025-01-02,argument,"'=HYPERLINK(""http://x"")",-1
+                    2025-01-02,argument,'@SUM(A1),2
+                    2025-01-02,argument,'+1,3
+                    2025-01-02,argument,'\tx,4
+                    """, body);
+        }
+
+        @Test
+        @DisplayName("should reject a range that ends before it starts")
+        void shouldRejectInvertedRange() {
+            ResponseStatusException e = assertThrows(ResponseStatusException.class, () -> controller.exportDaily(
+                    LocalDate.of(2025, 2, 1), LocalDate.of(2025, 1, 1), null, "csv"));
+
+            assertEquals(HttpStatus.BAD_REQUEST, e.getStatusCode());
+            verifyNoInteractions(exportReader);
+        }
+    }
+
+    @Nested
+    @DisplayName("Stats Export")
+    class StatsExport {
+
+        @Test
+        @DisplayName("should write one JSON object per line")
+        void shouldWriteNdjson() throws Exception {
+            when(exportReader.streamStats(isNull(), any())).thenAnswer(inv -> {
+                AnalyticsExportReader.RowSink sink = inv.getArgument(1);
+                sink.accept(new Object[]{"country:US", "country", "US", 40L, LocalDateTime.of(2025, 1, 2, 3, 4, 5)});
+                sink.accept(new Object[]{"tool:x", "tool", "x", 1L, null});
+                return 2L;
+            });
+
+            String body = body(controller.exportStats(" ", "ndjson"));
+
+            assertEquals("""
+                    {"id":"country:US","category":"country","name":"US","count":40,"last_updated":"2025-01-02T03:04:05"}
+                    {"id":"tool:x","category":"tool","name":"x","count":1,"last_updated":null}
+                    """, body);
+        }
+
+        @Test
+        @DisplayName("should reject unknown formats")
+        void shouldRejectUnknownFormat() {
+            assertThrows(ResponseStatusException.class, () -> controller.exportStats(null, "xlsx"));
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.fincalc.adapter.in.web;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.fincalc.adapter.in.web.McpConcurrencyLimiter.Lane.CHEAP;
+import static com.fincalc.adapter.in.web.McpConcurrencyLimiter.Lane.EXPENSIVE;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("McpConcurrencyLimiter")
+class McpConcurrencyLimiterTest {
+
+    private final AtomicLong nanos = new AtomicLong(TimeUnit.SECONDS.toNanos(100));
+    private SimpleMeterRegistry meterRegistry;
+    private McpConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        limiter = limiter(10, 4, 20);
+    }
+
+    private McpConcurrencyLimiter limiter(int initial, int min, int max) {
+        return new McpConcurrencyLimiter(meterRegistry, tool -> "simulate_arm".equals(tool) ? 5 : 1,
+                initial, min, max, 0.5, 3, nanos::get);
+    }
+
+    private void call(long latencyMillis) {
+        call(CHEAP, latencyMillis);
+    }
+
+    private void call(McpConcurrencyLimiter.Lane lane, long latencyMillis) {
+        McpConcurrencyLimiter.Permit permit = limiter.acquire(lane);
+        nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(latencyMillis));
+        permit.close();
+    }
+
+    @Nested
+    @DisplayName("Admission")
+    class Admission {
+
+        @Test
+        @DisplayName("should reject calls beyond the limit with a retry hint")
+        void shouldRejectBeyondLimit() {
+            List<McpConcurrencyLimiter.Permit> permits = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                permits.add(limiter.acquire(CHEAP));
+            }
+
+            var e = assertThrows(McpConcurrencyLimiter.OverloadedException.class, () -> limiter.acquire(CHEAP));
+            assertTrue(e.retryAfterSeconds() >= 1);
+            assertEquals(1.0, meterRegistry.get("mcp.concurrency.rejected").tag("lane", "cheap").counter().count());
+
+            permits.get(0).close();
+            assertDoesNotThrow(() -> limiter.acquire(CHEAP));
+        }
+
+        @Test
+        @DisplayName("should keep expensive tools to their share so cheap tools still get through")
+        void shouldReserveCapacityForCheapLane() {
+            for (int i = 0; i < 5; i++) {
+                limiter.acquire(EXPENSIVE);
+            }
+
+            assertThrows(McpConcurrencyLimiter.OverloadedException.class, () -> limiter.acquire(EXPENSIVE));
+            for (int i = 0; i < 5; i++) {
+                limiter.acquire(CHEAP);
+            }
+            assertEquals(10, limiter.inFlight());
+            assertEquals(5.0, meterRegistry.get("mcp.concurrency.in_flight").tag("lane", "expensive").gauge().value());
+        }
+
+        @Test
+        @DisplayName("should release a permit only once")
+        void shouldReleaseOnce() {
+            McpConcurrencyLimiter.Permit permit = limiter.acquire(CHEAP);
+
+            permit.close();
+            permit.close();
+
+            assertEquals(0, limiter.inFlight());
+        }
+
+        @Test
+        @DisplayName("should put tools in lanes by cost")
+        void shouldPickLaneByCost() {
+            assertEquals(EXPENSIVE, limiter.laneOf("simulate_arm"));
+            assertEquals(CHEAP, limiter.laneOf("calculate_loan_payment"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Adaptation")
+    class Adaptation {
+
+        @Test
+        @DisplayName("should back off when latency climbs, down to the minimum")
+        void shouldDecreaseOnLatency() {
+            call(10);
+
+            for (int i = 0; i < 50; i++) {
+                call(2_000);
+            }
+
+            assertEquals(4, limiter.currentLimit());
+            assertEquals(4.0, meterRegistry.get("mcp.concurrency.limit").gauge().value());
+        }
+
+        @Test
+        @DisplayName("should grow while healthy and in use, up to the maximum")
+        void shouldIncreaseWhenUtilized() {
+            List<McpConcurrencyLimiter.Permit> held = new ArrayList<>();
+            for (int i = 0; i < 9; i++) {
+                held.add(limiter.acquire(CHEAP));
+            }
+
+            for (int i = 0; i < 30; i++) {
+                call(10);
+            }
+
+            assertEquals(20, limiter.currentLimit());
+            held.forEach(McpConcurrencyLimiter.Permit::close);
+        }
+
+        @Test
+        @DisplayName("should not grow while mostly idle")
+        void shouldNotIncreaseWhenIdle() {
+            for (int i = 0; i < 30; i++) {
+                call(10);
+            }
+
+            assertEquals(10, limiter.currentLimit());
+        }
+
+        @Test
+        @DisplayName("should judge each lane against its own baseline")
+        void shouldKeepLatencyPerLane() {
+            List<McpConcurrencyLimiter.Permit> held = new ArrayList<>();
+            for (int i = 0; i < 9; i++) {
+                held.add(limiter.acquire(CHEAP));
+            }
+
+            for (int i = 0; i < 10; i++) {
+                call(CHEAP, 10);
+                call(EXPENSIVE, 2_000);
+            }
+
+            assertEquals(20, limiter.currentLimit());
+            held.forEach(McpConcurrencyLimiter.Permit::close);
+        }
+
+        @Test
+        @DisplayName("should back off when a lane slows down against its own baseline")
+        void shouldDecreaseWhenExpensiveLaneSlows() {
+            call(EXPENSIVE, 1_000);
+
+            for (int i = 0; i < 50; i++) {
+                call(CHEAP, 10);
+                call(EXPENSIVE, 5_000);
+            }
+
+            assertEquals(4, limiter.currentLimit());
+        }
+
+        @Test
+        @DisplayName("should ignore latency below the noise floor")
+        void shouldIgnoreSmallLatency() {
+            call(1);
+
+            for (int i = 0; i < 30; i++) {
+                call(100);
+            }
+
+            assertEquals(10, limiter.currentLimit());
+        }
+    }
+}
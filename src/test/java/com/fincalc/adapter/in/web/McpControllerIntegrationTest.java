@@ -1,5 +1,6 @@
 package com.fincalc.adapter.in.web;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -11,6 +12,8 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import static org.hamcrest.Matchers.*;
@@ -47,23 +50,40 @@ class McpControllerIntegrationTest {
     @DisplayName("JSON-RPC Messages")
     class JsonRpcMessages {
 
-        private String getSessionId() throws Exception {
-            MvcResult result = mockMvc.perform(get("/mcp")
+        private MvcResult connect() throws Exception {
+            return mockMvc.perform(get("/mcp")
                             .accept(MediaType.TEXT_EVENT_STREAM_VALUE))
                     .andReturn();
+        }
 
-            String content = result.getResponse().getContentAsString();
+        private String getSessionId(MvcResult stream) throws Exception {
+            String content = stream.getResponse().getContentAsString();
             int start = content.indexOf("sessionId=") + 10;
             int end = content.indexOf("\n", start);
             if (end == -1) end = content.length();
             return content.substring(start, end).trim();
         }
 
+        /**
+         * Post a message on a new session and return the response delivered on its SSE stream.
+         */
+        private JsonNode send(Map<String, Object> request) throws Exception {
+            MvcResult stream = connect();
+
+            mockMvc.perform(post("/mcp/messages")
+                            .param("sessionId", getSessionId(stream))
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isAccepted())
+                    .andExpect(content().string(""));
+
+            String content = stream.getResponse().getContentAsString();
+            return objectMapper.readTree(content.substring(content.lastIndexOf("data:") + 5).trim());
+        }
+
         @Test
         @DisplayName("should handle initialize request")
         void shouldHandleInitializeRequest() throws Exception {
-            String sessionId = getSessionId();
-
             Map<String, Object> request = Map.of(
                     "jsonrpc", "2.0",
                     "id", 1,
@@ -74,48 +94,40 @@ class McpControllerIntegrationTest {
                     )
             );
 
-            mockMvc.perform(post("/mcp/messages")
-                            .param("sessionId", sessionId)
-                            .contentType(MediaType.APPLICATION_JSON)
-                            .content(objectMapper.writeValueAsString(request)))
-                    .andExpect(status().isAccepted())
-                    .andExpect(jsonPath("$.jsonrpc").value("2.0"))
-                    .andExpect(jsonPath("$.id").value(1))
-                    .andExpect(jsonPath("$.result.serverInfo.name").value("fincalc-pro"))
-                    .andExpect(jsonPath("$.result.capabilities.tools").exists());
+            JsonNode response = send(request);
+
+            assertEquals("2.0", response.at("/jsonrpc").asText());
+            assertEquals(1, response.at("/id").asInt());
+            assertEquals("Numerai Finance", response.at("/result/serverInfo/name").asText());
+            assertFalse(response.at("/result/capabilities/tools").isMissingNode());
         }
 
         @Test
         @DisplayName("should list available tools")
         void shouldListAvailableTools() throws Exception {
-            String sessionId = getSessionId();
-
             Map<String, Object> request = Map.of(
                     "jsonrpc", "2.0",
                     "id", 2,
                     "method", "tools/list"
             );
 
-            mockMvc.perform(post("/mcp/messages")
-                            .param("sessionId", sessionId)
-                            .contentType(MediaType.APPLICATION_JSON)
-                            .content(objectMapper.writeValueAsString(request)))
-                    .andExpect(status().isAccepted())
-                    .andExpect(jsonPath("$.result.tools").isArray())
-                    .andExpect(jsonPath("$.result.tools", hasSize(4)))
-                    .andExpect(jsonPath("$.result.tools[*].name", hasItems(
-                            "calculate_loan_payment",
-                            "calculate_compound_interest",
-                            "estimate_taxes",
-                            "get_current_rates"
-                    )));
+            JsonNode tools = send(request).at("/result/tools");
+
+            assertTrue(tools.isArray());
+            assertEquals(8, tools.size());
+            List<String> names = new ArrayList<>();
+            tools.forEach(tool -> names.add(tool.get("name").asText()));
+            assertTrue(names.containsAll(List.of(
+                    "calculate_loan_payment",
+                    "calculate_compound_interest",
+                    "estimate_taxes",
+                    "get_current_rates"
+            )));
         }
 
         @Test
         @DisplayName("should execute loan payment tool")
         void shouldExecuteLoanPaymentTool() throws Exception {
-            String sessionId = getSessionId();
-
             Map<String, Object> request = Map.of(
                     "jsonrpc", "2.0",
                     "id", 3,
@@ -130,22 +142,17 @@ class McpControllerIntegrationTest {
                     )
             );
 
-            mockMvc.perform(post("/mcp/messages")
-                            .param("sessionId", sessionId)
-                            .contentType(MediaType.APPLICATION_JSON)
-                            .content(objectMapper.writeValueAsString(request)))
-                    .andExpect(status().isAccepted())
-                    .andExpect(jsonPath("$.result.content").isArray())
-                    .andExpect(jsonPath("$.result.structuredContent.result.monthlyPayment").isNumber())
-                    .andExpect(jsonPath("$.result.structuredContent.result.totalPayment").isNumber())
-                    .andExpect(jsonPath("$.result.structuredContent.result.totalInterest").isNumber());
+            JsonNode response = send(request);
+
+            assertTrue(response.at("/result/content").isArray());
+            assertTrue(response.at("/result/structuredContent/result/monthlyPayment").isNumber());
+            assertTrue(response.at("/result/structuredContent/result/totalPayment").isNumber());
+            assertTrue(response.at("/result/structuredContent/result/totalInterest").isNumber());
         }
 
         @Test
         @DisplayName("should execute compound interest tool")
         void shouldExecuteCompoundInterestTool() throws Exception {
-            String sessionId = getSessionId();
-
             Map<String, Object> request = Map.of(
                     "jsonrpc", "2.0",
                     "id", 4,
@@ -161,21 +168,16 @@ class McpControllerIntegrationTest {
                     )
             );
 
-            mockMvc.perform(post("/mcp/messages")
-                            .param("sessionId", sessionId)
-                            .contentType(MediaType.APPLICATION_JSON)
-                            .content(objectMapper.writeValueAsString(request)))
-                    .andExpect(status().isAccepted())
-                    .andExpect(jsonPath("$.result.structuredContent.result.futureValue").isNumber())
-                    .andExpect(jsonPath("$.result.structuredContent.result.totalContributions").isNumber())
-                    .andExpect(jsonPath("$.result.structuredContent.result.totalInterestEarned").isNumber());
+            JsonNode response = send(request);
+
+            assertTrue(response.at("/result/structuredContent/result/futureValue").isNumber());
+            assertTrue(response.at("/result/structuredContent/result/totalContributions").isNumber());
+            assertTrue(response.at("/result/structuredContent/result/totalInterestEarned").isNumber());
         }
 
         @Test
         @DisplayName("should execute tax estimation tool")
         void shouldExecuteTaxEstimationTool() throws Exception {
-            String sessionId = getSessionId();
-
             Map<String, Object> request = Map.of(
                     "jsonrpc", "2.0",
                     "id", 5,
@@ -190,15 +192,12 @@ class McpControllerIntegrationTest {
                     )
             );
 
-            mockMvc.perform(post("/mcp/messages")
-                            .param("sessionId", sessionId)
-                            .contentType(MediaType.APPLICATION_JSON)
-                            .content(objectMapper.writeValueAsString(request)))
-                    .andExpect(status().isAccepted())
-                    .andExpect(jsonPath("$.result.structuredContent.result.federalTax").isNumber())
-                    .andExpect(jsonPath("$.result.structuredContent.result.stateTax").isNumber())
-                    .andExpect(jsonPath("$.result.structuredContent.result.takeHomePay").isNumber())
-                    .andExpect(jsonPath("$.result.structuredContent.result.effectiveRate").isNumber());
+            JsonNode response = send(request);
+
+            assertTrue(response.at("/result/structuredContent/result/federalTax").isNumber());
+            assertTrue(response.at("/result/structuredContent/result/stateTax").isNumber());
+            assertTrue(response.at("/result/structuredContent/result/takeHomePay").isNumber());
+            assertTrue(response.at("/result/structuredContent/result/effectiveRate").isNumber());
         }
 
         @Test
@@ -220,28 +219,21 @@ class McpControllerIntegrationTest {
         @Test
         @DisplayName("should return error for unknown method")
         void shouldReturnErrorForUnknownMethod() throws Exception {
-            String sessionId = getSessionId();
-
             Map<String, Object> request = Map.of(
                     "jsonrpc", "2.0",
                     "id", 7,
                     "method", "unknown/method"
             );
 
-            mockMvc.perform(post("/mcp/messages")
-                            .param("sessionId", sessionId)
-                            .contentType(MediaType.APPLICATION_JSON)
-                            .content(objectMapper.writeValueAsString(request)))
-                    .andExpect(status().isAccepted())
-                    .andExpect(jsonPath("$.error").exists())
-                    .andExpect(jsonPath("$.error.code").value(-32601));
+            JsonNode response = send(request);
+
+            assertFalse(response.at("/error").isMissingNode());
+            assertEquals(-32601, response.at("/error/code").asInt());
         }
 
         @Test
         @DisplayName("should return error for invalid tool arguments")
         void shouldReturnErrorForInvalidToolArguments() throws Exception {
-            String sessionId = getSessionId();
-
             Map<String, Object> request = Map.of(
                     "jsonrpc", "2.0",
                     "id", 8,
@@ -256,12 +248,69 @@ class McpControllerIntegrationTest {
                     )
             );
 
-            mockMvc.perform(post("/mcp/messages")
-                            .param("sessionId", sessionId)
+            JsonNode response = send(request);
+
+            assertFalse(response.at("/error").isMissingNode());
+        }
+    }
+
+    @Nested
+    @DisplayName("Streamable HTTP")
+    class StreamableHttp {
+
+        @Test
+        @DisplayName("should stream progress notifications before the result")
+        void shouldStreamProgressThenResult() throws Exception {
+            Map<String, Object> request = Map.of(
+                    "jsonrpc", "2.0",
+                    "id", 9,
+                    "method", "tools/call",
+                    "params", Map.of(
+                            "name", "simulate_retirement_drawdown",
+                            "arguments", Map.of("startingBalance", 500000, "withdrawal", 30000, "years", 3),
+                            "_meta", Map.of("progressToken", "drawdown-1")
+                    )
+            );
+
+            MvcResult result = mockMvc.perform(post("/mcp")
                             .contentType(MediaType.APPLICATION_JSON)
+                            .accept(MediaType.APPLICATION_JSON, MediaType.TEXT_EVENT_STREAM)
                             .content(objectMapper.writeValueAsString(request)))
-                    .andExpect(status().isAccepted())
-                    .andExpect(jsonPath("$.error").exists());
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("Content-Type", containsString("text/event-stream")))
+                    .andReturn();
+
+            List<JsonNode> events = new ArrayList<>();
+            for (String line : result.getResponse().getContentAsString().split("\n")) {
+                if (line.startsWith("data:")) {
+                    events.add(objectMapper.readTree(line.substring(5).trim()));
+                }
+            }
+
+            assertEquals(4, events.size());
+            assertEquals("notifications/progress", events.get(0).get("method").asText());
+            assertEquals("drawdown-1", events.get(0).at("/params/progressToken").asText());
+            assertEquals(3, events.get(2).at("/params/progress").asInt());
+            assertEquals(9, events.get(3).get("id").asInt());
+            assertTrue(events.get(3).at("/result/structuredContent/result/yearsFunded").isNumber());
+        }
+
+        @Test
+        @DisplayName("should answer with plain JSON without a progress token")
+        void shouldAnswerWithJsonWithoutProgressToken() throws Exception {
+            Map<String, Object> request = Map.of(
+                    "jsonrpc", "2.0",
+                    "id", 10,
+                    "method", "tools/list"
+            );
+
+            mockMvc.perform(post("/mcp")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .accept(MediaType.APPLICATION_JSON, MediaType.TEXT_EVENT_STREAM)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("Content-Type", containsString("application/json")))
+                    .andExpect(jsonPath("$.result.tools").isArray());
         }
     }
 
@@ -0,0 +1,186 @@
+package com.fincalc.adapter.in.web;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("McpSessionManager")
+class McpSessionManagerTest {
+
+    private static final long IDLE_MILLIS = 300_000;
+
+    private final AtomicLong now = new AtomicLong(1_700_000_000_000L);
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+    }
+
+    private McpSessionManager manager(int max, int perClient) {
+        return new McpSessionManager(registry, max, perClient, IDLE_MILLIS, now::get);
+    }
+
+    private double gauge() {
+        return registry.get("mcp.sessions.active").gauge().value();
+    }
+
+    @Nested
+    @DisplayName("Limits")
+    class Limits {
+
+        @Test
+        @DisplayName("should reject sessions beyond the per-client limit")
+        void shouldRejectBeyondClientLimit() {
+            var manager = manager(100, 2);
+            manager.open("10.0.0.1");
+            manager.open("10.0.0.1");
+
+            var e = assertThrows(McpSessionManager.SessionLimitExceededException.class, () -> manager.open("10.0.0.1"));
+            assertTrue(e.perClient());
+            assertNotNull(manager.open("10.0.0.2"), "other clients are unaffected");
+            assertEquals(3, manager.activeSessions());
+            assertEquals(1.0, registry.get("mcp.sessions.rejected").tag("reason", "client_limit").counter().count());
+        }
+
+        @Test
+        @DisplayName("should reject sessions beyond the node limit")
+        void shouldRejectBeyondNodeLimit() {
+            var manager = manager(3, 10);
+            for (int i = 0; i < 3; i++) {
+                manager.open("client-" + i);
+            }
+
+            var e = assertThrows(McpSessionManager.SessionLimitExceededException.class, () -> manager.open("client-9"));
+            assertFalse(e.perClient());
+            assertEquals(3.0, gauge());
+        }
+
+        @Test
+        @DisplayName("should free capacity when a session closes")
+        void shouldFreeCapacityOnClose() {
+            var manager = manager(1, 1);
+            var session = manager.open("10.0.0.1");
+            manager.close(session.id(), "completed");
+            manager.close(session.id(), "completed");
+
+            assertNotNull(manager.open("10.0.0.1"));
+            assertEquals(1, manager.activeSessions());
+        }
+    }
+
+    @Nested
+    @DisplayName("Idle Eviction")
+    class IdleEviction {
+
+        @Test
+        @DisplayName("should evict a session once its idle timeout passes")
+        void shouldEvictIdleSession() {
+            var manager = manager(100, 10);
+            var session = manager.open("10.0.0.1");
+
+            now.addAndGet(IDLE_MILLIS - 1000);
+            manager.tick();
+            assertEquals(1, manager.activeSessions(), "still within the timeout");
+
+            now.addAndGet(2000);
+            manager.tick();
+            assertNull(manager.touch(session.id()));
+            assertEquals(0, manager.activeSessions());
+            assertEquals(1.0, registry.get("mcp.sessions.evicted").tag("reason", "idle").counter().count());
+        }
+
+        @Test
+        @DisplayName("should keep a session that stays active")
+        void shouldKeepActiveSession() {
+            var manager = manager(100, 10);
+            var active = manager.open("10.0.0.1");
+            var idle = manager.open("10.0.0.1");
+
+            for (int minute = 1; minute <= 20; minute++) {
+                now.addAndGet(60_000);
+                manager.touch(active.id());
+                manager.tick();
+            }
+
+            assertNotNull(manager.touch(active.id()));
+            assertNull(manager.touch(idle.id()));
+        }
+
+        @Test
+        @DisplayName("should evict a broken stream on heartbeat")
+        void shouldEvictOnFailedHeartbeat() {
+            var manager = manager(100, 10);
+            var healthy = manager.open("10.0.0.1");
+            var broken = manager.open("10.0.0.1");
+            broken.emitter().complete();
+
+            manager.heartbeat();
+
+            assertNotNull(manager.touch(healthy.id()));
+            assertNull(manager.touch(broken.id()));
+            assertEquals(1.0, registry.get("mcp.sessions.evicted").tag("reason", "heartbeat").counter().count());
+        }
+    }
+
+    @Nested
+    @DisplayName("Load")
+    class Load {
+
+        @Test
+        @DisplayName("should hold and evict 10k concurrent idle sessions")
+        void shouldHandleTenThousandIdleSessions() throws Exception {
+            int sessions = 10_000;
+            int clients = 500;
+            var manager = manager(sessions, sessions / clients);
+
+            ExecutorService pool = Executors.newFixedThreadPool(8);
+            try {
+                List<Future<?>> opened = new ArrayList<>();
+                for (int c = 0; c < clients; c++) {
+                    String client = "10.0." + (c / 250) + "." + (c % 250);
+                    opened.add(pool.submit(() -> {
+                        for (int i = 0; i < sessions / clients; i++) {
+                            manager.open(client);
+                        }
+                    }));
+                }
+                for (Future<?> f : opened) {
+                    f.get();
+                }
+            } finally {
+                pool.shutdown();
+            }
+
+            assertEquals(sessions, manager.activeSessions());
+            assertEquals(sessions, gauge());
+            assertThrows(McpSessionManager.SessionLimitExceededException.class, () -> manager.open("10.9.9.9"));
+
+            manager.heartbeat();
+            now.addAndGet(IDLE_MILLIS / 2);
+            manager.tick();
+            assertEquals(sessions, manager.activeSessions(), "nothing is evicted before the timeout");
+
+            now.addAndGet(IDLE_MILLIS);
+            long started = System.nanoTime();
+            manager.tick();
+            long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+            assertEquals(0, manager.activeSessions());
+            assertEquals(0.0, gauge());
+            assertEquals(sessions, registry.get("mcp.sessions.evicted").tag("reason", "idle").counter().count());
+            assertTrue(elapsedMillis < 5_000, "evicting 10k sessions took " + elapsedMillis + "ms");
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package com.fincalc.adapter.in.web;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fincalc.adapter.config.ChatGptRequestContext;
+import com.fincalc.adapter.config.LocalRateLimitBackend;
+import com.fincalc.adapter.config.McpRateLimiter;
+import com.fincalc.adapter.config.RateLimitProperties;
+import com.fincalc.adapter.in.web.dto.JsonRpcRequest;
+import com.fincalc.adapter.in.web.dto.JsonRpcResponse;
+import com.fincalc.application.AnalyticsService;
+import com.fincalc.application.ToolRegistry;
+import com.fincalc.domain.model.Deadline;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("McpWebSocketHandler")
+class McpWebSocketHandlerTest {
+
+    @Mock
+    private McpRequestDispatcher dispatcher;
+
+    @Mock
+    private AnalyticsService analyticsService;
+
+    @Mock
+    private WebSocketSession session;
+
+    @Mock
+    private ChatGptRequestContext context;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<JsonNode> sent = Collections.synchronizedList(new ArrayList<>());
+    private McpWebSocketHandler handler;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        handler = new McpWebSocketHandler(dispatcher, objectMapper, analyticsService,
+                permissiveRateLimiter(), new SimpleMeterRegistry(), 2);
+
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put(McpWebSocketHandler.CONTEXT_ATTRIBUTE, context);
+        lenient().when(session.getId()).thenReturn("ws-1");
+        lenient().when(session.isOpen()).thenReturn(true);
+        lenient().when(session.getAttributes()).thenReturn(attributes);
+        lenient().doAnswer(invocation -> {
+            WebSocketMessage<?> message = invocation.getArgument(0);
+            sent.add(objectMapper.readTree((String) message.getPayload()));
+            return null;
+        }).when(session).sendMessage(any());
+
+        handler.afterConnectionEstablished(session);
+    }
+
+    @AfterEach
+    void tearDown() {
+        handler.shutdown();
+    }
+
+    private static McpRateLimiter permissiveRateLimiter() {
+        RateLimitProperties properties = new RateLimitProperties();
+        return new McpRateLimiter(properties, new LocalRateLimitBackend(properties), new ToolRegistry(List.of()));
+    }
+
+    private void receive(String json) throws Exception {
+        handler.handleTextMessage(session, new TextMessage(json));
+    }
+
+    private void awaitSent(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (sent.size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(count, sent.size(), "messages sent: " + sent);
+    }
+
+    @Nested
+    @DisplayName("Requests")
+    class Requests {
+
+        @Test
+        @DisplayName("should answer with the request id and the handshake context")
+        void shouldAnswerWithRequestId() throws Exception {
+            when(dispatcher.dispatch(any(), any(), any(), any()))
+                    .thenAnswer(invocation -> JsonRpcResponse.success(
+                            ((JsonRpcRequest) invocation.getArgument(0)).id(), Map.of()));
+
+            receive("{\"jsonrpc\":\"2.0\",\"id\":1,\"method\":\"tools/list\"}");
+            receive("{\"jsonrpc\":\"2.0\",\"id\":2,\"method\":\"tools/list\"}");
+            awaitSent(2);
+
+            List<Integer> ids = sent.stream().map(node -> node.get("id").asInt()).sorted().toList();
+            assertEquals(List.of(1, 2), ids);
+            verify(dispatcher, times(2)).dispatch(any(), same(context), any(), any());
+        }
+
+        @Test
+        @DisplayName("should not answer notifications")
+        void shouldNotAnswerNotifications() throws Exception {
+            CountDownLatch dispatched = new CountDownLatch(1);
+            when(dispatcher.dispatch(any(), any(), any(), any())).thenAnswer(invocation -> {
+                dispatched.countDown();
+                return JsonRpcResponse.success(null, Map.of());
+            });
+
+            receive("{\"jsonrpc\":\"2.0\",\"method\":\"notifications/initialized\"}");
+
+            assertTrue(dispatched.await(5, TimeUnit.SECONDS));
+            Thread.sleep(50);
+            assertTrue(sent.isEmpty());
+        }
+
+        @Test
+        @DisplayName("should return a parse error for malformed JSON")
+        void shouldReturnParseError() throws Exception {
+            receive("{not json");
+
+            awaitSent(1);
+            assertEquals(-32700, sent.get(0).at("/error/code").asInt());
+            verifyNoInteractions(dispatcher);
+        }
+    }
+
+    @Nested
+    @DisplayName("Backpressure")
+    class Backpressure {
+
+        @Test
+        @DisplayName("should reject requests beyond the in-flight limit until one completes")
+        void shouldRejectBeyondInFlightLimit() throws Exception {
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch started = new CountDownLatch(2);
+            when(dispatcher.dispatch(any(), any(), any(), any())).thenAnswer(invocation -> {
+                started.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return JsonRpcResponse.success(
+                        ((JsonRpcRequest) invocation.getArgument(0)).id(), Map.of());
+            });
+
+            receive("{\"id\":1,\"method\":\"tools/list\"}");
+            receive("{\"id\":2,\"method\":\"tools/list\"}");
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            receive("{\"id\":3,\"method\":\"tools/list\"}");
+
+            awaitSent(1);
+            assertEquals(3, sent.get(0).get("id").asInt());
+            assertEquals(-32000, sent.get(0).at("/error/code").asInt());
+
+            release.countDown();
+            awaitSent(3);
+            // Permits are returned just after the response is handed to the session
+            Thread.sleep(100);
+            receive("{\"id\":4,\"method\":\"tools/list\"}");
+            awaitSent(4);
+            assertFalse(sent.get(3).has("error"), "capacity is freed once requests complete");
+        }
+
+        @Test
+        @DisplayName("should not charge the rate limit for requests rejected as busy")
+        void shouldNotChargeBusyRejections() throws Exception {
+            handler.shutdown();
+            RateLimitProperties properties = new RateLimitProperties();
+            properties.setRequestsPerMinute(3);
+            handler = new McpWebSocketHandler(dispatcher, objectMapper, analyticsService,
+                    new McpRateLimiter(properties, new LocalRateLimitBackend(properties), new ToolRegistry(List.of())),
+                    new SimpleMeterRegistry(), 2);
+            handler.afterConnectionEstablished(session);
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch started = new CountDownLatch(2);
+            when(dispatcher.dispatch(any(), any(), any(), any())).thenAnswer(invocation -> {
+                started.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                return JsonRpcResponse.success(
+                        ((JsonRpcRequest) invocation.getArgument(0)).id(), Map.of());
+            });
+
+            receive("{\"id\":1,\"method\":\"tools/list\"}");
+            receive("{\"id\":2,\"method\":\"tools/list\"}");
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            for (int id = 3; id <= 6; id++) {
+                receive("{\"id\":" + id + ",\"method\":\"tools/list\"}");
+            }
+            awaitSent(4);
+
+            release.countDown();
+            awaitSent(6);
+            Thread.sleep(100);
+            receive("{\"id\":7,\"method\":\"tools/list\"}");
+            awaitSent(7);
+            assertFalse(sent.get(6).has("error"), "busy rejections must not use up the rate limit");
+        }
+    }
+
+    @Test
+    @DisplayName("should cancel running tool calls when the connection closes")
+    void shouldCancelOnClose() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicReference<Deadline> deadline = new AtomicReference<>();
+        when(dispatcher.dispatch(any(), any(), any(), any())).thenAnswer(invocation -> {
+            deadline.set(invocation.getArgument(3));
+            started.countDown();
+            return JsonRpcResponse.success(1, Map.of());
+        });
+
+        receive("{\"id\":1,\"method\":\"tools/call\"}");
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        handler.afterConnectionClosed(session, CloseStatus.GOING_AWAY);
+
+        assertTrue(deadline.get().isCancelled());
+    }
+
+    @Test
+    @DisplayName("should stop answering after the connection closes")
+    void shouldIgnoreMessagesAfterClose() throws Exception {
+        handler.afterConnectionClosed(session, CloseStatus.NORMAL);
+
+        receive("{\"id\":1,\"method\":\"tools/list\"}");
+
+        assertTrue(sent.isEmpty());
+        verifyNoInteractions(dispatcher);
+    }
+}
@@ -0,0 +1,249 @@
+package com.fincalc.adapter.out.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fincalc.adapter.out.persistence.EntityCache;
+import com.fincalc.adapter.out.persistence.entity.CountryEntity;
+import com.fincalc.adapter.out.persistence.entity.CurrencyEntity;
+import com.fincalc.adapter.out.persistence.entity.LocalizedMessageEntity;
+import com.fincalc.adapter.out.persistence.entity.RateProviderEntity;
+import com.fincalc.adapter.out.persistence.repository.CountryRepository;
+import com.fincalc.adapter.out.persistence.repository.CurrencyRepository;
+import com.fincalc.adapter.out.persistence.repository.LocalizedMessageRepository;
+import com.fincalc.adapter.out.persistence.repository.RateProviderRepository;
+import com.fincalc.domain.model.config.ConfigPage;
+import com.fincalc.domain.model.config.MessageSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DatabaseConfigurationAdapter")
+class DatabaseConfigurationAdapterTest {
+
+    @Mock
+    private CountryRepository countryRepository;
+
+    @Mock
+    private CurrencyRepository currencyRepository;
+
+    @Mock
+    private RateProviderRepository rateProviderRepository;
+
+    @Mock
+    private LocalizedMessageRepository messageRepository;
+
+    @Mock
+    private ConfigVersionStore versionStore;
+
+    @Mock
+    private EntityCache entityCache;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private DatabaseConfigurationAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        when(versionStore.current()).thenReturn(7L);
+        when(countryRepository.findAll()).thenReturn(List.of(CountryEntity.builder()
+                .code("US").name("United States").currencyCode("USD")
+                .taxSystemJson("{\"authority\":\"IRS\",\"taxYear\":\"2025\",\"brackets\":[{\"min\":0,\"max\":11600,\"rate\":10}]}")
+                .regionsJson("[{\"code\":\"CA\",\"name\":\"California\"}]")
+                .build()));
+        when(currencyRepository.findAll()).thenReturn(List.of(CurrencyEntity.builder()
+                .code("USD").symbol("$").name("US Dollar").decimalPlaces(2).symbolBefore(true).build()));
+        when(rateProviderRepository.findAll()).thenReturn(List.of(
+                RateProviderEntity.builder().id("fred").name("FRED").type("FRED").enabled(true)
+                        .seriesMappingJson("{\"mortgage30Year\":\"MORTGAGE30US\"}").build(),
+                RateProviderEntity.builder().id("ecb").name("ECB").type("ECB").enabled(false).build()));
+        when(messageRepository.findAll()).thenReturn(List.of(LocalizedMessageEntity.builder()
+                .messageKey("loan.title").category("tool_response")
+                .translationsJson("{\"en\":\"Loan Payment\",\"es\":\"Pago del préstamo\"}").build()));
+
+        adapter = new DatabaseConfigurationAdapter(countryRepository, currencyRepository, rateProviderRepository,
+                messageRepository, new ObjectMapper(), meterRegistry, versionStore, entityCache, transactionManager);
+        adapter.init();
+    }
+
+    @Nested
+    @DisplayName("Reads")
+    class Reads {
+
+        @Test
+        @DisplayName("should serve parsed configuration from the snapshot without further queries")
+        void shouldServeFromSnapshot() {
+            for (int i = 0; i < 3; i++) {
+                assertEquals("IRS", adapter.getCountry("US").orElseThrow().taxSystem().name());
+                assertEquals("California", adapter.getCountry("US").orElseThrow().regions().get(0).name());
+                assertEquals("Pago del préstamo", adapter.getTranslation("loan.title", "es"));
+                assertEquals(1, adapter.getAllCurrencies().size());
+            }
+
+            verify(countryRepository, times(1)).findAll();
+            verify(messageRepository, times(1)).findAll();
+            verify(countryRepository, never()).findById(any());
+            verify(messageRepository, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("should index providers and messages")
+        void shouldIndex() {
+            assertEquals(List.of("fred"), adapter.getEnabledRateProviders().stream().map(p -> p.id()).toList());
+            assertEquals("MORTGAGE30US", adapter.getRateProvider("fred").orElseThrow().seriesMapping().get("mortgage30Year"));
+            assertEquals(1, adapter.getMessagesByCategory("tool_response").size());
+            assertTrue(adapter.getMessagesByCategory("error").isEmpty());
+            assertEquals("missing.key", adapter.getTranslation("missing.key", "en"));
+            assertTrue(adapter.getCountry("XX").isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Listings")
+    class Listings {
+
+        @Test
+        @DisplayName("should page message keys and hand back the last key as the cursor")
+        void shouldPageMessages() {
+            when(messageRepository.findByMessageKeyStartingWithAndMessageKeyGreaterThanOrderByMessageKey("loan.", "", Limit.of(3)))
+                    .thenReturn(List.of(key("loan.a", "tool_response"), key("loan.b", "tool_response"), key("loan.c", "help")));
+
+            ConfigPage<MessageSummary> page = adapter.listMessages(null, "loan.", null, 2);
+
+            assertEquals(List.of(new MessageSummary("loan.a", "tool_response"), new MessageSummary("loan.b", "tool_response")),
+                    page.items());
+            assertEquals("loan.b", page.nextAfter());
+        }
+
+        @Test
+        @DisplayName("should use the category query and end on a short page")
+        void shouldFilterByCategory() {
+            when(messageRepository.findByCategoryAndMessageKeyStartingWithAndMessageKeyGreaterThanOrderByMessageKey(
+                    "error", "", "loan.b", Limit.of(ConfigPage.DEFAULT_SIZE + 1)))
+                    .thenReturn(List.of(key("tax.invalid", "error")));
+
+            ConfigPage<MessageSummary> page = adapter.listMessages("error", null, "loan.b", 0);
+
+            assertEquals(1, page.items().size());
+            assertNull(page.nextAfter());
+        }
+
+        @Test
+        @DisplayName("should cap the page size")
+        void shouldCapPageSize() {
+            when(countryRepository.findByCodeGreaterThanOrderByCode("", Limit.of(ConfigPage.MAX_SIZE + 1))).thenReturn(List.of());
+
+            assertTrue(adapter.listCountries(null, 10_000).items().isEmpty());
+        }
+
+        private LocalizedMessageRepository.KeyView key(String key, String category) {
+            return new LocalizedMessageRepository.KeyView() {
+                public String getMessageKey() { return key; }
+                public String getCategory() { return category; }
+            };
+        }
+    }
+
+    @Nested
+    @DisplayName("Refresh")
+    class Refresh {
+
+        @Test
+        @DisplayName("should publish a new version and swap in the reloaded tables")
+        void shouldSwapSnapshot() {
+            when(currencyRepository.findAll()).thenReturn(List.of(
+                    CurrencyEntity.builder().code("USD").symbol("$").name("US Dollar").build(),
+                    CurrencyEntity.builder().code("EUR").symbol("€").name("Euro").build()));
+            when(versionStore.current()).thenReturn(8L);
+
+            adapter.refreshCache();
+
+            verify(versionStore).bump();
+            assertEquals(2, adapter.getAllCurrencies().size());
+            assertTrue(adapter.getCurrency("EUR").isPresent());
+            assertEquals(2, meterRegistry.get("config.snapshot.build").timer().count());
+            assertEquals(8.0, meterRegistry.get("config.snapshot.version").gauge().value());
+        }
+
+        @Test
+        @DisplayName("should reload only when another replica moved the version")
+        void shouldReloadOnVersionChange() {
+            adapter.reloadIfChanged();
+            verify(countryRepository, times(1)).findAll();
+
+            when(versionStore.current()).thenReturn(9L);
+            adapter.reloadIfChanged();
+            adapter.reloadIfChanged();
+
+            verify(countryRepository, times(2)).findAll();
+            verify(versionStore, never()).bump();
+        }
+
+        @Test
+        @DisplayName("should evict cached legal pages when a new version is loaded")
+        void shouldEvictLegalPagesOnReload() {
+            verify(entityCache, times(1)).evictLegalPages();
+
+            when(versionStore.current()).thenReturn(9L);
+            adapter.reloadIfChanged();
+            adapter.reloadIfChanged();
+
+            verify(entityCache, times(2)).evictLegalPages();
+        }
+
+        @Test
+        @DisplayName("should read the version and every table in one repeatable read transaction")
+        void shouldLoadInOneTransaction() {
+            ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+            InOrder inOrder = inOrder(transactionManager, versionStore, messageRepository);
+
+            adapter.refreshCache();
+
+            inOrder.verify(versionStore).bump();
+            inOrder.verify(transactionManager).getTransaction(definition.capture());
+            inOrder.verify(versionStore).current();
+            inOrder.verify(messageRepository).findAll();
+            inOrder.verify(transactionManager).commit(any());
+            assertEquals(TransactionDefinition.ISOLATION_REPEATABLE_READ, definition.getValue().getIsolationLevel());
+            assertFalse(definition.getValue().isReadOnly());
+        }
+
+        @Test
+        @DisplayName("should keep serving the old snapshot when a reload fails")
+        void shouldKeepSnapshotOnFailure() {
+            when(versionStore.current()).thenReturn(8L);
+            when(messageRepository.findAll()).thenThrow(new IllegalStateException("connection lost"));
+
+            adapter.reloadIfChanged();
+
+            assertEquals("Loan Payment", adapter.getTranslation("loan.title", "en"));
+            assertTrue(adapter.getCountry("US").isPresent());
+            assertEquals(7.0, meterRegistry.get("config.snapshot.version").gauge().value());
+        }
+
+        @Test
+        @DisplayName("should report the snapshot age")
+        void shouldReportAge() {
+            double age = meterRegistry.get("config.snapshot.age").gauge().value();
+
+            assertTrue(age >= 0 && age < 60);
+        }
+    }
+}
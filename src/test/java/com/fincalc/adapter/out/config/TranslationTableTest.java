@@ -0,0 +1,67 @@
+package com.fincalc.adapter.out.config;
+
+import com.fincalc.domain.model.config.LocalizedMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TranslationTable")
+class TranslationTableTest {
+
+    private final TranslationTable table = new TranslationTable(List.of(
+            new LocalizedMessage("loan.title", "tool_response",
+                    Map.of("en", "Loan Payment", "es", "Pago del préstamo", "es-MX", "Pago del crédito")),
+            new LocalizedMessage("tax.title", "tool_response",
+                    Map.of("en", "Income Tax", "es", "Impuesto sobre la renta")),
+            new LocalizedMessage("help.only.fr", "help", Map.of("fr", "Aide"))));
+
+    @Nested
+    @DisplayName("Lookups")
+    class Lookups {
+
+        @Test
+        @DisplayName("should return the exact translation")
+        void shouldReturnExact() {
+            assertEquals("Pago del préstamo", table.translate("loan.title", "es"));
+            assertEquals("Pago del crédito", table.translate("loan.title", "es-MX"));
+            assertEquals("Loan Payment", table.translate("loan.title", "en"));
+        }
+
+        @Test
+        @DisplayName("should fall back from a region tag to its base language")
+        void shouldFallBackToBaseLanguage() {
+            assertEquals("Impuesto sobre la renta", table.translate("tax.title", "es-MX"));
+            assertEquals("Impuesto sobre la renta", table.translate("tax.title", "es-AR"));
+            assertEquals("Impuesto sobre la renta", table.translate("tax.title", "es_ES"));
+        }
+
+        @Test
+        @DisplayName("should fall back to English, then to the key")
+        void shouldFallBackToEnglishThenKey() {
+            assertEquals("Income Tax", table.translate("tax.title", "fr"));
+            assertEquals("Income Tax", table.translate("tax.title", "ja"));
+            assertEquals("Income Tax", table.translate("tax.title", null));
+            assertEquals("help.only.fr", table.translate("help.only.fr", "de"));
+            assertEquals("Aide", table.translate("help.only.fr", "FR-ca"));
+        }
+
+        @Test
+        @DisplayName("should return unknown keys unchanged")
+        void shouldReturnUnknownKey() {
+            assertEquals("missing.key", table.translate("missing.key", "es"));
+            assertNull(table.translate(null, "es"));
+            assertEquals(3, table.size());
+        }
+
+        @Test
+        @DisplayName("should serve a precompiled cell rather than a new string")
+        void shouldReturnSameInstance() {
+            assertSame(table.translate("loan.title", "es-AR"), table.translate("loan.title", "es-AR"));
+        }
+    }
+}
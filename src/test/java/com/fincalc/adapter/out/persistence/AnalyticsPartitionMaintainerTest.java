@@ -0,0 +1,161 @@
+package com.fincalc.adapter.out.persistence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AnalyticsPartitionMaintainer")
+class AnalyticsPartitionMaintainerTest {
+
+    private static final YearMonth NOW = YearMonth.of(2025, 3);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AnalyticsPartitionMaintainer maintainer;
+
+    @BeforeEach
+    void setUp() {
+        maintainer = new AnalyticsPartitionMaintainer(jdbcTemplate, new TransactionTemplate(transactionManager),
+                2, 12, () -> NOW);
+    }
+
+    @Nested
+    @DisplayName("Partition Names")
+    class PartitionNames {
+
+        @Test
+        @DisplayName("should name partitions by year and month and read them back")
+        void shouldRoundTripNames() {
+            assertEquals("analytics_daily_2025_03", AnalyticsPartitionMaintainer.partitionName(NOW));
+            assertEquals(NOW, AnalyticsPartitionMaintainer.partitionMonth("analytics_daily_2025_03"));
+        }
+
+        @Test
+        @DisplayName("should ignore tables that are not monthly partitions")
+        void shouldIgnoreOtherTables() {
+            assertNull(AnalyticsPartitionMaintainer.partitionMonth("analytics_daily_default"));
+            assertNull(AnalyticsPartitionMaintainer.partitionMonth("analytics_stats"));
+        }
+
+        @Test
+        @DisplayName("should expire only months before the retention window, oldest first")
+        void shouldExpireOldMonths() {
+            List<YearMonth> expired = AnalyticsPartitionMaintainer.expiredMonths(List.of(
+                    "analytics_daily_2024_04", "analytics_daily_2024_02", "analytics_daily_2024_03",
+                    "analytics_daily_2025_03", "analytics_daily_default"), NOW, 12);
+
+            assertEquals(List.of(YearMonth.of(2024, 2), YearMonth.of(2024, 3)), expired);
+        }
+    }
+
+    @Nested
+    @DisplayName("Maintenance")
+    class Maintenance {
+
+        @SuppressWarnings("unchecked")
+        private void partitionedPostgres() {
+            when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn(true);
+            when(jdbcTemplate.queryForObject(contains("pg_partitioned_table"), eq(Boolean.class), any()))
+                    .thenReturn(true);
+        }
+
+        @Test
+        @DisplayName("should create upcoming partitions and roll up expired ones before dropping them")
+        void shouldCreateAndRollUp() {
+            partitionedPostgres();
+            when(jdbcTemplate.queryForObject(contains("pg_try_advisory_xact_lock"), eq(Boolean.class), any()))
+                    .thenReturn(true);
+            when(jdbcTemplate.queryForList(contains("pg_inherits"), eq(String.class), any()))
+                    .thenReturn(List.of("analytics_daily_2024_03", "analytics_daily_2024_04", "analytics_daily_2025_03"));
+
+            maintainer.maintain();
+
+            verify(jdbcTemplate).execute(contains("analytics_daily_2025_04 PARTITION OF analytics_daily "
+                    + "FOR VALUES FROM ('2025-04-01') TO ('2025-05-01')"));
+            verify(jdbcTemplate).execute(contains("analytics_daily_2025_05 PARTITION OF"));
+            verify(jdbcTemplate, never()).execute(contains("analytics_daily_2025_03 PARTITION OF"));
+            verify(jdbcTemplate, never()).execute(contains("analytics_daily_2025_06"));
+
+            InOrder order = inOrder(jdbcTemplate);
+            order.verify(jdbcTemplate).update(contains("FROM analytics_daily_2024_03 GROUP BY"), eq(LocalDate.of(2024, 3, 1)));
+            order.verify(jdbcTemplate).execute("DROP TABLE analytics_daily_2024_03");
+            verify(jdbcTemplate, never()).execute("DROP TABLE analytics_daily_2024_04");
+            verify(jdbcTemplate, never()).execute("DROP TABLE analytics_daily_2025_03");
+        }
+
+        @Test
+        @DisplayName("should move rows the default partition caught into the new month's partition")
+        void shouldSplitDefaultPartition() {
+            partitionedPostgres();
+            when(jdbcTemplate.queryForObject(contains("pg_try_advisory_xact_lock"), eq(Boolean.class), any()))
+                    .thenReturn(true);
+            when(jdbcTemplate.queryForList(contains("pg_inherits"), eq(String.class), any()))
+                    .thenReturn(List.of("analytics_daily_default", "analytics_daily_2025_03", "analytics_daily_2025_04"));
+            when(jdbcTemplate.queryForObject(contains("FROM analytics_daily_default"), eq(Boolean.class), any(), any()))
+                    .thenReturn(true);
+
+            maintainer.maintain();
+
+            LocalDate from = LocalDate.of(2025, 5, 1);
+            LocalDate to = LocalDate.of(2025, 6, 1);
+            InOrder order = inOrder(jdbcTemplate);
+            order.verify(jdbcTemplate).execute("ALTER TABLE analytics_daily DETACH PARTITION analytics_daily_default");
+            order.verify(jdbcTemplate).execute(contains("analytics_daily_2025_05 PARTITION OF"));
+            order.verify(jdbcTemplate).update(
+                    contains("SELECT id, stat_date, category, name, count FROM analytics_daily_default"), eq(from), eq(to));
+            order.verify(jdbcTemplate).update(contains("DELETE FROM analytics_daily_default WHERE stat_date >= ?"),
+                    eq(from), eq(to));
+            order.verify(jdbcTemplate).execute("ALTER TABLE analytics_daily ATTACH PARTITION analytics_daily_default DEFAULT");
+            order.verify(jdbcTemplate).update(contains("DELETE FROM analytics_daily_default WHERE stat_date < ?"),
+                    eq(LocalDate.of(2024, 4, 1)));
+        }
+
+        @Test
+        @DisplayName("should leave the work to the replica holding the lock")
+        void shouldSkipWithoutLock() {
+            partitionedPostgres();
+            when(jdbcTemplate.queryForObject(contains("pg_try_advisory_xact_lock"), eq(Boolean.class), any()))
+                    .thenReturn(false);
+
+            maintainer.maintain();
+
+            verify(jdbcTemplate, never()).execute(anyString());
+            verify(jdbcTemplate, never()).queryForList(anyString(), eq(String.class), any());
+        }
+
+        @Test
+        @DisplayName("should do nothing when the database does not partition the table")
+        @SuppressWarnings("unchecked")
+        void shouldSkipWhenNotPostgres() {
+            when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn(false);
+
+            maintainer.maintain();
+            maintainer.maintain();
+
+            verify(jdbcTemplate, times(1)).execute(any(ConnectionCallback.class));
+            verifyNoInteractions(transactionManager);
+        }
+    }
+}
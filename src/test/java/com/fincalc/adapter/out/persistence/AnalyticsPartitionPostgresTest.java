@@ -0,0 +1,160 @@
+package com.fincalc.adapter.out.persistence;
+
+import liquibase.integration.spring.SpringLiquibase;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the Liquibase changelog and one maintenance cycle against a real PostgreSQL,
+ * which the mock-based AnalyticsPartitionMaintainerTest cannot cover. Skipped when
+ * Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@DisplayName("analytics_daily partitions on PostgreSQL")
+class AnalyticsPartitionPostgresTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final YearMonth NOW = YearMonth.now();
+    private static final YearMonth OLD = NOW.minusMonths(20);
+
+    private static DriverManagerDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void migrate() throws Exception {
+        dataSource = new DriverManagerDataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+
+        update("classpath:db/changelog/db.changelog-before-partitioning.yaml");
+        insertDaily(OLD.atDay(3), 5);
+        insertDaily(OLD.atDay(4), 7);
+        insertDaily(NOW.atDay(1), 3);
+        update("classpath:db/changelog/db.changelog-master.yaml");
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("should partition existing rows by month and keep the upsert working")
+    void shouldPartitionExistingRows() {
+        assertEquals(Boolean.TRUE, jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table p JOIN pg_class c ON c.oid = p.partrelid "
+                        + "WHERE c.relname = 'analytics_daily')", Boolean.class));
+        assertNull(jdbcTemplate.queryForObject("SELECT to_regclass('analytics_daily_unpartitioned')::text", String.class));
+        assertTrue(partitions().containsAll(List.of(
+                AnalyticsPartitionMaintainer.partitionName(OLD),
+                AnalyticsPartitionMaintainer.partitionName(NOW),
+                AnalyticsPartitionMaintainer.partitionName(NOW.plusMonths(3)),
+                AnalyticsPartitionMaintainer.DEFAULT_PARTITION)));
+        assertEquals(15L, sum("analytics_daily"));
+        assertEquals(0L, sum(AnalyticsPartitionMaintainer.DEFAULT_PARTITION));
+
+        jdbcTemplate.update("""
+                INSERT INTO analytics_daily (stat_date, category, name, count) VALUES (?, 'tool', 'loan', 2)
+                ON CONFLICT (stat_date, category, name) DO UPDATE SET count = analytics_daily.count + EXCLUDED.count
+                """, NOW.atDay(1));
+
+        assertEquals(5L, jdbcTemplate.queryForObject(
+                "SELECT count FROM analytics_daily WHERE stat_date = ?", Long.class, NOW.atDay(1)));
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("should create months ahead, empty the default partition, roll up and drop expired months")
+    void shouldRunMaintenanceCycle() {
+        YearMonth future = NOW.plusMonths(6);
+        YearMonth ancient = NOW.minusMonths(30);
+        insertDaily(future.atDay(10), 2);
+        insertDaily(ancient.atDay(1), 4);
+        assertEquals(6L, sum(AnalyticsPartitionMaintainer.DEFAULT_PARTITION));
+
+        // Four months on, with 13 months kept: everything before NOW - 8 has expired
+        new AnalyticsPartitionMaintainer(jdbcTemplate, new TransactionTemplate(new DataSourceTransactionManager(dataSource)),
+                3, 13, () -> NOW.plusMonths(4)).maintain();
+
+        List<String> partitions = partitions();
+        assertTrue(partitions.contains(AnalyticsPartitionMaintainer.partitionName(future)));
+        assertTrue(partitions.contains(AnalyticsPartitionMaintainer.partitionName(NOW.plusMonths(7))));
+        assertTrue(partitions.contains(AnalyticsPartitionMaintainer.DEFAULT_PARTITION));
+        assertFalse(partitions.contains(AnalyticsPartitionMaintainer.partitionName(OLD)));
+        assertEquals(2L, sum(AnalyticsPartitionMaintainer.partitionName(future)));
+        assertEquals(0L, sum(AnalyticsPartitionMaintainer.DEFAULT_PARTITION));
+        assertEquals(12L, monthly(OLD.atDay(1)));
+        assertEquals(4L, monthly(ancient.atDay(1)));
+        assertEquals(7L, sum("analytics_daily"));
+    }
+
+    @Test
+    @DisplayName("should bump the config version and announce it when a configuration table changes")
+    void shouldAnnounceConfigChanges() throws Exception {
+        try (Connection listener = dataSource.getConnection(); Statement statement = listener.createStatement()) {
+            statement.execute("LISTEN config_changed");
+            long before = version();
+
+            jdbcTemplate.update("UPDATE countries SET name = name WHERE code = 'US'");
+
+            long after = version();
+            assertEquals(before + 1, after);
+            PGNotification[] notifications = listener.unwrap(PGConnection.class).getNotifications(5_000);
+            assertNotNull(notifications);
+            assertEquals(1, notifications.length);
+            assertEquals(String.valueOf(after), notifications[0].getParameter());
+        }
+    }
+
+    private static void update(String changeLog) throws Exception {
+        SpringLiquibase liquibase = new SpringLiquibase();
+        liquibase.setDataSource(dataSource);
+        liquibase.setChangeLog(changeLog);
+        liquibase.setResourceLoader(new DefaultResourceLoader());
+        liquibase.afterPropertiesSet();
+    }
+
+    private static void insertDaily(LocalDate date, long count) {
+        jdbcTemplate.update("INSERT INTO analytics_daily (stat_date, category, name, count) VALUES (?, 'tool', 'loan', ?)",
+                date, count);
+    }
+
+    private static List<String> partitions() {
+        return jdbcTemplate.queryForList("SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid "
+                + "WHERE i.inhparent = 'analytics_daily'::regclass", String.class);
+    }
+
+    private static long sum(String table) {
+        return jdbcTemplate.queryForObject("SELECT COALESCE(SUM(count), 0) FROM " + table, Long.class);
+    }
+
+    private static long monthly(LocalDate month) {
+        return jdbcTemplate.queryForObject(
+                "SELECT count FROM analytics_monthly WHERE month = ? AND category = 'tool' AND name = 'loan'",
+                Long.class, month);
+    }
+
+    private static long version() {
+        return jdbcTemplate.queryForObject("SELECT version FROM config_version WHERE id = 1", Long.class);
+    }
+}
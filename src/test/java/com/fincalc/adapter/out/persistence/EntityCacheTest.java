@@ -0,0 +1,73 @@
+package com.fincalc.adapter.out.persistence;
+
+import com.fincalc.adapter.out.persistence.entity.LegalPageEntity;
+import com.fincalc.adapter.out.persistence.repository.LegalPageRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Boots Hibernate with the regions from hibernate-cache.conf and missing regions failing startup.
+ */
+@DataJpaTest(properties = {
+        "spring.liquibase.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.javax.cache.missing_cache_strategy=fail"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("EntityCache")
+class EntityCacheTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private LegalPageRepository legalPageRepository;
+
+    @Test
+    @DisplayName("should start with a configured region for every cached entity")
+    void shouldStartWithConfiguredRegions() {
+        assertEquals("fail", entityManagerFactory.getProperties().get("hibernate.javax.cache.missing_cache_strategy"));
+        assertArrayEquals(new String[]{"legal-pages"},
+                entityManagerFactory.unwrap(SessionFactory.class).getStatistics().getSecondLevelCacheRegionNames());
+    }
+
+    @Test
+    @DisplayName("should serve repeated legal page lookups from the cache")
+    void shouldServeLegalPagesFromCache() {
+        legalPageRepository.save(new LegalPageEntity("privacy", "Privacy Policy", "...", null));
+        entityManagerFactory.getCache().evictAll();
+        var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        legalPageRepository.findById("privacy");
+        legalPageRepository.findById("privacy");
+
+        CacheRegionStatistics region = statistics.getCacheRegionStatistics("legal-pages");
+        assertEquals(1, region.getMissCount());
+        assertEquals(1, region.getHitCount());
+    }
+
+    @Test
+    @DisplayName("should read legal pages from the database again after an eviction")
+    void shouldEvictLegalPages() {
+        legalPageRepository.save(new LegalPageEntity("terms", "Terms of Service", "...", null));
+        legalPageRepository.findById("terms");
+        assertTrue(entityManagerFactory.getCache().contains(LegalPageEntity.class, "terms"));
+
+        new EntityCache(entityManagerFactory, new SimpleMeterRegistry()).evictLegalPages();
+
+        assertFalse(entityManagerFactory.getCache().contains(LegalPageEntity.class, "terms"));
+    }
+}
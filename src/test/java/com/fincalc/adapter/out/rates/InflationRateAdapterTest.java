@@ -0,0 +1,56 @@
+package com.fincalc.adapter.out.rates;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InflationRateAdapter")
+class InflationRateAdapterTest {
+
+    @Mock
+    private FredApiClient fredApiClient;
+
+    private InflationRateAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new InflationRateAdapter(fredApiClient);
+    }
+
+    @Test
+    @DisplayName("should serve unknown country codes the default snapshot without loading them")
+    void shouldNotKeyUnknownCodes() {
+        when(fredApiClient.getAnnualHistory(anyString(), anyInt())).thenReturn(Optional.empty());
+
+        assertEquals("US", adapter.getInflation("not-a-country").countryCode());
+        assertEquals("US", adapter.getInflation("ZZ").countryCode());
+        adapter.loadPending();
+
+        verify(fredApiClient).getAnnualHistory("FPCPITOTLZGUSA", 10);
+        verifyNoMoreInteractions(fredApiClient);
+    }
+
+    @Test
+    @DisplayName("should load ISO country codes whatever their case")
+    void shouldLoadIsoCodes() {
+        when(fredApiClient.getAnnualHistory(anyString(), anyInt())).thenReturn(Optional.of(List.of(new BigDecimal("2.1"))));
+
+        assertEquals("DE", adapter.getInflation(" de ").countryCode());
+        adapter.loadPending();
+
+        verify(fredApiClient).getAnnualHistory("FPCPITOTLZGDEU", 10);
+    }
+}
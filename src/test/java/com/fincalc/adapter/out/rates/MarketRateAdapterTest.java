@@ -0,0 +1,60 @@
+package com.fincalc.adapter.out.rates;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MarketRateAdapter")
+class MarketRateAdapterTest {
+
+    @Mock
+    private FredApiClient fredApiClient;
+
+    private MarketRateAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new MarketRateAdapter(fredApiClient);
+    }
+
+    @Test
+    @DisplayName("should serve fallback index histories before the first refresh")
+    void shouldStartWithFallbackHistories() {
+        var snapshot = adapter.getRateSnapshot();
+
+        assertEquals(5, snapshot.primeRateHistory(5).size());
+        assertEquals(new BigDecimal("8.33"), snapshot.primeRateHistory(1).get(0));
+        assertEquals(30, snapshot.federalFundsRateHistory(50).size());
+        verifyNoInteractions(fredApiClient);
+    }
+
+    @Test
+    @DisplayName("should load index histories into the snapshot on refresh")
+    void shouldLoadHistoriesOnRefresh() {
+        when(fredApiClient.getLatestRate(anyString())).thenReturn(Optional.empty());
+        when(fredApiClient.getAnnualHistory(anyString(), anyInt())).thenReturn(Optional.empty());
+        when(fredApiClient.getAnnualHistory(FredApiClient.PRIME_RATE, 50))
+                .thenReturn(Optional.of(List.of(new BigDecimal("7.0"), new BigDecimal("7.5"))));
+
+        adapter.refreshSnapshot();
+        var snapshot = adapter.getRateSnapshot();
+
+        assertEquals(List.of(new BigDecimal("7.5")), snapshot.primeRateHistory(1));
+        assertEquals(2, snapshot.primeRateHistory(30).size());
+        assertEquals(30, snapshot.federalFundsRateHistory(30).size());
+        verify(fredApiClient).getAnnualHistory(FredApiClient.FEDERAL_FUNDS_RATE, 50);
+    }
+}
@@ -0,0 +1,184 @@
+package com.fincalc.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ArgumentHeavyHitters")
+class ArgumentHeavyHittersTest {
+
+    @Mock
+    private AnalyticsService analyticsService;
+
+    @Mock
+    private ToolDescriptor<Object, Object> tool;
+
+    private ArgumentHeavyHitters heavyHitters;
+
+    @BeforeEach
+    void setUp() {
+        heavyHitters = new ArgumentHeavyHitters(analyticsService, 1024, 4, 2);
+    }
+
+    private ArgumentHeavyHitters.ToolHitters registerLoanTool() {
+        when(tool.name()).thenReturn("calculate_loan_payment");
+        when(tool.definition()).thenReturn(Map.of("inputSchema", Map.of("properties", Map.of(
+                "principal", Map.of(), "annualRate", Map.of(), "years", Map.of()))));
+        return heavyHitters.register(tool);
+    }
+
+    @Nested
+    @DisplayName("Buckets")
+    class Buckets {
+
+        @Test
+        @DisplayName("should round rates to the nearest quarter point")
+        void shouldBucketRates() {
+            assertEquals("6.5", ArgumentHeavyHitters.bucket("annualRate", new BigDecimal("6.49")));
+            assertEquals("6.25", ArgumentHeavyHitters.bucket("currentRate", 6.2));
+            assertEquals("7", ArgumentHeavyHitters.bucket("annualRate", 7));
+        }
+
+        @Test
+        @DisplayName("should keep small whole numbers and round amounts to two significant figures")
+        void shouldBucketNumbers() {
+            assertEquals("30", ArgumentHeavyHitters.bucket("years", 30));
+            assertEquals("310000", ArgumentHeavyHitters.bucket("principal", new BigDecimal("312500.00")));
+            assertEquals("2500", ArgumentHeavyHitters.bucket("deductions", 2480));
+        }
+
+        @Test
+        @DisplayName("should normalise short strings and skip long or structured values")
+        void shouldBucketText() {
+            assertEquals("CA", ArgumentHeavyHitters.bucket("state", " ca "));
+            assertEquals("married_joint", ArgumentHeavyHitters.bucket("filingStatus", "Married_Joint"));
+            assertNull(ArgumentHeavyHitters.bucket("state", "x".repeat(40)));
+            assertNull(ArgumentHeavyHitters.bucket("strategies", List.of()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Tracking")
+    class Tracking {
+
+        @Test
+        @DisplayName("should keep the most frequent values per argument and flush them as daily stats")
+        @SuppressWarnings("unchecked")
+        void shouldFlushTopValues() {
+            ArgumentHeavyHitters.ToolHitters hitters = registerLoanTool();
+            for (int i = 0; i < 5; i++) {
+                hitters.record(ToolArguments.of(Map.of("principal", 250000, "years", 30)));
+            }
+            for (int i = 0; i < 3; i++) {
+                hitters.record(ToolArguments.of(Map.of("principal", 100000, "years", 15)));
+            }
+            hitters.record(ToolArguments.of(Map.of("principal", 999, "unknown", "ignored")));
+
+            heavyHitters.flush();
+
+            ArgumentCaptor<Map<String, Long>> counts = ArgumentCaptor.forClass(Map.class);
+            verify(analyticsService).trackArgumentValues(counts.capture());
+            assertEquals(Map.of(
+                    "calculate_loan_payment.principal=250000", 5L,
+                    "calculate_loan_payment.principal=100000", 3L,
+                    "calculate_loan_payment.years=30", 5L,
+                    "calculate_loan_payment.years=15", 3L), counts.getValue());
+        }
+
+        @Test
+        @DisplayName("should read values straight from the request tokens")
+        @SuppressWarnings("unchecked")
+        void shouldRecordFromTokens() throws Exception {
+            ArgumentHeavyHitters.ToolHitters hitters = registerLoanTool();
+            ToolArguments arguments = ToolArguments.of(new ObjectMapper().readValue(
+                    "{\"principal\": 312500.00, \"annualRate\": 6.49, \"years\": 30, \"schedule\": {\"years\": 99}}",
+                    TokenBuffer.class));
+
+            hitters.record(arguments);
+            heavyHitters.flush();
+
+            ArgumentCaptor<Map<String, Long>> counts = ArgumentCaptor.forClass(Map.class);
+            verify(analyticsService).trackArgumentValues(counts.capture());
+            assertEquals(Map.of(
+                    "calculate_loan_payment.principal=310000", 1L,
+                    "calculate_loan_payment.annualRate=6.5", 1L,
+                    "calculate_loan_payment.years=30", 1L), counts.getValue());
+        }
+
+        @Test
+        @DisplayName("should start a new window after each flush")
+        void shouldResetAfterFlush() {
+            ArgumentHeavyHitters.ToolHitters hitters = registerLoanTool();
+            hitters.record(ToolArguments.of(Map.of("years", 30)));
+
+            heavyHitters.flush();
+            heavyHitters.flush();
+
+            verify(analyticsService, times(1)).trackArgumentValues(any());
+            assertTrue(hitters.drain().isEmpty());
+        }
+
+        @Test
+        @DisplayName("should carry a window over to the next flush when saving it fails")
+        @SuppressWarnings("unchecked")
+        void shouldKeepWindowOnFailure() {
+            ArgumentHeavyHitters.ToolHitters hitters = registerLoanTool();
+            hitters.record(ToolArguments.of(Map.of("years", 30)));
+            hitters.record(ToolArguments.of(Map.of("years", 30)));
+            doThrow(new QueryTimeoutException("statement timeout")).doNothing()
+                    .when(analyticsService).trackArgumentValues(any());
+
+            heavyHitters.flush();
+            hitters.record(ToolArguments.of(Map.of("years", 30)));
+            heavyHitters.flush();
+
+            ArgumentCaptor<Map<String, Long>> counts = ArgumentCaptor.forClass(Map.class);
+            verify(analyticsService, times(2)).trackArgumentValues(counts.capture());
+            assertEquals(Map.of("calculate_loan_payment.years=30", 3L), counts.getValue());
+        }
+
+        @Test
+        @DisplayName("should not track tools without declared arguments")
+        void shouldSkipToolsWithoutSchema() {
+            when(tool.definition()).thenReturn(Map.of("name", "list_currencies"));
+
+            assertNull(heavyHitters.register(tool));
+        }
+    }
+
+    @Nested
+    @DisplayName("Count-Min Sketch")
+    class Sketch {
+
+        @Test
+        @DisplayName("should never undercount and stay close under collisions")
+        void shouldBoundError() {
+            CountMinSketch sketch = new CountMinSketch(256, 4);
+            for (int i = 0; i < 2_000; i++) {
+                sketch.add(HyperLogLog.hash("value-" + i), 1);
+            }
+            long heavy = HyperLogLog.hash("heavy");
+            sketch.add(heavy, 500);
+
+            long estimate = sketch.estimate(heavy);
+            assertTrue(estimate >= 500);
+            assertTrue(estimate <= 500 + Math.E / 256 * sketch.total() * 2);
+        }
+    }
+}
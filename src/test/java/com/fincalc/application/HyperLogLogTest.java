@@ -0,0 +1,103 @@
+package com.fincalc.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("HyperLogLog")
+class HyperLogLogTest {
+
+    private static HyperLogLog sketchOf(String prefix, int from, int to) {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int i = from; i < to; i++) {
+            sketch.add(prefix + i);
+        }
+        return sketch;
+    }
+
+    private static void assertWithin(double tolerance, long expected, long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected * tolerance,
+                () -> "expected about " + expected + " but was " + actual);
+    }
+
+    @Nested
+    @DisplayName("Estimates")
+    class Estimates {
+
+        @Test
+        @DisplayName("should count small sets almost exactly")
+        void shouldCountSmallSets() {
+            assertEquals(0, new HyperLogLog().estimate());
+            assertWithin(0.02, 100, sketchOf("user-", 0, 100).estimate());
+        }
+
+        @Test
+        @DisplayName("should stay within a few percent for large sets")
+        void shouldEstimateLargeSets() {
+            assertWithin(0.05, 200_000, sketchOf("user-", 0, 200_000).estimate());
+        }
+
+        @Test
+        @DisplayName("should ignore repeated values")
+        void shouldIgnoreDuplicates() {
+            HyperLogLog sketch = sketchOf("user-", 0, 1_000);
+            long before = sketch.estimate();
+            for (int i = 0; i < 1_000; i++) {
+                sketch.add("user-" + i);
+            }
+            assertEquals(before, sketch.estimate());
+        }
+    }
+
+    @Nested
+    @DisplayName("Merging")
+    class Merging {
+
+        @Test
+        @DisplayName("should estimate the union of overlapping sketches")
+        void shouldMergeToUnion() {
+            HyperLogLog monday = sketchOf("user-", 0, 30_000);
+            HyperLogLog tuesday = sketchOf("user-", 20_000, 50_000);
+
+            monday.merge(tuesday);
+
+            assertWithin(0.05, 50_000, monday.estimate());
+            assertEquals(sketchOf("user-", 0, 50_000).estimate(), monday.estimate());
+        }
+
+        @Test
+        @DisplayName("should reject sketches of another precision")
+        void shouldRejectOtherPrecision() {
+            assertThrows(IllegalArgumentException.class, () -> new HyperLogLog(12).merge(new HyperLogLog(10)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Serialisation")
+    class Serialisation {
+
+        @Test
+        @DisplayName("should store sparse sketches in a few bytes per occupied register")
+        void shouldRoundTripSparse() {
+            HyperLogLog sketch = sketchOf("user-", 0, 20);
+
+            byte[] bytes = sketch.toBytes();
+
+            assertTrue(bytes.length <= 4 + 20 * 3);
+            assertEquals(sketch.estimate(), HyperLogLog.fromBytes(bytes).estimate());
+        }
+
+        @Test
+        @DisplayName("should store full sketches densely")
+        void shouldRoundTripDense() {
+            HyperLogLog sketch = sketchOf("user-", 0, 50_000);
+
+            byte[] bytes = sketch.toBytes();
+
+            assertEquals(2 + (1 << HyperLogLog.DEFAULT_PRECISION), bytes.length);
+            assertEquals(sketch.estimate(), HyperLogLog.fromBytes(bytes).estimate());
+        }
+    }
+}
@@ -1,11 +1,26 @@
 package com.fincalc.application;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.fincalc.domain.model.ArmSimulation;
 import com.fincalc.domain.model.CompoundInterestCalculation;
+import com.fincalc.domain.model.Deadline;
+import com.fincalc.domain.model.InflationSnapshot;
 import com.fincalc.domain.model.LoanCalculation;
+import com.fincalc.domain.model.PrepaymentSimulation;
+import com.fincalc.domain.model.RateSnapshot;
+import com.fincalc.domain.model.RealValueProjection;
+import com.fincalc.domain.model.RefinanceComparison;
+import com.fincalc.domain.model.RetirementDrawdown;
 import com.fincalc.domain.model.TaxEstimation;
 import com.fincalc.domain.port.in.CalculateCompoundInterestUseCase;
 import com.fincalc.domain.port.in.CalculateLoanPaymentUseCase;
+import com.fincalc.domain.port.in.CompareRefinanceUseCase;
 import com.fincalc.domain.port.in.EstimateTaxesUseCase;
+import com.fincalc.domain.port.in.ProjectRealValueUseCase;
+import com.fincalc.domain.port.in.SimulateArmUseCase;
+import com.fincalc.domain.port.in.SimulateDrawdownUseCase;
+import com.fincalc.domain.port.in.SimulatePrepaymentUseCase;
 import com.fincalc.domain.port.out.MarketRatePort;
 import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,6 +32,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -24,6 +41,7 @@ import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,6 +57,21 @@ class McpToolHandlerTest {
     @Mock
     private EstimateTaxesUseCase taxesUseCase;
 
+    @Mock
+    private SimulatePrepaymentUseCase prepaymentUseCase;
+
+    @Mock
+    private CompareRefinanceUseCase refinanceUseCase;
+
+    @Mock
+    private SimulateArmUseCase armUseCase;
+
+    @Mock
+    private SimulateDrawdownUseCase drawdownUseCase;
+
+    @Mock
+    private ProjectRealValueUseCase realValueUseCase;
+
     @Mock
     private MarketRatePort marketRatePort;
 
@@ -48,13 +81,20 @@ class McpToolHandlerTest {
     @Mock
     private AnalyticsService analyticsService;
 
+    @Mock
+    private UniqueUsageTracker uniqueUsageTracker;
+
+    @Mock
+    private ArgumentHeavyHitters argumentHeavyHitters;
+
     private McpToolHandler handler;
 
     @BeforeEach
     void setUp() {
         // Mock validator to return no violations by default (lenient for tests that don't call validate)
         lenient().when(validator.validate(any())).thenReturn(Collections.emptySet());
-        handler = new McpToolHandler(loanPaymentUseCase, compoundInterestUseCase, taxesUseCase, marketRatePort, validator, analyticsService);
+        FinanceTools tools = new FinanceTools(loanPaymentUseCase, compoundInterestUseCase, taxesUseCase, prepaymentUseCase, refinanceUseCase, armUseCase, drawdownUseCase, realValueUseCase, marketRatePort, validator, analyticsService);
+        handler = new McpToolHandler(new ToolRegistry(List.of(tools)), List.of(new ToolAnalyticsInterceptor(analyticsService, uniqueUsageTracker, argumentHeavyHitters)));
     }
 
     @Nested
@@ -62,11 +102,11 @@ class McpToolHandlerTest {
     class ToolDefinitions {
 
         @Test
-        @DisplayName("should return four tool definitions")
-        void shouldReturnFourToolDefinitions() {
+        @DisplayName("should return eight tool definitions")
+        void shouldReturnEightToolDefinitions() {
             List<Map<String, Object>> tools = handler.getToolDefinitions();
 
-            assertEquals(4, tools.size());
+            assertEquals(8, tools.size());
         }
 
         @Test
@@ -169,6 +209,40 @@ class McpToolHandlerTest {
         }
     }
 
+    @Nested
+    @DisplayName("Argument Binding")
+    class ArgumentBinding {
+
+        private ToolArguments json(String body) throws Exception {
+            return ToolArguments.of(new ObjectMapper().readValue(body, TokenBuffer.class));
+        }
+
+        @Test
+        @DisplayName("should bind the exact decimal text the client sent")
+        void shouldBindExactDecimals() throws Exception {
+            when(loanPaymentUseCase.execute(any())).thenReturn(
+                    LoanCalculation.calculate(new BigDecimal("250000.10"), new BigDecimal("6.125"), 30));
+
+            handler.executeTool("calculate_loan_payment",
+                    json("{\"principal\": 250000.10, \"annualRate\": 6.125, \"years\": 30, \"note\": \"ignored\"}"),
+                    null, ToolProgress.NONE, Deadline.NONE);
+
+            verify(loanPaymentUseCase).execute(argThat(command -> "250000.10".equals(command.principal().toPlainString())
+                    && "6.125".equals(command.annualRate().toPlainString())
+                    && command.years() == 30));
+        }
+
+        @Test
+        @DisplayName("should name the argument that has the wrong type")
+        void shouldRejectWrongType() {
+            var e = assertThrows(IllegalArgumentException.class, () -> handler.executeTool("calculate_loan_payment",
+                    json("{\"principal\": \"a lot\"}"), null, ToolProgress.NONE, Deadline.NONE));
+
+            assertEquals("Invalid value for principal", e.getMessage());
+            verifyNoInteractions(loanPaymentUseCase);
+        }
+    }
+
     @Nested
     @DisplayName("Execute Compound Interest Tool")
     class ExecuteCompoundInterestTool {
@@ -183,7 +257,7 @@ class McpToolHandlerTest {
                     12,
                     new BigDecimal("500")
             );
-            when(compoundInterestUseCase.execute(any())).thenReturn(mockResult);
+            when(compoundInterestUseCase.execute(any(), any())).thenReturn(mockResult);
 
             Map<String, Object> args = new HashMap<>();
             args.put("principal", 10000);
@@ -195,7 +269,7 @@ class McpToolHandlerTest {
             Map<String, Object> result = handler.executeTool("calculate_compound_interest", args);
 
             assertNotNull(result);
-            verify(compoundInterestUseCase).execute(any());
+            verify(compoundInterestUseCase).execute(any(), any());
         }
 
         @Test
@@ -208,7 +282,7 @@ class McpToolHandlerTest {
                     12,
                     BigDecimal.ZERO
             );
-            when(compoundInterestUseCase.execute(any())).thenReturn(mockResult);
+            when(compoundInterestUseCase.execute(any(), any())).thenReturn(mockResult);
 
             Map<String, Object> args = new HashMap<>();
             args.put("principal", 10000);
@@ -219,7 +293,38 @@ class McpToolHandlerTest {
             Map<String, Object> result = handler.executeTool("calculate_compound_interest", args);
 
             assertNotNull(result);
-            verify(compoundInterestUseCase).execute(any());
+            verify(compoundInterestUseCase).execute(any(), any());
+            verifyNoInteractions(realValueUseCase);
+        }
+
+        @Test
+        @DisplayName("should add real-terms projection when requested")
+        @SuppressWarnings("unchecked")
+        void shouldAddRealTermsProjection() {
+            var mockResult = CompoundInterestCalculation.calculate(
+                    new BigDecimal("10000"),
+                    new BigDecimal("7"),
+                    20,
+                    12,
+                    BigDecimal.ZERO
+            );
+            when(compoundInterestUseCase.execute(any(), any())).thenReturn(mockResult);
+            when(realValueUseCase.execute(any())).thenAnswer(invocation -> RealValueProjection.project(mockResult,
+                    InflationSnapshot.of("US", "test", List.of(new BigDecimal("3")), Instant.EPOCH)));
+
+            Map<String, Object> args = new HashMap<>();
+            args.put("principal", 10000);
+            args.put("annualRate", 7);
+            args.put("years", 20);
+            args.put("realTerms", true);
+
+            Map<String, Object> result = handler.executeTool("calculate_compound_interest", args);
+
+            Map<String, Object> structured = (Map<String, Object>) result.get("structuredContent");
+            Map<String, Object> resultMap = (Map<String, Object>) structured.get("result");
+            assertTrue(resultMap.containsKey("real"));
+            verify(realValueUseCase).execute(argThat(command -> "US".equals(command.countryCode())
+                    && command.nominal() == mockResult));
         }
     }
 
@@ -250,6 +355,245 @@ class McpToolHandlerTest {
         }
     }
 
+    @Nested
+    @DisplayName("Execute Prepayment Simulation Tool")
+    class ExecutePrepaymentSimulationTool {
+
+        @Test
+        @DisplayName("should compare strategies passed as an array")
+        void shouldCompareStrategies() {
+            var mockResult = PrepaymentSimulation.simulate(
+                    new BigDecimal("300000"),
+                    new BigDecimal("6.5"),
+                    30,
+                    List.of(new PrepaymentSimulation.Strategy("extra", new BigDecimal("200"), List.of(), false))
+            );
+            when(prepaymentUseCase.execute(any(), any())).thenReturn(mockResult);
+
+            Map<String, Object> args = new HashMap<>();
+            args.put("principal", 300000);
+            args.put("annualRate", 6.5);
+            args.put("years", 30);
+            args.put("strategies", List.of(
+                    Map.of("name", "extra", "extraMonthlyPayment", 200),
+                    Map.of("name", "lump", "lumpSums", List.of(Map.of("month", 12, "amount", 10000)))
+            ));
+
+            Map<String, Object> result = handler.executeTool("simulate_prepayment", args);
+
+            assertNotNull(result);
+            verify(prepaymentUseCase).execute(argThat(command -> command.strategies().size() == 2
+                    && command.strategies().get(1).lumpSums().get(0).month() == 12), any());
+        }
+
+        @Test
+        @DisplayName("should fall back to default strategies")
+        void shouldFallBackToDefaultStrategies() {
+            var mockResult = PrepaymentSimulation.simulate(
+                    new BigDecimal("300000"),
+                    new BigDecimal("6.5"),
+                    30,
+                    List.of(new PrepaymentSimulation.Strategy("biweekly", BigDecimal.ZERO, List.of(), true))
+            );
+            when(prepaymentUseCase.execute(any(), any())).thenReturn(mockResult);
+
+            Map<String, Object> args = new HashMap<>();
+            args.put("principal", 300000);
+            args.put("annualRate", 6.5);
+            args.put("years", 30);
+
+            Map<String, Object> result = handler.executeTool("simulate_prepayment", args);
+
+            @SuppressWarnings("unchecked")
+            Map<String, Object> meta = (Map<String, Object>) result.get("_meta");
+            @SuppressWarnings("unchecked")
+            Map<String, Object> defaultsUsed = (Map<String, Object>) meta.get("defaultsUsed");
+            assertTrue(defaultsUsed.containsKey("strategies"));
+            verify(prepaymentUseCase).execute(argThat(command -> command.strategies().size() == 2), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Execute Refinance Comparison Tool")
+    class ExecuteRefinanceComparisonTool {
+
+        @Test
+        @DisplayName("should price offers from the rate snapshot")
+        void shouldPriceOffersFromSnapshot() {
+            when(marketRatePort.getRateSnapshot()).thenReturn(new RateSnapshot(
+                    new BigDecimal("6.00"), new BigDecimal("5.50"), new BigDecimal("5.33"), new BigDecimal("8.50"),
+                    List.of(), List.of(), "2025-01-01", Instant.parse("2025-01-01T00:00:00Z")));
+            var mockResult = RefinanceComparison.compare(
+                    new BigDecimal("250000"),
+                    new BigDecimal("7.5"),
+                    25,
+                    new BigDecimal("5000"),
+                    List.of(new RefinanceComparison.Offer("30-year fixed", new BigDecimal("6.00"), 30))
+            );
+            when(refinanceUseCase.execute(any(), any())).thenReturn(mockResult);
+
+            Map<String, Object> args = new HashMap<>();
+            args.put("currentBalance", 250000);
+            args.put("currentRate", 7.5);
+            args.put("remainingYears", 25);
+            args.put("newRate", 6.25);
+
+            Map<String, Object> result = handler.executeTool("compare_refinance", args);
+
+            assertNotNull(result);
+            verify(marketRatePort, never()).getMortgageRate30Year();
+            verify(refinanceUseCase).execute(argThat(command -> command.offers().size() == 3
+                    && command.offers().get(0).annualRate().compareTo(new BigDecimal("6.00")) == 0
+                    && command.offers().get(2).years() == 25), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Execute ARM Simulation Tool")
+    class ExecuteArmSimulationTool {
+
+        private ArmSimulation sampleResult() {
+            return ArmSimulation.simulate(
+                    new BigDecimal("300000"),
+                    new BigDecimal("5.5"),
+                    30,
+                    new ArmSimulation.Terms(5, 12, new BigDecimal("2.75"), new BigDecimal("2"), new BigDecimal("2"), new BigDecimal("5")),
+                    List.of(new ArmSimulation.Scenario("flat", List.of(new BigDecimal("3"))))
+            );
+        }
+
+        @Test
+        @DisplayName("should build default scenarios from snapshot and index history")
+        void shouldBuildDefaultScenarios() {
+            when(marketRatePort.getRateSnapshot()).thenReturn(new RateSnapshot(
+                    new BigDecimal("6.85"), new BigDecimal("6.10"), new BigDecimal("5.33"), new BigDecimal("8.50"),
+                    List.of(new BigDecimal("9.0")), List.of(new BigDecimal("1.0"), new BigDecimal("2.0")),
+                    "2025-01-01", Instant.parse("2025-01-01T00:00:00Z")));
+            when(armUseCase.execute(any(), any())).thenReturn(sampleResult());
+
+            Map<String, Object> args = new HashMap<>();
+            args.put("principal", 300000);
+            args.put("initialRate", 5.5);
+            args.put("years", 30);
+
+            Map<String, Object> result = handler.executeTool("simulate_arm", args);
+
+            assertNotNull(result);
+            verify(armUseCase).execute(argThat(command -> command.scenarios().size() == 4
+                    && command.scenarios().get(0).indexPath().get(0).compareTo(new BigDecimal("5.33")) == 0
+                    && command.scenarios().get(1).indexPath().get(0).compareTo(new BigDecimal("1.0")) == 0
+                    && command.terms().fixedYears() == 5), any());
+        }
+
+        @Test
+        @DisplayName("should use supplied index paths")
+        void shouldUseSuppliedIndexPaths() {
+            when(armUseCase.execute(any(), any())).thenReturn(sampleResult());
+
+            Map<String, Object> args = new HashMap<>();
+            args.put("principal", 300000);
+            args.put("initialRate", 5.5);
+            args.put("years", 30);
+            args.put("scenarios", List.of(
+                    Map.of("name", "up", "indexPath", List.of(4, 5, 6)),
+                    Map.of("name", "down", "indexPath", List.of(2))
+            ));
+
+            handler.executeTool("simulate_arm", args);
+
+            verifyNoInteractions(marketRatePort);
+            verify(armUseCase).execute(argThat(command -> command.scenarios().size() == 2
+                    && command.scenarios().get(0).indexPath().size() == 3), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Execute Retirement Drawdown Tool")
+    class ExecuteRetirementDrawdownTool {
+
+        @Test
+        @DisplayName("should render streamed year rows into the table")
+        @SuppressWarnings("unchecked")
+        void shouldRenderStreamedRows() {
+            when(drawdownUseCase.execute(any(), any())).thenAnswer(invocation -> {
+                SimulateDrawdownUseCase.Command command = invocation.getArgument(0);
+                return RetirementDrawdown.simulate(command.toPlan(), invocation.getArgument(1));
+            });
+
+            Map<String, Object> args = new HashMap<>();
+            args.put("startingBalance", 500000);
+            args.put("withdrawal", 4);
+            args.put("rule", "percentage");
+            args.put("years", 10);
+
+            Map<String, Object> result = handler.executeTool("simulate_retirement_drawdown", args);
+
+            Map<String, Object> structured = (Map<String, Object>) result.get("structuredContent");
+            Map<String, Object> resultMap = (Map<String, Object>) structured.get("result");
+            assertEquals(10, ((List<?>) resultMap.get("years")).size());
+            String text = (String) ((List<Map<String, Object>>) result.get("content")).get(0).get("text");
+            assertTrue(text.contains("| 10 | 74 |"));
+            verify(drawdownUseCase).execute(argThat(command -> command.rule() == RetirementDrawdown.Rule.PERCENTAGE
+                    && command.startAge() == 65), any());
+        }
+
+        @Test
+        @DisplayName("should report each year as progress while simulating")
+        void shouldReportProgressPerYear() {
+            when(drawdownUseCase.execute(any(), any())).thenAnswer(invocation -> {
+                SimulateDrawdownUseCase.Command command = invocation.getArgument(0);
+                return RetirementDrawdown.simulate(command.toPlan(), invocation.getArgument(1));
+            });
+
+            List<String> reports = new ArrayList<>();
+            Map<String, Object> args = new HashMap<>();
+            args.put("startingBalance", 500000);
+            args.put("withdrawal", 30000);
+            args.put("years", 5);
+
+            handler.executeTool("simulate_retirement_drawdown", args, null,
+                    (progress, total, message) -> reports.add(progress + "/" + total + " " + message));
+
+            assertEquals(5, reports.size());
+            assertTrue(reports.get(0).startsWith("1/5 | 1 | 65 |"), reports.get(0));
+            assertTrue(reports.get(4).startsWith("5/5 | 5 | 69 |"), reports.get(4));
+        }
+    }
+
+    @Nested
+    @DisplayName("Pipeline")
+    class Pipeline {
+
+        @Test
+        @DisplayName("should assemble stages once per tool, outermost first")
+        void shouldAssembleOncePerTool() {
+            List<String> wrapped = new ArrayList<>();
+            List<String> entered = new ArrayList<>();
+            ToolInterceptor outer = (tool, next) -> {
+                wrapped.add("outer:" + tool.name());
+                return (arguments, call) -> {
+                    entered.add("outer");
+                    return next.invoke(arguments, call);
+                };
+            };
+            ToolInterceptor inner = (tool, next) -> (arguments, call) -> {
+                entered.add("inner");
+                return next.invoke(arguments, call);
+            };
+            FinanceTools tools = new FinanceTools(loanPaymentUseCase, compoundInterestUseCase, taxesUseCase, prepaymentUseCase, refinanceUseCase, armUseCase, drawdownUseCase, realValueUseCase, marketRatePort, validator, analyticsService);
+            McpToolHandler pipelined = new McpToolHandler(new ToolRegistry(List.of(tools)), List.of(outer, inner));
+            when(marketRatePort.getAllCurrentRates()).thenReturn(Map.of());
+            when(marketRatePort.getLastUpdateDate()).thenReturn("2025-01-01");
+
+            pipelined.executeTool("get_current_rates", Map.of());
+            pipelined.executeTool("get_current_rates", Map.of());
+
+            assertEquals(8, wrapped.size());
+            assertTrue(wrapped.contains("outer:get_current_rates"));
+            assertEquals(List.of("outer", "inner", "outer", "inner"), entered);
+        }
+    }
+
     @Nested
     @DisplayName("Error Handling")
     class ErrorHandling {
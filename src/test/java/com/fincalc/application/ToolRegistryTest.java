@@ -0,0 +1,67 @@
+package com.fincalc.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ToolRegistry")
+class ToolRegistryTest {
+
+    private static ToolDescriptor<Object, Object> tool(String name, ToolPolicy policy) {
+        return ToolDescriptor.of(Map.of("name", name, "description", name + " tool"), policy,
+                (args, call) -> args, (args, call) -> args, (args, result, call) -> Map.of("result", result));
+    }
+
+    @Test
+    @DisplayName("should list definitions in registration order")
+    void shouldKeepOrder() {
+        ToolRegistry registry = new ToolRegistry(List.of(
+                () -> List.of(tool("b_tool", ToolPolicy.DEFAULT), tool("a_tool", ToolPolicy.DEFAULT)),
+                () -> List.of(tool("c_tool", ToolPolicy.DEFAULT))));
+
+        assertEquals(List.of("b_tool", "a_tool", "c_tool"),
+                registry.definitions().stream().map(d -> d.get("name")).toList());
+        assertThrows(UnsupportedOperationException.class, () -> registry.definitions().get(0).put("name", "x"));
+    }
+
+    @Test
+    @DisplayName("should expose declared policies, defaulting for unknown tools")
+    void shouldExposePolicies() {
+        ToolPolicy heavy = ToolPolicy.DEFAULT.withCost(5).withTimeout(Duration.ofSeconds(20));
+        ToolRegistry registry = new ToolRegistry(List.of(() -> List.of(tool("heavy", heavy))));
+
+        assertEquals(heavy, registry.policyOf("heavy"));
+        assertEquals(ToolPolicy.DEFAULT, registry.policyOf("missing"));
+        assertEquals(ToolPolicy.DEFAULT, registry.policyOf(null));
+    }
+
+    @Test
+    @DisplayName("should reject unknown tools on lookup")
+    void shouldRejectUnknownTool() {
+        ToolRegistry registry = new ToolRegistry(List.of());
+
+        assertNull(registry.find("missing"));
+        var e = assertThrows(IllegalArgumentException.class, () -> registry.get("missing"));
+        assertEquals("Unknown tool: missing", e.getMessage());
+    }
+
+    @Test
+    @DisplayName("should refuse two tools with the same name")
+    void shouldRejectDuplicates() {
+        assertThrows(IllegalStateException.class, () -> new ToolRegistry(List.of(
+                () -> List.of(tool("dup", ToolPolicy.DEFAULT)),
+                () -> List.of(tool("dup", ToolPolicy.DEFAULT.withCost(2))))));
+    }
+
+    @Test
+    @DisplayName("should refuse a non-positive cost")
+    void shouldValidatePolicy() {
+        assertThrows(IllegalArgumentException.class, () -> ToolPolicy.DEFAULT.withCost(0));
+        assertThrows(IllegalArgumentException.class, () -> ToolPolicy.DEFAULT.withTimeout(Duration.ZERO));
+    }
+}
@@ -0,0 +1,127 @@
+package com.fincalc.application;
+
+import com.fincalc.adapter.out.persistence.AnalyticsSketchStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UniqueUsageTracker")
+class UniqueUsageTrackerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 15);
+
+    @Mock
+    private AnalyticsSketchStore store;
+
+    private UniqueUsageTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new UniqueUsageTracker(store, 400, () -> TODAY);
+    }
+
+    private static HyperLogLog sketchOf(String... ids) {
+        HyperLogLog sketch = new HyperLogLog();
+        for (String id : ids) {
+            sketch.add(id);
+        }
+        return sketch;
+    }
+
+    @Nested
+    @DisplayName("Recording")
+    class Recording {
+
+        @Test
+        @DisplayName("should flush overall, tool and country sketches for users and conversations")
+        void shouldFlushEveryDimension() {
+            tracker.record("estimate_taxes", "us", "u1", "c1");
+            tracker.record("estimate_taxes", "us", "u1", "c2");
+
+            tracker.flush();
+
+            ArgumentCaptor<HyperLogLog> sketches = ArgumentCaptor.forClass(HyperLogLog.class);
+            verify(store).merge(eq(TODAY), eq("users"), eq("all"), sketches.capture());
+            verify(store).merge(eq(TODAY), eq("users"), eq("tool:estimate_taxes"), any());
+            verify(store).merge(eq(TODAY), eq("users"), eq("country:US"), any());
+            verify(store).merge(eq(TODAY), eq("conversations"), eq("all"), sketches.capture());
+            verify(store, times(6)).merge(any(), any(), any(), any());
+            assertEquals(1, sketches.getAllValues().get(0).estimate());
+            assertEquals(2, sketches.getAllValues().get(1).estimate());
+        }
+
+        @Test
+        @DisplayName("should skip missing ids and malformed country codes")
+        void shouldSkipMissingIds() {
+            tracker.record("estimate_taxes", "not-a-country", null, "c1");
+
+            tracker.flush();
+
+            verify(store).merge(eq(TODAY), eq("conversations"), eq("all"), any());
+            verify(store).merge(eq(TODAY), eq("conversations"), eq("tool:estimate_taxes"), any());
+            verify(store, times(2)).merge(any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("should keep sketches that failed to save for the next flush")
+        void shouldRetryFailedFlush() {
+            tracker.record("estimate_taxes", null, "u1", null);
+            doThrow(new DataAccessResourceFailureException("down"))
+                    .when(store).merge(any(), any(), any(), any());
+            tracker.flush();
+
+            reset(store);
+            tracker.flush();
+
+            verify(store).merge(eq(TODAY), eq("users"), eq("all"), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Queries")
+    class Queries {
+
+        @Test
+        @DisplayName("should merge stored days and pending sketches into daily, weekly and monthly uniques")
+        void shouldMergeWindows() {
+            when(store.find("users", "all", TODAY.minusDays(29), TODAY)).thenReturn(List.of(
+                    new AnalyticsSketchStore.Row(TODAY.minusDays(20), "all", sketchOf("a", "b")),
+                    new AnalyticsSketchStore.Row(TODAY.minusDays(3), "all", sketchOf("b", "c")),
+                    new AnalyticsSketchStore.Row(TODAY, "all", sketchOf("c"))));
+            tracker.record("estimate_taxes", null, "d", null);
+
+            UniqueUsageTracker.Uniques uniques = tracker.uniques("users");
+
+            assertEquals(new UniqueUsageTracker.Uniques(2, 3, 4), uniques);
+        }
+
+        @Test
+        @DisplayName("should rank tools by weekly uniques")
+        void shouldRankTools() {
+            when(store.find(eq("users"), eq("tool:"), eq(TODAY.minusDays(6)), eq(TODAY))).thenReturn(List.of(
+                    new AnalyticsSketchStore.Row(TODAY.minusDays(1), "tool:list_countries", sketchOf("a")),
+                    new AnalyticsSketchStore.Row(TODAY.minusDays(2), "tool:estimate_taxes", sketchOf("a", "b"))));
+            tracker.record("estimate_taxes", null, "c", null);
+
+            Map<String, Long> byTool = tracker.weeklyByTool("users");
+
+            assertEquals(List.of("estimate_taxes", "list_countries"), List.copyOf(byTool.keySet()));
+            assertEquals(3L, byTool.get("estimate_taxes"));
+        }
+    }
+}
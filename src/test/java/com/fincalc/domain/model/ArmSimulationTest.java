@@ -0,0 +1,150 @@
+package com.fincalc.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ArmSimulation Domain Model")
+class ArmSimulationTest {
+
+    private static final BigDecimal PRINCIPAL = new BigDecimal("300000");
+    private static final BigDecimal INITIAL_RATE = new BigDecimal("5.5");
+
+    // 5/1 ARM, margin 2.75, 2/2/5 caps
+    private static final ArmSimulation.Terms FIVE_ONE = new ArmSimulation.Terms(
+            5, 12, new BigDecimal("2.75"), new BigDecimal("2"), new BigDecimal("2"), new BigDecimal("5"));
+
+    private static ArmSimulation.Scenario path(String name, String... index) {
+        return new ArmSimulation.Scenario(name, Arrays.stream(index).map(BigDecimal::new).toList());
+    }
+
+    @Nested
+    @DisplayName("Valid Simulations")
+    class ValidSimulations {
+
+        @Test
+        @DisplayName("should match a fixed-rate loan when the index keeps the initial rate")
+        void shouldMatchFixedRateLoan() {
+            // 2.75 + 2.75 = 5.5, so every reset lands on the initial rate
+            var result = ArmSimulation.simulate(PRINCIPAL, INITIAL_RATE, 30, FIVE_ONE, List.of(path("flat", "2.75")));
+            var loan = LoanCalculation.calculate(PRINCIPAL, INITIAL_RATE, 30);
+
+            var outcome = result.outcomes().get(0);
+            assertEquals(loan.monthlyPayment(), result.initialPayment());
+            assertEquals(0, outcome.maxRate().compareTo(INITIAL_RATE));
+            assertEquals(25, outcome.adjustments().size());
+            assertEquals(61, outcome.adjustments().get(0).month());
+            BigDecimal diff = outcome.totalInterest().subtract(loan.totalInterest()).abs();
+            assertTrue(diff.compareTo(new BigDecimal("5")) < 0, "difference was " + diff);
+            assertEquals(0, outcome.totalPaid().subtract(outcome.totalInterest()).compareTo(PRINCIPAL));
+        }
+
+        @Test
+        @DisplayName("should apply initial, periodic and lifetime caps")
+        void shouldApplyCaps() {
+            var result = ArmSimulation.simulate(PRINCIPAL, INITIAL_RATE, 30, FIVE_ONE, List.of(path("spike", "20")));
+
+            var adjustments = result.outcomes().get(0).adjustments();
+            assertEquals(0, adjustments.get(0).rate().compareTo(new BigDecimal("7.5")), "initial cap");
+            assertEquals(0, adjustments.get(1).rate().compareTo(new BigDecimal("9.5")), "periodic cap");
+            assertEquals(0, adjustments.get(2).rate().compareTo(new BigDecimal("10.5")), "lifetime cap");
+            assertEquals(0, result.outcomes().get(0).maxRate().compareTo(new BigDecimal("10.5")));
+            assertTrue(adjustments.get(0).payment().compareTo(result.initialPayment()) > 0);
+        }
+
+        @Test
+        @DisplayName("should not fall below the margin")
+        void shouldApplyFloor() {
+            var result = ArmSimulation.simulate(PRINCIPAL, INITIAL_RATE, 30, FIVE_ONE, List.of(path("zero", "0")));
+
+            var outcome = result.outcomes().get(0);
+            assertEquals(0, outcome.finalRate().compareTo(new BigDecimal("2.75")));
+            assertTrue(outcome.totalInterest().compareTo(result.fixedRateTotalInterest()) < 0);
+        }
+
+        @Test
+        @DisplayName("should carry the last index value forward")
+        void shouldCarryLastIndexForward() {
+            var result = ArmSimulation.simulate(PRINCIPAL, INITIAL_RATE, 30, FIVE_ONE, List.of(path("step", "3", "4")));
+
+            var adjustments = result.outcomes().get(0).adjustments();
+            assertEquals(0, adjustments.get(0).rate().compareTo(new BigDecimal("5.75")));
+            assertEquals(0, adjustments.get(24).rate().compareTo(new BigDecimal("6.75")));
+        }
+
+        @Test
+        @DisplayName("should evaluate many paths consistently with named scenarios")
+        void shouldEvaluateManyPaths() {
+            double[][] paths = new double[200][];
+            for (int i = 0; i < paths.length; i++) {
+                paths[i] = new double[]{i * 0.05};
+            }
+
+            var bulk = ArmSimulation.evaluate(PRINCIPAL, INITIAL_RATE, 30, FIVE_ONE, paths);
+            var named = ArmSimulation.simulate(PRINCIPAL, INITIAL_RATE, 30, FIVE_ONE, List.of(path("p100", "5.0")));
+
+            assertEquals(200, bulk.size());
+            assertEquals(named.outcomes().get(0).totalInterest(), Cents.toAmount(bulk.totalInterestCents()[100]));
+            for (int i = 1; i < bulk.size(); i++) {
+                assertTrue(bulk.totalInterestCents()[i] >= bulk.totalInterestCents()[i - 1]);
+            }
+        }
+
+        @Test
+        @DisplayName("should stop evaluating paths once the deadline has passed")
+        void shouldStopEvaluatingAtDeadline() {
+            double[][] paths = {{3.0}, {4.0}, {5.0}, {6.0}};
+            Deadline deadline = Deadline.after(Duration.ZERO);
+
+            assertThrows(Deadline.ExceededException.class, () ->
+                    ArmSimulation.evaluate(PRINCIPAL, INITIAL_RATE, 30, FIVE_ONE, paths, deadline));
+        }
+
+        @Test
+        @DisplayName("should expand annual history to semiannual adjustments")
+        void shouldExpandAnnualHistory() {
+            var path = ArmSimulation.perAdjustment(List.of(new BigDecimal("1"), new BigDecimal("2")), 6);
+
+            assertEquals(4, path.size());
+            assertEquals(List.of(new BigDecimal("1"), new BigDecimal("1"), new BigDecimal("2"), new BigDecimal("2")), path);
+        }
+    }
+
+    @Nested
+    @DisplayName("Input Validation")
+    class InputValidation {
+
+        @Test
+        @DisplayName("should reject a fixed period as long as the loan")
+        void shouldRejectFixedPeriodTooLong() {
+            var terms = new ArmSimulation.Terms(30, 12, BigDecimal.ONE, BigDecimal.ONE, BigDecimal.ONE, BigDecimal.ONE);
+            assertThrows(IllegalArgumentException.class, () ->
+                    ArmSimulation.simulate(PRINCIPAL, INITIAL_RATE, 30, terms, List.of(path("x", "3")))
+            );
+        }
+
+        @Test
+        @DisplayName("should reject negative caps")
+        void shouldRejectNegativeCaps() {
+            var terms = new ArmSimulation.Terms(5, 12, BigDecimal.ONE, new BigDecimal("-1"), BigDecimal.ONE, BigDecimal.ONE);
+            assertThrows(IllegalArgumentException.class, () ->
+                    ArmSimulation.simulate(PRINCIPAL, INITIAL_RATE, 30, terms, List.of(path("x", "3")))
+            );
+        }
+
+        @Test
+        @DisplayName("should reject empty scenario list")
+        void shouldRejectEmptyScenarios() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    ArmSimulation.simulate(PRINCIPAL, INITIAL_RATE, 30, FIVE_ONE, List.of())
+            );
+        }
+    }
+}
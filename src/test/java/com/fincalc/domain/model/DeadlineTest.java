@@ -0,0 +1,70 @@
+package com.fincalc.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Deadline")
+class DeadlineTest {
+
+    @Test
+    @DisplayName("should never expire or cancel NONE")
+    void shouldNeverExpireNone() {
+        Deadline.NONE.cancel();
+
+        assertFalse(Deadline.NONE.isExpired());
+        assertDoesNotThrow(Deadline.NONE::check);
+    }
+
+    @Test
+    @DisplayName("should throw once the budget is spent")
+    void shouldThrowWhenExpired() {
+        Deadline deadline = Deadline.after(Duration.ZERO);
+
+        var e = assertThrows(Deadline.ExceededException.class, deadline::check);
+        assertFalse(e.cancelled());
+        assertTrue(deadline.isExpired());
+    }
+
+    @Test
+    @DisplayName("should pass checks within the budget")
+    void shouldPassWithinBudget() {
+        assertDoesNotThrow(Deadline.after(Duration.ofMinutes(1))::check);
+    }
+
+    @Test
+    @DisplayName("should stop children when the parent is cancelled")
+    void shouldCancelChildren() {
+        Deadline connection = Deadline.cancellable();
+        Deadline call = connection.child(Duration.ofMinutes(1));
+
+        connection.cancel();
+
+        var e = assertThrows(Deadline.ExceededException.class, call::check);
+        assertTrue(e.cancelled());
+    }
+
+    @Test
+    @DisplayName("should stop a long compounding run part-way")
+    void shouldStopCompounding() {
+        Deadline deadline = Deadline.after(Duration.ofMinutes(1));
+        deadline.cancel();
+
+        assertThrows(Deadline.ExceededException.class, () -> CompoundInterestCalculation.calculate(
+                new BigDecimal("10000"), new BigDecimal("5"), 100, 365, BigDecimal.ZERO, deadline));
+    }
+
+    @Test
+    @DisplayName("should stop a refinance comparison part-way")
+    void shouldStopRefinance() {
+        assertThrows(Deadline.ExceededException.class, () -> RefinanceComparison.compare(
+                new BigDecimal("300000"), new BigDecimal("7"), 25, BigDecimal.ZERO,
+                List.of(new RefinanceComparison.Offer("30-year", new BigDecimal("6"), 30)),
+                Deadline.after(Duration.ZERO)));
+    }
+}
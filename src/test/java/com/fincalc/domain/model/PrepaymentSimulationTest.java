@@ -0,0 +1,159 @@
+package com.fincalc.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PrepaymentSimulation Domain Model")
+class PrepaymentSimulationTest {
+
+    private static final BigDecimal PRINCIPAL = new BigDecimal("300000");
+    private static final BigDecimal RATE = new BigDecimal("6.5");
+
+    private static PrepaymentSimulation.Strategy extra(String name, String amount) {
+        return new PrepaymentSimulation.Strategy(name, new BigDecimal(amount), List.of(), false);
+    }
+
+    @Nested
+    @DisplayName("Valid Simulations")
+    class ValidSimulations {
+
+        @Test
+        @DisplayName("should match the standard schedule when no extra is paid")
+        void shouldMatchStandardSchedule() {
+            var result = PrepaymentSimulation.simulate(PRINCIPAL, RATE, 30, List.of(extra("none", "0")));
+            var loan = LoanCalculation.calculate(PRINCIPAL, RATE, 30);
+
+            var outcome = result.outcomes().get(0);
+            assertEquals(360, outcome.payoffMonths());
+            assertEquals(0, outcome.monthsSaved());
+            assertEquals(0, outcome.interestSaved().signum());
+            assertEquals(loan.monthlyPayment(), result.monthlyPayment());
+
+            // Walking the schedule in cents should land within a few dollars of the closed form
+            BigDecimal diff = result.baselineTotalInterest().subtract(loan.totalInterest()).abs();
+            assertTrue(diff.compareTo(new BigDecimal("5")) < 0, "difference was " + diff);
+        }
+
+        @Test
+        @DisplayName("should pay off early and save interest with extra monthly payments")
+        void shouldPayOffEarlyWithExtraPayments() {
+            var result = PrepaymentSimulation.simulate(PRINCIPAL, RATE, 30, List.of(extra("extra 200", "200")));
+
+            var outcome = result.outcomes().get(0);
+            assertTrue(outcome.payoffMonths() < 360);
+            assertTrue(outcome.monthsSaved() > 0);
+            assertTrue(outcome.interestSaved().compareTo(BigDecimal.ZERO) > 0);
+            assertEquals(0, outcome.totalPaid().subtract(outcome.totalInterest()).compareTo(PRINCIPAL));
+        }
+
+        @Test
+        @DisplayName("should apply lump sums in the given month")
+        void shouldApplyLumpSums() {
+            var lump = new PrepaymentSimulation.Strategy("lump", BigDecimal.ZERO,
+                    List.of(new PrepaymentSimulation.LumpSum(12, new BigDecimal("50000"))), false);
+            var result = PrepaymentSimulation.simulate(PRINCIPAL, RATE, 30, List.of(lump));
+
+            var outcome = result.outcomes().get(0);
+            assertTrue(outcome.monthsSaved() > 0);
+            assertTrue(outcome.interestSaved().compareTo(BigDecimal.ZERO) > 0);
+        }
+
+        @Test
+        @DisplayName("should stop at payoff when a lump sum exceeds the balance")
+        void shouldStopAtPayoff() {
+            var lump = new PrepaymentSimulation.Strategy("payoff", BigDecimal.ZERO,
+                    List.of(new PrepaymentSimulation.LumpSum(1, new BigDecimal("1000000"))), false);
+            var result = PrepaymentSimulation.simulate(PRINCIPAL, RATE, 30, List.of(lump));
+
+            var outcome = result.outcomes().get(0);
+            assertEquals(1, outcome.payoffMonths());
+            assertEquals(0, outcome.totalPaid().subtract(outcome.totalInterest()).compareTo(PRINCIPAL));
+        }
+
+        @Test
+        @DisplayName("should shorten a 30-year loan by several years with biweekly payments")
+        void shouldShortenLoanWithBiweeklyPayments() {
+            var biweekly = new PrepaymentSimulation.Strategy("biweekly", BigDecimal.ZERO, List.of(), true);
+            var result = PrepaymentSimulation.simulate(PRINCIPAL, RATE, 30, List.of(biweekly));
+
+            var outcome = result.outcomes().get(0);
+            assertTrue(outcome.monthsSaved() >= 48, "saved " + outcome.monthsSaved() + " months");
+        }
+
+        @Test
+        @DisplayName("should keep strategy order when comparing many strategies")
+        void shouldKeepOrderForManyStrategies() {
+            List<PrepaymentSimulation.Strategy> strategies = new ArrayList<>();
+            for (int i = 0; i < PrepaymentSimulation.MAX_STRATEGIES; i++) {
+                strategies.add(extra("extra " + (i * 50), String.valueOf(i * 50)));
+            }
+
+            var result = PrepaymentSimulation.simulate(PRINCIPAL, RATE, 30, strategies);
+
+            assertEquals(strategies.size(), result.outcomes().size());
+            for (int i = 1; i < strategies.size(); i++) {
+                assertEquals(strategies.get(i).name(), result.outcomes().get(i).name());
+                assertTrue(result.outcomes().get(i).interestSaved()
+                        .compareTo(result.outcomes().get(i - 1).interestSaved()) > 0);
+            }
+            assertEquals(strategies.get(strategies.size() - 1).name(), result.bestOutcome().name());
+        }
+
+        @Test
+        @DisplayName("should handle zero interest rate")
+        void shouldHandleZeroInterestRate() {
+            var result = PrepaymentSimulation.simulate(new BigDecimal("12000"), BigDecimal.ZERO, 1,
+                    List.of(extra("extra", "1000")));
+
+            var outcome = result.outcomes().get(0);
+            assertEquals(6, outcome.payoffMonths());
+            assertEquals(0, outcome.totalInterest().signum());
+        }
+    }
+
+    @Nested
+    @DisplayName("Input Validation")
+    class InputValidation {
+
+        @Test
+        @DisplayName("should reject empty strategy list")
+        void shouldRejectEmptyStrategies() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    PrepaymentSimulation.simulate(PRINCIPAL, RATE, 30, List.of())
+            );
+        }
+
+        @Test
+        @DisplayName("should reject negative extra payment")
+        void shouldRejectNegativeExtraPayment() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    PrepaymentSimulation.simulate(PRINCIPAL, RATE, 30, List.of(extra("bad", "-10")))
+            );
+        }
+
+        @Test
+        @DisplayName("should reject lump sum outside the loan term")
+        void shouldRejectLumpSumOutsideTerm() {
+            var lump = new PrepaymentSimulation.Strategy("late", BigDecimal.ZERO,
+                    List.of(new PrepaymentSimulation.LumpSum(400, new BigDecimal("1000"))), false);
+            assertThrows(IllegalArgumentException.class, () ->
+                    PrepaymentSimulation.simulate(PRINCIPAL, RATE, 30, List.of(lump))
+            );
+        }
+
+        @Test
+        @DisplayName("should reject invalid loan inputs")
+        void shouldRejectInvalidLoanInputs() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    PrepaymentSimulation.simulate(BigDecimal.ZERO, RATE, 30, List.of(extra("x", "0")))
+            );
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.fincalc.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RealValueProjection Domain Model")
+class RealValueProjectionTest {
+
+    private static InflationSnapshot flat(String rate) {
+        return InflationSnapshot.of("US", "test", List.of(new BigDecimal(rate)), Instant.EPOCH);
+    }
+
+    @Nested
+    @DisplayName("Inflation Snapshot")
+    class Snapshot {
+
+        @Test
+        @DisplayName("should precompute compounding deflation factors")
+        void shouldPrecomputeDeflators() {
+            var snapshot = flat("3");
+
+            assertEquals(1.0, snapshot.deflator(0));
+            assertEquals(1 / 1.03, snapshot.deflator(1), 1e-12);
+            assertEquals(Math.pow(1.03, -30), snapshot.deflator(30), 1e-12);
+            assertEquals(0, snapshot.averageRate(30).compareTo(new BigDecimal("3.00")));
+        }
+
+        @Test
+        @DisplayName("should glide from the latest observation to the series average")
+        void shouldGlideToAverage() {
+            var snapshot = InflationSnapshot.of("US", "test",
+                    List.of(new BigDecimal("2"), new BigDecimal("2"), new BigDecimal("8")), Instant.EPOCH);
+
+            // Year 1 at 8%, converging to the 4% average by year 5
+            assertEquals(1 / 1.08, snapshot.deflator(1), 1e-12);
+            assertEquals(snapshot.deflator(5) / 1.04, snapshot.deflator(6), 1e-12);
+            assertEquals(0, snapshot.longRunRate().compareTo(new BigDecimal("4.00")));
+        }
+
+        @Test
+        @DisplayName("should reject empty series")
+        void shouldRejectEmptySeries() {
+            assertThrows(IllegalArgumentException.class, () -> InflationSnapshot.of("US", "test", List.of(), Instant.EPOCH));
+        }
+    }
+
+    @Nested
+    @DisplayName("Real Projection")
+    class Projection {
+
+        @Test
+        @DisplayName("should rebuild the nominal future value year by year")
+        void shouldMatchNominalFutureValue() {
+            var nominal = CompoundInterestCalculation.calculate(
+                    new BigDecimal("10000"), new BigDecimal("7"), 20, 12, new BigDecimal("500"));
+
+            var real = RealValueProjection.project(nominal, flat("3"));
+
+            BigDecimal diff = real.nominalFutureValue().subtract(nominal.futureValue()).abs();
+            assertTrue(diff.compareTo(new BigDecimal("0.05")) < 0, "difference was " + diff);
+            assertEquals(20, real.years().size());
+            assertEquals(real.nominalFutureValue(), real.years().get(19).nominalBalance());
+        }
+
+        @Test
+        @DisplayName("should deflate the final balance by cumulative inflation")
+        void shouldDeflateFinalBalance() {
+            var nominal = CompoundInterestCalculation.calculate(
+                    new BigDecimal("10000"), new BigDecimal("7"), 10, 1, BigDecimal.ZERO);
+
+            var real = RealValueProjection.project(nominal, flat("3"));
+
+            double expected = 10000 * Math.pow(1.07, 10) / Math.pow(1.03, 10);
+            assertEquals(expected, real.realFutureValue().doubleValue(), 0.01);
+            assertTrue(real.purchasingPowerLost().signum() > 0);
+            assertEquals(0, real.realTotalContributions().compareTo(new BigDecimal("10000.00")));
+        }
+
+        @Test
+        @DisplayName("should keep value unchanged with zero inflation")
+        void shouldKeepValueWithZeroInflation() {
+            var nominal = CompoundInterestCalculation.calculate(
+                    new BigDecimal("10000"), new BigDecimal("5"), 5, 12, new BigDecimal("100"));
+
+            var real = RealValueProjection.project(nominal, flat("0"));
+
+            assertEquals(real.nominalFutureValue(), real.realFutureValue());
+            assertEquals(0, real.purchasingPowerLost().signum());
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.fincalc.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RefinanceComparison Domain Model")
+class RefinanceComparisonTest {
+
+    private static final BigDecimal BALANCE = new BigDecimal("250000");
+    private static final BigDecimal CURRENT_RATE = new BigDecimal("7.5");
+
+    private static RefinanceComparison.Offer offer(String rate, int years) {
+        return new RefinanceComparison.Offer(rate + "% " + years + "y", new BigDecimal(rate), years);
+    }
+
+    @Nested
+    @DisplayName("Valid Comparisons")
+    class ValidComparisons {
+
+        @Test
+        @DisplayName("should match the standard payment of the current loan")
+        void shouldMatchCurrentLoanPayment() {
+            var result = RefinanceComparison.compare(BALANCE, CURRENT_RATE, 25, BigDecimal.ZERO, List.of(offer("6", 25)));
+            var loan = LoanCalculation.calculate(BALANCE, CURRENT_RATE, 25);
+
+            assertEquals(loan.monthlyPayment(), result.currentPayment());
+            assertEquals(300, result.remainingMonths());
+        }
+
+        @Test
+        @DisplayName("should find break-even month for a lower rate with closing costs")
+        void shouldFindBreakEvenMonth() {
+            var result = RefinanceComparison.compare(BALANCE, CURRENT_RATE, 25, new BigDecimal("5000"), List.of(offer("6", 25)));
+
+            var option = result.options().get(0);
+            assertTrue(option.breaksEven());
+            assertTrue(option.monthlySavings().signum() > 0);
+            // Constant monthly savings: break-even is the first month covering the closing costs
+            int expected = new BigDecimal("5000").divide(option.monthlySavings(), 0, RoundingMode.CEILING).intValue();
+            assertEquals(expected, option.breakEvenMonth());
+            assertTrue(option.netSavings().compareTo(BigDecimal.ZERO) > 0);
+        }
+
+        @Test
+        @DisplayName("should break even in month one without closing costs")
+        void shouldBreakEvenImmediatelyWithoutClosingCosts() {
+            var result = RefinanceComparison.compare(BALANCE, CURRENT_RATE, 25, BigDecimal.ZERO, List.of(offer("6", 25)));
+
+            assertEquals(1, result.options().get(0).breakEvenMonth());
+        }
+
+        @Test
+        @DisplayName("should never break even at a higher rate")
+        void shouldNeverBreakEvenAtHigherRate() {
+            var result = RefinanceComparison.compare(BALANCE, CURRENT_RATE, 25, new BigDecimal("3000"), List.of(offer("8.5", 25)));
+
+            var option = result.options().get(0);
+            assertFalse(option.breaksEven());
+            assertEquals(RefinanceComparison.NEVER, option.breakEvenMonth());
+            assertTrue(option.netSavings().signum() < 0);
+        }
+
+        @Test
+        @DisplayName("should report interest savings for a shorter term")
+        void shouldReportInterestSavingsForShorterTerm() {
+            var result = RefinanceComparison.compare(BALANCE, CURRENT_RATE, 25, new BigDecimal("5000"), List.of(offer("6", 15)));
+
+            var option = result.options().get(0);
+            assertTrue(option.monthlySavings().signum() < 0, "a 15-year loan costs more per month");
+            assertTrue(option.interestSavings().signum() > 0);
+        }
+
+        @Test
+        @DisplayName("should keep offer order")
+        void shouldKeepOfferOrder() {
+            List<RefinanceComparison.Offer> offers = new ArrayList<>();
+            for (int i = 0; i < RefinanceComparison.MAX_OFFERS; i++) {
+                offers.add(offer(String.valueOf(5 + i * 0.25), 30));
+            }
+
+            var result = RefinanceComparison.compare(BALANCE, CURRENT_RATE, 25, BigDecimal.ZERO, offers);
+
+            assertEquals(offers.size(), result.options().size());
+            for (int i = 0; i < offers.size(); i++) {
+                assertEquals(offers.get(i).label(), result.options().get(i).label());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Input Validation")
+    class InputValidation {
+
+        @Test
+        @DisplayName("should reject empty offer list")
+        void shouldRejectEmptyOffers() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    RefinanceComparison.compare(BALANCE, CURRENT_RATE, 25, BigDecimal.ZERO, List.of())
+            );
+        }
+
+        @Test
+        @DisplayName("should reject negative closing costs")
+        void shouldRejectNegativeClosingCosts() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    RefinanceComparison.compare(BALANCE, CURRENT_RATE, 25, new BigDecimal("-1"), List.of(offer("6", 30)))
+            );
+        }
+
+        @Test
+        @DisplayName("should reject invalid offer terms")
+        void shouldRejectInvalidOfferTerms() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    RefinanceComparison.compare(BALANCE, CURRENT_RATE, 25, BigDecimal.ZERO, List.of(offer("6", 0)))
+            );
+        }
+    }
+}
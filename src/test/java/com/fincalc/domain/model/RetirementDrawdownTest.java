@@ -0,0 +1,132 @@
+package com.fincalc.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RetirementDrawdown Domain Model")
+class RetirementDrawdownTest {
+
+    private static final BigDecimal BALANCE = new BigDecimal("1000000");
+
+    private static RetirementDrawdown.Plan plan(RetirementDrawdown.Rule rule, String withdrawal, String expectedReturn, int years) {
+        return new RetirementDrawdown.Plan(BALANCE, 65, years, rule, new BigDecimal(withdrawal),
+                new BigDecimal(expectedReturn), new BigDecimal("3"));
+    }
+
+    @Nested
+    @DisplayName("Withdrawal Rules")
+    class WithdrawalRules {
+
+        @Test
+        @DisplayName("should raise fixed withdrawals with inflation")
+        void shouldRaiseFixedWithdrawals() {
+            List<RetirementDrawdown.Year> rows = new ArrayList<>();
+            var result = RetirementDrawdown.simulate(plan(RetirementDrawdown.Rule.FIXED, "40000", "5", 30), rows::add);
+
+            assertEquals(30, rows.size());
+            assertEquals(0, rows.get(0).withdrawal().compareTo(new BigDecimal("40000.00")));
+            assertEquals(0, rows.get(1).withdrawal().compareTo(new BigDecimal("41200.00")));
+            assertEquals(0, rows.get(0).growth().compareTo(new BigDecimal("48000.00")));
+            assertFalse(result.depletes());
+            assertEquals(rows.get(29).endBalance(), result.endingBalance());
+        }
+
+        @Test
+        @DisplayName("should never deplete with a percentage rule")
+        void shouldNeverDepleteWithPercentage() {
+            List<RetirementDrawdown.Year> rows = new ArrayList<>();
+            var result = RetirementDrawdown.simulate(plan(RetirementDrawdown.Rule.PERCENTAGE, "4", "0", 40), rows::add);
+
+            assertFalse(result.depletes());
+            assertEquals(40, result.yearsFunded());
+            for (RetirementDrawdown.Year row : rows) {
+                BigDecimal expected = row.startBalance().multiply(new BigDecimal("0.04"));
+                assertTrue(row.withdrawal().subtract(expected).abs().compareTo(new BigDecimal("0.01")) <= 0);
+            }
+        }
+
+        @Test
+        @DisplayName("should cut guardrail withdrawals after poor returns")
+        void shouldCutGuardrailWithdrawals() {
+            var plan = plan(RetirementDrawdown.Rule.GUARDRAILS, "5", "5", 10);
+            double[] crash = {-30, -20, 5, 5, 5, 5, 5, 5, 5, 5};
+            long[] withdrawals = new long[10];
+
+            RetirementDrawdown.simulate(plan, crash, (year, age, start, withdrawal, growth, end) -> withdrawals[year - 1] = withdrawal);
+
+            // Withdrawal rate after the crash exceeds 6%, so the guardrail cuts spending
+            assertTrue(withdrawals[2] < withdrawals[0], "withdrawals " + withdrawals[0] + " -> " + withdrawals[2]);
+        }
+    }
+
+    @Nested
+    @DisplayName("Depletion")
+    class Depletion {
+
+        @Test
+        @DisplayName("should report depletion age when withdrawals exceed savings")
+        void shouldReportDepletionAge() {
+            List<RetirementDrawdown.Year> rows = new ArrayList<>();
+            var result = RetirementDrawdown.simulate(plan(RetirementDrawdown.Rule.FIXED, "100000", "0", 30), rows::add);
+
+            assertTrue(result.depletes());
+            // Zero return, no inflation on the first year: 100k, 103k, 106.09k ... exhausts 1M in year 9
+            assertEquals(73, result.depletionAge());
+            assertEquals(9, result.yearsFunded());
+            assertEquals(9, rows.size(), "the table stops once savings are exhausted");
+            assertEquals(0, result.endingBalance().signum());
+            assertEquals(0, result.totalWithdrawn().compareTo(BALANCE));
+        }
+
+        @Test
+        @DisplayName("should deplete earlier along a bad sequence of returns")
+        void shouldDepleteEarlierWithBadSequence() {
+            var plan = plan(RetirementDrawdown.Rule.FIXED, "60000", "5", 40);
+            double[] badStart = new double[40];
+            double[] goodStart = new double[40];
+            for (int i = 0; i < 40; i++) {
+                badStart[i] = i < 5 ? -15 : 5;
+                goodStart[i] = i >= 35 ? -15 : 5;
+            }
+
+            var bad = RetirementDrawdown.simulate(plan, badStart, RetirementDrawdown.YearSink.NONE);
+            var good = RetirementDrawdown.simulate(plan, goodStart, RetirementDrawdown.YearSink.NONE);
+
+            assertTrue(bad.yearsFunded() < good.yearsFunded());
+        }
+    }
+
+    @Nested
+    @DisplayName("Input Validation")
+    class InputValidation {
+
+        @Test
+        @DisplayName("should reject unknown withdrawal rule")
+        void shouldRejectUnknownRule() {
+            assertThrows(IllegalArgumentException.class, () -> RetirementDrawdown.Rule.fromString("yolo"));
+        }
+
+        @Test
+        @DisplayName("should reject percentage above 100")
+        void shouldRejectPercentageAbove100() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    RetirementDrawdown.simulate(plan(RetirementDrawdown.Rule.PERCENTAGE, "150", "5", 30))
+            );
+        }
+
+        @Test
+        @DisplayName("should reject horizon beyond the maximum")
+        void shouldRejectLongHorizon() {
+            assertThrows(IllegalArgumentException.class, () ->
+                    RetirementDrawdown.simulate(plan(RetirementDrawdown.Rule.FIXED, "40000", "5", RetirementDrawdown.MAX_YEARS + 1))
+            );
+        }
+    }
+}